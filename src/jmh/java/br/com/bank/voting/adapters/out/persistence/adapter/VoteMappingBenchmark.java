@@ -0,0 +1,52 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VoteEntity;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do mapeamento domínio/entidade do VoteJpaAdapter, executado a cada voto lido ou gravado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoteMappingBenchmark {
+
+    private VoteJpaAdapter adapter;
+    private Vote vote;
+    private VoteEntity entity;
+
+    @Setup
+    public void setUp() {
+        adapter = new VoteJpaAdapter(null, null, null, null);
+        vote = new Vote(UUID.randomUUID(), UUID.randomUUID(), 12345678901L, VoteChoice.YES, LocalDateTime.now());
+        entity = adapter.toEntity(vote);
+    }
+
+    @Benchmark
+    public VoteEntity toEntity() {
+        return adapter.toEntity(vote);
+    }
+
+    @Benchmark
+    public Vote toDomain() {
+        return adapter.toDomain(entity);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.bank.voting.benchmark;
+
+/**
+ * Gera CPFs válidos (com dígitos verificadores) a partir de uma sequência, para os benchmarks que
+ * votam pela API e precisam passar pela validação de CPF.
+ */
+final class BenchmarkCpfs {
+
+    private BenchmarkCpfs() {
+    }
+
+    /**
+     * @param sequence número de 1 a 999.999.999 usado como os 9 primeiros dígitos
+     * @return CPF com 11 dígitos
+     */
+    static String valid(long sequence) {
+        long base = sequence % 1_000_000_000L;
+        int sum1 = 0;
+        int sum2 = 0;
+        long remaining = base;
+        for (int weight = 2; weight <= 10; weight++) {
+            int digit = (int) (remaining % 10);
+            sum1 += digit * weight;
+            sum2 += digit * (weight + 1);
+            remaining /= 10;
+        }
+        int check1 = sum1 * 10 % 11 % 10;
+        int check2 = (sum2 + check1 * 2) * 10 % 11 % 10;
+        return String.format("%09d%d%d", base, check1, check2);
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.VotingSessionApiApplication;
+import br.com.bank.voting.application.dto.command.CreateAgendaCommand;
+import br.com.bank.voting.application.dto.command.OpenSessionCommand;
+import br.com.bank.voting.application.dto.command.VoteCommand;
+import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
+import br.com.bank.voting.application.port.in.OpenSessionUseCase;
+import br.com.bank.voting.application.port.in.VoteUseCase;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dimensionamento do pool do HikariCP no profile prod: registro de 2 mil votos simultâneos
+ * (VoteService.vote, em virtual threads) contra um PostgreSQL embarcado com o esquema do Flyway,
+ * variando o tamanho do pool. O tamanho certo é o menor a partir do qual o tempo deixa de cair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 6)
+@Measurement(iterations = 8)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    private static final int CONCURRENT_VOTERS = 2_000;
+
+    @Param({"2", "5", "10", "20", "40"})
+    private int poolSize;
+
+    private final AtomicLong cpfSequence = new AtomicLong();
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private VoteUseCase voteUseCase;
+    private UUID agendaId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        context = new SpringApplicationBuilder(VotingSessionApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                // argumentos de linha de comando: o application-prod.properties sobrepõe as propriedades padrão
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "--spring.datasource.hikari.connection-timeout=60000",
+                        "--logging.level.root=WARN",
+                        "--logging.level.br.com.bank.voting=WARN",
+                        "--management.otlp.metrics.export.enabled=false",
+                        "--voting.external.user-info.enabled=false",
+                        "--voting.tally.reconciliation.enabled=false",
+                        "--voting.vote.archive.enabled=false"
+                );
+        voteUseCase = context.getBean(VoteUseCase.class);
+
+        agendaId = context.getBean(CreateAgendaUseCase.class)
+                .create(new CreateAgendaCommand("Benchmark do pool de conexões"))
+                .id();
+        context.getBean(OpenSessionUseCase.class)
+                .open(new OpenSessionCommand(agendaId, 24 * 60));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public long concurrentVoters() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_VOTERS; i++) {
+                long sequence = cpfSequence.incrementAndGet();
+                VoteChoice choice = (sequence & 1) == 0 ? VoteChoice.YES : VoteChoice.NO;
+                executor.submit(() -> voteUseCase.vote(
+                        new VoteCommand(agendaId, BenchmarkCpfs.valid(sequence), choice)));
+            }
+        }
+        return cpfSequence.get();
+    }
+}
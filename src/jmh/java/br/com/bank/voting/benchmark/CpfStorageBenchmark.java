@@ -0,0 +1,138 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.domain.rules.CpfRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do armazenamento do CPF na tabela votes: VARCHAR(11) (layout anterior) vs. BIGINT,
+ * ambos com a constraint única (agenda_id, cpf). Mede a inserção de lotes de votos e a consulta de
+ * voto duplicado pelo índice único, direto no H2 via JDBC. O espaço em disco da tabela (dados e
+ * índices) é impresso ao fim de cada trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CpfStorageBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Param({"varchar", "bigint"})
+    private String cpfColumn;
+
+    @Param({"1000000"})
+    private int existingVotes;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private UUID agendaId;
+    private long nextCpf;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("cpf-storage-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("votes"), "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table votes (id uuid primary key, agenda_id uuid not null, "
+                    + "cpf " + ("bigint".equals(cpfColumn) ? "bigint" : "varchar(11)") + " not null, "
+                    + "choice varchar(3) not null, created_at timestamp not null, unique (agenda_id, cpf))");
+            statement.execute("create index idx_votes_agenda_choice on votes (agenda_id, choice)");
+        }
+        insert = connection.prepareStatement(
+                "insert into votes (id, agenda_id, cpf, choice, created_at) values (?, ?, ?, ?, ?)");
+        lookup = connection.prepareStatement("select 1 from votes where agenda_id = ? and cpf = ?");
+
+        agendaId = UUID.randomUUID();
+        connection.setAutoCommit(false);
+        for (int inserted = 0; inserted < existingVotes; inserted += INSERT_BATCH_SIZE) {
+            insertBatch(agendaId, Math.min(INSERT_BATCH_SIZE, existingVotes - inserted));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery("select disk_space_used('VOTES'), count(*) from votes")) {
+            size.next();
+            System.out.printf("%n[%s] votes table: %d rows, %d KB on disk (data + indexes)%n",
+                    cpfColumn, size.getLong(2), size.getLong(1) / 1024);
+        }
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        return insertBatch(UUID.randomUUID(), INSERT_BATCH_SIZE);
+    }
+
+    @Benchmark
+    public boolean duplicateLookup() throws SQLException {
+        long cpf = ThreadLocalRandom.current().nextLong(existingVotes);
+        lookup.setObject(1, agendaId);
+        setCpf(lookup, 2, cpf);
+        try (ResultSet result = lookup.executeQuery()) {
+            return result.next();
+        }
+    }
+
+    private int insertBatch(UUID agenda, int count) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < count; i++) {
+            insert.setObject(1, UUID.randomUUID());
+            insert.setObject(2, agenda);
+            setCpf(insert, 3, nextCpf++);
+            insert.setString(4, (i & 1) == 0 ? "YES" : "NO");
+            insert.setTimestamp(5, createdAt);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        return count;
+    }
+
+    private void setCpf(PreparedStatement statement, int index, long cpf) throws SQLException {
+        if ("bigint".equals(cpfColumn)) {
+            statement.setLong(index, cpf);
+        } else {
+            statement.setString(index, CpfRules.format(cpf));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.domain.rules.CpfValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark da validação de CPF: o {@code \d{11}} por regex usado antes na API vs. o
+ * {@link CpfValidator} (dígitos verificadores, sem regex e sem alocação).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfValidationBenchmark {
+
+    private static final Pattern ELEVEN_DIGITS = Pattern.compile("\\d{11}");
+
+    @Param({"52998224725", "52998224726", "11111111111", "5299822472a"})
+    private String cpf;
+
+    @Benchmark
+    public boolean regex() {
+        return ELEVEN_DIGITS.matcher(cpf).matches();
+    }
+
+    @Benchmark
+    public boolean checkDigits() {
+        return CpfValidator.isValid(cpf);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.adapters.out.messaging.InMemoryMessageQueue;
+import br.com.bank.voting.adapters.out.messaging.log.ResultLog;
+import br.com.bank.voting.adapters.out.messaging.log.ResultLogRecord;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark do log durável de resultados: publicação com fsync (uma thread e oito threads
+ * compartilhando o group commit) comparada à fila in-memory, e leitura de páginas por offset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultLogBenchmark {
+
+    private static final int PRELOADED_RECORDS = 100_000;
+    private static final int PAGE_SIZE = 100;
+
+    private final VotingResultResult result = new VotingResultResult(
+            UUID.randomUUID(), SessionStatus.CLOSED, 120L, 80L, 200L, VotingResult.APPROVED);
+
+    private Path directory;
+    private ResultLog resultLog;
+    private InMemoryMessageQueue messageQueue;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("result-log-benchmark");
+        resultLog = new ResultLog(directory, 1024 * 1024, Long.MAX_VALUE, Duration.ofDays(365));
+        for (int i = 0; i < PRELOADED_RECORDS; i++) {
+            resultLog.append(newResult(), LocalDateTime.now());
+        }
+        messageQueue = new InMemoryMessageQueue(1000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        resultLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public long appendToLog() {
+        return resultLog.append(newResult(), LocalDateTime.now());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long appendToLogConcurrently() {
+        return resultLog.append(newResult(), LocalDateTime.now());
+    }
+
+    @Benchmark
+    public long publishToInMemoryQueue() {
+        return messageQueue.publish(result);
+    }
+
+    @Benchmark
+    public List<ResultLogRecord> readPageFromLog() {
+        long after = ThreadLocalRandom.current().nextLong(PRELOADED_RECORDS - PAGE_SIZE);
+        return resultLog.read(after, PAGE_SIZE);
+    }
+
+    // o log descarta resultado repetido da mesma pauta, então cada gravação usa uma pauta nova
+    private static VotingResultResult newResult() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new VotingResultResult(new UUID(random.nextLong(), random.nextLong()),
+                SessionStatus.CLOSED, 120L, 80L, 200L, VotingResult.APPROVED);
+    }
+}
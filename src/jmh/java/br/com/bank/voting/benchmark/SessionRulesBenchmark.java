@@ -0,0 +1,43 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.rules.SessionRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da verificação de sessão aberta, executada em toda requisição de voto e de resultado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionRulesBenchmark {
+
+    private VotingSession session;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        session = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now, now.plusMinutes(10));
+    }
+
+    @Benchmark
+    public boolean isSessionOpen() {
+        return SessionRules.isSessionOpen(session, LocalDateTime.now());
+    }
+}
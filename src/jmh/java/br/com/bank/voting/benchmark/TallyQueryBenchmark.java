@@ -0,0 +1,116 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.VotingSessionApiApplication;
+import br.com.bank.voting.adapters.out.persistence.adapter.VoteJpaAdapter;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.rules.VoteRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparando a apuração por listagem de votos (findAllByAgendaId + streams)
+ * com a consulta agregada (COUNT ... GROUP BY choice).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TallyQueryBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int votesPerAgenda;
+
+    private ConfigurableApplicationContext context;
+    private VoteJpaAdapter voteAdapter;
+    private UUID agendaId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VotingSessionApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "voting.tally.reconciliation.enabled=false"
+                )
+                .run();
+        voteAdapter = context.getBean(VoteJpaAdapter.class);
+        agendaId = UUID.randomUUID();
+        insertVotes(context.getBean(JdbcTemplate.class), votesPerAgenda);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public VoteTally listAndStream() {
+        List<Vote> votes = voteAdapter.findAllByAgendaId(agendaId);
+        return new VoteTally(
+                agendaId,
+                VoteRules.countVotesByChoice(votes, VoteChoice.YES),
+                VoteRules.countVotesByChoice(votes, VoteChoice.NO)
+        );
+    }
+
+    @Benchmark
+    public VoteTally aggregateQuery() {
+        return voteAdapter.countVotesByChoice(agendaId);
+    }
+
+    private void insertVotes(JdbcTemplate jdbcTemplate, int count) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{
+                    UUID.randomUUID(),
+                    agendaId,
+                    (long) i,
+                    i % 2 == 0 ? VoteChoice.YES.name() : VoteChoice.NO.name(),
+                    createdAt
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                flush(jdbcTemplate, batch);
+            }
+        }
+        flush(jdbcTemplate, batch);
+    }
+
+    private void flush(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "insert into votes (id, agenda_id, cpf, choice, created_at) values (?, ?, ?, ?, ?)",
+                    batch);
+            batch.clear();
+        }
+    }
+}
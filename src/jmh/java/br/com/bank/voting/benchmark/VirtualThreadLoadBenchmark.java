@@ -0,0 +1,145 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.VotingSessionApiApplication;
+import br.com.bank.voting.application.dto.command.CreateAgendaCommand;
+import br.com.bank.voting.application.dto.command.OpenSessionCommand;
+import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
+import br.com.bank.voting.application.port.in.OpenSessionUseCase;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga comparando Tomcat em platform threads e em virtual threads com 5 mil eleitores simultâneos.
+ * Cada voto passa pelo controller, pelo JPA (H2) e por uma chamada real ao serviço de elegibilidade,
+ * simulado por um servidor HTTP local com latência fixa. O cache de elegibilidade fica desligado
+ * para que toda requisição bloqueie na chamada externa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENT_VOTERS = 5_000;
+    private static final Duration USER_INFO_LATENCY = Duration.ofMillis(50);
+    private static final byte[] ABLE_TO_VOTE = "{\"status\":\"ABLE_TO_VOTE\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private final AtomicLong cpfSequence = new AtomicLong();
+
+    private HttpServer userInfoStub;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI votesUri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        userInfoStub = startUserInfoStub();
+
+        context = new SpringApplicationBuilder(VotingSessionApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "voting.external.user-info.enabled=true",
+                        "voting.external.user-info.url=http://localhost:" + userInfoStub.getAddress().getPort(),
+                        "voting.external.user-info.cache.enabled=false",
+                        "voting.external.user-info.bulkhead.max-concurrent-calls=" + CONCURRENT_VOTERS,
+                        "voting.external.user-info.bulkhead.max-wait-ms=60000",
+                        "voting.tally.reconciliation.enabled=false"
+                )
+                .run();
+
+        UUID agendaId = context.getBean(CreateAgendaUseCase.class)
+                .create(new CreateAgendaCommand("Teste de carga com virtual threads"))
+                .id();
+        context.getBean(OpenSessionUseCase.class)
+                .open(new OpenSessionCommand(agendaId, 24 * 60));
+
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        votesUri = URI.create("http://localhost:" + port + "/api/v1/agendas/" + agendaId + "/votes");
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+        userInfoStub.stop(0);
+    }
+
+    @Benchmark
+    public long concurrentVoters() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_VOTERS];
+        for (int i = 0; i < CONCURRENT_VOTERS; i++) {
+            responses[i] = httpClient.sendAsync(voteRequest(), HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(responses).join();
+        return cpfSequence.get();
+    }
+
+    private HttpRequest voteRequest() {
+        long sequence = cpfSequence.incrementAndGet();
+        String choice = (sequence & 1) == 0 ? "YES" : "NO";
+        String body = String.format("{\"cpf\":\"%s\",\"choice\":\"%s\"}", BenchmarkCpfs.valid(sequence), choice);
+        return HttpRequest.newBuilder(votesUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpServer startUserInfoStub() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_VOTERS);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/users/", exchange -> {
+            try {
+                Thread.sleep(USER_INFO_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, ABLE_TO_VOTE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(ABLE_TO_VOTE);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
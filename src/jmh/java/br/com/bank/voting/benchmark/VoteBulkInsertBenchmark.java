@@ -0,0 +1,99 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.VotingSessionApiApplication;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark de inserção em massa de votos: um save por voto (uma transação cada)
+ * vs. saveAll em uma única transação, com batching JDBC e IDs UUID v7 gerados na aplicação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoteBulkInsertBenchmark {
+
+    @Param({"1000"})
+    private int votesPerOperation;
+
+    private final AtomicLong cpfSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private VoteRepositoryPort voteRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VotingSessionApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "voting.tally.reconciliation.enabled=false"
+                )
+                .run();
+        voteRepository = context.getBean(VoteRepositoryPort.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int saveOneByOne() {
+        List<Vote> votes = nextVotes();
+        for (Vote vote : votes) {
+            transactionTemplate.executeWithoutResult(status -> voteRepository.save(vote));
+        }
+        return votes.size();
+    }
+
+    @Benchmark
+    public int saveAllInOneTransaction() {
+        List<Vote> votes = nextVotes();
+        transactionTemplate.executeWithoutResult(status -> voteRepository.saveAll(votes));
+        return votes.size();
+    }
+
+    private List<Vote> nextVotes() {
+        UUID agendaId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<Vote> votes = new ArrayList<>(votesPerOperation);
+        for (int i = 0; i < votesPerOperation; i++) {
+            long sequence = cpfSequence.incrementAndGet();
+            VoteChoice choice = (sequence & 1) == 0 ? VoteChoice.YES : VoteChoice.NO;
+            votes.add(new Vote(null, agendaId, sequence, choice, now));
+        }
+        return votes;
+    }
+}
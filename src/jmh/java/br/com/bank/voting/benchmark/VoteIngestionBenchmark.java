@@ -0,0 +1,80 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.VotingSessionApiApplication;
+import br.com.bank.voting.application.dto.command.CreateAgendaCommand;
+import br.com.bank.voting.application.dto.command.OpenSessionCommand;
+import br.com.bank.voting.application.dto.command.VoteCommand;
+import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
+import br.com.bank.voting.application.port.in.OpenSessionUseCase;
+import br.com.bank.voting.application.port.in.VoteUseCase;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark ponta a ponta do registro de voto (VoteService.vote) contra o H2 em memória,
+ * incluindo validação de sessão, verificação de voto duplicado, gravação e atualização do placar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoteIngestionBenchmark {
+
+    private final AtomicLong cpfSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private VoteUseCase voteUseCase;
+    private UUID agendaId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VotingSessionApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "voting.external.user-info.enabled=false",
+                        "voting.tally.reconciliation.enabled=false"
+                )
+                .run();
+        voteUseCase = context.getBean(VoteUseCase.class);
+
+        agendaId = context.getBean(CreateAgendaUseCase.class)
+                .create(new CreateAgendaCommand("Benchmark de ingestão de votos"))
+                .id();
+        context.getBean(OpenSessionUseCase.class)
+                .open(new OpenSessionCommand(agendaId, 24 * 60));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void vote() {
+        long sequence = cpfSequence.incrementAndGet();
+        VoteChoice choice = (sequence & 1) == 0 ? VoteChoice.YES : VoteChoice.NO;
+        voteUseCase.vote(new VoteCommand(agendaId, BenchmarkCpfs.valid(sequence), choice));
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.bank.voting.benchmark;
+
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.rules.VoteRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das regras de contagem de votos e verificação de voto duplicado sobre listas em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoteRulesBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int votes;
+
+    private List<Vote> voteList;
+    private long missingCpf;
+
+    @Setup
+    public void setUp() {
+        UUID agendaId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        voteList = new ArrayList<>(votes);
+        for (int i = 0; i < votes; i++) {
+            VoteChoice choice = i % 2 == 0 ? VoteChoice.YES : VoteChoice.NO;
+            voteList.add(new Vote(UUID.randomUUID(), agendaId, i, choice, now));
+        }
+        missingCpf = votes;
+    }
+
+    @Benchmark
+    public long countVotesByChoice() {
+        return VoteRules.countVotesByChoice(voteList, VoteChoice.YES);
+    }
+
+    @Benchmark
+    public boolean hasAlreadyVotedMiss() {
+        return VoteRules.hasAlreadyVoted(voteList, missingCpf);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.RelayOutboxUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job que drena o outbox de resultados em lotes.
+ * Enquanto os lotes vierem cheios, o próximo é processado em seguida, sem esperar o intervalo.
+ */
+@Component
+@ConditionalOnProperty(name = "voting.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final RelayOutboxUseCase relayOutboxUseCase;
+    private final int batchSize;
+
+    public OutboxRelayScheduler(
+            RelayOutboxUseCase relayOutboxUseCase,
+            @Value("${voting.outbox.relay.batch-size:100}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox relay batch size must be positive");
+        }
+        this.relayOutboxUseCase = relayOutboxUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${voting.outbox.relay.interval-ms:500}")
+    public void relay() {
+        int published;
+        do {
+            published = relayOutboxUseCase.relayPending(batchSize);
+        } while (published == batchSize);
+    }
+}
@@ -0,0 +1,202 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.CloseSessionUseCase;
+import br.com.bank.voting.application.port.out.SessionClosingSchedulerPort;
+import br.com.bank.voting.domain.model.VotingSession;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor de encerramento de sessões: cada sessão é colocada em uma {@link DelayQueue} e encerrada
+ * por uma thread dedicada assim que o seu closesAt (mais uma margem) é atingido, sem depender de
+ * alguém consultar o resultado.
+ * <p>
+ * A fila vive apenas em memória; uma varredura periódica reagenda as sessões cujo resultado ainda
+ * não foi publicado, cobrindo reinícios, sessões abertas por outras instâncias e falhas no encerramento.
+ * A varredura só olha as sessões que fecham dentro da janela configurada ({@code sweep-window-minutes})
+ * e lê em páginas, de modo que o seu custo não cresce com o histórico de sessões.
+ * A publicação em si é deduplicada no banco pelo {@link CloseSessionUseCase}.
+ */
+@Component
+public class SessionClosingEngine implements SessionClosingSchedulerPort {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionClosingEngine.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+    private static final long MIN_RETRY_DELAY_MILLIS = 1_000;
+
+    private final CloseSessionUseCase closeSessionUseCase;
+    private final long graceMillis;
+    private final Duration sweepWindow;
+    private final int sweepPageSize;
+    private final DelayQueue<ScheduledClose> queue = new DelayQueue<>();
+    // pautas já na fila, para que a varredura não agende a mesma sessão duas vezes
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private Thread closer;
+
+    @Autowired
+    public SessionClosingEngine(
+            CloseSessionUseCase closeSessionUseCase,
+            @Value("${voting.session.closing.grace-ms:10000}") long graceMillis,
+            @Value("${voting.session.closing.sweep-window-minutes:1440}") long sweepWindowMinutes,
+            @Value("${voting.session.closing.sweep-page-size:500}") int sweepPageSize) {
+        this(closeSessionUseCase, graceMillis, Duration.ofMinutes(sweepWindowMinutes), sweepPageSize);
+    }
+
+    SessionClosingEngine(CloseSessionUseCase closeSessionUseCase, long graceMillis, Duration sweepWindow,
+                         int sweepPageSize) {
+        this.closeSessionUseCase = closeSessionUseCase;
+        this.graceMillis = graceMillis;
+        this.sweepWindow = sweepWindow;
+        this.sweepPageSize = sweepPageSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        closer = Thread.ofPlatform()
+                .name("session-closer")
+                .daemon()
+                .start(this::closeLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (closer != null) {
+            closer.interrupt();
+            closer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * Agenda o encerramento da sessão da pauta. Dentro de uma transação, o agendamento só
+     * acontece após o commit, para não encerrar uma sessão cuja abertura foi desfeita.
+     */
+    @Override
+    public void scheduleClose(UUID agendaId, LocalDateTime closesAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(agendaId, closesAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(agendaId, closesAt);
+            }
+        });
+    }
+
+    /**
+     * Reagenda as sessões cujo resultado ainda não foi publicado e que fecham dentro da janela
+     * da varredura, página a página.
+     * Executada também na inicialização, para retomar os encerramentos perdidos em um reinício.
+     */
+    @Scheduled(fixedDelayString = "${voting.session.closing.sweep-interval-ms:60000}")
+    public void sweep() {
+        try {
+            LocalDateTime closesAfter = LocalDateTime.now().minus(sweepWindow);
+            int pending = 0;
+            List<VotingSession> page;
+            VotingSession last = null;
+            do {
+                page = closeSessionUseCase.findPendingClosings(closesAfter, last, sweepPageSize);
+                page.forEach(session -> enqueue(session.getAgendaId(), session.getClosesAt()));
+                pending += page.size();
+                if (!page.isEmpty()) {
+                    last = page.get(page.size() - 1);
+                }
+            } while (page.size() == sweepPageSize);
+            log.debug("Session closing sweep finished. Pending sessions: {}, scheduled: {}",
+                    pending, scheduled.size());
+        } catch (Exception e) {
+            log.error("Error sweeping sessions pending closing", e);
+        }
+    }
+
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    /**
+     * Encerra as sessões cujo horário já foi atingido, sem bloquear.
+     *
+     * @return quantidade de sessões processadas
+     */
+    int runDue() {
+        int processed = 0;
+        ScheduledClose due;
+        while ((due = queue.poll()) != null) {
+            close(due);
+            processed++;
+        }
+        return processed;
+    }
+
+    private void enqueue(UUID agendaId, LocalDateTime closesAt) {
+        if (scheduled.add(agendaId)) {
+            long fireAt = closesAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + graceMillis;
+            queue.put(new ScheduledClose(agendaId, fireAt));
+        }
+    }
+
+    private void closeLoop() {
+        while (running) {
+            try {
+                close(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void close(ScheduledClose due) {
+        try {
+            if (closeSessionUseCase.close(due.agendaId()).isPresent()) {
+                scheduled.remove(due.agendaId());
+            } else {
+                // relógio desta instância adiantado em relação ao closesAt: tenta de novo mais tarde
+                long retryAt = System.currentTimeMillis() + Math.max(graceMillis, MIN_RETRY_DELAY_MILLIS);
+                queue.put(new ScheduledClose(due.agendaId(), retryAt));
+            }
+        } catch (Exception e) {
+            // a próxima varredura reagenda a sessão
+            scheduled.remove(due.agendaId());
+            log.error("Error closing session for agenda: {}", due.agendaId(), e);
+        }
+    }
+
+    private record ScheduledClose(UUID agendaId, long fireAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((ScheduledClose) other).fireAtMillis);
+        }
+    }
+}
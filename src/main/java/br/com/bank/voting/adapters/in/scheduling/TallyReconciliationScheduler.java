@@ -0,0 +1,32 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.ReconcileTallyUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job periódico que reconstrói os contadores de votos a partir da tabela de votos.
+ */
+@Component
+@ConditionalOnProperty(name = "voting.tally.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class TallyReconciliationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TallyReconciliationScheduler.class);
+
+    private final ReconcileTallyUseCase reconcileTallyUseCase;
+
+    public TallyReconciliationScheduler(ReconcileTallyUseCase reconcileTallyUseCase) {
+        this.reconcileTallyUseCase = reconcileTallyUseCase;
+    }
+
+    @Scheduled(
+            initialDelayString = "${voting.tally.reconciliation.interval-ms:300000}",
+            fixedDelayString = "${voting.tally.reconciliation.interval-ms:300000}")
+    public void reconcile() {
+        int reconciled = reconcileTallyUseCase.reconcileAll();
+        log.info("Tally reconciliation finished. Reconciled agendas: {}", reconciled);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.ArchiveVotesUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job periódico que move os votos das pautas encerradas há mais tempo para o arquivo compactado.
+ * Enquanto os lotes vierem cheios, o próximo é processado em seguida, sem esperar o intervalo.
+ */
+@Component
+@ConditionalOnProperty(name = "voting.vote.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class VoteArchiveScheduler {
+
+    private final ArchiveVotesUseCase archiveVotesUseCase;
+    private final int batchSize;
+
+    public VoteArchiveScheduler(
+            ArchiveVotesUseCase archiveVotesUseCase,
+            @Value("${voting.vote.archive.batch-size:10}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Vote archive batch size must be positive");
+        }
+        this.archiveVotesUseCase = archiveVotesUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${voting.vote.archive.interval-ms:3600000}",
+            fixedDelayString = "${voting.vote.archive.interval-ms:3600000}")
+    public void archive() {
+        int archived;
+        do {
+            archived = archiveVotesUseCase.archiveClosedAgendas(batchSize);
+        } while (archived == batchSize);
+    }
+}
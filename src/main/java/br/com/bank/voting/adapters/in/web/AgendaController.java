@@ -1,10 +1,15 @@
 package br.com.bank.voting.adapters.in.web;
 
+import br.com.bank.voting.adapters.in.web.stream.ResultStreamBroadcaster;
 import br.com.bank.voting.application.dto.command.CreateAgendaCommand;
+import br.com.bank.voting.application.dto.query.ListAgendasQuery;
 import br.com.bank.voting.application.dto.result.AgendaCreatedResult;
+import br.com.bank.voting.application.dto.result.AgendaPageResult;
 import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
 import br.com.bank.voting.application.port.in.GetResultUseCase;
+import br.com.bank.voting.application.port.in.ListAgendasUseCase;
 import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,10 +18,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -29,12 +39,24 @@ public class AgendaController {
 
     private static final Logger log = LoggerFactory.getLogger(AgendaController.class);
 
+    // resultado final nunca muda: pode ficar em cache no cliente e em proxies sem revalidação
+    private static final CacheControl FINAL_RESULT_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final CreateAgendaUseCase createAgendaUseCase;
     private final GetResultUseCase getResultUseCase;
+    private final ResultStreamBroadcaster resultStreamBroadcaster;
+    private final ListAgendasUseCase listAgendasUseCase;
 
-    public AgendaController(CreateAgendaUseCase createAgendaUseCase, GetResultUseCase getResultUseCase) {
+    public AgendaController(
+            CreateAgendaUseCase createAgendaUseCase,
+            GetResultUseCase getResultUseCase,
+            ResultStreamBroadcaster resultStreamBroadcaster,
+            ListAgendasUseCase listAgendasUseCase) {
         this.createAgendaUseCase = createAgendaUseCase;
         this.getResultUseCase = getResultUseCase;
+        this.resultStreamBroadcaster = resultStreamBroadcaster;
+        this.listAgendasUseCase = listAgendasUseCase;
     }
 
     /**
@@ -55,23 +77,81 @@ public class AgendaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Lista pautas da mais recente para a mais antiga, paginadas por cursor.
+     *
+     * @param status filtra pelo status da sessão (opcional)
+     * @param cursor nextCursor da página anterior (opcional)
+     * @param limit tamanho da página (opcional)
+     * @return resposta HTTP 200 com a página e o cursor da próxima
+     */
+    @GetMapping
+    @Operation(summary = "Listar pautas", description = "Lista pautas da mais recente para a mais antiga. Para obter a próxima página, envie o nextCursor da resposta anterior em cursor; nextCursor é null na última página")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor, status ou limite inválido")
+    })
+    public ResponseEntity<AgendaPageResult> listAgendas(
+            @Parameter(description = "Status da sessão (OPEN ou CLOSED)") @RequestParam(required = false) SessionStatus status,
+            @Parameter(description = "Cursor da próxima página") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (padrão 20, máximo 100)") @RequestParam(required = false) Integer limit) {
+        log.info("Received request to list agendas with status: {}, limit: {}", status, limit);
+        AgendaPageResult result = listAgendasUseCase.list(new ListAgendasQuery(cursor, status, limit));
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Obtém o resultado da votação de uma pauta.
+     * O resultado final de uma sessão encerrada é imutável e sai com ETag e Cache-Control immutable;
+     * uma requisição com If-None-Match igual ao ETag recebe 304 sem corpo.
      *
      * @param agendaId ID da pauta
      * @return resposta HTTP 200 com o resultado da votação
      */
     @GetMapping("/{agendaId}/result")
-    @Operation(summary = "Obter resultado", description = "Retorna o resultado da votação de uma pauta. Se a sessão estiver fechada, o resultado é automaticamente publicado na fila (Bônus 2)")
+    @Operation(summary = "Obter resultado", description = "Retorna o resultado da votação de uma pauta. Após o encerramento da sessão, o resultado final é imutável e pode ser mantido em cache pelo cliente (ETag)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Resultado retornado com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Resultado final não modificado (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
     })
     public ResponseEntity<VotingResultResult> getResult(
             @Parameter(description = "ID da pauta") @PathVariable UUID agendaId) {
         log.info("Received request to get result for agenda: {}", agendaId);
+        Optional<VotingResultResult> finalResult = getResultUseCase.findFinalResult(agendaId);
+        if (finalResult.isPresent()) {
+            // o Spring responde 304 quando o If-None-Match coincide com o ETag
+            return ResponseEntity.ok()
+                    .eTag(finalResultETag(finalResult.get()))
+                    .cacheControl(FINAL_RESULT_CACHE_CONTROL)
+                    .body(finalResult.get());
+        }
         VotingResultResult result = getResultUseCase.getResult(agendaId);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * Abre um stream (Server-Sent Events) com o placar da pauta.
+     * Envia um evento "tally" a cada mudança do placar, agrupando as mudanças por intervalo
+     * ({@code voting.result.stream.tick-ms}), e um evento "final" quando a sessão é encerrada.
+     *
+     * @param agendaId ID da pauta
+     * @return stream SSE do placar
+     */
+    @GetMapping(value = "/{agendaId}/result/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar resultado", description = "Stream SSE com o placar da pauta: eventos 'tally' a cada mudança e um evento 'final' no encerramento da sessão")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto"),
+            @ApiResponse(responseCode = "400", description = "Pauta não encontrada")
+    })
+    public SseEmitter streamResult(
+            @Parameter(description = "ID da pauta") @PathVariable UUID agendaId) {
+        log.info("Received request to stream result for agenda: {}", agendaId);
+        return resultStreamBroadcaster.subscribe(agendaId);
+    }
+
+    private static String finalResultETag(VotingResultResult result) {
+        return "\"" + result.agendaId() + "-" + result.yes() + "-" + result.no() + "\"";
+    }
 }
 
@@ -1,8 +1,10 @@
 package br.com.bank.voting.adapters.in.web;
 
 import br.com.bank.voting.adapters.in.web.dto.PublishedResultResponse;
+import br.com.bank.voting.adapters.in.web.stream.MessageLongPoller;
 import br.com.bank.voting.adapters.out.messaging.InMemoryMessageQueue;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
 import java.util.Map;
@@ -25,41 +28,57 @@ public class MessagingController {
 
     private static final Logger log = LoggerFactory.getLogger(MessagingController.class);
 
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+
     private final InMemoryMessageQueue messageQueue;
+    private final MessageLongPoller messageLongPoller;
 
-    public MessagingController(InMemoryMessageQueue messageQueue) {
+    public MessagingController(InMemoryMessageQueue messageQueue, MessageLongPoller messageLongPoller) {
         this.messageQueue = messageQueue;
+        this.messageLongPoller = messageLongPoller;
     }
 
     /**
-     * Retorna todas as mensagens publicadas na fila in-memory.
-     * Útil para demonstração do Bônus 2 sem necessidade de infraestrutura externa.
+     * Retorna as mensagens publicadas após a sequência informada, da mais antiga para a mais nova.
+     * O consumidor guarda a maior sequência recebida e a envia em {@code after} na chamada seguinte;
+     * com {@code waitMs}, a requisição aguarda a próxima publicação quando não há mensagens novas.
      *
-     * @return lista de resultados publicados
+     * @param after sequência da última mensagem já processada (0 para ler desde o início)
+     * @param limit quantidade máxima de mensagens
+     * @param waitMs tempo máximo de espera por novas mensagens, em milissegundos
+     * @return lista de resultados publicados (vazia se o tempo de espera acabar)
      */
     @GetMapping("/messages")
-    @Operation(summary = "Listar mensagens", description = "Retorna todas as mensagens publicadas na fila in-memory (Bônus 2)")
+    @Operation(summary = "Listar mensagens", description = "Retorna as mensagens publicadas após a sequência 'after' (Bônus 2). Com 'waitMs', aguarda novas mensagens (long-polling) e responde lista vazia se nenhuma chegar no prazo")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de mensagens retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Lista de mensagens retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
     })
-    public ResponseEntity<List<PublishedResultResponse>> getMessages() {
-        log.info("Retrieving all messages from queue");
-        List<PublishedResultResponse> messages = messageQueue.getAllMessages().stream()
-                .map(published -> new PublishedResultResponse(
-                        published.result(),
-                        published.publishedAt()
-                ))
-                .toList();
-        return ResponseEntity.ok(messages);
+    public DeferredResult<List<PublishedResultResponse>> getMessages(
+            @Parameter(description = "Sequência da última mensagem já processada") @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Quantidade máxima de mensagens (máximo 1000)") @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            @Parameter(description = "Tempo máximo de espera por novas mensagens (ms)") @RequestParam(defaultValue = "0") long waitMs) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Parameter 'after' must not be negative");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Parameter 'limit' must be between 1 and " + MAX_LIMIT);
+        }
+        if (waitMs < 0) {
+            throw new IllegalArgumentException("Parameter 'waitMs' must not be negative");
+        }
+        log.debug("Retrieving messages after sequence: {}, limit: {}, waitMs: {}", after, limit, waitMs);
+        return messageLongPoller.poll(after, limit, waitMs);
     }
 
     /**
      * Retorna informações sobre a fila de mensagens.
      *
-     * @return informações da fila (quantidade de mensagens)
+     * @return informações da fila (quantidade de mensagens e última sequência)
      */
     @GetMapping("/queue-info")
-    @Operation(summary = "Informações da fila", description = "Retorna informações sobre a fila de mensagens (quantidade de mensagens, tipo de fila)")
+    @Operation(summary = "Informações da fila", description = "Retorna informações sobre a fila de mensagens (quantidade de mensagens, última sequência, tipo de fila)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Informações da fila retornadas com sucesso")
     })
@@ -67,6 +86,7 @@ public class MessagingController {
         int messageCount = messageQueue.getMessageCount();
         return ResponseEntity.ok(Map.of(
                 "messageCount", messageCount,
+                "lastSequence", messageQueue.getLastSequence(),
                 "queueType", "In-Memory",
                 "description", "Fila in-memory para demonstração do Bônus 2"
         ));
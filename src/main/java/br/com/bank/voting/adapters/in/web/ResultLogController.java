@@ -0,0 +1,85 @@
+package br.com.bank.voting.adapters.in.web;
+
+import br.com.bank.voting.adapters.in.web.dto.PublishedResultResponse;
+import br.com.bank.voting.adapters.out.messaging.log.LogResultPublisherAdapter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller REST para leitura do log durável de resultados publicados
+ * (disponível com voting.messaging.log.enabled=true).
+ */
+@RestController
+@RequestMapping("/api/v1/messaging/log")
+@ConditionalOnProperty(name = "voting.messaging.log.enabled", havingValue = "true")
+@Tag(name = "Messaging", description = "Endpoints para visualização de mensagens publicadas (Bônus 2)")
+public class ResultLogController {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultLogController.class);
+
+    static final int MAX_LIMIT = 1000;
+
+    private final LogResultPublisherAdapter resultLog;
+
+    public ResultLogController(LogResultPublisherAdapter resultLog) {
+        this.resultLog = resultLog;
+    }
+
+    /**
+     * Retorna os resultados gravados no log após o offset informado.
+     * O consumidor guarda o maior offset recebido e o envia em {@code after} na chamada seguinte.
+     *
+     * @param after offset do último registro já processado (0 para ler desde o início)
+     * @param limit quantidade máxima de registros
+     * @return registros do log; o campo sequence contém o offset
+     */
+    @GetMapping("/records")
+    @Operation(summary = "Ler log de resultados", description = "Retorna os resultados gravados no log durável após o offset 'after'. Registros removidos pela retenção são pulados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Registros retornados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    })
+    public ResponseEntity<List<PublishedResultResponse>> getRecords(
+            @Parameter(description = "Offset do último registro já processado") @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Quantidade máxima de registros (máximo 1000)") @RequestParam(defaultValue = "100") int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Parameter 'after' must not be negative");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Parameter 'limit' must be between 1 and " + MAX_LIMIT);
+        }
+        log.debug("Reading result log after offset: {}, limit: {}", after, limit);
+        List<PublishedResultResponse> records = resultLog.read(after, limit).stream()
+                .map(record -> new PublishedResultResponse(record.offset(), record.result(), record.publishedAt()))
+                .toList();
+        return ResponseEntity.ok(records);
+    }
+
+    /**
+     * Retorna o intervalo de offsets disponível no log.
+     *
+     * @return primeiro e último offset
+     */
+    @GetMapping("/info")
+    @Operation(summary = "Informações do log", description = "Retorna o primeiro e o último offset disponíveis no log de resultados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Informações do log retornadas com sucesso")
+    })
+    public ResponseEntity<Map<String, Object>> getInfo() {
+        return ResponseEntity.ok(Map.of(
+                "firstOffset", resultLog.getFirstOffset(),
+                "lastOffset", resultLog.getLastOffset()
+        ));
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.bank.voting.adapters.in.web;
 
+import br.com.bank.voting.application.dto.command.BatchVoteCommand;
 import br.com.bank.voting.application.dto.command.VoteCommand;
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+import br.com.bank.voting.application.port.in.BatchVoteUseCase;
 import br.com.bank.voting.application.port.in.VoteUseCase;
 import br.com.bank.voting.domain.model.enums.VoteChoice;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,22 +18,27 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Controller REST para registro de votos.
  */
 @RestController
-@RequestMapping("/api/v1/agendas/{agendaId}/votes")
+@RequestMapping("/api/v1/agendas/{agendaId}")
 @Tag(name = "Votos", description = "Endpoints para registro de votos")
 public class VoteController {
 
     private static final Logger log = LoggerFactory.getLogger(VoteController.class);
 
     private final VoteUseCase voteUseCase;
+    private final BatchVoteUseCase batchVoteUseCase;
 
-    public VoteController(VoteUseCase voteUseCase) {
+    public VoteController(
+            VoteUseCase voteUseCase,
+            BatchVoteUseCase batchVoteUseCase) {
         this.voteUseCase = voteUseCase;
+        this.batchVoteUseCase = batchVoteUseCase;
     }
 
     /**
@@ -41,7 +49,7 @@ public class VoteController {
      * @param request requisição contendo o CPF do associado e a escolha (SIM/NÃO)
      * @return resposta HTTP 204 (No Content) em caso de sucesso
      */
-    @PostMapping
+    @PostMapping("/votes")
     @Operation(summary = "Registrar voto", description = "Registra um voto (SIM ou NÃO) de um associado em uma pauta. Valida elegibilidade via serviço externo (Bônus 1)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Voto registrado com sucesso"),
@@ -67,6 +75,66 @@ public class VoteController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
+    /**
+     * Registra um lote de votos em uma pauta.
+     * A pauta e a sessão são validadas uma única vez; cada item recebe o mesmo status e código
+     * de erro que o endpoint de voto individual retornaria.
+     *
+     * @param agendaId ID da pauta
+     * @param request requisição contendo a lista de votos
+     * @return resposta HTTP 200 com o status de cada item, na ordem de envio
+     */
+    @PostMapping("/votes:batch")
+    @Operation(summary = "Registrar lote de votos", description = "Registra vários votos em uma única requisição e transação, retornando o status de cada item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; status de cada item no corpo"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo"),
+            @ApiResponse(responseCode = "404", description = "Pauta ou sessão não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Sessão fechada")
+    })
+    public ResponseEntity<BatchVoteResponse> voteBatch(
+            @Parameter(description = "ID da pauta") @PathVariable UUID agendaId,
+            @RequestBody BatchVoteRequest request) {
+
+        List<VoteRequest> votes = request.votes() != null ? request.votes() : List.of();
+        log.info("Received batch vote request for agenda: {}, size: {}", agendaId, votes.size());
+
+        List<BatchVoteCommand.Item> items = votes.stream()
+                .map(vote -> vote == null ? null : new BatchVoteCommand.Item(vote.cpf(), vote.choice()))
+                .toList();
+        BatchVoteResult result = batchVoteUseCase.vote(new BatchVoteCommand(agendaId, items));
+
+        List<BatchVoteItemResponse> itemResponses = result.items().stream()
+                .map(this::toItemResponse)
+                .toList();
+        return ResponseEntity.ok(new BatchVoteResponse(
+                agendaId,
+                result.acceptedCount(),
+                result.rejectedCount(),
+                itemResponses
+        ));
+    }
+
+    private BatchVoteItemResponse toItemResponse(BatchVoteResult.ItemResult item) {
+        if (item.isAccepted()) {
+            return new BatchVoteItemResponse(item.index(), HttpStatus.NO_CONTENT.value(), "VOTE_REGISTERED", null);
+        }
+        // mesmos status e códigos que o GlobalExceptionHandler devolve no voto individual
+        HttpStatus status = switch (item.rejection()) {
+            case INVALID_REQUEST, INVALID_CPF, UNKNOWN_CPF -> HttpStatus.BAD_REQUEST;
+            case ALREADY_VOTED -> HttpStatus.CONFLICT;
+            case NOT_ELIGIBLE -> HttpStatus.FORBIDDEN;
+            case SERVICE_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
+        };
+        String code = switch (item.rejection()) {
+            case INVALID_REQUEST, INVALID_CPF -> "INVALID_REQUEST";
+            case UNKNOWN_CPF -> "INVALID_CPF";
+            case ALREADY_VOTED, NOT_ELIGIBLE -> "BUSINESS_RULE_VIOLATION";
+            case SERVICE_UNAVAILABLE -> "EXTERNAL_SERVICE_UNAVAILABLE";
+        };
+        return new BatchVoteItemResponse(item.index(), status.value(), code, item.message());
+    }
+
     /**
      * Request DTO para registro de voto.
      *
@@ -78,5 +146,46 @@ public class VoteController {
             VoteChoice choice
     ) {
     }
-}
 
+    /**
+     * Request DTO para registro de lote de votos.
+     *
+     * @param votes votos do lote
+     */
+    public record BatchVoteRequest(
+            List<VoteRequest> votes
+    ) {
+    }
+
+    /**
+     * Response DTO do lote de votos.
+     *
+     * @param agendaId ID da pauta
+     * @param accepted quantidade de votos registrados
+     * @param rejected quantidade de votos rejeitados
+     * @param results status de cada item, na ordem de envio
+     */
+    public record BatchVoteResponse(
+            UUID agendaId,
+            long accepted,
+            long rejected,
+            List<BatchVoteItemResponse> results
+    ) {
+    }
+
+    /**
+     * Status de um item do lote, espelhando a resposta do endpoint de voto individual.
+     *
+     * @param index posição do item no lote
+     * @param status código HTTP equivalente
+     * @param code código do resultado (VOTE_REGISTERED ou código de erro do GlobalExceptionHandler)
+     * @param message mensagem de erro, quando houver
+     */
+    public record BatchVoteItemResponse(
+            int index,
+            int status,
+            String code,
+            String message
+    ) {
+    }
+}
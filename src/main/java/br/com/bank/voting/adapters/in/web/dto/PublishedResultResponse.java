@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
  * DTO de resposta para resultado publicado na fila.
  */
 public record PublishedResultResponse(
+        long sequence,
         VotingResultResult result,
         LocalDateTime publishedAt
 ) {
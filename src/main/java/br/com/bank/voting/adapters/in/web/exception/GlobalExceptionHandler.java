@@ -5,11 +5,13 @@ import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Handler global para tratamento de exceções da aplicação.
@@ -66,6 +68,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Trata parâmetros de requisição que não puderam ser convertidos (ex.: status de sessão desconhecido).
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
+        ErrorResponse error = new ErrorResponse("INVALID_REQUEST", "Invalid value for parameter: " + ex.getName());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     /**
      * Trata exceções de violação de constraints de validação.
      */
@@ -81,6 +93,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Trata violações de integridade do banco (chave primária, unicidade, NOT NULL, tamanho de coluna).
+     * O voto duplicado já chega como IllegalStateException, convertido pelo adapter de votos;
+     * as demais violações recebem uma resposta neutra, sem expor detalhes do esquema.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        ErrorResponse error = new ErrorResponse("DATA_CONFLICT",
+                "The request conflicts with the current state of the data");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * Trata exceções de CPF inválido (API externa retornou 404).
      */
@@ -96,7 +121,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ExternalServiceUnavailableException.class)
     public ResponseEntity<ErrorResponse> handleExternalServiceUnavailableException(ExternalServiceUnavailableException ex) {
-        log.error("External service unavailable", ex);
+        // indisponibilidade é esperada (circuito aberto, bulkhead cheio); a causa é logada pelo adapter
+        log.warn("{}", ex.getMessage());
         ErrorResponse error = new ErrorResponse("EXTERNAL_SERVICE_UNAVAILABLE", 
                 "The external service is temporarily unavailable. Please try again later.");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
@@ -0,0 +1,103 @@
+package br.com.bank.voting.adapters.in.web.stream;
+
+import br.com.bank.voting.adapters.in.web.dto.PublishedResultResponse;
+import br.com.bank.voting.adapters.out.messaging.InMemoryMessageQueue;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leitura da fila de resultados publicados por cursor, com long-polling.
+ * <p>
+ * O consumidor guarda a sequência da última mensagem processada e pede as seguintes. Se ainda não
+ * houver nenhuma, a requisição fica pendente (sem ocupar thread do servlet) até a próxima
+ * publicação ou até o tempo de espera acabar, quando responde com lista vazia. Como o cursor fica
+ * com o consumidor, uma mensagem só deixa de ser entregue se for sobrescrita no buffer antes de
+ * ser lida: a entrega é ao menos uma vez dentro da capacidade da fila.
+ */
+@Component
+public class MessageLongPoller {
+
+    private final InMemoryMessageQueue messageQueue;
+    private final long maxWaitMillis;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    public MessageLongPoller(
+            InMemoryMessageQueue messageQueue,
+            @Value("${voting.messaging.poll.max-wait-ms:30000}") long maxWaitMillis) {
+        this.messageQueue = messageQueue;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        messageQueue.addPublishListener(this::wake);
+    }
+
+    /**
+     * Lê as mensagens publicadas após a sequência informada.
+     *
+     * @param afterSequence sequência da última mensagem já processada pelo consumidor
+     * @param limit quantidade máxima de mensagens
+     * @param waitMillis tempo máximo de espera quando não houver mensagens (0 responde de imediato);
+     *                   limitado a {@code voting.messaging.poll.max-wait-ms}
+     * @return resultado assíncrono com as mensagens, vazio se o tempo de espera acabar
+     */
+    public DeferredResult<List<PublishedResultResponse>> poll(long afterSequence, int limit, long waitMillis) {
+        List<PublishedResultResponse> available = read(afterSequence, limit);
+        long timeout = Math.min(waitMillis, maxWaitMillis);
+        if (!available.isEmpty() || timeout <= 0) {
+            DeferredResult<List<PublishedResultResponse>> result = new DeferredResult<>();
+            result.setResult(available);
+            return result;
+        }
+
+        DeferredResult<List<PublishedResultResponse>> result = new DeferredResult<>(timeout, List.of());
+        Waiter waiter = new Waiter(afterSequence, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // uma publicação entre a primeira leitura e o registro não acordaria este consumidor
+        complete(waiter);
+        return result;
+    }
+
+    /**
+     * Quantidade de consumidores aguardando mensagens.
+     */
+    int getWaitingCount() {
+        return waiters.size();
+    }
+
+    private void wake(long sequence) {
+        for (Waiter waiter : waiters) {
+            if (waiter.afterSequence() < sequence) {
+                complete(waiter);
+            }
+        }
+    }
+
+    private void complete(Waiter waiter) {
+        List<PublishedResultResponse> available = read(waiter.afterSequence(), waiter.limit());
+        if (!available.isEmpty() && waiter.result().setResult(available)) {
+            waiters.remove(waiter);
+        }
+    }
+
+    private List<PublishedResultResponse> read(long afterSequence, int limit) {
+        return messageQueue.readAfter(afterSequence, limit).stream()
+                .map(published -> new PublishedResultResponse(
+                        published.sequence(),
+                        published.result(),
+                        published.publishedAt()
+                ))
+                .toList();
+    }
+
+    private record Waiter(long afterSequence, int limit, DeferredResult<List<PublishedResultResponse>> result) {
+    }
+}
@@ -0,0 +1,270 @@
+package br.com.bank.voting.adapters.in.web.stream;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.in.GetResultUseCase;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Distribui o placar de cada pauta via Server-Sent Events.
+ * <p>
+ * Cada pauta com espectadores tem um único canal, que lê o resultado uma vez a cada
+ * {@code tick-ms} e envia um evento {@value #TALLY_EVENT} a todos os espectadores somente quando
+ * o placar mudou: o custo no banco é uma leitura por tick, independente do número de espectadores.
+ * Quando o resultado final da sessão é gravado, o canal envia um evento {@value #FINAL_EVENT},
+ * encerra os streams e é descartado. Sem espectadores, o canal também é descartado.
+ */
+@Component
+public class ResultStreamBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultStreamBroadcaster.class);
+
+    static final String TALLY_EVENT = "tally";
+    static final String FINAL_EVENT = "final";
+
+    private final GetResultUseCase getResultUseCase;
+    private final long tickMillis;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService ticker;
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    public ResultStreamBroadcaster(
+            GetResultUseCase getResultUseCase,
+            @Value("${voting.result.stream.tick-ms:250}") long tickMillis,
+            @Value("${voting.result.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.getResultUseCase = getResultUseCase;
+        this.tickMillis = tickMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("result-stream-ticker")
+                .daemon()
+                .factory());
+    }
+
+    /**
+     * Abre um stream do placar da pauta. O primeiro espectador de uma pauta valida a pauta e cria
+     * o canal; os seguintes recebem de imediato o último placar enviado pelo canal.
+     *
+     * @param agendaId ID da pauta
+     * @return emitter SSE do espectador
+     * @throws IllegalArgumentException se a pauta não existir
+     */
+    public SseEmitter subscribe(UUID agendaId) {
+        return subscribe(agendaId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(UUID agendaId, SseEmitter emitter) {
+        VotingResultResult initial = null;
+        if (!channels.containsKey(agendaId)) {
+            Optional<VotingResultResult> finalResult = getResultUseCase.findFinalResult(agendaId);
+            if (finalResult.isPresent()) {
+                send(emitter, FINAL_EVENT, finalResult.get());
+                emitter.complete();
+                return emitter;
+            }
+            initial = getResultUseCase.getResult(agendaId);
+        }
+
+        emitter.onCompletion(() -> unsubscribe(agendaId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe(agendaId, emitter));
+
+        VotingResultResult seed = initial;
+        while (!channels.computeIfAbsent(agendaId, id -> openChannel(id, seed)).add(emitter)) {
+            // o canal foi descartado entre a busca e a inscrição: cria outro
+            Thread.onSpinWait();
+        }
+        log.debug("Result stream subscribed for agenda: {}, channels: {}", agendaId, channels.size());
+        return emitter;
+    }
+
+    /**
+     * Lê o resultado da pauta e o distribui aos espectadores do canal.
+     */
+    void tick(UUID agendaId) {
+        Channel channel = channels.get(agendaId);
+        if (channel != null) {
+            tick(channel);
+        }
+    }
+
+    private void tick(Channel channel) {
+        if (channel.isClosed()) {
+            channel.cancelTask();
+            return;
+        }
+        try {
+            Optional<VotingResultResult> finalResult = getResultUseCase.findFinalResult(channel.agendaId);
+            if (finalResult.isPresent()) {
+                channel.finish(finalResult.get());
+                return;
+            }
+            channel.publish(getResultUseCase.getResult(channel.agendaId));
+        } catch (Exception e) {
+            log.warn("Could not refresh result stream for agenda: {}", channel.agendaId, e);
+        }
+    }
+
+    int getChannelCount() {
+        return channels.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        channels.values().forEach(Channel::completeAll);
+    }
+
+    private Channel openChannel(UUID agendaId, VotingResultResult initial) {
+        Channel channel = new Channel(agendaId, initial);
+        channel.task = ticker.scheduleAtFixedRate(() -> tick(channel), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        return channel;
+    }
+
+    private void unsubscribe(UUID agendaId, SseEmitter emitter) {
+        Channel channel = channels.get(agendaId);
+        if (channel != null) {
+            channel.remove(emitter);
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String event, VotingResultResult result) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(result));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // cliente desconectado ou stream já encerrado
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Canal de uma pauta. O lock garante que um espectador recém-inscrito receba o último placar
+     * antes de qualquer atualização posterior, sem eventos fora de ordem.
+     */
+    private final class Channel {
+
+        private final UUID agendaId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private VotingResultResult last;
+        private volatile boolean closed;
+        private volatile ScheduledFuture<?> task;
+
+        Channel(UUID agendaId, VotingResultResult initial) {
+            this.agendaId = agendaId;
+            this.last = initial;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        boolean add(SseEmitter emitter) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                emitters.add(emitter);
+                if (last != null) {
+                    send(emitter, TALLY_EVENT, last);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(SseEmitter emitter) {
+            lock.lock();
+            try {
+                emitters.remove(emitter);
+                if (emitters.isEmpty()) {
+                    close();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void publish(VotingResultResult current) {
+            lock.lock();
+            try {
+                if (closed || current.equals(last)) {
+                    return;
+                }
+                last = current;
+                for (SseEmitter emitter : emitters) {
+                    send(emitter, TALLY_EVENT, current);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void finish(VotingResultResult finalResult) {
+            lock.lock();
+            try {
+                for (SseEmitter emitter : emitters) {
+                    if (send(emitter, FINAL_EVENT, finalResult)) {
+                        emitter.complete();
+                    }
+                }
+                close();
+            } finally {
+                lock.unlock();
+            }
+            log.info("Final result streamed for agenda: {}", agendaId);
+        }
+
+        void cancelTask() {
+            ScheduledFuture<?> scheduled = task;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        void completeAll() {
+            lock.lock();
+            try {
+                emitters.forEach(SseEmitter::complete);
+                close();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                cancelTask();
+                channels.remove(agendaId, this);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.bank.voting.adapters.out.external;
+
+import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import br.com.bank.voting.domain.rules.CpfRules;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decorator com cache (Caffeine) na frente do adapter de elegibilidade do eleitor.
+ * Evita consultar o serviço externo repetidamente para o mesmo CPF durante picos de votação.
+ * Cada resposta tem seu próprio TTL (ABLE_TO_VOTE, UNABLE_TO_VOTE e CPF inválido/404);
+ * falhas de indisponibilidade não são armazenadas.
+ * Métricas de hit/miss/eviction são expostas no Actuator como cache "voterEligibility".
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.external.user-info.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingVoterEligibilityAdapter implements VoterEligibilityPort {
+
+    /**
+     * Qualificador dos adapters decorados por este cache.
+     */
+    public static final String DELEGATE = "voterEligibilityDelegate";
+
+    static final String CACHE_NAME = "voterEligibility";
+
+    private static final Logger log = LoggerFactory.getLogger(CachingVoterEligibilityAdapter.class);
+
+    private final VoterEligibilityPort delegate;
+    private final AsyncCache<Long, EligibilityStatus> cache;
+
+    @Autowired
+    public CachingVoterEligibilityAdapter(
+            @Qualifier(DELEGATE) VoterEligibilityPort delegate,
+            MeterRegistry meterRegistry,
+            @Value("${voting.external.user-info.cache.maximum-size:100000}") long maximumSize,
+            @Value("${voting.external.user-info.cache.able-ttl-seconds:600}") long ableTtlSeconds,
+            @Value("${voting.external.user-info.cache.unable-ttl-seconds:60}") long unableTtlSeconds,
+            @Value("${voting.external.user-info.cache.invalid-cpf-ttl-seconds:3600}") long invalidCpfTtlSeconds) {
+        this(delegate, meterRegistry, maximumSize,
+                Duration.ofSeconds(ableTtlSeconds),
+                Duration.ofSeconds(unableTtlSeconds),
+                Duration.ofSeconds(invalidCpfTtlSeconds),
+                Ticker.systemTicker());
+    }
+
+    CachingVoterEligibilityAdapter(
+            VoterEligibilityPort delegate,
+            MeterRegistry meterRegistry,
+            long maximumSize,
+            Duration ableTtl,
+            Duration unableTtl,
+            Duration invalidCpfTtl,
+            Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EligibilityExpiry(ableTtl, unableTtl, invalidCpfTtl))
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Consulta a elegibilidade usando o cache; em caso de miss, delega ao adapter remoto.
+     * Consultas concorrentes para o mesmo CPF aguardam uma única chamada remota.
+     * A chamada remota é feita fora do lock do mapa (apenas a entrada pendente é registrada nele),
+     * evitando fixar virtual threads ao carrier durante o I/O.
+     *
+     * @param cpf CPF do associado
+     * @return true se o associado pode votar, false caso contrário
+     * @throws InvalidCpfException se o CPF for inválido (inclusive quando a resposta 404 estiver em cache)
+     */
+    @Override
+    public boolean isEligibleToVote(long cpf) {
+        CompletableFuture<EligibilityStatus> pending = new CompletableFuture<>();
+        AtomicBoolean loader = new AtomicBoolean();
+        CompletableFuture<EligibilityStatus> future = cache.get(cpf, (key, executor) -> {
+            loader.set(true);
+            return pending;
+        });
+        if (loader.get()) {
+            try {
+                pending.complete(load(cpf));
+            } catch (RuntimeException e) {
+                // Futuros com falha são removidos do cache pelo Caffeine
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        EligibilityStatus eligibility = await(future);
+        if (eligibility == EligibilityStatus.INVALID_CPF) {
+            throw new InvalidCpfException(CpfRules.format(cpf));
+        }
+        return eligibility == EligibilityStatus.ABLE_TO_VOTE;
+    }
+
+    /**
+     * Consulta a elegibilidade de vários CPFs: respostas já em cache são usadas diretamente e os
+     * demais CPFs (inclusive os com consulta individual em andamento) vão ao adapter remoto em uma
+     * única chamada em lote. Respostas UNAVAILABLE não são armazenadas.
+     *
+     * @param cpfs CPFs dos associados
+     * @return elegibilidade de cada CPF
+     */
+    @Override
+    public Map<Long, EligibilityStatus> checkEligibility(Collection<Long> cpfs) {
+        Map<Long, EligibilityStatus> statuses = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long cpf : cpfs) {
+            CompletableFuture<EligibilityStatus> cached = cache.getIfPresent(cpf);
+            if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+                statuses.put(cpf, cached.join());
+            } else {
+                misses.add(cpf);
+            }
+        }
+        if (misses.isEmpty()) {
+            return statuses;
+        }
+
+        Map<Long, EligibilityStatus> loaded = delegate.checkEligibility(misses);
+        loaded.forEach((cpf, status) -> {
+            if (status != EligibilityStatus.UNAVAILABLE) {
+                cache.put(cpf, CompletableFuture.completedFuture(status));
+            }
+        });
+        statuses.putAll(loaded);
+        return statuses;
+    }
+
+    private EligibilityStatus await(CompletableFuture<EligibilityStatus> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private EligibilityStatus load(long cpf) {
+        try {
+            return delegate.isEligibleToVote(cpf) ? EligibilityStatus.ABLE_TO_VOTE : EligibilityStatus.UNABLE_TO_VOTE;
+        } catch (InvalidCpfException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Caching invalid CPF outcome");
+            }
+            return EligibilityStatus.INVALID_CPF;
+        }
+    }
+
+    private static final class EligibilityExpiry implements Expiry<Long, EligibilityStatus> {
+
+        private final long ableTtlNanos;
+        private final long unableTtlNanos;
+        private final long invalidCpfTtlNanos;
+
+        private EligibilityExpiry(Duration ableTtl, Duration unableTtl, Duration invalidCpfTtl) {
+            this.ableTtlNanos = ableTtl.toNanos();
+            this.unableTtlNanos = unableTtl.toNanos();
+            this.invalidCpfTtlNanos = invalidCpfTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long cpf, EligibilityStatus eligibility, long currentTime) {
+            return switch (eligibility) {
+                case ABLE_TO_VOTE -> ableTtlNanos;
+                case UNABLE_TO_VOTE -> unableTtlNanos;
+                case INVALID_CPF -> invalidCpfTtlNanos;
+                // nunca é armazenada; expira imediatamente por segurança
+                case UNAVAILABLE -> 0L;
+            };
+        }
+
+        @Override
+        public long expireAfterUpdate(Long cpf, EligibilityStatus eligibility, long currentTime, long currentDuration) {
+            return expireAfterCreate(cpf, eligibility, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long cpf, EligibilityStatus eligibility, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package br.com.bank.voting.adapters.out.external;
 
 import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import br.com.bank.voting.domain.rules.CpfRules;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Adapter mock para validação de elegibilidade (modo desenvolvimento).
  * Usado quando a validação externa está desabilitada.
@@ -13,26 +20,30 @@ import org.springframework.stereotype.Component;
  */
 @Component
 @ConditionalOnProperty(name = "voting.external.user-info.enabled", havingValue = "false", matchIfMissing = false)
+@Qualifier(CachingVoterEligibilityAdapter.DELEGATE)
 public class MockUserInfoClientAdapter implements VoterEligibilityPort {
 
     private static final Logger log = LoggerFactory.getLogger(MockUserInfoClientAdapter.class);
 
     @Override
-    public boolean isEligibleToVote(String cpf) {
+    public boolean isEligibleToVote(long cpf) {
         if (log.isWarnEnabled()) {
-            log.warn("Mock adapter: Skipping external validation for CPF: {}", maskCpf(cpf));
+            log.warn("Mock adapter: Skipping external validation for CPF: {}", CpfRules.mask(cpf));
             log.warn("In production, this should use the real external service!");
         }
         // Em modo mock, sempre retorna true (considera elegível)
         return true;
     }
 
-    private String maskCpf(String cpf) {
-        if (cpf == null || cpf.length() < 4) {
-            return "***";
+    @Override
+    public Map<Long, EligibilityStatus> checkEligibility(Collection<Long> cpfs) {
+        if (log.isWarnEnabled()) {
+            log.warn("Mock adapter: Skipping external validation for {} CPFs", cpfs.size());
         }
-        return "***" + cpf.substring(cpf.length() - 4);
+        Map<Long, EligibilityStatus> statuses = new HashMap<>();
+        for (Long cpf : cpfs) {
+            statuses.put(cpf, EligibilityStatus.ABLE_TO_VOTE);
+        }
+        return statuses;
     }
 }
-
-
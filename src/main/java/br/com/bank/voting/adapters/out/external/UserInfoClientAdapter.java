@@ -3,23 +3,42 @@ package br.com.bank.voting.adapters.out.external;
 import br.com.bank.voting.adapters.out.external.dto.UserInfoResponse;
 import br.com.bank.voting.adapters.out.external.exception.ExternalServiceUnavailableException;
 import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.adapters.out.external.resilience.Bulkhead;
+import br.com.bank.voting.adapters.out.external.resilience.CircuitBreaker;
 import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import br.com.bank.voting.domain.rules.CpfRules;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.HttpClientErrorException;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
 /**
  * Adapter para integração com serviço externo de verificação de elegibilidade do eleitor.
  * Implementa a integração com a API: https://user-info.herokuapp.com/users/{cpf}
  */
 @Component
 @ConditionalOnProperty(name = "voting.external.user-info.enabled", havingValue = "true", matchIfMissing = true)
+@Qualifier(CachingVoterEligibilityAdapter.DELEGATE)
 public class UserInfoClientAdapter implements VoterEligibilityPort {
 
     private static final Logger log = LoggerFactory.getLogger(UserInfoClientAdapter.class);
@@ -27,30 +46,133 @@ public class UserInfoClientAdapter implements VoterEligibilityPort {
     private static final String CPF_NOT_FOUND_MESSAGE = "CPF not found (404) in external service: {}";
     
     private final RestClient restClient;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxConcurrentCalls;
 
+    @Autowired
     public UserInfoClientAdapter(
-            @Value("${voting.external.user-info.url:https://user-info.herokuapp.com}") String baseUrl) {
-        // RestClient do Spring Boot 4.0.2 não suporta timeout direto no builder
-        // O timeout será gerenciado pelo cliente HTTP subjacente
+            @Value("${voting.external.user-info.url:https://user-info.herokuapp.com}") String baseUrl,
+            @Value("${voting.external.user-info.connect-timeout-seconds:2}") long connectTimeoutSeconds,
+            @Value("${voting.external.user-info.timeout-seconds:5}") long readTimeoutSeconds,
+            @Value("${voting.external.user-info.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${voting.external.user-info.bulkhead.max-wait-ms:100}") long maxWaitMillis,
+            @Value("${voting.external.user-info.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${voting.external.user-info.circuit-breaker.open-duration-seconds:30}") long openDurationSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            ObservationRegistry observationRegistry) {
+        // HttpClient do JDK mantém um pool de conexões keep-alive reutilizado entre as chamadas
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds));
+        if (virtualThreadsEnabled) {
+            httpClientBuilder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        HttpClient httpClient = httpClientBuilder.build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(readTimeoutSeconds));
+
+        // com o registry, a chamada gera um span filho e propaga o contexto de tracing no header traceparent
         this.restClient = RestClient.builder()
                 .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .observationRegistry(observationRegistry)
                 .build();
+        this.bulkhead = new Bulkhead(maxConcurrentCalls, Duration.ofMillis(maxWaitMillis));
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.circuitBreaker = new CircuitBreaker("user-info", failureThreshold, Duration.ofSeconds(openDurationSeconds));
+    }
+
+    UserInfoClientAdapter(String baseUrl, long connectTimeoutSeconds, long readTimeoutSeconds,
+                          int maxConcurrentCalls, long maxWaitMillis, int failureThreshold,
+                          long openDurationSeconds, boolean virtualThreadsEnabled) {
+        this(baseUrl, connectTimeoutSeconds, readTimeoutSeconds, maxConcurrentCalls, maxWaitMillis,
+                failureThreshold, openDurationSeconds, virtualThreadsEnabled, ObservationRegistry.NOOP);
     }
 
     /**
      * Verifica se um associado é elegível para votar consultando o serviço externo.
      *
-     * @param cpf CPF do associado (11 dígitos)
+     * @param cpfNumber CPF do associado
      * @return true se o associado pode votar (ABLE_TO_VOTE), false caso contrário
      * @throws InvalidCpfException se o CPF for inválido (API retorna 404)
-     * @throws ExternalServiceUnavailableException se o serviço estiver indisponível
+     * @throws ExternalServiceUnavailableException se o serviço estiver indisponível, o circuito estiver
+     *         aberto ou o limite de chamadas simultâneas for atingido
      */
     @Override
-    public boolean isEligibleToVote(String cpf) {
+    public boolean isEligibleToVote(long cpfNumber) {
+        // a API externa recebe os 11 dígitos, com zeros à esquerda
+        String cpf = CpfRules.format(cpfNumber);
         if (log.isDebugEnabled()) {
             log.debug("Checking eligibility for CPF: {}", maskCpf(cpf));
         }
-        
+
+        if (!bulkhead.tryAcquire()) {
+            throw new ExternalServiceUnavailableException("Too many concurrent calls", null);
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new ExternalServiceUnavailableException("Circuit breaker is open", null);
+            }
+            return callWithCircuitBreaker(cpf);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Consulta a elegibilidade de vários associados em paralelo (virtual threads), com no máximo
+     * max-concurrent-calls consultas em voo: o lote espera por permissões próprias em vez de disputar
+     * o bulkhead com todas as consultas de uma vez e ser rejeitado por excesso de concorrência.
+     * Falhas são devolvidas como status, sem exceção por CPF.
+     *
+     * @param cpfs CPFs dos associados
+     * @return elegibilidade de cada CPF (UNAVAILABLE se o serviço não respondeu)
+     */
+    @Override
+    public Map<Long, EligibilityStatus> checkEligibility(Collection<Long> cpfs) {
+        Map<Long, EligibilityStatus> statuses = new ConcurrentHashMap<>();
+        Semaphore inFlight = new Semaphore(maxConcurrentCalls);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Long cpf : new LinkedHashSet<>(cpfs)) {
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        statuses.put(cpf, statusOf(cpf));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return statuses;
+    }
+
+    private EligibilityStatus statusOf(long cpf) {
+        try {
+            return isEligibleToVote(cpf) ? EligibilityStatus.ABLE_TO_VOTE : EligibilityStatus.UNABLE_TO_VOTE;
+        } catch (InvalidCpfException e) {
+            return EligibilityStatus.INVALID_CPF;
+        } catch (ExternalServiceUnavailableException e) {
+            return EligibilityStatus.UNAVAILABLE;
+        }
+    }
+
+    private boolean callWithCircuitBreaker(String cpf) {
+        try {
+            boolean eligible = fetchEligibility(cpf);
+            circuitBreaker.onSuccess();
+            return eligible;
+        } catch (InvalidCpfException e) {
+            // 404 é uma resposta válida do serviço e não conta como falha
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch (ExternalServiceUnavailableException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private boolean fetchEligibility(String cpf) {
         try {
             UserInfoResponse userInfoResponse = fetchUserInfo(cpf);
             return processUserInfoResponse(userInfoResponse, cpf);
@@ -118,8 +240,9 @@ public class UserInfoClientAdapter implements VoterEligibilityPort {
     }
 
     private void handleNetworkError(ResourceAccessException e, String cpf) {
-        if (log.isErrorEnabled()) {
-            log.error("Network/timeout error calling user-info service for CPF: {}", maskCpf(cpf), e);
+        // timeout e falha de rede são esperados com o serviço degradado; sem stack trace
+        if (log.isWarnEnabled()) {
+            log.warn("Network/timeout error calling user-info service for CPF: {}: {}", maskCpf(cpf), e.getMessage());
         }
         throw new ExternalServiceUnavailableException("Network or timeout error: " + e.getMessage(), e);
     }
@@ -137,8 +260,8 @@ public class UserInfoClientAdapter implements VoterEligibilityPort {
                 log.debug("Invalid CPF detected: {}", maskCpf(cpf));
             }
         } else {
-            if (log.isErrorEnabled()) {
-                log.error("External service error for CPF: {}", maskCpf(cpf), e);
+            if (log.isWarnEnabled()) {
+                log.warn("External service error for CPF: {}: {}", maskCpf(cpf), e.getMessage());
             }
         }
     }
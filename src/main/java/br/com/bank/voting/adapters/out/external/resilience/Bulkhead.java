@@ -0,0 +1,45 @@
+package br.com.bank.voting.adapters.out.external.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead baseado em semáforo que limita o número de chamadas simultâneas a um serviço externo.
+ * Chamadas que não obtêm permissão dentro do tempo máximo de espera são rejeitadas.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Max concurrent calls must be at least 1");
+        }
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Tenta obter uma permissão, aguardando no máximo o tempo configurado.
+     *
+     * @return true se a permissão foi obtida (deve ser liberada com {@link #release()})
+     */
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
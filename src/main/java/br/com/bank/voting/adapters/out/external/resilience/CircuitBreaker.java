@@ -0,0 +1,107 @@
+package br.com.bank.voting.adapters.out.external.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker simples (sem locks) para chamadas a serviços externos.
+ * Abre após N falhas consecutivas, rejeita chamadas enquanto aberto e, após o tempo de espera,
+ * libera uma única chamada de teste (HALF_OPEN) que decide se o circuito fecha ou reabre.
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private record Snapshot(State state, long openedAtNanos) {
+    }
+
+    private static final Snapshot CLOSED = new Snapshot(State.CLOSED, 0L);
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Verifica se a chamada pode prosseguir.
+     *
+     * @return true se o circuito está fechado ou se esta é a chamada de teste após o tempo de espera
+     */
+    public boolean tryAcquirePermission() {
+        Snapshot current = snapshot.get();
+        if (current.state() == State.CLOSED) {
+            return true;
+        }
+        if (current.state() == State.OPEN && nanoClock.getAsLong() - current.openedAtNanos() >= openDurationNanos) {
+            return snapshot.compareAndSet(current, new Snapshot(State.HALF_OPEN, current.openedAtNanos()));
+        }
+        return false;
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida; fecha o circuito se estava em HALF_OPEN.
+     */
+    public void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        Snapshot current = snapshot.get();
+        if (current.state() == State.HALF_OPEN && snapshot.compareAndSet(current, CLOSED) && log.isInfoEnabled()) {
+            log.info("Circuit breaker '{}' closed", name);
+        }
+    }
+
+    /**
+     * Registra uma falha; abre o circuito ao atingir o limite ou se a chamada de teste falhar.
+     */
+    public void onFailure() {
+        Snapshot current = snapshot.get();
+        if (current.state() == State.HALF_OPEN) {
+            open(current);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && current.state() == State.CLOSED) {
+            open(current);
+        }
+    }
+
+    public State getState() {
+        return snapshot.get().state();
+    }
+
+    private void open(Snapshot current) {
+        if (snapshot.compareAndSet(current, new Snapshot(State.OPEN, nanoClock.getAsLong()))) {
+            consecutiveFailures.set(0);
+            if (log.isWarnEnabled()) {
+                log.warn("Circuit breaker '{}' opened", name);
+            }
+        }
+    }
+}
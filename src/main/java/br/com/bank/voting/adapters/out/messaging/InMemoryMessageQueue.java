@@ -1,45 +1,106 @@
 package br.com.bank.voting.adapters.out.messaging;
 
 import br.com.bank.voting.application.dto.result.VotingResultResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
 
 /**
  * Fila in-memory para armazenar resultados de votação publicados.
  * Utilizada para demonstração do Bônus 2 sem necessidade de infraestrutura externa.
+ * <p>
+ * Implementada como um buffer circular sem locks, com slots alocados na criação: cada publicação
+ * reserva o próximo número de sequência com um incremento atômico e grava no slot
+ * {@code sequência % capacidade}, sobrescrevendo a mensagem mais antiga quando o buffer está cheio.
+ * Leitores percorrem as sequências a partir de um cursor, sem copiar o buffer inteiro; uma
+ * sequência reservada mas ainda não gravada encerra a leitura, e uma já sobrescrita é pulada.
  */
 @Component
 public class InMemoryMessageQueue {
 
-    private final BlockingQueue<PublishedResult> queue;
+    private static final Logger log = LoggerFactory.getLogger(InMemoryMessageQueue.class);
+
     private final int capacity;
+    private final AtomicReferenceArray<PublishedResult> slots;
+    // última sequência reservada; a primeira mensagem recebe a sequência 1
+    private final AtomicLong lastSequence = new AtomicLong();
+    // sequências até este valor foram descartadas por clear()
+    private final AtomicLong clearedUpTo = new AtomicLong();
+    private final List<LongConsumer> publishListeners = new CopyOnWriteArrayList<>();
 
-    public InMemoryMessageQueue() {
-        this.capacity = 1000;
-        this.queue = new LinkedBlockingQueue<>(capacity);
+    public InMemoryMessageQueue(@Value("${voting.messaging.queue.capacity:1000}") int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
     }
 
     /**
-     * Publica um resultado na fila.
+     * Publica um resultado na fila. Se a fila estiver cheia, a mensagem mais antiga é sobrescrita.
      *
      * @param result resultado da votação a ser publicado
+     * @return sequência atribuída à mensagem
+     */
+    public long publish(VotingResultResult result) {
+        long sequence = lastSequence.incrementAndGet();
+        PublishedResult published = new PublishedResult(sequence, result, LocalDateTime.now());
+        int index = indexOf(sequence);
+        while (true) {
+            PublishedResult current = slots.get(index);
+            // um publicador mais lento não sobrescreve uma mensagem mais nova da volta seguinte
+            if (current != null && current.sequence() > sequence) {
+                break;
+            }
+            if (slots.compareAndSet(index, current, published)) {
+                break;
+            }
+        }
+        notifyListeners(sequence);
+        return sequence;
+    }
+
+    /**
+     * Registra um ouvinte chamado, na thread do publicador, com a sequência de cada mensagem
+     * logo após ela ficar visível para leitura.
+     */
+    public void addPublishListener(LongConsumer listener) {
+        publishListeners.add(listener);
+    }
+
+    /**
+     * Lê as mensagens publicadas após a sequência informada, da mais antiga para a mais nova.
+     * Mensagens já sobrescritas não são retornadas.
+     *
+     * @param afterSequence última sequência já lida (0 para ler desde o início)
+     * @param limit quantidade máxima de mensagens
+     * @return mensagens com sequência maior que {@code afterSequence}
      */
-    public void publish(VotingResultResult result) {
-        PublishedResult publishedResult = new PublishedResult(
-                result,
-                LocalDateTime.now()
-        );
-        
-        if (!queue.offer(publishedResult)) {
-            // Se a fila estiver cheia, remove o mais antigo e adiciona o novo
-            queue.poll();
-            queue.offer(publishedResult);
+    public List<PublishedResult> readAfter(long afterSequence, int limit) {
+        long last = lastSequence.get();
+        long from = Math.max(Math.max(afterSequence, clearedUpTo.get()), last - capacity) + 1;
+        int expected = (int) Math.min(Math.max(last - from + 1, 0), limit);
+        List<PublishedResult> messages = new ArrayList<>(expected);
+        for (long sequence = from; sequence <= last && messages.size() < limit; sequence++) {
+            PublishedResult published = slots.get(indexOf(sequence));
+            if (published == null || published.sequence() < sequence) {
+                // reservada mas ainda não gravada: as seguintes também não estão visíveis em ordem
+                break;
+            }
+            if (published.sequence() == sequence) {
+                messages.add(published);
+            }
         }
+        return messages;
     }
 
     /**
@@ -48,7 +109,7 @@ public class InMemoryMessageQueue {
      * @return lista de resultados publicados
      */
     public List<PublishedResult> getAllMessages() {
-        return new ArrayList<>(queue);
+        return readAfter(0, capacity);
     }
 
     /**
@@ -57,24 +118,45 @@ public class InMemoryMessageQueue {
      * @return número de mensagens
      */
     public int getMessageCount() {
-        return queue.size();
+        long last = lastSequence.get();
+        return (int) Math.min(last - Math.min(clearedUpTo.get(), last), capacity);
     }
 
     /**
-     * Limpa a fila (útil para testes).
+     * Retorna a sequência da última mensagem publicada (0 se nenhuma).
+     */
+    public long getLastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * Limpa a fila (útil para testes). A numeração das sequências continua de onde parou.
      */
     public void clear() {
-        queue.clear();
+        clearedUpTo.accumulateAndGet(lastSequence.get(), Math::max);
+    }
+
+    private void notifyListeners(long sequence) {
+        for (LongConsumer listener : publishListeners) {
+            try {
+                listener.accept(sequence);
+            } catch (RuntimeException e) {
+                log.warn("Publish listener failed for sequence: {}", sequence, e);
+            }
+        }
+    }
+
+    private int indexOf(long sequence) {
+        return (int) (sequence % capacity);
     }
 
     /**
-     * Representa um resultado publicado na fila com timestamp.
+     * Representa um resultado publicado na fila com sua sequência e timestamp.
      */
     public record PublishedResult(
+            long sequence,
             VotingResultResult result,
             LocalDateTime publishedAt
     ) {
     }
 }
-
-
@@ -7,18 +7,34 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Adapter para publicação de resultados via mensageria.
  * Implementa publicação em fila in-memory para demonstração do Bônus 2.
  * Em produção, pode ser substituído por implementação com Kafka/RabbitMQ.
+ * Resultados reenviados pelo relay do outbox são descartados se a pauta estiver entre as
+ * últimas publicadas.
  */
 @Component
 public class ResultPublisherAdapter implements ResultPublisherPort {
 
     private static final Logger log = LoggerFactory.getLogger(ResultPublisherAdapter.class);
 
+    static final int DEDUPLICATION_WINDOW = 1024;
+
     private final InMemoryMessageQueue messageQueue;
     private final boolean messagingEnabled;
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Map<UUID, Boolean> recentlyPublished = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+            return size() > DEDUPLICATION_WINDOW;
+        }
+    };
 
     public ResultPublisherAdapter(
             InMemoryMessageQueue messageQueue,
@@ -30,6 +46,7 @@ public class ResultPublisherAdapter implements ResultPublisherPort {
     /**
      * Publica o resultado da votação na fila de mensageria.
      * Se a mensageria estiver desabilitada, apenas loga a mensagem.
+     * Falhas da fila são propagadas para que o relay do outbox tente novamente.
      *
      * @param result resultado da votação a ser publicado
      */
@@ -40,14 +57,19 @@ public class ResultPublisherAdapter implements ResultPublisherPort {
             return;
         }
 
+        publishLock.lock();
         try {
+            if (recentlyPublished.containsKey(result.agendaId())) {
+                log.debug("Result already published to queue, ignoring redelivery. Agenda: {}", result.agendaId());
+                return;
+            }
             messageQueue.publish(result);
-            log.info("Voting result published to queue. Agenda: {}, Result: {}, Yes: {}, No: {}", 
-                    result.agendaId(), result.result(), result.yes(), result.no());
-        } catch (Exception e) {
-            log.error("Error publishing result to queue for agenda: {}", result.agendaId(), e);
-            // Não lança exceção para não quebrar o fluxo principal
+            recentlyPublished.put(result.agendaId(), Boolean.TRUE);
+        } finally {
+            publishLock.unlock();
         }
+        log.info("Voting result published to queue. Agenda: {}, Result: {}, Yes: {}, No: {}",
+                result.agendaId(), result.result(), result.yes(), result.no());
     }
 }
 
@@ -0,0 +1,93 @@
+package br.com.bank.voting.adapters.out.messaging.log;
+
+import br.com.bank.voting.adapters.out.messaging.ResultPublisherAdapter;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.out.ResultPublisherPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publicação durável de resultados (voting.messaging.log.enabled=true).
+ * <p>
+ * Grava cada resultado no {@link ResultLog} local antes de repassá-lo à fila in-memory, de modo que
+ * os resultados publicados sobrevivem a reinícios e podem ser relidos por offset. Se a gravação no
+ * log falhar, a exceção é propagada: o resultado continua no outbox e o relay tenta novamente.
+ * Um resultado reenviado não é gravado duas vezes (ver {@link ResultLog}).
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.messaging.log.enabled", havingValue = "true")
+public class LogResultPublisherAdapter implements ResultPublisherPort {
+
+    private static final Logger log = LoggerFactory.getLogger(LogResultPublisherAdapter.class);
+
+    private final ResultPublisherAdapter delegate;
+    private final ResultLog resultLog;
+
+    @Autowired
+    public LogResultPublisherAdapter(
+            ResultPublisherAdapter delegate,
+            @Value("${voting.messaging.log.directory:./data/result-log}") String directory,
+            @Value("${voting.messaging.log.segment-size-kb:1024}") int segmentSizeKb,
+            @Value("${voting.messaging.log.retention-mb:256}") long retentionMb,
+            @Value("${voting.messaging.log.retention-hours:168}") long retentionHours) {
+        this(delegate, new ResultLog(Path.of(directory), segmentSizeKb * 1024,
+                retentionMb * 1024 * 1024, Duration.ofHours(retentionHours)));
+    }
+
+    LogResultPublisherAdapter(ResultPublisherAdapter delegate, ResultLog resultLog) {
+        this.delegate = delegate;
+        this.resultLog = resultLog;
+    }
+
+    @Override
+    public void publishResult(VotingResultResult result) {
+        long offset = resultLog.append(result, LocalDateTime.now());
+        log.info("Voting result appended to result log. Agenda: {}, Offset: {}", result.agendaId(), offset);
+        delegate.publishResult(result);
+    }
+
+    /**
+     * Lê os resultados gravados após o offset informado.
+     *
+     * @param afterOffset último offset já processado pelo consumidor
+     * @param limit quantidade máxima de registros
+     * @return registros em ordem de offset
+     */
+    public List<ResultLogRecord> read(long afterOffset, int limit) {
+        return resultLog.read(afterOffset, limit);
+    }
+
+    public long getFirstOffset() {
+        return resultLog.getFirstOffset();
+    }
+
+    public long getLastOffset() {
+        return resultLog.getLastOffset();
+    }
+
+    @Scheduled(fixedDelayString = "${voting.messaging.log.retention-check-interval-ms:300000}")
+    public void enforceRetention() {
+        int deleted = resultLog.enforceRetention(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Result log retention removed {} segments, first offset now: {}", deleted, resultLog.getFirstOffset());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        resultLog.close();
+    }
+}
@@ -0,0 +1,387 @@
+package br.com.bank.voting.adapters.out.messaging.log;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log local de resultados publicados, append-only, em segmentos de arquivo mapeados em memória.
+ * <p>
+ * Cada registro tem tamanho fixo e o formato {@code [tamanho][crc][offset][resultado]}, de modo que
+ * a posição de um offset no segmento é calculada diretamente, sem índice. Registros incompletos ou
+ * corrompidos no fim de um segmento (queda durante a escrita) são descartados na abertura.
+ * A escrita usa group commit: quem publica aguarda um único {@code force()} que cobre todos os
+ * registros escritos até aquele momento. A leitura é por offset, com o cursor mantido pelo
+ * consumidor; segmentos fechados são apagados dos mais antigos para os mais novos quando o log
+ * passa do tamanho máximo ou quando o último registro do segmento passa da idade máxima.
+ * <p>
+ * Cada pauta tem um único resultado, então o ID da pauta é a chave de idempotência: um resultado
+ * reenviado (relay do outbox após uma queda) que esteja entre os últimos registros não é gravado
+ * de novo, e o offset do registro original é retornado. Essa janela é recarregada na abertura.
+ */
+public class ResultLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultLog.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    // tamanho (4) + crc (4) + offset (8)
+    private static final int HEADER_SIZE = 16;
+    // epochSecond (8) + nano (4) + pauta (16) + status (1) + sim (8) + não (8) + total (8) + resultado (1)
+    private static final int PAYLOAD_SIZE = 54;
+    static final int RECORD_SIZE = HEADER_SIZE + PAYLOAD_SIZE;
+    static final int DEDUPLICATION_WINDOW = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int recordsPerSegment;
+    private final long retentionBytes;
+    private final Duration retentionAge;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // offsets das últimas pautas gravadas; acessado apenas sob o lock de escrita
+    private final Map<UUID, Long> recentOffsets = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+            return size() > DEDUPLICATION_WINDOW;
+        }
+    };
+
+    private volatile Segment activeSegment;
+    private volatile long lastOffset;
+    private volatile long durableOffset;
+
+    public ResultLog(Path directory, int segmentSize, long retentionBytes, Duration retentionAge) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("Result log segment size is too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.recordsPerSegment = segmentSize / RECORD_SIZE;
+        this.retentionBytes = retentionBytes;
+        this.retentionAge = retentionAge;
+        try {
+            Files.createDirectories(directory);
+            long last = 0L;
+            for (Path path : listSegments()) {
+                Segment segment = openExisting(path);
+                if (segment.lastOffset < segment.baseOffset) {
+                    // nenhum registro válido: segmento criado e não usado antes da queda
+                    Files.delete(path);
+                    continue;
+                }
+                segments.put(segment.baseOffset, segment);
+                last = Math.max(last, segment.lastOffset);
+            }
+            this.lastOffset = last;
+            this.durableOffset = last;
+            for (ResultLogRecord record : read(Math.max(last - DEDUPLICATION_WINDOW, 0), DEDUPLICATION_WINDOW)) {
+                recentOffsets.put(record.result().agendaId(), record.offset());
+            }
+            openSegment(last + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open result log at " + directory, e);
+        }
+    }
+
+    /**
+     * Grava o resultado no log e aguarda até que esteja em disco.
+     *
+     * @param result resultado a gravar
+     * @param publishedAt data/hora da publicação
+     * @return offset atribuído ao registro, ou o offset do registro já gravado para a mesma pauta
+     */
+    public long append(VotingResultResult result, LocalDateTime publishedAt) {
+        long offset;
+        appendLock.lock();
+        try {
+            Long existing = recentOffsets.get(result.agendaId());
+            if (existing != null) {
+                offset = existing;
+            } else {
+                offset = lastOffset + 1;
+                if (offset - activeSegment.baseOffset >= recordsPerSegment) {
+                    rotate(offset);
+                }
+                write(activeSegment, offset, result, publishedAt);
+                activeSegment.lastOffset = offset;
+                activeSegment.lastPublishedAt = publishedAt;
+                lastOffset = offset;
+                recentOffsets.put(result.agendaId(), offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to result log", e);
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(offset);
+        return offset;
+    }
+
+    /**
+     * Lê os registros posteriores ao offset informado, em ordem. Registros já removidos pela
+     * retenção são pulados: a leitura começa no registro mais antigo ainda disponível.
+     *
+     * @param afterOffset último offset já processado pelo consumidor (0 para ler desde o início)
+     * @param limit quantidade máxima de registros
+     * @return registros lidos
+     */
+    public List<ResultLogRecord> read(long afterOffset, int limit) {
+        long last = lastOffset;
+        List<ResultLogRecord> records = new ArrayList<>((int) Math.min(Math.max(last - afterOffset, 0), limit));
+        long offset = afterOffset + 1;
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        if (entry == null) {
+            entry = segments.firstEntry();
+        }
+        while (entry != null && records.size() < limit && offset <= last) {
+            Segment segment = entry.getValue();
+            offset = Math.max(offset, segment.baseOffset);
+            long segmentLast = Math.min(segment.lastOffset, last);
+            ByteBuffer buffer = segment.buffer.duplicate();
+            for (; offset <= segmentLast && records.size() < limit; offset++) {
+                records.add(decode(buffer, (int) ((offset - segment.baseOffset) * RECORD_SIZE)));
+            }
+            entry = segments.higherEntry(segment.baseOffset);
+        }
+        return records;
+    }
+
+    /**
+     * Apaga os segmentos fechados mais antigos que ultrapassam o tamanho ou a idade máxima.
+     *
+     * @param now data/hora de referência para a idade
+     * @return quantidade de segmentos apagados
+     */
+    public int enforceRetention(LocalDateTime now) {
+        LocalDateTime oldestAllowed = now.minus(retentionAge);
+        int deleted = 0;
+        Map.Entry<Long, Segment> oldest = segments.firstEntry();
+        // o segmento ativo (último) nunca é apagado
+        while (oldest != null && oldest.getValue() != activeSegment) {
+            Segment segment = oldest.getValue();
+            boolean overSize = (long) segments.size() * segmentSize > retentionBytes;
+            boolean expired = segment.lastPublishedAt != null && segment.lastPublishedAt.isBefore(oldestAllowed);
+            if (!overSize && !expired) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not delete result log segment " + segment.path, e);
+            }
+            segments.remove(segment.baseOffset);
+            deleted++;
+            log.info("Deleted result log segment {} (offsets {} to {})",
+                    segment.path.getFileName(), segment.baseOffset, segment.lastOffset);
+            oldest = segments.firstEntry();
+        }
+        return deleted;
+    }
+
+    /**
+     * Offset do registro mais antigo disponível (0 se o log estiver vazio).
+     */
+    public long getFirstOffset() {
+        Map.Entry<Long, Segment> first = segments.firstEntry();
+        return first == null || lastOffset < first.getKey() ? 0L : first.getKey();
+    }
+
+    public long getLastOffset() {
+        return lastOffset;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            activeSegment.buffer.force();
+            durableOffset = lastOffset;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void write(Segment segment, long offset, VotingResultResult result, LocalDateTime publishedAt) {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putInt(PAYLOAD_SIZE)
+                .putInt(0)
+                .putLong(offset)
+                .putLong(publishedAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(publishedAt.getNano())
+                .putLong(result.agendaId().getMostSignificantBits())
+                .putLong(result.agendaId().getLeastSignificantBits())
+                .put((byte) result.sessionStatus().ordinal())
+                .putLong(result.yes())
+                .putLong(result.no())
+                .putLong(result.total())
+                .put((byte) result.result().ordinal());
+        record.putInt(Integer.BYTES, checksum(record, 2 * Integer.BYTES, RECORD_SIZE - 2 * Integer.BYTES));
+        segment.buffer.put((int) ((offset - segment.baseOffset) * RECORD_SIZE), record.array());
+    }
+
+    private static ResultLogRecord decode(ByteBuffer buffer, int position) {
+        buffer.position(position + HEADER_SIZE - Long.BYTES);
+        long offset = buffer.getLong();
+        LocalDateTime publishedAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        UUID agendaId = new UUID(buffer.getLong(), buffer.getLong());
+        SessionStatus status = SessionStatus.values()[buffer.get()];
+        long yes = buffer.getLong();
+        long no = buffer.getLong();
+        long total = buffer.getLong();
+        VotingResult result = VotingResult.values()[buffer.get()];
+        return new ResultLogRecord(offset, new VotingResultResult(agendaId, status, yes, no, total, result), publishedAt);
+    }
+
+    /**
+     * Group commit: o primeiro a obter o lock força o segmento ativo, cobrindo também
+     * os registros escritos pelas demais threads que aguardam.
+     */
+    private void awaitDurable(long offset) {
+        if (durableOffset >= offset) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (durableOffset >= offset) {
+                return;
+            }
+            long target;
+            MappedByteBuffer buffer;
+            appendLock.lock();
+            try {
+                target = lastOffset;
+                buffer = activeSegment.buffer;
+            } finally {
+                appendLock.unlock();
+            }
+            buffer.force();
+            durableOffset = target;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void rotate(long baseOffset) throws IOException {
+        activeSegment.buffer.force();
+        durableOffset = lastOffset;
+        openSegment(baseOffset);
+    }
+
+    private void openSegment(long baseOffset) throws IOException {
+        Path path = segmentPath(baseOffset);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            activeSegment = new Segment(baseOffset, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+        activeSegment.lastOffset = baseOffset - 1;
+        segments.put(baseOffset, activeSegment);
+        if (log.isDebugEnabled()) {
+            log.debug("Opened result log segment {}", path.getFileName());
+        }
+    }
+
+    /**
+     * Abre um segmento de uma execução anterior, somente leitura, e localiza o último registro válido.
+     */
+    private Segment openExisting(Path path) throws IOException {
+        long baseOffset = baseOffsetOf(path);
+        Segment segment;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            segment = new Segment(baseOffset, path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        ByteBuffer buffer = segment.buffer.duplicate();
+        long offset = baseOffset;
+        for (int position = 0; position + RECORD_SIZE <= buffer.capacity(); position += RECORD_SIZE, offset++) {
+            if (!isValid(buffer, position, offset)) {
+                if (buffer.getInt(position) != 0) {
+                    log.warn("Discarding torn record at offset {} of result log segment {}", offset, path.getFileName());
+                }
+                break;
+            }
+            segment.lastPublishedAt = decode(buffer, position).publishedAt();
+        }
+        segment.lastOffset = offset - 1;
+        return segment;
+    }
+
+    private static boolean isValid(ByteBuffer buffer, int position, long expectedOffset) {
+        return buffer.getInt(position) == PAYLOAD_SIZE
+                && buffer.getLong(position + 2 * Integer.BYTES) == expectedOffset
+                && buffer.getInt(position + Integer.BYTES)
+                == checksum(buffer, position + 2 * Integer.BYTES, RECORD_SIZE - 2 * Integer.BYTES);
+    }
+
+    private Path segmentPath(long baseOffset) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, baseOffset, SEGMENT_SUFFIX));
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long baseOffsetOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(offset).limit(offset + length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Segmento do log. Campos mutáveis são alterados apenas sob o lock de escrita;
+     * leitores usam {@link #lastOffset} do log como limite do que já está visível.
+     */
+    private static final class Segment {
+
+        private final long baseOffset;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private volatile long lastOffset;
+        private volatile LocalDateTime lastPublishedAt;
+
+        private Segment(long baseOffset, Path path, MappedByteBuffer buffer) {
+            this.baseOffset = baseOffset;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.bank.voting.adapters.out.messaging.log;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro do log de resultados: o resultado publicado e sua posição (offset) no log.
+ */
+public record ResultLogRecord(
+        long offset,
+        VotingResultResult result,
+        LocalDateTime publishedAt
+) {
+}
@@ -1,11 +1,20 @@
 package br.com.bank.voting.adapters.out.persistence.adapter;
 
 import br.com.bank.voting.adapters.out.persistence.entity.AgendaEntity;
+import br.com.bank.voting.adapters.out.persistence.entity.VotingSessionEntity;
 import br.com.bank.voting.adapters.out.persistence.repository.AgendaJpaRepository;
+import br.com.bank.voting.application.dto.query.AgendaCursor;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
 import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +40,61 @@ public class AgendaJpaAdapter implements AgendaRepositoryPort {
                 .map(this::toDomain);
     }
 
+    /**
+     * Busca a página seguinte ao cursor em ordem (createdAt, id) decrescente. A posição é
+     * aplicada como filtro sobre o índice (created_at, id), e não como OFFSET, de modo que o
+     * custo de cada página não cresce com a profundidade da listagem.
+     * <p>
+     * Com filtro, vale a definição de {@code SessionRules.statusOf}: OPEN são as pautas com sessão
+     * aberta, CLOSED todas as demais (inclusive sem sessão). OPEN parte das sessões abertas, poucas,
+     * pelo índice em closes_at; CLOSED percorre o índice de pautas descartando só as de sessão aberta.
+     * Em nenhum dos casos uma página lê um número de linhas proporcional ao total de pautas.
+     */
+    @Override
+    public List<Agenda> findPage(AgendaCursor after, SessionStatus sessionStatus, LocalDateTime now, int limit) {
+        List<AgendaEntity> entities;
+        if (sessionStatus == SessionStatus.OPEN) {
+            PageRequest page = PageRequest.of(0, limit);
+            entities = after == null
+                    ? repository.findWithOpenSession(now, page)
+                    : repository.findWithOpenSessionAfter(now, after.createdAt(), after.id(), page);
+        } else {
+            Specification<AgendaEntity> spec = Specification.unrestricted();
+            if (after != null) {
+                spec = spec.and(after(after));
+            }
+            if (sessionStatus == SessionStatus.CLOSED) {
+                spec = spec.and(withoutOpenSession(now));
+            }
+            entities = repository.findBy(spec, query -> query
+                    .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                    .limit(limit)
+                    .all());
+        }
+        return entities.stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private static Specification<AgendaEntity> after(AgendaCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    private static Specification<AgendaEntity> withoutOpenSession(LocalDateTime now) {
+        return (root, query, cb) -> {
+            Subquery<Integer> openSession = query.subquery(Integer.class);
+            var sessionRoot = openSession.from(VotingSessionEntity.class);
+            openSession.select(cb.literal(1)).where(
+                    cb.equal(sessionRoot.get("agendaId"), root.get("id")),
+                    cb.greaterThan(sessionRoot.<LocalDateTime>get("closesAt"), now));
+            return cb.not(cb.exists(openSession));
+        };
+    }
+
     private AgendaEntity toEntity(Agenda agenda) {
         AgendaEntity entity = new AgendaEntity();
         // Se o ID for null, deixa o JPA gerar automaticamente
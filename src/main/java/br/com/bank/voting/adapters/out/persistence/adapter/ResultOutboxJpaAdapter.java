@@ -0,0 +1,89 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.ResultOutboxEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.ResultOutboxJpaRepository;
+import br.com.bank.voting.application.dto.result.OutboxMessage;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.out.ResultOutboxPort;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter do outbox de resultados (tabela result_outbox).
+ * A mensagem é gravada na transação de quem encerra a sessão, junto com o snapshot do resultado;
+ * as atualizações feitas pelo relay rodam cada uma em sua própria transação.
+ */
+@Component
+public class ResultOutboxJpaAdapter implements ResultOutboxPort {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ResultOutboxJpaRepository repository;
+
+    public ResultOutboxJpaAdapter(ResultOutboxJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void enqueue(VotingResultResult result, LocalDateTime createdAt) {
+        repository.save(new ResultOutboxEntity(
+                result.agendaId(),
+                result.yes(),
+                result.no(),
+                result.result().name(),
+                createdAt
+        ));
+    }
+
+    /**
+     * Reivindica, na ordem de criação, as mensagens ainda não publicadas cuja próxima tentativa já venceu.
+     * As linhas são lidas com FOR UPDATE SKIP LOCKED e têm a próxima tentativa adiada para
+     * {@code claimedUntil} na mesma transação: duas instâncias nunca recebem a mesma mensagem, e o lock
+     * não fica retido durante a publicação.
+     */
+    @Override
+    @Transactional
+    public List<OutboxMessage> claimDue(LocalDateTime now, LocalDateTime claimedUntil, int limit) {
+        List<ResultOutboxEntity> due = repository.findDueForUpdate(now, PageRequest.of(0, limit));
+        due.forEach(entity -> entity.setNextAttemptAt(claimedUntil));
+        return due.stream()
+                .map(this::toMessage)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(UUID agendaId, LocalDateTime publishedAt) {
+        repository.markPublished(agendaId, publishedAt);
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(UUID agendaId, int attempts, LocalDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        repository.markFailed(agendaId, attempts, nextAttemptAt, lastError);
+    }
+
+    private OutboxMessage toMessage(ResultOutboxEntity entity) {
+        return new OutboxMessage(
+                new VotingResultResult(
+                        entity.getAgendaId(),
+                        SessionStatus.CLOSED,
+                        entity.getYesCount(),
+                        entity.getNoCount(),
+                        entity.getYesCount() + entity.getNoCount(),
+                        VotingResult.valueOf(entity.getResult())
+                ),
+                entity.getAttempts()
+        );
+    }
+}
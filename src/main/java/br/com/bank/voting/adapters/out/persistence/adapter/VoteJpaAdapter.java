@@ -1,50 +1,281 @@
 package br.com.bank.voting.adapters.out.persistence.adapter;
 
+import br.com.bank.voting.adapters.out.persistence.archive.ArchivedVoteIndex;
+import br.com.bank.voting.adapters.out.persistence.archive.VoteArchiveCodec;
+import br.com.bank.voting.adapters.out.persistence.entity.VoteArchiveEntity;
 import br.com.bank.voting.adapters.out.persistence.entity.VoteEntity;
+import br.com.bank.voting.adapters.out.persistence.id.TimeOrderedUuid;
+import br.com.bank.voting.adapters.out.persistence.index.VotedCpfIndex;
+import br.com.bank.voting.adapters.out.persistence.repository.ArchivableVote;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteArchiveJpaRepository;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteChoiceCount;
 import br.com.bank.voting.adapters.out.persistence.repository.VoteJpaRepository;
+import br.com.bank.voting.application.port.out.VoteArchivePort;
 import br.com.bank.voting.application.port.out.VoteRepositoryPort;
 import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
 import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+/**
+ * Adapter dos votos. Os votos ficam em duas camadas: a tabela votes guarda só as pautas em votação
+ * ou encerradas há pouco tempo; os votos de pautas encerradas há mais tempo são movidos para a tabela
+ * vote_archives, compactados em uma linha por pauta. As leituras de uma pauta que não encontram votos
+ * na tabela votes recorrem ao arquivo; a verificação de voto duplicado consulta só a tabela votes,
+ * pois uma pauta arquivada já foi encerrada e não recebe novos votos. Os votos descompactados de uma
+ * pauta arquivada ficam no {@link ArchivedVoteIndex}, e não são descomprimidos de novo a cada consulta.
+ * <p>
+ * As gravações fazem flush imediato: a violação da constraint única (agenda_id, cpf), quando dois votos
+ * do mesmo associado passam juntos pela verificação de duplicidade, é convertida aqui no mesmo erro do
+ * voto duplicado; as demais violações de integridade seguem como DataIntegrityViolationException.
+ */
 @Component
-public class VoteJpaAdapter implements VoteRepositoryPort {
+@Qualifier(VoteJpaAdapter.QUALIFIER)
+public class VoteJpaAdapter implements VoteRepositoryPort, VoteArchivePort {
+
+    /**
+     * Qualificador deste adapter, para quem precisa ler o banco sem passar pelo write-behind.
+     */
+    public static final String QUALIFIER = "voteDatabase";
+
+    static final String AGENDA_CPF_CONSTRAINT = "uk_votes_agenda_cpf";
+
+    private static final String ALREADY_VOTED_MESSAGE = "Associate already voted for this agenda";
+
+    // votos lidos por consulta ao arquivar uma pauta
+    static final int ARCHIVE_CHUNK_SIZE = 1_000;
 
     private final VoteJpaRepository repository;
+    private final VotedCpfIndex votedCpfIndex;
+    private final VoteArchiveJpaRepository archiveRepository;
+    private final ArchivedVoteIndex archivedVoteIndex;
 
-    public VoteJpaAdapter(VoteJpaRepository repository) {
+    public VoteJpaAdapter(VoteJpaRepository repository, VotedCpfIndex votedCpfIndex,
+                          VoteArchiveJpaRepository archiveRepository, ArchivedVoteIndex archivedVoteIndex) {
         this.repository = repository;
+        this.votedCpfIndex = votedCpfIndex;
+        this.archiveRepository = archiveRepository;
+        this.archivedVoteIndex = archivedVoteIndex;
     }
 
+    /**
+     * @throws IllegalStateException se o associado já tiver votado na pauta (constraint única violada)
+     */
     @Override
     public Vote save(Vote vote) {
         VoteEntity entity = toEntity(vote);
-        VoteEntity saved = repository.save(entity);
+        VoteEntity saved;
+        try {
+            saved = repository.save(entity);
+            repository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+        votedCpfIndex.addAfterCommit(saved.getAgendaId(), List.of(saved.getCpf()));
         return toDomain(saved);
     }
 
+    /**
+     * Grava os votos com saveAll; com hibernate.jdbc.batch_size configurado,
+     * os INSERTs são enviados ao banco em lotes JDBC no flush.
+     *
+     * @throws IllegalStateException se algum associado já tiver votado na pauta (constraint única violada)
+     */
+    @Override
+    public List<Vote> saveAll(List<Vote> votes) {
+        List<VoteEntity> entities = votes.stream()
+                .map(this::toEntity)
+                .toList();
+        List<VoteEntity> savedEntities;
+        try {
+            savedEntities = repository.saveAll(entities);
+            repository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+        List<Vote> saved = savedEntities.stream()
+                .map(this::toDomain)
+                .toList();
+        saved.stream()
+                .collect(Collectors.groupingBy(Vote::getAgendaId,
+                        Collectors.mapping(Vote::getCpf, Collectors.toList())))
+                .forEach(votedCpfIndex::addAfterCommit);
+        return saved;
+    }
+
     @Override
-    public Optional<Vote> findByAgendaIdAndCpf(UUID agendaId, String cpf) {
+    public Optional<Vote> findByAgendaIdAndCpf(UUID agendaId, long cpf) {
         return repository.findByAgendaIdAndCpf(agendaId, cpf)
-                .map(this::toDomain);
+                .map(this::toDomain)
+                .or(() -> archivedVoteIndex.find(agendaId, cpf, this::decodeArchive));
+    }
+
+    /**
+     * Verifica se o CPF já votou na pauta consultando o índice em memória;
+     * só vai ao banco para carregar o índice da pauta ou quando o índice está desabilitado.
+     */
+    @Override
+    public boolean existsByAgendaIdAndCpf(UUID agendaId, long cpf) {
+        if (!votedCpfIndex.isEnabled()) {
+            return repository.existsByAgendaIdAndCpf(agendaId, cpf);
+        }
+        return votedCpfIndex.contains(agendaId, cpf, () -> repository.findCpfsByAgendaId(agendaId));
+    }
+
+    /**
+     * Retorna, entre os CPFs informados, os que já votaram na pauta.
+     * Usa o índice em memória quando habilitado; caso contrário, faz uma única consulta com IN.
+     */
+    @Override
+    public Set<Long> findCpfsAlreadyVoted(UUID agendaId, Collection<Long> cpfs) {
+        if (cpfs.isEmpty()) {
+            return Set.of();
+        }
+        if (votedCpfIndex.isEnabled()) {
+            return cpfs.stream()
+                    .filter(cpf -> votedCpfIndex.contains(agendaId, cpf, () -> repository.findCpfsByAgendaId(agendaId)))
+                    .collect(Collectors.toSet());
+        }
+        return new HashSet<>(repository.findCpfsByAgendaIdAndCpfIn(agendaId, cpfs));
+    }
+
+    /**
+     * Retorna, entre os IDs informados, os que já estão gravados (uma única consulta com IN).
+     * Usado para tornar idempotente a reaplicação de votos do journal de ingestão.
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repository.findExistingIds(ids));
     }
 
     @Override
     public List<Vote> findAllByAgendaId(UUID agendaId) {
-        return repository.findAllByAgendaId(agendaId).stream()
+        List<VoteEntity> entities = repository.findAllByAgendaId(agendaId);
+        if (entities.isEmpty()) {
+            return archivedVoteIndex.votesOf(agendaId, this::decodeArchive);
+        }
+        return entities.stream()
                 .map(this::toDomain)
                 .toList();
     }
 
-    private VoteEntity toEntity(Vote vote) {
-        VoteEntity entity = new VoteEntity();
-        if (vote.getId() != null) {
-            entity.setId(vote.getId());
+    /**
+     * Conta os votos da pauta por escolha com uma única consulta agregada (COUNT ... GROUP BY),
+     * sem carregar as entidades de voto. Pautas arquivadas são respondidas pelos totais do arquivo.
+     */
+    @Override
+    public VoteTally countVotesByChoice(UUID agendaId) {
+        long yes = 0;
+        long no = 0;
+        for (VoteChoiceCount count : repository.countByChoice(agendaId)) {
+            if (VoteChoice.YES.name().equals(count.getChoice())) {
+                yes = count.getTotal();
+            } else if (VoteChoice.NO.name().equals(count.getChoice())) {
+                no = count.getTotal();
+            }
+        }
+        if (yes == 0 && no == 0) {
+            return archiveRepository.findById(agendaId)
+                    .map(archive -> new VoteTally(agendaId, archive.getYesCount(), archive.getNoCount()))
+                    .orElseGet(() -> new VoteTally(agendaId, 0, 0));
+        }
+        return new VoteTally(agendaId, yes, no);
+    }
+
+    /**
+     * Lista as pautas com resultado gravado e encerradas antes do instante informado cujos votos
+     * ainda não foram arquivados, das mais antigas para as mais recentes.
+     */
+    @Override
+    public List<UUID> findArchivableAgendaIds(LocalDateTime closedBefore, int limit) {
+        return archiveRepository.findArchivableAgendaIds(closedBefore, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Move os votos da pauta para o arquivo: grava os votos compactados e os totais por escolha em
+     * vote_archives e apaga as linhas da tabela votes, na mesma transação. Os votos são lidos em lotes
+     * de {@value #ARCHIVE_CHUNK_SIZE}, em ordem de CPF, e comprimidos à medida que chegam; só o
+     * conteúdo comprimido fica inteiro em memória.
+     *
+     * @param agendaId ID da pauta
+     * @return quantidade de votos arquivados (0 se a pauta já estava arquivada)
+     */
+    @Override
+    @Transactional
+    public long archive(UUID agendaId) {
+        if (archiveRepository.existsById(agendaId)) {
+            return 0;
+        }
+        VoteArchiveCodec.Encoder encoder = VoteArchiveCodec.encoder();
+        PageRequest chunk = PageRequest.of(0, ARCHIVE_CHUNK_SIZE);
+        long total = 0;
+        long yes = 0;
+        long afterCpf = -1;
+        List<ArchivableVote> rows;
+        do {
+            rows = repository.findArchivableAfter(agendaId, afterCpf, chunk);
+            List<Vote> votes = rows.stream()
+                    .map(row -> new Vote(row.getId(), agendaId, row.getCpf(),
+                            VoteChoice.valueOf(row.getChoice()), row.getCreatedAt()))
+                    .toList();
+            encoder.add(votes);
+            for (Vote vote : votes) {
+                if (vote.getChoice() == VoteChoice.YES) {
+                    yes++;
+                }
+            }
+            total += votes.size();
+            if (!votes.isEmpty()) {
+                afterCpf = votes.getLast().getCpf();
+            }
+        } while (rows.size() == ARCHIVE_CHUNK_SIZE);
+        archiveRepository.save(new VoteArchiveEntity(agendaId, yes, total - yes,
+                encoder.finish(), LocalDateTime.now()));
+        repository.deleteByAgendaId(agendaId);
+        return total;
+    }
+
+    /**
+     * Converte a violação da constraint (agenda_id, cpf) no erro de voto duplicado, mantendo a causa;
+     * qualquer outra violação de integridade é devolvida sem alteração.
+     */
+    static RuntimeException translate(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        String detail = constraint != null ? constraint : e.getMostSpecificCause().getMessage();
+        // o H2 devolve o nome em maiúsculas e com sufixo do índice (UK_VOTES_AGENDA_CPF_INDEX_4)
+        if (detail != null && detail.toLowerCase(Locale.ROOT).contains(AGENDA_CPF_CONSTRAINT)) {
+            return new IllegalStateException(ALREADY_VOTED_MESSAGE, e);
         }
+        return e;
+    }
+
+    private Optional<List<Vote>> decodeArchive(UUID agendaId) {
+        return archiveRepository.findById(agendaId)
+                .map(archive -> VoteArchiveCodec.decode(agendaId, archive.getPayload()));
+    }
+
+    VoteEntity toEntity(Vote vote) {
+        VoteEntity entity = new VoteEntity();
+        entity.setId(vote.getId() != null ? vote.getId() : TimeOrderedUuid.next());
         entity.setAgendaId(vote.getAgendaId());
         entity.setCpf(vote.getCpf());
         entity.setChoice(vote.getChoice().name());
@@ -52,7 +283,7 @@ public class VoteJpaAdapter implements VoteRepositoryPort {
         return entity;
     }
 
-    private Vote toDomain(VoteEntity entity) {
+    Vote toDomain(VoteEntity entity) {
         return new Vote(
                 entity.getId(),
                 entity.getAgendaId(),
@@ -0,0 +1,92 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VoteTallyEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteTallyJpaRepository;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter dos contadores incrementais de votos por pauta (tabela vote_tallies).
+ * Permite que o resultado seja obtido em O(1), sem percorrer todos os votos.
+ */
+@Component
+public class VoteTallyJpaAdapter implements VoteTallyRepositoryPort {
+
+    private final VoteTallyJpaRepository repository;
+    private final VoteRepositoryPort voteRepository;
+
+    // contagem direto da tabela de votos: no modo write-behind, os votos ainda no journal
+    // chegam ao contador pelo incremento da descarga, e não pela reconstrução
+    public VoteTallyJpaAdapter(
+            VoteTallyJpaRepository repository,
+            @Qualifier(VoteJpaAdapter.QUALIFIER) VoteRepositoryPort voteRepository) {
+        this.repository = repository;
+        this.voteRepository = voteRepository;
+    }
+
+    @Override
+    public Optional<VoteTally> findByAgendaId(UUID agendaId) {
+        return repository.findById(agendaId)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public void initialize(UUID agendaId) {
+        if (!repository.existsById(agendaId)) {
+            repository.save(new VoteTallyEntity(agendaId, 0, 0));
+        }
+    }
+
+    /**
+     * Incrementa os contadores da pauta com um UPDATE atômico na transação corrente.
+     * O contador é criado na abertura da sessão; sem ele, o voto é desfeito em vez de criar a linha
+     * aqui, o que faria dois primeiros votos simultâneos disputarem a mesma chave primária.
+     *
+     * @throws IncorrectUpdateSemanticsDataAccessException se a pauta não tiver contador
+     */
+    @Override
+    public void increment(UUID agendaId, long yes, long no) {
+        int updated = repository.increment(agendaId, yes, no);
+        if (updated == 0) {
+            throw new IncorrectUpdateSemanticsDataAccessException("Vote tally not initialized for agenda: " + agendaId);
+        }
+    }
+
+    /**
+     * Reconstrói o contador a partir da tabela de votos, criando-o se a pauta ainda não tiver um
+     * (sessões abertas antes da existência da tabela).
+     * A linha do contador é bloqueada antes da contagem para que incrementos concorrentes
+     * não sejam perdidos ao sobrescrever os valores.
+     */
+    @Override
+    @Transactional
+    public VoteTally rebuild(UUID agendaId) {
+        Optional<VoteTallyEntity> locked = repository.findForUpdate(agendaId);
+        VoteTallyEntity counted = countVotes(agendaId);
+        VoteTallyEntity entity = locked.orElse(counted);
+        entity.setYesCount(counted.getYesCount());
+        entity.setNoCount(counted.getNoCount());
+        return toDomain(repository.save(entity));
+    }
+
+    private VoteTallyEntity countVotes(UUID agendaId) {
+        VoteTally counted = voteRepository.countVotesByChoice(agendaId);
+        return new VoteTallyEntity(agendaId, counted.getYes(), counted.getNo());
+    }
+
+    private VoteTally toDomain(VoteTallyEntity entity) {
+        return new VoteTally(
+                entity.getAgendaId(),
+                entity.getYesCount(),
+                entity.getNoCount()
+        );
+    }
+}
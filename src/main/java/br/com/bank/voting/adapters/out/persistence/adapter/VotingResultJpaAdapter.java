@@ -0,0 +1,69 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VotingResultEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.VotingResultJpaRepository;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.out.VotingResultRepositoryPort;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter dos resultados finais de sessões encerradas (tabela voting_results).
+ * O snapshot é gravado uma única vez por pauta; a coluna published_at registra a publicação
+ * do resultado e serve como trava entre instâncias para que ele seja publicado uma só vez.
+ */
+@Component
+public class VotingResultJpaAdapter implements VotingResultRepositoryPort {
+
+    private final VotingResultJpaRepository repository;
+
+    public VotingResultJpaAdapter(VotingResultJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Optional<VotingResultResult> findByAgendaId(UUID agendaId) {
+        return repository.findById(agendaId)
+                .map(this::toResult);
+    }
+
+    @Override
+    public VotingResultResult save(VotingResultResult result, LocalDateTime closedAt) {
+        VotingResultEntity entity = new VotingResultEntity(
+                result.agendaId(),
+                result.yes(),
+                result.no(),
+                result.result().name(),
+                closedAt,
+                null
+        );
+        return toResult(repository.save(entity));
+    }
+
+    /**
+     * Marca o resultado como publicado com um UPDATE condicional (published_at ainda nulo).
+     * Somente a transação que efetivamente alterar a linha deve registrar o resultado no outbox.
+     *
+     * @return true se esta chamada marcou a publicação
+     */
+    @Override
+    public boolean markPublished(UUID agendaId, LocalDateTime publishedAt) {
+        return repository.markPublished(agendaId, publishedAt) > 0;
+    }
+
+    private VotingResultResult toResult(VotingResultEntity entity) {
+        return new VotingResultResult(
+                entity.getAgendaId(),
+                SessionStatus.CLOSED,
+                entity.getYesCount(),
+                entity.getNoCount(),
+                entity.getYesCount() + entity.getNoCount(),
+                VotingResult.valueOf(entity.getResult())
+        );
+    }
+}
@@ -4,8 +4,12 @@ import br.com.bank.voting.adapters.out.persistence.entity.VotingSessionEntity;
 import br.com.bank.voting.adapters.out.persistence.repository.VotingSessionJpaRepository;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
 import br.com.bank.voting.domain.model.VotingSession;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +35,34 @@ public class VotingSessionJpaAdapter implements SessionRepositoryPort {
                 .map(this::toDomain);
     }
 
+    @Override
+    public List<VotingSession> findWithoutPublishedResult(LocalDateTime closesAfter, VotingSession after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<VotingSessionEntity> entities = after == null
+                ? repository.findWithoutPublishedResult(closesAfter, page)
+                : repository.findWithoutPublishedResultAfter(closesAfter, after.getClosesAt(), after.getId(), page);
+        return entities.stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<VotingSession> findByAgendaIds(Collection<UUID> agendaIds) {
+        if (agendaIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findByAgendaIdIn(agendaIds).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<VotingSession> findClosingAfter(LocalDateTime closesAfter) {
+        return repository.findByClosesAtAfter(closesAfter).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     private VotingSessionEntity toEntity(VotingSession session) {
         VotingSessionEntity entity = new VotingSessionEntity();
         // Se o ID for null, deixa o JPA gerar automaticamente
@@ -0,0 +1,77 @@
+package br.com.bank.voting.adapters.out.persistence.archive;
+
+import br.com.bank.voting.domain.model.Vote;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Votos já descompactados das pautas arquivadas, para que as consultas a uma pauta arquivada não
+ * descomprimam o arquivo inteiro a cada chamada.
+ * <p>
+ * O arquivo de uma pauta não muda depois de gravado, então a entrada não precisa ser invalidada;
+ * o cache é limitado pelo total de votos mantidos ({@code maximum-votes}) e descarta as pautas sem
+ * acesso por {@code idle-minutes}. Pautas sem arquivo não são guardadas, pois podem ser arquivadas depois.
+ */
+@Component
+public class ArchivedVoteIndex {
+
+    private final Cache<UUID, ArchivedVotes> archives;
+
+    public ArchivedVoteIndex(
+            @Value("${voting.vote.archive.cache.maximum-votes:1000000}") long maximumVotes,
+            @Value("${voting.vote.archive.cache.idle-minutes:10}") long idleMinutes) {
+        this.archives = Caffeine.newBuilder()
+                .maximumWeight(maximumVotes)
+                .<UUID, ArchivedVotes>weigher((agendaId, archived) -> Math.max(1, archived.votes().size()))
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    /**
+     * Retorna os votos arquivados da pauta, ordenados por CPF.
+     *
+     * @param agendaId ID da pauta
+     * @param loader descompacta os votos do arquivo da pauta; vazio se a pauta não estiver arquivada
+     */
+    public List<Vote> votesOf(UUID agendaId, Function<UUID, Optional<List<Vote>>> loader) {
+        ArchivedVotes archived = get(agendaId, loader);
+        return archived != null ? archived.votes() : List.of();
+    }
+
+    /**
+     * Busca o voto do CPF entre os votos arquivados da pauta (busca binária por CPF).
+     *
+     * @param agendaId ID da pauta
+     * @param cpf CPF do associado
+     * @param loader descompacta os votos do arquivo da pauta; vazio se a pauta não estiver arquivada
+     */
+    public Optional<Vote> find(UUID agendaId, long cpf, Function<UUID, Optional<List<Vote>>> loader) {
+        ArchivedVotes archived = get(agendaId, loader);
+        if (archived == null) {
+            return Optional.empty();
+        }
+        int position = Arrays.binarySearch(archived.cpfs(), cpf);
+        return position >= 0 ? Optional.of(archived.votes().get(position)) : Optional.empty();
+    }
+
+    private ArchivedVotes get(UUID agendaId, Function<UUID, Optional<List<Vote>>> loader) {
+        // o Caffeine não guarda o resultado quando a função devolve null (pauta sem arquivo)
+        return archives.get(agendaId, id -> loader.apply(id).map(ArchivedVotes::of).orElse(null));
+    }
+
+    private record ArchivedVotes(long[] cpfs, List<Vote> votes) {
+
+        static ArchivedVotes of(List<Vote> votes) {
+            return new ArchivedVotes(votes.stream().mapToLong(Vote::getCpf).toArray(), List.copyOf(votes));
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package br.com.bank.voting.adapters.out.persistence.archive;
+
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Formato compactado dos votos de uma pauta arquivada.
+ * <p>
+ * O conteúdo é um bloco Deflate com {@code [versão][lote]...[0]}; cada lote traz votos em ordem de CPF
+ * gravados em colunas ({@code [quantidade][primeira data][CPFs][escolhas][datas][IDs]}): os CPFs
+ * viram diferenças em varint (contínuas entre lotes), as escolhas um byte cada e as datas a distância
+ * em segundos para o voto mais antigo do lote, o que deixa cada coluna repetitiva o bastante para o
+ * compressor. Os lotes são comprimidos à medida que chegam pelo {@link Encoder}, de modo que
+ * arquivar uma pauta não exige ter todos os seus votos em memória.
+ */
+public class VoteArchiveCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int CHUNK_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    // pior caso por voto: CPF (varint de até 10 bytes), escolha, segundos e nanos (varints) e ID
+    private static final int MAX_VOTE_SIZE = 10 + 1 + 10 + 5 + 16;
+
+    private VoteArchiveCodec() {
+        // Utility class - não deve ser instanciada
+    }
+
+    /**
+     * Serializa e comprime os votos de uma pauta de uma só vez.
+     *
+     * @param votes votos da pauta, em qualquer ordem
+     * @return votos compactados
+     */
+    public static byte[] encode(List<Vote> votes) {
+        List<Vote> sorted = new ArrayList<>(votes);
+        sorted.sort(Comparator.comparingLong(Vote::getCpf));
+        Encoder encoder = encoder();
+        encoder.add(sorted);
+        return encoder.finish();
+    }
+
+    /**
+     * Cria um codificador que recebe os votos da pauta em lotes, já ordenados por CPF.
+     */
+    public static Encoder encoder() {
+        return new Encoder();
+    }
+
+    /**
+     * Descomprime os votos de uma pauta arquivada.
+     *
+     * @param agendaId ID da pauta
+     * @param payload votos compactados por {@link #encode(List)} ou por um {@link Encoder}
+     * @return votos da pauta, ordenados por CPF
+     * @throws IllegalStateException se o conteúdo estiver corrompido ou em formato desconhecido
+     */
+    public static List<Vote> decode(UUID agendaId, byte[] payload) {
+        ByteBuffer raw;
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(payload))) {
+            raw = ByteBuffer.wrap(in.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted vote archive for agenda: " + agendaId, e);
+        }
+        try {
+            int version = raw.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unknown vote archive format: " + version);
+            }
+            List<Vote> votes = new ArrayList<>();
+            VoteChoice[] choices = VoteChoice.values();
+            long cpf = 0;
+            for (int count = raw.getInt(); count != 0; count = raw.getInt()) {
+                long firstSecond = raw.getLong();
+                long[] cpfs = new long[count];
+                for (int i = 0; i < count; i++) {
+                    cpf += getVarLong(raw);
+                    cpfs[i] = cpf;
+                }
+                VoteChoice[] choiceOf = new VoteChoice[count];
+                for (int i = 0; i < count; i++) {
+                    choiceOf[i] = choices[raw.get()];
+                }
+                LocalDateTime[] createdAt = new LocalDateTime[count];
+                for (int i = 0; i < count; i++) {
+                    long second = firstSecond + getVarLong(raw);
+                    createdAt[i] = LocalDateTime.ofEpochSecond(second, (int) getVarLong(raw), ZoneOffset.UTC);
+                }
+                for (int i = 0; i < count; i++) {
+                    UUID id = new UUID(raw.getLong(), raw.getLong());
+                    votes.add(new Vote(id, agendaId, cpfs[i], choiceOf[i], createdAt[i]));
+                }
+            }
+            return votes;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException | DateTimeException e) {
+            throw new IllegalStateException("Corrupted vote archive for agenda: " + agendaId, e);
+        }
+    }
+
+    /**
+     * Codificador incremental: cada chamada a {@link #add(List)} serializa um lote e o entrega
+     * ao compressor; só o conteúdo já comprimido fica em memória.
+     */
+    public static final class Encoder {
+
+        private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        private final Deflater deflater = new Deflater();
+        private final DeflaterOutputStream out = new DeflaterOutputStream(compressed, deflater);
+        // último CPF gravado: base da diferença do próximo e garantia da ordem entre lotes
+        private long lastCpf;
+        private boolean empty = true;
+        private boolean finished;
+
+        private Encoder() {
+            write(ByteBuffer.allocate(Integer.BYTES).putInt(FORMAT_VERSION));
+        }
+
+        /**
+         * Adiciona um lote de votos.
+         *
+         * @param votes votos em ordem crescente de CPF, posteriores aos dos lotes anteriores
+         * @throws IllegalArgumentException se os votos estiverem fora da ordem de CPF
+         */
+        public void add(List<Vote> votes) {
+            if (finished) {
+                throw new IllegalStateException("Vote archive encoder already finished");
+            }
+            if (votes.isEmpty()) {
+                return;
+            }
+            long firstSecond = Long.MAX_VALUE;
+            long previousCpf = lastCpf;
+            boolean first = empty;
+            for (Vote vote : votes) {
+                if (!first && vote.getCpf() <= previousCpf) {
+                    throw new IllegalArgumentException("Archived votes must be added in ascending CPF order");
+                }
+                first = false;
+                previousCpf = vote.getCpf();
+                firstSecond = Math.min(firstSecond, vote.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            }
+
+            ByteBuffer raw = ByteBuffer.allocate(CHUNK_HEADER_SIZE + votes.size() * MAX_VOTE_SIZE);
+            raw.putInt(votes.size());
+            raw.putLong(firstSecond);
+            for (Vote vote : votes) {
+                putVarLong(raw, vote.getCpf() - lastCpf);
+                lastCpf = vote.getCpf();
+            }
+            empty = false;
+            for (Vote vote : votes) {
+                raw.put((byte) vote.getChoice().ordinal());
+            }
+            for (Vote vote : votes) {
+                putVarLong(raw, vote.getCreatedAt().toEpochSecond(ZoneOffset.UTC) - firstSecond);
+                putVarLong(raw, vote.getCreatedAt().getNano());
+            }
+            for (Vote vote : votes) {
+                raw.putLong(vote.getId().getMostSignificantBits());
+                raw.putLong(vote.getId().getLeastSignificantBits());
+            }
+            write(raw);
+        }
+
+        /**
+         * Encerra o arquivo e devolve o conteúdo comprimido.
+         */
+        public byte[] finish() {
+            if (finished) {
+                throw new IllegalStateException("Vote archive encoder already finished");
+            }
+            write(ByteBuffer.allocate(Integer.BYTES).putInt(0));
+            finished = true;
+            try {
+                out.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deflater.end();
+            }
+            return compressed.toByteArray();
+        }
+
+        private void write(ByteBuffer raw) {
+            try {
+                out.write(raw.array(), 0, raw.position());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.bank.voting.adapters.out.persistence.cache;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.AgendaJpaAdapter;
+import br.com.bank.voting.application.dto.query.AgendaCursor;
+import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator com cache (Caffeine) na frente do adapter JPA de pautas.
+ * Pautas não mudam depois de criadas, então votos e consultas de resultado deixam de fazer
+ * um SELECT por requisição apenas para confirmar que a pauta existe.
+ * Apenas pautas encontradas são armazenadas; métricas expostas no Actuator como cache "agendas".
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.persistence.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingAgendaRepositoryAdapter implements AgendaRepositoryPort {
+
+    static final String CACHE_NAME = "agendas";
+
+    private final AgendaJpaAdapter delegate;
+    private final Cache<UUID, Agenda> cache;
+
+    @Autowired
+    public CachingAgendaRepositoryAdapter(
+            AgendaJpaAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${voting.persistence.cache.maximum-size:10000}") long maximumSize,
+            @Value("${voting.persistence.cache.agenda-idle-minutes:60}") long idleMinutes) {
+        this(delegate, meterRegistry, maximumSize, Duration.ofMinutes(idleMinutes), Ticker.systemTicker());
+    }
+
+    CachingAgendaRepositoryAdapter(
+            AgendaJpaAdapter delegate,
+            MeterRegistry meterRegistry,
+            long maximumSize,
+            Duration idleTimeout,
+            Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Agenda save(Agenda agenda) {
+        return delegate.save(agenda);
+    }
+
+    /**
+     * Busca a pauta no cache; em caso de miss, consulta o banco e armazena a pauta encontrada.
+     * A consulta ao banco é feita fora do lock do cache para não fixar virtual threads ao carrier.
+     */
+    @Override
+    public Optional<Agenda> findById(UUID id) {
+        Agenda cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Agenda> agenda = delegate.findById(id);
+        agenda.ifPresent(found -> cache.put(id, found));
+        return agenda;
+    }
+
+    @Override
+    public List<Agenda> findPage(AgendaCursor after, SessionStatus sessionStatus, LocalDateTime now, int limit) {
+        return delegate.findPage(after, sessionStatus, now, limit);
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.bank.voting.adapters.out.persistence.cache;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VotingSessionJpaAdapter;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.domain.model.VotingSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator com cache (Caffeine) na frente do adapter JPA de sessões, por ID da pauta.
+ * Somente sessões abertas são armazenadas, e cada entrada expira exatamente no closesAt da sessão:
+ * enquanto a sessão está aberta, {@code SessionRules.isSessionOpen} é avaliado sem ir ao banco.
+ * Ao gravar uma sessão (abertura), a entrada da pauta é invalidada, inclusive após o commit.
+ * Métricas expostas no Actuator como cache "votingSessions".
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.persistence.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingSessionRepositoryAdapter implements SessionRepositoryPort {
+
+    static final String CACHE_NAME = "votingSessions";
+
+    private final VotingSessionJpaAdapter delegate;
+    private final Cache<UUID, VotingSession> cache;
+
+    @Autowired
+    public CachingSessionRepositoryAdapter(
+            VotingSessionJpaAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${voting.persistence.cache.maximum-size:10000}") long maximumSize) {
+        this(delegate, meterRegistry, maximumSize, Ticker.systemTicker());
+    }
+
+    CachingSessionRepositoryAdapter(
+            VotingSessionJpaAdapter delegate,
+            MeterRegistry meterRegistry,
+            long maximumSize,
+            Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ClosingTimeExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public VotingSession save(VotingSession session) {
+        VotingSession saved = delegate.save(session);
+        invalidate(saved.getAgendaId());
+        return saved;
+    }
+
+    /**
+     * Busca a sessão da pauta no cache; em caso de miss, consulta o banco e armazena a sessão
+     * se ela ainda estiver aberta. A consulta ao banco é feita fora do lock do cache.
+     */
+    @Override
+    public Optional<VotingSession> findByAgendaId(UUID agendaId) {
+        VotingSession cached = cache.getIfPresent(agendaId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<VotingSession> session = delegate.findByAgendaId(agendaId);
+        session.filter(found -> found.isOpen(LocalDateTime.now()))
+                .ifPresent(found -> cache.put(agendaId, found));
+        return session;
+    }
+
+    @Override
+    public List<VotingSession> findWithoutPublishedResult(LocalDateTime closesAfter, VotingSession after, int limit) {
+        return delegate.findWithoutPublishedResult(closesAfter, after, limit);
+    }
+
+    @Override
+    public List<VotingSession> findByAgendaIds(Collection<UUID> agendaIds) {
+        return delegate.findByAgendaIds(agendaIds);
+    }
+
+    @Override
+    public List<VotingSession> findClosingAfter(LocalDateTime closesAfter) {
+        return delegate.findClosingAfter(closesAfter);
+    }
+
+    private void invalidate(UUID agendaId) {
+        cache.invalidate(agendaId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // uma leitura concorrente pode ter armazenado a sessão anterior antes do commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(agendaId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Expira cada sessão no seu horário de fechamento.
+     */
+    private static final class ClosingTimeExpiry implements Expiry<UUID, VotingSession> {
+
+        // limite para sessões muito longas, cuja duração em nanos não cabe em um long
+        private static final Duration MAX_EXPIRY = Duration.ofDays(365);
+
+        @Override
+        public long expireAfterCreate(UUID agendaId, VotingSession session, long currentTime) {
+            Duration remaining = Duration.between(LocalDateTime.now(), session.getClosesAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return remaining.compareTo(MAX_EXPIRY) > 0 ? MAX_EXPIRY.toNanos() : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID agendaId, VotingSession session, long currentTime, long currentDuration) {
+            return expireAfterCreate(agendaId, session, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID agendaId, VotingSession session, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.bank.voting.adapters.out.persistence.cache;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VotingResultJpaAdapter;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.out.VotingResultRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator com cache (Caffeine) na frente do adapter JPA de resultados finais.
+ * O snapshot de uma sessão encerrada nunca muda, então fica em memória sem expiração
+ * (limitado apenas pelo tamanho): consultas repetidas ao resultado após o encerramento não vão ao banco.
+ * Apenas snapshots lidos do banco são armazenados, nunca os gravados em uma transação ainda não confirmada.
+ * Métricas expostas no Actuator como cache "votingResults".
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.persistence.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingVotingResultRepositoryAdapter implements VotingResultRepositoryPort {
+
+    static final String CACHE_NAME = "votingResults";
+
+    private final VotingResultJpaAdapter delegate;
+    private final Cache<UUID, VotingResultResult> cache;
+
+    public CachingVotingResultRepositoryAdapter(
+            VotingResultJpaAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${voting.persistence.cache.maximum-size:10000}") long maximumSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Busca o snapshot no cache; em caso de miss, consulta o banco e armazena o snapshot encontrado.
+     */
+    @Override
+    public Optional<VotingResultResult> findByAgendaId(UUID agendaId) {
+        VotingResultResult cached = cache.getIfPresent(agendaId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<VotingResultResult> result = delegate.findByAgendaId(agendaId);
+        result.ifPresent(found -> cache.put(agendaId, found));
+        return result;
+    }
+
+    @Override
+    public VotingResultResult save(VotingResultResult result, LocalDateTime closedAt) {
+        return delegate.save(result, closedAt);
+    }
+
+    @Override
+    public boolean markPublished(UUID agendaId, LocalDateTime publishedAt) {
+        return delegate.markPublished(agendaId, publishedAt);
+    }
+}
@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "agendas")
+@Table(name = "agendas", indexes = {
+        @Index(name = "idx_agendas_created_at_id", columnList = "created_at, id")
+})
 public class AgendaEntity {
 
     @Id
@@ -15,7 +17,7 @@ public class AgendaEntity {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false)
+    @Column(nullable = false, name = "created_at")
     private LocalDateTime createdAt;
 
     public AgendaEntity() {
@@ -0,0 +1,125 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "result_outbox", indexes = {
+        @Index(name = "idx_result_outbox_pending", columnList = "published_at, next_attempt_at")
+})
+public class ResultOutboxEntity {
+
+    // um resultado por pauta: o ID da pauta é também a chave de idempotência da mensagem
+    @Id
+    @Column(name = "agenda_id")
+    private UUID agendaId;
+
+    @Column(nullable = false, name = "yes_count")
+    private long yesCount;
+
+    @Column(nullable = false, name = "no_count")
+    private long noCount;
+
+    @Column(nullable = false, length = 8)
+    private String result;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false, name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public ResultOutboxEntity() {
+    }
+
+    public ResultOutboxEntity(UUID agendaId, long yesCount, long noCount, String result, LocalDateTime createdAt) {
+        this.agendaId = agendaId;
+        this.yesCount = yesCount;
+        this.noCount = noCount;
+        this.result = result;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public UUID getAgendaId() {
+        return agendaId;
+    }
+
+    public void setAgendaId(UUID agendaId) {
+        this.agendaId = agendaId;
+    }
+
+    public long getYesCount() {
+        return yesCount;
+    }
+
+    public void setYesCount(long yesCount) {
+        this.yesCount = yesCount;
+    }
+
+    public long getNoCount() {
+        return noCount;
+    }
+
+    public void setNoCount(long noCount) {
+        this.noCount = noCount;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.Length;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "vote_archives")
+public class VoteArchiveEntity {
+
+    // uma linha por pauta arquivada: os votos saem da tabela votes e ficam compactados em payload
+    @Id
+    @Column(name = "agenda_id")
+    private UUID agendaId;
+
+    @Column(nullable = false, name = "yes_count")
+    private long yesCount;
+
+    @Column(nullable = false, name = "no_count")
+    private long noCount;
+
+    @Column(nullable = false, length = Length.LONG32)
+    private byte[] payload;
+
+    @Column(nullable = false, name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    public VoteArchiveEntity() {
+    }
+
+    public VoteArchiveEntity(UUID agendaId, long yesCount, long noCount, byte[] payload, LocalDateTime archivedAt) {
+        this.agendaId = agendaId;
+        this.yesCount = yesCount;
+        this.noCount = noCount;
+        this.payload = payload;
+        this.archivedAt = archivedAt;
+    }
+
+    public UUID getAgendaId() {
+        return agendaId;
+    }
+
+    public void setAgendaId(UUID agendaId) {
+        this.agendaId = agendaId;
+    }
+
+    public long getYesCount() {
+        return yesCount;
+    }
+
+    public void setYesCount(long yesCount) {
+        this.yesCount = yesCount;
+    }
+
+    public long getNoCount() {
+        return noCount;
+    }
+
+    public void setNoCount(long noCount) {
+        this.noCount = noCount;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
@@ -1,24 +1,31 @@
 package br.com.bank.voting.adapters.out.persistence.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "votes", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"agenda_id", "cpf"})
+        @UniqueConstraint(name = "uk_votes_agenda_cpf", columnNames = {"agenda_id", "cpf"})
+}, indexes = {
+        @Index(name = "idx_votes_agenda_choice", columnList = "agenda_id, choice")
 })
-public class VoteEntity {
+public class VoteEntity implements Persistable<UUID> {
 
+    // ID atribuído pela aplicação (UUID v7); sem @GeneratedValue, o Spring Data usa isNew
+    // para chamar persist direto, sem o SELECT prévio do merge
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false, name = "agenda_id")
     private UUID agendaId;
 
-    @Column(nullable = false, length = 11)
-    private String cpf;
+    // CPF numérico (BIGINT): 8 bytes por entrada no índice único (agenda_id, cpf), contra os
+    // 11 caracteres do VARCHAR, e comparação sem collation
+    @Column(nullable = false)
+    private long cpf;
 
     @Column(nullable = false, length = 3)
     private String choice;
@@ -26,10 +33,13 @@ public class VoteEntity {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public VoteEntity() {
     }
 
-    public VoteEntity(UUID id, UUID agendaId, String cpf, String choice, LocalDateTime createdAt) {
+    public VoteEntity(UUID id, UUID agendaId, long cpf, String choice, LocalDateTime createdAt) {
         this.id = id;
         this.agendaId = agendaId;
         this.cpf = cpf;
@@ -37,10 +47,22 @@ public class VoteEntity {
         this.createdAt = createdAt;
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -53,11 +75,11 @@ public class VoteEntity {
         this.agendaId = agendaId;
     }
 
-    public String getCpf() {
+    public long getCpf() {
         return cpf;
     }
 
-    public void setCpf(String cpf) {
+    public void setCpf(long cpf) {
         this.cpf = cpf;
     }
 
@@ -0,0 +1,52 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import java.util.UUID;
+
+@Entity
+@Table(name = "vote_tallies")
+public class VoteTallyEntity {
+
+    @Id
+    @Column(name = "agenda_id")
+    private UUID agendaId;
+
+    @Column(nullable = false, name = "yes_count")
+    private long yesCount;
+
+    @Column(nullable = false, name = "no_count")
+    private long noCount;
+
+    public VoteTallyEntity() {
+    }
+
+    public VoteTallyEntity(UUID agendaId, long yesCount, long noCount) {
+        this.agendaId = agendaId;
+        this.yesCount = yesCount;
+        this.noCount = noCount;
+    }
+
+    public UUID getAgendaId() {
+        return agendaId;
+    }
+
+    public void setAgendaId(UUID agendaId) {
+        this.agendaId = agendaId;
+    }
+
+    public long getYesCount() {
+        return yesCount;
+    }
+
+    public void setYesCount(long yesCount) {
+        this.yesCount = yesCount;
+    }
+
+    public long getNoCount() {
+        return noCount;
+    }
+
+    public void setNoCount(long noCount) {
+        this.noCount = noCount;
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "voting_results", indexes = {
+        @Index(name = "idx_voting_results_closed_at", columnList = "closed_at, agenda_id")
+})
+public class VotingResultEntity {
+
+    @Id
+    @Column(name = "agenda_id")
+    private UUID agendaId;
+
+    @Column(nullable = false, name = "yes_count")
+    private long yesCount;
+
+    @Column(nullable = false, name = "no_count")
+    private long noCount;
+
+    @Column(nullable = false, length = 8)
+    private String result;
+
+    @Column(nullable = false, name = "closed_at")
+    private LocalDateTime closedAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public VotingResultEntity() {
+    }
+
+    public VotingResultEntity(UUID agendaId, long yesCount, long noCount, String result,
+                              LocalDateTime closedAt, LocalDateTime publishedAt) {
+        this.agendaId = agendaId;
+        this.yesCount = yesCount;
+        this.noCount = noCount;
+        this.result = result;
+        this.closedAt = closedAt;
+        this.publishedAt = publishedAt;
+    }
+
+    public UUID getAgendaId() {
+        return agendaId;
+    }
+
+    public void setAgendaId(UUID agendaId) {
+        this.agendaId = agendaId;
+    }
+
+    public long getYesCount() {
+        return yesCount;
+    }
+
+    public void setYesCount(long yesCount) {
+        this.yesCount = yesCount;
+    }
+
+    public long getNoCount() {
+        return noCount;
+    }
+
+    public void setNoCount(long noCount) {
+        this.noCount = noCount;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
@@ -5,20 +5,23 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "voting_sessions")
+@Table(name = "voting_sessions", indexes = {
+        @Index(name = "idx_voting_sessions_agenda_closes_at", columnList = "agenda_id, closes_at"),
+        @Index(name = "idx_voting_sessions_closes_at", columnList = "closes_at")
+})
 public class VotingSessionEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, name = "agenda_id")
     private UUID agendaId;
 
     @Column(nullable = false)
     private LocalDateTime openedAt;
 
-    @Column(nullable = false)
+    @Column(nullable = false, name = "closes_at")
     private LocalDateTime closesAt;
 
     public VotingSessionEntity() {
@@ -0,0 +1,42 @@
+package br.com.bank.voting.adapters.out.persistence.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562), ordenados pelo instante de criação.
+ * IDs gerados em sequência caem em páginas vizinhas do índice da chave primária,
+ * evitando as inserções espalhadas causadas por UUIDs aleatórios (v4).
+ * Os 12 bits após o timestamp funcionam como contador, garantindo ordem crescente
+ * mesmo para IDs gerados no mesmo milissegundo.
+ */
+public final class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    // timestamp (ms) << 12 | contador; avança de forma monotônica e sem locks
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    /**
+     * Gera um novo UUID v7, estritamente maior que o anterior gerado por esta JVM.
+     *
+     * @return UUID versão 7
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long stamp = LAST_STAMP.updateAndGet(previous -> Math.max(previous + 1, now));
+        long millis = stamp >>> COUNTER_BITS;
+        long counter = stamp & ((1L << COUNTER_BITS) - 1);
+
+        long mostSignificantBits = (millis << 16) | VERSION_7 | counter;
+        long leastSignificantBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.bank.voting.adapters.out.persistence.index;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Conjunto de longs com endereçamento aberto (sondagem linear) sobre um array primitivo,
+ * sem boxing: cerca de 16 bytes por elemento no fator de carga máximo de 50%.
+ * <p>
+ * Escritas são serializadas por um {@link StampedLock}; leituras são otimistas e só tomam
+ * o lock de leitura quando coincidem com uma escrita. Como os elementos nunca são removidos
+ * e a tabela nunca passa da metade, a sondagem em uma leitura concorrente sempre termina.
+ */
+final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+    // 0 marca posição vazia; o próprio valor 0 é guardado à parte
+    private static final long EMPTY = 0L;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile long[] table;
+    private volatile int size;
+    private volatile boolean containsZero;
+
+    LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    LongHashSet(int expectedSize) {
+        this.table = new long[tableSizeFor(expectedSize)];
+    }
+
+    boolean contains(long value) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = find(value);
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(value);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return true se o valor ainda não estava no conjunto
+     */
+    boolean add(long value) {
+        long stamp = lock.writeLock();
+        try {
+            if (value == EMPTY) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                size++;
+                return true;
+            }
+            long[] current = table;
+            if (!insert(current, value)) {
+                return false;
+            }
+            size++;
+            if (size * 2 > current.length) {
+                table = rehash(current, current.length * 2);
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private boolean find(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        long[] current = table;
+        int mask = current.length - 1;
+        int index = mix(value) & mask;
+        while (true) {
+            long slot = current[index];
+            if (slot == value) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static boolean insert(long[] target, long value) {
+        int mask = target.length - 1;
+        int index = mix(value) & mask;
+        while (true) {
+            long slot = target[index];
+            if (slot == value) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                target[index] = value;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static long[] rehash(long[] source, int capacity) {
+        long[] target = new long[capacity];
+        for (long value : source) {
+            if (value != EMPTY) {
+                insert(target, value);
+            }
+        }
+        return target;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    // finalizador do MurmurHash3: CPFs são sequenciais e precisam ser espalhados pela tabela
+    private static int mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
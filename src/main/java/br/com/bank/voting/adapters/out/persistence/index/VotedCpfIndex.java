@@ -0,0 +1,144 @@
+package br.com.bank.voting.adapters.out.persistence.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice em memória dos CPFs que já votaram em cada pauta, usado para responder
+ * a verificação de voto duplicado sem ir ao banco.
+ * <p>
+ * O índice de uma pauta é carregado do banco no primeiro acesso e, a partir daí, recebe cada voto
+ * gravado por esta instância após o commit da transação; enquanto a pauta recebe votos ele é
+ * autoritativo. Pautas sem acesso por {@code idle-minutes} (sessão encerrada) são descartadas.
+ * Se dois votos do mesmo CPF passarem ao mesmo tempo pelo índice, a constraint única
+ * (agenda_id, cpf) da tabela votes rejeita o segundo.
+ */
+@Component
+public class VotedCpfIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VotedCpfIndex.class);
+
+    private final boolean enabled;
+    private final Cache<UUID, AgendaIndex> agendas;
+
+    @Autowired
+    public VotedCpfIndex(
+            @Value("${voting.vote.index.enabled:true}") boolean enabled,
+            @Value("${voting.vote.index.maximum-agendas:1000}") long maximumAgendas,
+            @Value("${voting.vote.index.idle-minutes:30}") long idleMinutes) {
+        this(enabled, maximumAgendas, Duration.ofMinutes(idleMinutes), Ticker.systemTicker());
+    }
+
+    VotedCpfIndex(boolean enabled, long maximumAgendas, Duration idleTimeout, Ticker ticker) {
+        this.enabled = enabled;
+        this.agendas = Caffeine.newBuilder()
+                .maximumSize(maximumAgendas)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Indica se o índice está habilitado; desabilitado, a verificação vai sempre ao banco.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Verifica se o CPF já votou na pauta, carregando o índice da pauta na primeira consulta.
+     *
+     * @param agendaId ID da pauta
+     * @param cpf CPF do associado
+     * @param loader carrega do banco os CPFs que já votaram na pauta
+     */
+    public boolean contains(UUID agendaId, long cpf, Supplier<Collection<Long>> loader) {
+        AgendaIndex index = agendas.get(agendaId, id -> new AgendaIndex());
+        index.ensureLoaded(agendaId, loader);
+        return index.cpfs.contains(cpf);
+    }
+
+    /**
+     * Adiciona os CPFs ao índice da pauta após o commit da transação corrente
+     * (ou imediatamente, fora de transação). Pautas ainda não carregadas são ignoradas:
+     * o voto será lido do banco no carregamento.
+     */
+    public void addAfterCommit(UUID agendaId, List<Long> cpfs) {
+        if (!enabled || cpfs.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(agendaId, cpfs);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(agendaId, cpfs);
+            }
+        });
+    }
+
+    /**
+     * Quantidade de pautas com índice em memória.
+     */
+    public long getIndexedAgendaCount() {
+        return agendas.estimatedSize();
+    }
+
+    private void add(UUID agendaId, List<Long> cpfs) {
+        AgendaIndex index = agendas.getIfPresent(agendaId);
+        if (index == null) {
+            return;
+        }
+        for (long cpf : cpfs) {
+            index.cpfs.add(cpf);
+        }
+    }
+
+    /**
+     * Índice de uma pauta. É registrado no cache antes do carregamento, de modo que os votos
+     * confirmados durante a consulta ao banco também sejam adicionados a ele.
+     */
+    private static final class AgendaIndex {
+
+        private final LongHashSet cpfs = new LongHashSet();
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile boolean loaded;
+
+        void ensureLoaded(UUID agendaId, Supplier<Collection<Long>> loader) {
+            if (loaded) {
+                return;
+            }
+            loadLock.lock();
+            try {
+                if (loaded) {
+                    return;
+                }
+                Collection<Long> voted = loader.get();
+                for (long cpf : voted) {
+                    cpfs.add(cpf);
+                }
+                loaded = true;
+                log.info("Loaded voted CPF index for agenda: {}, CPFs: {}", agendaId, voted.size());
+            } finally {
+                loadLock.unlock();
+            }
+        }
+    }
+}
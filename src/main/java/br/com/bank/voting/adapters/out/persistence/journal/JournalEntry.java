@@ -0,0 +1,12 @@
+package br.com.bank.voting.adapters.out.persistence.journal;
+
+import br.com.bank.voting.domain.model.Vote;
+
+/**
+ * Registro do journal de votos: o voto e sua posição (sequência) no journal.
+ */
+public record JournalEntry(
+        long sequence,
+        Vote vote
+) {
+}
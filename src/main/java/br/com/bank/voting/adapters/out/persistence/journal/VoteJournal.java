@@ -0,0 +1,348 @@
+package br.com.bank.voting.adapters.out.persistence.journal;
+
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal local de votos, append-only, em segmentos de arquivo mapeados em memória.
+ * <p>
+ * Cada registro tem o formato {@code [tamanho][crc][sequência][versão][voto]}; registros incompletos ou
+ * corrompidos no fim do último segmento (queda durante a escrita) são descartados na leitura, e um
+ * registro íntegro de versão desconhecida interrompe a leitura em vez de ser descartado.
+ * A durabilidade usa group commit: quem escreve aguarda um único {@code force()} que cobre
+ * todos os registros escritos até aquele momento, em vez de um fsync por voto.
+ * O arquivo de checkpoint guarda a última sequência já gravada no banco; segmentos
+ * inteiramente anteriores ao checkpoint são apagados.
+ */
+public class VoteJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    // tamanho (4) + crc (4) + sequência (8)
+    private static final int HEADER_SIZE = 16;
+    // versão (1) + id (16) + pauta (16) + epochSecond (8) + nano (4) + escolha (1) + CPF (8)
+    private static final int PAYLOAD_SIZE = 54;
+    private static final byte FORMAT_VERSION = 1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final ConcurrentSkipListMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+
+    private MappedByteBuffer activeSegment;
+    private long nextSequence;
+    private long lastWrittenSequence;
+    private volatile long durableSequence;
+    private volatile long checkpointSequence;
+
+    public VoteJournal(Path directory, int segmentSize) {
+        if (segmentSize < HEADER_SIZE + PAYLOAD_SIZE) {
+            throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            this.checkpointSequence = readCheckpoint();
+            long lastSequence = checkpointSequence;
+            for (Path segment : listSegments()) {
+                segments.put(firstSequenceOf(segment), segment);
+                lastSequence = Math.max(lastSequence, lastSequenceIn(segment));
+            }
+            this.lastWrittenSequence = lastSequence;
+            this.durableSequence = lastSequence;
+            this.nextSequence = lastSequence + 1;
+            // um segmento iniciado nessa sequência não tem nenhum registro válido (apenas cauda incompleta)
+            if (segments.remove(nextSequence) != null) {
+                Files.delete(segmentPath(nextSequence));
+            }
+            openSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open vote journal at " + directory, e);
+        }
+    }
+
+    /**
+     * Grava os votos no journal e aguarda até que estejam em disco.
+     * O callback é chamado, na ordem das sequências, enquanto o lock de escrita está retido,
+     * permitindo que quem consome os registros os receba exatamente na ordem do journal.
+     *
+     * @param votes votos a gravar (com ID já atribuído)
+     * @param onWritten callback chamado para cada registro gravado
+     * @return registros gravados
+     */
+    public List<JournalEntry> append(List<Vote> votes, Consumer<JournalEntry> onWritten) {
+        List<JournalEntry> entries = new ArrayList<>(votes.size());
+        long lastSequence;
+        appendLock.lock();
+        try {
+            for (Vote vote : votes) {
+                JournalEntry entry = new JournalEntry(nextSequence, vote);
+                write(entry);
+                nextSequence++;
+                lastWrittenSequence = entry.sequence();
+                entries.add(entry);
+                onWritten.accept(entry);
+            }
+            lastSequence = lastWrittenSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to vote journal", e);
+        } finally {
+            appendLock.unlock();
+        }
+        awaitDurable(lastSequence);
+        return entries;
+    }
+
+    /**
+     * Lê os registros ainda não confirmados no banco (posteriores ao checkpoint), em ordem.
+     *
+     * @return registros a reaplicar
+     */
+    public List<JournalEntry> readUncheckpointed() {
+        List<JournalEntry> entries = new ArrayList<>();
+        try {
+            for (Path segment : segments.values()) {
+                readSegment(segment, entry -> {
+                    if (entry.sequence() > checkpointSequence) {
+                        entries.add(entry);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read vote journal", e);
+        }
+        return entries;
+    }
+
+    /**
+     * Registra que todos os votos até a sequência informada já estão no banco
+     * e apaga os segmentos que não possuem mais registros pendentes.
+     *
+     * @param sequence última sequência gravada no banco
+     */
+    public void checkpoint(long sequence) {
+        if (sequence <= checkpointSequence) {
+            return;
+        }
+        try {
+            Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+                channel.force(true);
+            }
+            Files.move(temporary, directory.resolve(CHECKPOINT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpointSequence = sequence;
+            deleteCheckpointedSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write vote journal checkpoint", e);
+        }
+    }
+
+    public long getCheckpointSequence() {
+        return checkpointSequence;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            activeSegment.force();
+            durableSequence = lastWrittenSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void write(JournalEntry entry) throws IOException {
+        Vote vote = entry.vote();
+        if (activeSegment.remaining() < HEADER_SIZE + PAYLOAD_SIZE) {
+            rotate(entry.sequence());
+        }
+
+        LocalDateTime createdAt = vote.getCreatedAt();
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + PAYLOAD_SIZE);
+        record.putInt(PAYLOAD_SIZE)
+                .putInt(0)
+                .putLong(entry.sequence())
+                .put(FORMAT_VERSION)
+                .putLong(vote.getId().getMostSignificantBits())
+                .putLong(vote.getId().getLeastSignificantBits())
+                .putLong(vote.getAgendaId().getMostSignificantBits())
+                .putLong(vote.getAgendaId().getLeastSignificantBits())
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .put((byte) vote.getChoice().ordinal())
+                .putLong(vote.getCpf());
+        record.putInt(Integer.BYTES, checksum(record.array(), 2 * Integer.BYTES, record.capacity() - 2 * Integer.BYTES));
+        activeSegment.put(record.flip());
+    }
+
+    /**
+     * Group commit: o primeiro a obter o lock força o segmento ativo, cobrindo também
+     * os registros escritos pelas demais threads que aguardam.
+     */
+    private void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            long target;
+            MappedByteBuffer segment;
+            appendLock.lock();
+            try {
+                target = lastWrittenSequence;
+                segment = activeSegment;
+            } finally {
+                appendLock.unlock();
+            }
+            segment.force();
+            durableSequence = target;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void rotate(long firstSequence) throws IOException {
+        activeSegment.force();
+        durableSequence = lastWrittenSequence;
+        openSegment(firstSequence);
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        Path path = segmentPath(firstSequence);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            activeSegment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segments.put(firstSequence, path);
+        if (log.isDebugEnabled()) {
+            log.debug("Opened vote journal segment {}", path.getFileName());
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private void deleteCheckpointedSegments() throws IOException {
+        Map.Entry<Long, Path> current = segments.firstEntry();
+        while (current != null) {
+            Map.Entry<Long, Path> next = segments.higherEntry(current.getKey());
+            // o segmento ativo (último) nunca é apagado
+            if (next == null || next.getKey() - 1 > checkpointSequence) {
+                return;
+            }
+            Files.deleteIfExists(current.getValue());
+            segments.remove(current.getKey());
+            current = next;
+        }
+    }
+
+    private long lastSequenceIn(Path segment) throws IOException {
+        long[] last = {0L};
+        readSegment(segment, entry -> last[0] = entry.sequence());
+        return last[0];
+    }
+
+    private void readSegment(Path segment, Consumer<JournalEntry> consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        while (buffer.remaining() >= HEADER_SIZE) {
+            int start = buffer.position();
+            int payloadSize = buffer.getInt();
+            if (payloadSize < Byte.BYTES || payloadSize > buffer.remaining() - Integer.BYTES - Long.BYTES) {
+                return;
+            }
+            int storedChecksum = buffer.getInt();
+            int checksum = checksum(buffer.array(), start + 2 * Integer.BYTES, Long.BYTES + payloadSize);
+            if (storedChecksum != checksum) {
+                log.warn("Discarding torn record at offset {} of vote journal segment {}", start, segment.getFileName());
+                return;
+            }
+            consumer.accept(decode(buffer, payloadSize, segment));
+        }
+    }
+
+    private JournalEntry decode(ByteBuffer buffer, int payloadSize, Path segment) {
+        long sequence = buffer.getLong();
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION || payloadSize != PAYLOAD_SIZE) {
+            // registro íntegro que esta versão não sabe ler: descartá-lo perderia votos confirmados
+            throw new IllegalStateException("Unsupported vote journal record version " + version
+                    + " in segment " + segment.getFileName());
+        }
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        UUID agendaId = new UUID(buffer.getLong(), buffer.getLong());
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        VoteChoice choice = VoteChoice.values()[buffer.get()];
+        long cpf = buffer.getLong();
+        return new JournalEntry(sequence, new Vote(id, agendaId, cpf, choice, createdAt));
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return 0L;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
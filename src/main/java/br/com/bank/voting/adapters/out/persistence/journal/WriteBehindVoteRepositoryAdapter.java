@@ -0,0 +1,449 @@
+package br.com.bank.voting.adapters.out.persistence.journal;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VoteJpaAdapter;
+import br.com.bank.voting.adapters.out.persistence.adapter.VoteTallyJpaAdapter;
+import br.com.bank.voting.adapters.out.persistence.id.TimeOrderedUuid;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.rules.CpfRules;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapter de ingestão write-behind dos votos (voting.ingestion.mode=write-behind).
+ * <p>
+ * O voto é gravado no {@link VoteJournal} local e confirmado assim que o journal está em disco;
+ * uma thread em segundo plano descarrega o journal na tabela votes em lotes grandes,
+ * aplicando na mesma transação os incrementos dos contadores por pauta.
+ * Ao reiniciar, os registros posteriores ao último checkpoint são reaplicados, de forma idempotente
+ * (votos cujo ID já está no banco são ignorados).
+ * <p>
+ * Se o banco recusar o lote por violação de constraint (por exemplo, o mesmo CPF gravado por outro nó,
+ * que a reserva local não enxerga), o lote é regravado voto a voto e só os votos recusados são descartados,
+ * com log de erro e a métrica voting.ingestion.dropped; o checkpoint avança sobre eles. Demais falhas
+ * mantêm o lote e são tentadas novamente com backoff exponencial limitado a max-backoff-ms.
+ * <p>
+ * Enquanto um voto não chega ao banco, ele fica reservado em memória por pauta e CPF,
+ * de modo que a verificação de voto duplicado continua correta. Listagens leem apenas o banco
+ * e refletem os votos recebidos após o intervalo de descarga; a contagem por escolha, usada no
+ * snapshot do resultado final, espera a descarga dos votos pendentes da pauta antes de ler o banco.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.ingestion.mode", havingValue = "write-behind")
+public class WriteBehindVoteRepositoryAdapter implements VoteRepositoryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindVoteRepositoryAdapter.class);
+
+    private static final String ALREADY_VOTED_MESSAGE = "Associate already voted for this agenda";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+    private static final long AWAIT_DRAIN_TIMEOUT_MILLIS = 30_000;
+
+    private final VoteJpaAdapter voteAdapter;
+    private final VoteTallyJpaAdapter tallyAdapter;
+    private final TransactionTemplate transactionTemplate;
+    private final VoteJournal journal;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final long maxBackoffMillis;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final Map<PendingKey, Vote> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<JournalEntry> queue = new LinkedBlockingQueue<>();
+    // lote lido da fila e ainda não gravado; acessado apenas pela thread de descarga
+    private final List<JournalEntry> inFlight = new ArrayList<>();
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    @Autowired
+    public WriteBehindVoteRepositoryAdapter(
+            VoteJpaAdapter voteAdapter,
+            VoteTallyJpaAdapter tallyAdapter,
+            TransactionTemplate transactionTemplate,
+            @Value("${voting.ingestion.journal.directory:./data/vote-journal}") String journalDirectory,
+            @Value("${voting.ingestion.journal.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${voting.ingestion.drain.batch-size:1000}") int batchSize,
+            @Value("${voting.ingestion.drain.interval-ms:50}") long intervalMillis,
+            @Value("${voting.ingestion.drain.max-backoff-ms:30000}") long maxBackoffMillis) {
+        this(voteAdapter, tallyAdapter, transactionTemplate,
+                new VoteJournal(Path.of(journalDirectory), segmentSizeMb * 1024 * 1024),
+                batchSize, intervalMillis, maxBackoffMillis);
+    }
+
+    WriteBehindVoteRepositoryAdapter(
+            VoteJpaAdapter voteAdapter,
+            VoteTallyJpaAdapter tallyAdapter,
+            TransactionTemplate transactionTemplate,
+            VoteJournal journal,
+            int batchSize,
+            long intervalMillis,
+            long maxBackoffMillis) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Drain batch size must be positive");
+        }
+        this.voteAdapter = voteAdapter;
+        this.tallyAdapter = tallyAdapter;
+        this.transactionTemplate = transactionTemplate;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        replay();
+        running = true;
+        drainer = Thread.ofPlatform()
+                .name("vote-journal-drainer")
+                .daemon()
+                .start(this::drainLoop);
+    }
+
+    /**
+     * Descarrega o que restar na fila e fecha o journal. Se o banco não estiver disponível,
+     * os votos continuam no journal e são reaplicados na próxima inicialização.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+            if (drainer.isAlive()) {
+                log.warn("Vote journal drainer did not finish in time; {} votes will be replayed on restart",
+                        pending.size());
+                drainer.interrupt();
+                drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+            }
+        }
+        journal.close();
+    }
+
+    @Override
+    public Vote save(Vote vote) {
+        return saveAll(List.of(vote)).getFirst();
+    }
+
+    /**
+     * Reserva pauta e CPF de cada voto, confirma no banco que nenhum deles já foi gravado
+     * e grava os votos no journal, retornando após o fsync.
+     *
+     * @throws IllegalStateException se algum associado já tiver votado na pauta
+     */
+    @Override
+    public List<Vote> saveAll(List<Vote> votes) {
+        List<Vote> accepted = votes.stream()
+                .map(this::withId)
+                .toList();
+        List<Vote> reserved = new ArrayList<>(accepted.size());
+        Set<Vote> journaled = new HashSet<>();
+        try {
+            for (Vote vote : accepted) {
+                if (pending.putIfAbsent(PendingKey.of(vote), vote) != null) {
+                    throw new IllegalStateException(ALREADY_VOTED_MESSAGE);
+                }
+                reserved.add(vote);
+            }
+            // o voto pode ter sido descarregado e liberado entre a consulta do caso de uso e a reserva
+            rejectPersisted(accepted);
+            journal.append(accepted, entry -> {
+                queue.add(entry);
+                journaled.add(entry.vote());
+            });
+        } catch (RuntimeException e) {
+            // votos já gravados no journal serão descarregados, então mantêm a reserva
+            reserved.stream()
+                    .filter(vote -> !journaled.contains(vote))
+                    .forEach(vote -> pending.remove(PendingKey.of(vote), vote));
+            throw e;
+        }
+        return accepted;
+    }
+
+    @Override
+    public Optional<Vote> findByAgendaIdAndCpf(UUID agendaId, long cpf) {
+        Vote inFlightVote = pending.get(new PendingKey(agendaId, cpf));
+        if (inFlightVote != null) {
+            return Optional.of(inFlightVote);
+        }
+        return voteAdapter.findByAgendaIdAndCpf(agendaId, cpf);
+    }
+
+    @Override
+    public boolean existsByAgendaIdAndCpf(UUID agendaId, long cpf) {
+        return pending.containsKey(new PendingKey(agendaId, cpf))
+                || voteAdapter.existsByAgendaIdAndCpf(agendaId, cpf);
+    }
+
+    @Override
+    public Set<Long> findCpfsAlreadyVoted(UUID agendaId, Collection<Long> cpfs) {
+        Set<Long> alreadyVoted = new HashSet<>(voteAdapter.findCpfsAlreadyVoted(agendaId, cpfs));
+        for (Long cpf : cpfs) {
+            if (pending.containsKey(new PendingKey(agendaId, cpf))) {
+                alreadyVoted.add(cpf);
+            }
+        }
+        return alreadyVoted;
+    }
+
+    @Override
+    public List<Vote> findAllByAgendaId(UUID agendaId) {
+        return voteAdapter.findAllByAgendaId(agendaId);
+    }
+
+    /**
+     * Conta os votos da pauta depois que todos os votos dela já confirmados chegarem ao banco:
+     * o snapshot do resultado final é gravado uma única vez e não pode deixar de fora um voto
+     * que ainda está no journal.
+     *
+     * @throws IllegalStateException se os votos pendentes da pauta não forem descarregados a tempo;
+     *         o encerramento falha e é tentado novamente, em vez de gravar um resultado incompleto
+     */
+    @Override
+    public VoteTally countVotesByChoice(UUID agendaId) {
+        awaitDrained(agendaId, AWAIT_DRAIN_TIMEOUT_MILLIS);
+        return voteAdapter.countVotesByChoice(agendaId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Votos descartados do journal porque o banco os recusou por violação de constraint.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Tentativas de descarga seguidas que falharam; maior que zero por muito tempo indica o journal parado.
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * Aguarda até que nenhum voto da pauta esteja pendente de descarga.
+     */
+    void awaitDrained(UUID agendaId, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (hasPending(agendaId)) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IllegalStateException("Journaled votes of agenda " + agendaId
+                        + " were not written to the database in time");
+            }
+            if (!sleep(Math.max(intervalMillis, 1))) {
+                throw new IllegalStateException("Interrupted while waiting for journaled votes of agenda " + agendaId);
+            }
+        }
+    }
+
+    private boolean hasPending(UUID agendaId) {
+        for (PendingKey key : pending.keySet()) {
+            if (key.agendaId().equals(agendaId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recoloca na fila os votos do journal ainda não gravados no banco.
+     */
+    void replay() {
+        List<JournalEntry> entries = journal.readUncheckpointed();
+        for (JournalEntry entry : entries) {
+            pending.putIfAbsent(PendingKey.of(entry.vote()), entry.vote());
+            queue.add(entry);
+        }
+        if (!entries.isEmpty()) {
+            log.info("Replaying {} votes from the ingestion journal", entries.size());
+        }
+    }
+
+    /**
+     * Grava no banco um lote de até batchSize votos da fila, aguardando até timeoutMillis pelo primeiro.
+     * Se o banco recusar o lote por violação de constraint, grava voto a voto e descarta os recusados.
+     * Se a gravação falhar por outro motivo, o mesmo lote é tentado novamente na próxima chamada.
+     *
+     * @return quantidade de votos descarregados
+     */
+    int drainOnce(long timeoutMillis) throws InterruptedException {
+        if (inFlight.isEmpty()) {
+            JournalEntry first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return 0;
+            }
+            inFlight.add(first);
+            queue.drainTo(inFlight, batchSize - 1);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> flush(inFlight));
+        } catch (RuntimeException e) {
+            if (!isRejectedByDatabase(e)) {
+                throw e;
+            }
+            log.warn("Database rejected a batch of {} journaled votes ({}), writing them one by one",
+                    inFlight.size(), e.getMessage());
+            flushOneByOne(inFlight);
+        }
+        journal.checkpoint(inFlight.getLast().sequence());
+        for (JournalEntry entry : inFlight) {
+            pending.remove(PendingKey.of(entry.vote()), entry.vote());
+        }
+        int drained = inFlight.size();
+        inFlight.clear();
+        if (log.isDebugEnabled()) {
+            log.debug("Drained {} votes from the ingestion journal", drained);
+        }
+        return drained;
+    }
+
+    /**
+     * Grava cada voto em sua própria transação, descartando os que violam uma constraint.
+     * Falhas de outro tipo interrompem a gravação; os votos já gravados são ignorados na nova tentativa.
+     */
+    private void flushOneByOne(List<JournalEntry> entries) {
+        for (JournalEntry entry : entries) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> flush(List.of(entry)));
+            } catch (RuntimeException e) {
+                if (!isRejectedByDatabase(e)) {
+                    throw e;
+                }
+                dropped.incrementAndGet();
+                Vote vote = entry.vote();
+                log.error("Dropping journaled vote {} of agenda {} (CPF {}): {}", vote.getId(), vote.getAgendaId(),
+                        CpfRules.mask(vote.getCpf()), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Violação de constraint: a do voto duplicado chega convertida pelo VoteJpaAdapter, com a
+     * DataIntegrityViolationException como causa; as demais chegam sem conversão.
+     */
+    private static boolean isRejectedByDatabase(RuntimeException e) {
+        return e instanceof DataIntegrityViolationException || e.getCause() instanceof DataIntegrityViolationException;
+    }
+
+    private void flush(List<JournalEntry> entries) {
+        Set<UUID> existingIds = voteAdapter.findExistingIds(
+                entries.stream().map(entry -> entry.vote().getId()).toList());
+
+        List<Vote> votes = new ArrayList<>(entries.size());
+        Map<UUID, long[]> deltas = new LinkedHashMap<>();
+        for (JournalEntry entry : entries) {
+            Vote vote = entry.vote();
+            if (existingIds.contains(vote.getId())) {
+                continue;
+            }
+            votes.add(vote);
+            long[] delta = deltas.computeIfAbsent(vote.getAgendaId(), id -> new long[2]);
+            delta[vote.getChoice() == VoteChoice.YES ? 0 : 1]++;
+        }
+
+        if (!votes.isEmpty()) {
+            voteAdapter.saveAll(votes);
+        }
+        deltas.forEach((agendaId, delta) -> tallyAdapter.increment(agendaId, delta[0], delta[1]));
+    }
+
+    private void drainLoop() {
+        long retryDelay = intervalMillis;
+        while (running || !queue.isEmpty() || !inFlight.isEmpty()) {
+            try {
+                drainOnce(intervalMillis);
+                retryDelay = intervalMillis;
+                consecutiveFailures.set(0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // stack trace só na primeira falha da sequência; as seguintes repetem a mesma causa
+                if (consecutiveFailures.incrementAndGet() == 1) {
+                    log.error("Could not drain {} votes from the ingestion journal, retrying in {} ms",
+                            inFlight.size(), retryDelay, e);
+                } else {
+                    log.error("Could not drain {} votes from the ingestion journal ({} consecutive failures), "
+                                    + "retrying in {} ms: {}",
+                            inFlight.size(), consecutiveFailures.get(), retryDelay, e.getMessage());
+                }
+                if (!sleep(retryDelay)) {
+                    return;
+                }
+                retryDelay = Math.min(Math.max(retryDelay, 1) * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    private void rejectPersisted(List<Vote> votes) {
+        Map<UUID, List<Long>> cpfsByAgenda = new HashMap<>();
+        for (Vote vote : votes) {
+            cpfsByAgenda.computeIfAbsent(vote.getAgendaId(), id -> new ArrayList<>()).add(vote.getCpf());
+        }
+        for (Map.Entry<UUID, List<Long>> agenda : cpfsByAgenda.entrySet()) {
+            if (!voteAdapter.findCpfsAlreadyVoted(agenda.getKey(), agenda.getValue()).isEmpty()) {
+                throw new IllegalStateException(ALREADY_VOTED_MESSAGE);
+            }
+        }
+    }
+
+    private Vote withId(Vote vote) {
+        if (vote.getId() != null) {
+            return vote;
+        }
+        return new Vote(TimeOrderedUuid.next(), vote.getAgendaId(), vote.getCpf(), vote.getChoice(),
+                vote.getCreatedAt());
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PendingKey(UUID agendaId, long cpf) {
+
+        static PendingKey of(Vote vote) {
+            return new PendingKey(vote.getAgendaId(), vote.getCpf());
+        }
+    }
+}
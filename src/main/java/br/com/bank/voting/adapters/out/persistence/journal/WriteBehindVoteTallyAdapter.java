@@ -0,0 +1,48 @@
+package br.com.bank.voting.adapters.out.persistence.journal;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VoteTallyJpaAdapter;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Contadores de votos no modo de ingestão write-behind.
+ * Os incrementos são aplicados por {@link WriteBehindVoteRepositoryAdapter} na mesma transação
+ * em que os votos chegam ao banco; por isso o incremento feito pelos casos de uso é ignorado aqui.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "voting.ingestion.mode", havingValue = "write-behind")
+public class WriteBehindVoteTallyAdapter implements VoteTallyRepositoryPort {
+
+    private final VoteTallyJpaAdapter delegate;
+
+    public WriteBehindVoteTallyAdapter(VoteTallyJpaAdapter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<VoteTally> findByAgendaId(UUID agendaId) {
+        return delegate.findByAgendaId(agendaId);
+    }
+
+    @Override
+    public void initialize(UUID agendaId) {
+        delegate.initialize(agendaId);
+    }
+
+    @Override
+    public void increment(UUID agendaId, long yes, long no) {
+        // aplicado pela descarga do journal
+    }
+
+    @Override
+    public VoteTally rebuild(UUID agendaId) {
+        return delegate.rebuild(agendaId);
+    }
+}
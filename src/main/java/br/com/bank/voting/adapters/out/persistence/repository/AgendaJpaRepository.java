@@ -1,13 +1,33 @@
 package br.com.bank.voting.adapters.out.persistence.repository;
 
 import br.com.bank.voting.adapters.out.persistence.entity.AgendaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface AgendaJpaRepository extends JpaRepository<AgendaEntity, UUID> {
-}
+public interface AgendaJpaRepository extends JpaRepository<AgendaEntity, UUID>, JpaSpecificationExecutor<AgendaEntity> {
 
+    // parte das sessões abertas (índice em closes_at): o custo depende de quantas sessões estão abertas,
+    // não de quantas pautas existem
+    @Query("select a from VotingSessionEntity s join AgendaEntity a on a.id = s.agendaId " +
+            "where s.closesAt > :now " +
+            "order by a.createdAt desc, a.id desc")
+    List<AgendaEntity> findWithOpenSession(@Param("now") LocalDateTime now, Pageable pageable);
 
+    @Query("select a from VotingSessionEntity s join AgendaEntity a on a.id = s.agendaId " +
+            "where s.closesAt > :now " +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<AgendaEntity> findWithOpenSessionAfter(@Param("now") LocalDateTime now,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") UUID id,
+                                                Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package br.com.bank.voting.adapters.out.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção dos campos de um voto gravados no arquivo; por não ser entidade, as linhas lidas em lotes
+ * não se acumulam no contexto de persistência.
+ */
+public interface ArchivableVote {
+    UUID getId();
+    long getCpf();
+    String getChoice();
+    LocalDateTime getCreatedAt();
+}
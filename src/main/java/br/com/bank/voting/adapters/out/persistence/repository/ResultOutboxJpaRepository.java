@@ -0,0 +1,42 @@
+package br.com.bank.voting.adapters.out.persistence.repository;
+
+import br.com.bank.voting.adapters.out.persistence.entity.ResultOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ResultOutboxJpaRepository extends JpaRepository<ResultOutboxEntity, UUID> {
+
+    // SELECT ... FOR UPDATE SKIP LOCKED (timeout -2): linhas travadas por outra instância são puladas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from ResultOutboxEntity o " +
+            "where o.publishedAt is null and o.nextAttemptAt <= :now " +
+            "order by o.createdAt, o.agendaId")
+    List<ResultOutboxEntity> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update ResultOutboxEntity o set o.publishedAt = :publishedAt, o.lastError = null " +
+            "where o.agendaId = :agendaId and o.publishedAt is null")
+    int markPublished(@Param("agendaId") UUID agendaId, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("update ResultOutboxEntity o set o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :lastError where o.agendaId = :agendaId and o.publishedAt is null")
+    int markFailed(@Param("agendaId") UUID agendaId,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
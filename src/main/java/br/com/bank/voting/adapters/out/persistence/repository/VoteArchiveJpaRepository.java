@@ -0,0 +1,21 @@
+package br.com.bank.voting.adapters.out.persistence.repository;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VoteArchiveEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface VoteArchiveJpaRepository extends JpaRepository<VoteArchiveEntity, UUID> {
+
+    @Query("select r.agendaId from VotingResultEntity r where r.closedAt < :closedBefore " +
+            "and not exists (select a.agendaId from VoteArchiveEntity a where a.agendaId = r.agendaId) " +
+            "order by r.closedAt, r.agendaId")
+    List<UUID> findArchivableAgendaIds(@Param("closedBefore") LocalDateTime closedBefore, Pageable pageable);
+}
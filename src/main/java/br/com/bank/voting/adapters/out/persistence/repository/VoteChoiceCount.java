@@ -0,0 +1,9 @@
+package br.com.bank.voting.adapters.out.persistence.repository;
+
+/**
+ * Projeção da contagem de votos agrupada por escolha (SIM/NÃO).
+ */
+public interface VoteChoiceCount {
+    String getChoice();
+    long getTotal();
+}
@@ -1,17 +1,48 @@
 package br.com.bank.voting.adapters.out.persistence.repository;
 
 import br.com.bank.voting.adapters.out.persistence.entity.VoteEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VoteJpaRepository extends JpaRepository<VoteEntity, UUID> {
-    Optional<VoteEntity> findByAgendaIdAndCpf(UUID agendaId, String cpf);
+    Optional<VoteEntity> findByAgendaIdAndCpf(UUID agendaId, long cpf);
     List<VoteEntity> findAllByAgendaId(UUID agendaId);
+    boolean existsByAgendaIdAndCpf(UUID agendaId, long cpf);
+
+    @Query("select v.cpf from VoteEntity v where v.agendaId = :agendaId")
+    List<Long> findCpfsByAgendaId(@Param("agendaId") UUID agendaId);
+
+    @Query("select v.cpf from VoteEntity v where v.agendaId = :agendaId and v.cpf in :cpfs")
+    List<Long> findCpfsByAgendaIdAndCpfIn(@Param("agendaId") UUID agendaId, @Param("cpfs") Collection<Long> cpfs);
+
+    @Query("select v.id from VoteEntity v where v.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // count(*) e não count(v): o Hibernate traduz count(v) para count(v.id), coluna fora do índice
+    // (agenda_id, choice), o que obrigaria a ler cada linha da tabela
+    @Query("select v.choice as choice, count(*) as total from VoteEntity v " +
+            "where v.agendaId = :agendaId group by v.choice")
+    List<VoteChoiceCount> countByChoice(@Param("agendaId") UUID agendaId);
+
+    // lote seguinte ao CPF informado, percorrendo o índice único (agenda_id, cpf) já na ordem do arquivo
+    @Query("select v.id as id, v.cpf as cpf, v.choice as choice, v.createdAt as createdAt from VoteEntity v " +
+            "where v.agendaId = :agendaId and v.cpf > :afterCpf order by v.cpf")
+    List<ArchivableVote> findArchivableAfter(@Param("agendaId") UUID agendaId, @Param("afterCpf") long afterCpf,
+                                             Pageable pageable);
+
+    @Modifying
+    @Query("delete from VoteEntity v where v.agendaId = :agendaId")
+    int deleteByAgendaId(@Param("agendaId") UUID agendaId);
 }
 
 
@@ -0,0 +1,26 @@
+package br.com.bank.voting.adapters.out.persistence.repository;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VoteTallyEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface VoteTallyJpaRepository extends JpaRepository<VoteTallyEntity, UUID> {
+
+    @Modifying
+    @Query("update VoteTallyEntity t set t.yesCount = t.yesCount + :yes, t.noCount = t.noCount + :no " +
+            "where t.agendaId = :agendaId")
+    int increment(@Param("agendaId") UUID agendaId, @Param("yes") long yes, @Param("no") long no);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from VoteTallyEntity t where t.agendaId = :agendaId")
+    Optional<VoteTallyEntity> findForUpdate(@Param("agendaId") UUID agendaId);
+}
@@ -0,0 +1,20 @@
+package br.com.bank.voting.adapters.out.persistence.repository;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VotingResultEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface VotingResultJpaRepository extends JpaRepository<VotingResultEntity, UUID> {
+
+    @Modifying
+    @Query("update VotingResultEntity r set r.publishedAt = :publishedAt " +
+            "where r.agendaId = :agendaId and r.publishedAt is null")
+    int markPublished(@Param("agendaId") UUID agendaId, @Param("publishedAt") LocalDateTime publishedAt);
+}
@@ -1,15 +1,43 @@
 package br.com.bank.voting.adapters.out.persistence.repository;
 
 import br.com.bank.voting.adapters.out.persistence.entity.VotingSessionEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface VotingSessionJpaRepository extends JpaRepository<VotingSessionEntity, UUID> {
     Optional<VotingSessionEntity> findByAgendaId(UUID agendaId);
+
+    List<VotingSessionEntity> findByAgendaIdIn(Collection<UUID> agendaIds);
+
+    List<VotingSessionEntity> findByClosesAtAfter(LocalDateTime closesAt);
+
+    // janela em closes_at (índice idx_voting_sessions_closes_at) e página por (closes_at, id): o custo da
+    // varredura depende das sessões recentes, não do histórico
+    @Query("select s from VotingSessionEntity s where s.closesAt > :closesAfter and not exists (" +
+            "select r from VotingResultEntity r where r.agendaId = s.agendaId and r.publishedAt is not null) " +
+            "order by s.closesAt, s.id")
+    List<VotingSessionEntity> findWithoutPublishedResult(@Param("closesAfter") LocalDateTime closesAfter,
+                                                         Pageable pageable);
+
+    @Query("select s from VotingSessionEntity s where s.closesAt > :closesAfter " +
+            "and (s.closesAt > :afterClosesAt or (s.closesAt = :afterClosesAt and s.id > :afterId)) " +
+            "and not exists (" +
+            "select r from VotingResultEntity r where r.agendaId = s.agendaId and r.publishedAt is not null) " +
+            "order by s.closesAt, s.id")
+    List<VotingSessionEntity> findWithoutPublishedResultAfter(@Param("closesAfter") LocalDateTime closesAfter,
+                                                              @Param("afterClosesAt") LocalDateTime afterClosesAt,
+                                                              @Param("afterId") UUID afterId,
+                                                              Pageable pageable);
 }
 
 
@@ -0,0 +1,27 @@
+package br.com.bank.voting.application.dto.command;
+
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchVoteCommand(
+        @NotNull(message = "Agenda ID is required")
+        UUID agendaId,
+
+        List<Item> items
+) {
+
+    /**
+     * Voto individual de um lote.
+     *
+     * @param cpf CPF do associado (11 dígitos)
+     * @param choice escolha do voto (YES ou NO)
+     */
+    public record Item(
+            String cpf,
+            VoteChoice choice
+    ) {
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.bank.voting.application.dto.query;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma página na listagem de pautas: a chave (createdAt, id) da última pauta retornada.
+ * Trafega como texto opaco (Base64 URL-safe de 28 bytes: segundos, nanos e o UUID).
+ */
+public record AgendaCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final int ENCODED_SIZE = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_SIZE)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException se o texto não for um cursor gerado por {@link #encode()}
+     */
+    public static AgendaCursor decode(String value) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+        if (bytes.length != ENCODED_SIZE) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new AgendaCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.bank.voting.application.dto.query;
+
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+
+public record ListAgendasQuery(
+        String cursor,
+        SessionStatus sessionStatus,
+        Integer limit
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.bank.voting.application.dto.result;
+
+import java.util.List;
+
+public record AgendaPageResult(
+        List<AgendaSummaryResult> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.bank.voting.application.dto.result;
+
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AgendaSummaryResult(
+        UUID id,
+        String title,
+        LocalDateTime createdAt,
+        SessionStatus sessionStatus,
+        LocalDateTime closesAt
+) {
+}
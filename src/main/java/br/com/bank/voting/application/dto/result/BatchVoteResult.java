@@ -0,0 +1,60 @@
+package br.com.bank.voting.application.dto.result;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado do registro de um lote de votos, com o desfecho de cada item na ordem de envio.
+ */
+public record BatchVoteResult(
+        UUID agendaId,
+        List<ItemResult> items
+) {
+
+    public long acceptedCount() {
+        return items.stream().filter(ItemResult::isAccepted).count();
+    }
+
+    public long rejectedCount() {
+        return items.size() - acceptedCount();
+    }
+
+    /**
+     * Motivo da rejeição de um item do lote.
+     * INVALID_CPF é o CPF com dígitos verificadores errados; UNKNOWN_CPF, o CPF que o serviço externo não conhece (404).
+     */
+    public enum Rejection {
+        INVALID_REQUEST,
+        INVALID_CPF,
+        UNKNOWN_CPF,
+        ALREADY_VOTED,
+        NOT_ELIGIBLE,
+        SERVICE_UNAVAILABLE
+    }
+
+    /**
+     * Desfecho de um item do lote.
+     *
+     * @param index posição do item no lote
+     * @param rejection motivo da rejeição, ou null se o voto foi registrado
+     * @param message mensagem da rejeição (a mesma do voto individual), ou null se o voto foi registrado
+     */
+    public record ItemResult(
+            int index,
+            Rejection rejection,
+            String message
+    ) {
+
+        public static ItemResult accepted(int index) {
+            return new ItemResult(index, null, null);
+        }
+
+        public static ItemResult rejected(int index, Rejection rejection, String message) {
+            return new ItemResult(index, rejection, message);
+        }
+
+        public boolean isAccepted() {
+            return rejection == null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.bank.voting.application.dto.result;
+
+/**
+ * Resultado aguardando publicação no outbox, com a quantidade de tentativas já falhas.
+ * O ID da pauta ({@code result.agendaId()}) identifica a mensagem.
+ */
+public record OutboxMessage(
+        VotingResultResult result,
+        int attempts
+) {
+}
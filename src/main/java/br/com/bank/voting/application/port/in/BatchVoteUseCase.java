@@ -0,0 +1,8 @@
+package br.com.bank.voting.application.port.in;
+
+import br.com.bank.voting.application.dto.command.BatchVoteCommand;
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+
+public interface BatchVoteUseCase {
+    BatchVoteResult vote(BatchVoteCommand command);
+}
@@ -0,0 +1,14 @@
+package br.com.bank.voting.application.port.in;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.VotingSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CloseSessionUseCase {
+    Optional<VotingResultResult> close(UUID agendaId);
+    List<VotingSession> findPendingClosings(LocalDateTime closesAfter, VotingSession after, int limit);
+}
@@ -2,10 +2,12 @@ package br.com.bank.voting.application.port.in;
 
 import br.com.bank.voting.application.dto.result.VotingResultResult;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface GetResultUseCase {
     VotingResultResult getResult(UUID agendaId);
+    Optional<VotingResultResult> findFinalResult(UUID agendaId);
 }
 
 
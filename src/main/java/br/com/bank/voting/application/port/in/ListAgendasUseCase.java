@@ -0,0 +1,8 @@
+package br.com.bank.voting.application.port.in;
+
+import br.com.bank.voting.application.dto.query.ListAgendasQuery;
+import br.com.bank.voting.application.dto.result.AgendaPageResult;
+
+public interface ListAgendasUseCase {
+    AgendaPageResult list(ListAgendasQuery query);
+}
@@ -0,0 +1,5 @@
+package br.com.bank.voting.application.port.in;
+
+public interface ReconcileTallyUseCase {
+    int reconcileAll();
+}
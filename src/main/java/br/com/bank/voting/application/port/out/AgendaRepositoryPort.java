@@ -1,13 +1,18 @@
 package br.com.bank.voting.application.port.out;
 
+import br.com.bank.voting.application.dto.query.AgendaCursor;
 import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AgendaRepositoryPort {
     Agenda save(Agenda agenda);
     Optional<Agenda> findById(UUID id);
+    List<Agenda> findPage(AgendaCursor after, SessionStatus sessionStatus, LocalDateTime now, int limit);
 }
 
 
@@ -0,0 +1,25 @@
+package br.com.bank.voting.application.port.out;
+
+import br.com.bank.voting.application.dto.result.OutboxMessage;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ResultOutboxPort {
+    void enqueue(VotingResultResult result, LocalDateTime createdAt);
+
+    /**
+     * Reivindica as mensagens pendentes cuja próxima tentativa já venceu: a próxima tentativa passa para
+     * {@code claimedUntil}, de modo que outras instâncias não as publiquem enquanto esta as processa.
+     *
+     * @param now instante atual
+     * @param claimedUntil fim da reivindicação; se a instância cair, a mensagem volta a vencer nesse instante
+     * @param limit quantidade máxima de mensagens
+     */
+    List<OutboxMessage> claimDue(LocalDateTime now, LocalDateTime claimedUntil, int limit);
+
+    void markPublished(UUID agendaId, LocalDateTime publishedAt);
+    void markFailed(UUID agendaId, int attempts, LocalDateTime nextAttemptAt, String error);
+}
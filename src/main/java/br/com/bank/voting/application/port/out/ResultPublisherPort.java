@@ -2,8 +2,12 @@ package br.com.bank.voting.application.port.out;
 
 import br.com.bank.voting.application.dto.result.VotingResultResult;
 
+/**
+ * Publicação de resultados na mensageria. O relay do outbox pode reenviar um resultado já aceito
+ * (queda entre a publicação e a marcação no outbox), por isso as implementações devem descartar
+ * a repetição usando o ID da pauta como chave de idempotência. Falhas devem ser propagadas para
+ * que a mensagem seja tentada novamente.
+ */
 public interface ResultPublisherPort {
     void publishResult(VotingResultResult result);
 }
-
-
@@ -0,0 +1,8 @@
+package br.com.bank.voting.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface SessionClosingSchedulerPort {
+    void scheduleClose(UUID agendaId, LocalDateTime closesAt);
+}
@@ -2,12 +2,28 @@ package br.com.bank.voting.application.port.out;
 
 import br.com.bank.voting.domain.model.VotingSession;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SessionRepositoryPort {
     VotingSession save(VotingSession session);
     Optional<VotingSession> findByAgendaId(UUID agendaId);
+
+    /**
+     * Lista, em ordem de (closesAt, id), as sessões que fecham depois do instante informado e cujo
+     * resultado ainda não foi publicado.
+     *
+     * @param closesAfter início da janela de closesAt
+     * @param after última sessão da página anterior, ou null na primeira página
+     * @param limit tamanho da página
+     */
+    List<VotingSession> findWithoutPublishedResult(LocalDateTime closesAfter, VotingSession after, int limit);
+
+    List<VotingSession> findByAgendaIds(Collection<UUID> agendaIds);
+    List<VotingSession> findClosingAfter(LocalDateTime closesAfter);
 }
 
 
@@ -0,0 +1,10 @@
+package br.com.bank.voting.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface VoteArchivePort {
+    List<UUID> findArchivableAgendaIds(LocalDateTime closedBefore, int limit);
+    long archive(UUID agendaId);
+}
@@ -1,15 +1,22 @@
 package br.com.bank.voting.application.port.out;
 
 import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface VoteRepositoryPort {
     Vote save(Vote vote);
-    Optional<Vote> findByAgendaIdAndCpf(UUID agendaId, String cpf);
+    List<Vote> saveAll(List<Vote> votes);
+    Optional<Vote> findByAgendaIdAndCpf(UUID agendaId, long cpf);
+    boolean existsByAgendaIdAndCpf(UUID agendaId, long cpf);
+    Set<Long> findCpfsAlreadyVoted(UUID agendaId, Collection<Long> cpfs);
     List<Vote> findAllByAgendaId(UUID agendaId);
+    VoteTally countVotesByChoice(UUID agendaId);
 }
 
 
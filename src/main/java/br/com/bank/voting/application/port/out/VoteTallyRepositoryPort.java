@@ -0,0 +1,13 @@
+package br.com.bank.voting.application.port.out;
+
+import br.com.bank.voting.domain.model.VoteTally;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface VoteTallyRepositoryPort {
+    Optional<VoteTally> findByAgendaId(UUID agendaId);
+    void initialize(UUID agendaId);
+    void increment(UUID agendaId, long yes, long no);
+    VoteTally rebuild(UUID agendaId);
+}
@@ -1,7 +1,11 @@
 package br.com.bank.voting.application.port.out;
 
-public interface VoterEligibilityPort {
-    boolean isEligibleToVote(String cpf);
-}
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
 
+import java.util.Collection;
+import java.util.Map;
 
+public interface VoterEligibilityPort {
+    boolean isEligibleToVote(long cpf);
+    Map<Long, EligibilityStatus> checkEligibility(Collection<Long> cpfs);
+}
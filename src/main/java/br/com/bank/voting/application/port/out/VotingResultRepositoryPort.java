@@ -0,0 +1,13 @@
+package br.com.bank.voting.application.port.out;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface VotingResultRepositoryPort {
+    Optional<VotingResultResult> findByAgendaId(UUID agendaId);
+    VotingResultResult save(VotingResultResult result, LocalDateTime closedAt);
+    boolean markPublished(UUID agendaId, LocalDateTime publishedAt);
+}
@@ -0,0 +1,67 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.port.in.ArchiveVotesUseCase;
+import br.com.bank.voting.application.port.out.VoteArchivePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service responsável por arquivar os votos das pautas encerradas há mais tempo.
+ * Só são arquivadas pautas cujo resultado final (snapshot) já foi gravado, de modo que a apuração
+ * nunca depende dos votos arquivados; a tabela de votos fica apenas com as pautas recentes.
+ */
+@Service
+public class ArchiveVotesService implements ArchiveVotesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveVotesService.class);
+
+    private final VoteArchivePort voteArchive;
+    private final Duration minClosedAge;
+
+    @Autowired
+    public ArchiveVotesService(
+            VoteArchivePort voteArchive,
+            @Value("${voting.vote.archive.min-closed-hours:168}") long minClosedHours) {
+        this(voteArchive, Duration.ofHours(minClosedHours));
+    }
+
+    ArchiveVotesService(VoteArchivePort voteArchive, Duration minClosedAge) {
+        this.voteArchive = voteArchive;
+        this.minClosedAge = minClosedAge;
+    }
+
+    /**
+     * Arquiva os votos de um lote de pautas encerradas há mais do que o tempo mínimo configurado.
+     * Cada pauta é arquivada em sua própria transação; uma falha não interrompe as demais.
+     *
+     * @param limit quantidade máxima de pautas do lote
+     * @return quantidade de pautas arquivadas com sucesso
+     */
+    @Override
+    public int archiveClosedAgendas(int limit) {
+        LocalDateTime closedBefore = LocalDateTime.now().minus(minClosedAge);
+        List<UUID> agendaIds = voteArchive.findArchivableAgendaIds(closedBefore, limit);
+        int archived = 0;
+        for (UUID agendaId : agendaIds) {
+            try {
+                long votes = voteArchive.archive(agendaId);
+                log.debug("Votes archived for agenda: {}, votes: {}", agendaId, votes);
+                archived++;
+            } catch (Exception e) {
+                log.error("Error archiving votes for agenda: {}", agendaId, e);
+            }
+        }
+        if (!agendaIds.isEmpty()) {
+            log.info("Archived votes of {} of {} closed agendas", archived, agendaIds.size());
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,253 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.command.BatchVoteCommand;
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+import br.com.bank.voting.application.dto.result.BatchVoteResult.ItemResult;
+import br.com.bank.voting.application.dto.result.BatchVoteResult.Rejection;
+import br.com.bank.voting.application.port.in.BatchVoteUseCase;
+import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.rules.CpfRules;
+import br.com.bank.voting.domain.rules.CpfValidator;
+import br.com.bank.voting.domain.rules.SessionRules;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service responsável por registrar lotes de votos em uma pauta.
+ * Rejeita CPFs inválidos e repetidos no lote antes de qualquer consulta, valida a pauta e a sessão
+ * uma única vez, verifica votos existentes com uma única consulta, consulta a elegibilidade dos CPFs
+ * em uma única chamada ao port e grava os votos aceitos em lote, atualizando o contador da pauta uma única vez.
+ * Cada item rejeitado recebe o motivo e a mensagem que o voto individual devolveria.
+ * <p>
+ * Só a gravação roda em transação: as consultas e a chamada de elegibilidade ao serviço externo
+ * acontecem antes, sem reter conexão do banco durante as chamadas HTTP. Se um voto do lote perder a
+ * corrida com um voto individual do mesmo CPF, a gravação em lote é desfeita e os votos são gravados
+ * um a um, e só os itens recusados pela constraint única recebem ALREADY_VOTED.
+ */
+@Service
+public class BatchVoteService implements BatchVoteUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchVoteService.class);
+
+    private static final String ALREADY_VOTED_MESSAGE = "Associate already voted for this agenda";
+    private static final String NOT_ELIGIBLE_MESSAGE = "Associate is not eligible to vote";
+    private static final String INVALID_CPF_MESSAGE = "Invalid CPF";
+    private static final String UNAVAILABLE_MESSAGE =
+            "The external service is temporarily unavailable. Please try again later.";
+
+    private final VoteRepositoryPort voteRepository;
+    private final SessionRepositoryPort sessionRepository;
+    private final AgendaRepositoryPort agendaRepository;
+    private final VoterEligibilityPort voterEligibilityPort;
+    private final VoteTallyRepositoryPort voteTallyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+
+    public BatchVoteService(
+            VoteRepositoryPort voteRepository,
+            SessionRepositoryPort sessionRepository,
+            AgendaRepositoryPort agendaRepository,
+            VoterEligibilityPort voterEligibilityPort,
+            VoteTallyRepositoryPort voteTallyRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${voting.vote.batch.max-size:500}") int maxBatchSize) {
+        this.voteRepository = voteRepository;
+        this.sessionRepository = sessionRepository;
+        this.agendaRepository = agendaRepository;
+        this.voterEligibilityPort = voterEligibilityPort;
+        this.voteTallyRepository = voteTallyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Registra um lote de votos em uma pauta.
+     *
+     * @param command comando contendo o ID da pauta e os votos do lote
+     * @return desfecho de cada item, na ordem de envio
+     * @throws IllegalArgumentException se o lote estiver vazio, exceder o tamanho máximo ou a pauta não existir
+     * @throws IllegalStateException se a sessão não existir ou estiver fechada
+     */
+    @Override
+    @Observed(name = "voting.usecase")
+    public BatchVoteResult vote(BatchVoteCommand command) {
+        List<BatchVoteCommand.Item> items = command.items();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one vote");
+        }
+        if (items.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch exceeds the maximum of " + maxBatchSize + " votes");
+        }
+        UUID agendaId = command.agendaId();
+        log.info("Processing batch of {} votes for agenda: {}", items.size(), agendaId);
+
+        ItemResult[] rejections = new ItemResult[items.size()];
+        long[] cpfs = new long[items.size()];
+        Map<Long, Integer> indexByCpf = validateAndDeduplicate(items, cpfs, rejections);
+
+        agendaRepository.findById(agendaId)
+                .orElseThrow(() -> {
+                    log.error("Agenda not found: {}", agendaId);
+                    return new IllegalArgumentException("Agenda not found: " + agendaId);
+                });
+
+        VotingSession session = sessionRepository.findByAgendaId(agendaId)
+                .orElseThrow(() -> {
+                    log.error("No session found for agenda: {}", agendaId);
+                    return new IllegalStateException("No session found for agenda: " + agendaId);
+                });
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!SessionRules.isSessionOpen(session, now)) {
+            log.error("Session is closed for agenda: {}", agendaId);
+            throw new IllegalStateException("Session is closed for agenda: " + agendaId);
+        }
+
+        rejectAlreadyVoted(agendaId, indexByCpf, rejections);
+        checkEligibility(indexByCpf, rejections);
+
+        Map<Integer, Vote> votes = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (rejections[i] == null) {
+                votes.put(i, new Vote(null, agendaId, cpfs[i], items.get(i).choice(), now));
+            }
+        }
+        int accepted = save(agendaId, votes, rejections);
+        log.info("Batch registered for agenda: {}, accepted: {}, rejected: {}",
+                agendaId, accepted, items.size() - accepted);
+
+        List<ItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(rejections[i] == null ? ItemResult.accepted(i) : rejections[i]);
+        }
+        return new BatchVoteResult(agendaId, results);
+    }
+
+    /**
+     * Grava os votos e o contador da pauta em uma única transação. Se a gravação for recusada por voto
+     * duplicado (outro voto do mesmo CPF gravado depois da verificação), refaz um voto por transação.
+     *
+     * @return quantidade de votos gravados
+     */
+    private int save(UUID agendaId, Map<Integer, Vote> votes, ItemResult[] rejections) {
+        if (votes.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                voteRepository.saveAll(List.copyOf(votes.values()));
+                voteTallyRepository.increment(agendaId, count(votes.values(), VoteChoice.YES),
+                        count(votes.values(), VoteChoice.NO));
+            });
+            return votes.size();
+        } catch (IllegalStateException e) {
+            log.warn("Batch for agenda {} lost a duplicate vote race, saving votes one by one", agendaId);
+        }
+        int saved = 0;
+        for (Map.Entry<Integer, Vote> entry : votes.entrySet()) {
+            int index = entry.getKey();
+            Vote vote = entry.getValue();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    voteRepository.save(vote);
+                    voteTallyRepository.increment(agendaId, vote.getChoice() == VoteChoice.YES ? 1 : 0,
+                            vote.getChoice() == VoteChoice.NO ? 1 : 0);
+                });
+                saved++;
+            } catch (IllegalStateException e) {
+                log.error("Associate already voted for agenda: {}, batch item: {}", agendaId, index);
+                rejections[index] = ItemResult.rejected(index, Rejection.ALREADY_VOTED, ALREADY_VOTED_MESSAGE);
+            }
+        }
+        return saved;
+    }
+
+    private static long count(Collection<Vote> votes, VoteChoice choice) {
+        return votes.stream().filter(vote -> vote.getChoice() == choice).count();
+    }
+
+    private Map<Long, Integer> validateAndDeduplicate(List<BatchVoteCommand.Item> items, long[] cpfs,
+                                                      ItemResult[] rejections) {
+        Map<Long, Integer> indexByCpf = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchVoteCommand.Item item = items.get(i);
+            if (item == null || !CpfValidator.isValid(item.cpf())) {
+                rejections[i] = ItemResult.rejected(i, Rejection.INVALID_CPF, INVALID_CPF_MESSAGE);
+                continue;
+            }
+            cpfs[i] = CpfRules.toNumber(item.cpf());
+            if (item.choice() == null) {
+                rejections[i] = ItemResult.rejected(i, Rejection.INVALID_REQUEST, "Vote choice is required");
+            } else if (indexByCpf.putIfAbsent(cpfs[i], i) != null) {
+                rejections[i] = ItemResult.rejected(i, Rejection.ALREADY_VOTED, ALREADY_VOTED_MESSAGE);
+            }
+        }
+        return indexByCpf;
+    }
+
+    private void rejectAlreadyVoted(UUID agendaId, Map<Long, Integer> indexByCpf, ItemResult[] rejections) {
+        if (indexByCpf.isEmpty()) {
+            return;
+        }
+        Set<Long> alreadyVoted = voteRepository.findCpfsAlreadyVoted(agendaId, indexByCpf.keySet());
+        for (Long cpf : alreadyVoted) {
+            Integer index = indexByCpf.remove(cpf);
+            if (index != null) {
+                rejections[index] = ItemResult.rejected(index, Rejection.ALREADY_VOTED, ALREADY_VOTED_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Consulta a elegibilidade de todos os CPFs restantes em uma única chamada ao port; o adapter
+     * decide a concorrência contra o serviço externo. Indisponibilidade rejeita só os itens afetados
+     * e é logada uma vez por lote.
+     */
+    private void checkEligibility(Map<Long, Integer> indexByCpf, ItemResult[] rejections) {
+        if (indexByCpf.isEmpty()) {
+            return;
+        }
+        Map<Long, EligibilityStatus> statuses = voterEligibilityPort.checkEligibility(indexByCpf.keySet());
+        int unavailable = 0;
+        for (Map.Entry<Long, Integer> entry : indexByCpf.entrySet()) {
+            int index = entry.getValue();
+            EligibilityStatus status = statuses.getOrDefault(entry.getKey(), EligibilityStatus.UNAVAILABLE);
+            switch (status) {
+                case ABLE_TO_VOTE -> {
+                }
+                case UNABLE_TO_VOTE -> rejections[index] =
+                        ItemResult.rejected(index, Rejection.NOT_ELIGIBLE, NOT_ELIGIBLE_MESSAGE);
+                case INVALID_CPF -> rejections[index] =
+                        ItemResult.rejected(index, Rejection.UNKNOWN_CPF, INVALID_CPF_MESSAGE);
+                case UNAVAILABLE -> {
+                    rejections[index] = ItemResult.rejected(index, Rejection.SERVICE_UNAVAILABLE, UNAVAILABLE_MESSAGE);
+                    unavailable++;
+                }
+            }
+        }
+        if (unavailable > 0) {
+            log.warn("Eligibility unavailable for {} of {} votes in batch", unavailable, indexByCpf.size());
+        }
+    }
+}
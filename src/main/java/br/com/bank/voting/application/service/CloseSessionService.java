@@ -0,0 +1,120 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.in.CloseSessionUseCase;
+import br.com.bank.voting.application.port.out.ResultOutboxPort;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VotingResultRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import br.com.bank.voting.domain.rules.SessionRules;
+import br.com.bank.voting.domain.rules.VoteRules;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service responsável por encerrar sessões de votação.
+ * Apura o resultado final uma única vez, grava o snapshot da sessão encerrada
+ * e registra o resultado no outbox na mesma transação; a publicação na mensageria fica com o relay.
+ */
+@Service
+public class CloseSessionService implements CloseSessionUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CloseSessionService.class);
+
+    private final SessionRepositoryPort sessionRepository;
+    private final VoteRepositoryPort voteRepository;
+    private final VotingResultRepositoryPort votingResultRepository;
+    private final ResultOutboxPort resultOutbox;
+
+    public CloseSessionService(
+            SessionRepositoryPort sessionRepository,
+            VoteRepositoryPort voteRepository,
+            VotingResultRepositoryPort votingResultRepository,
+            ResultOutboxPort resultOutbox) {
+        this.sessionRepository = sessionRepository;
+        this.voteRepository = voteRepository;
+        this.votingResultRepository = votingResultRepository;
+        this.resultOutbox = resultOutbox;
+    }
+
+    /**
+     * Encerra a sessão da pauta se o horário de fechamento já passou.
+     * O resultado final é apurado com uma consulta agregada sobre os votos e gravado como snapshot;
+     * se o snapshot já existir (outra instância ou execução anterior), ele é reaproveitado.
+     * A publicação é reivindicada com um UPDATE condicional e a mensagem é gravada no outbox na mesma
+     * transação: entre várias instâncias, e após reinícios, o resultado entra no outbox uma única vez,
+     * e só se o snapshot for confirmado.
+     *
+     * @param agendaId ID da pauta
+     * @return resultado final, ou vazio se a sessão ainda estiver aberta
+     * @throws IllegalStateException se não existir sessão para a pauta
+     */
+    @Override
+    @Transactional
+    @Observed(name = "voting.usecase")
+    public Optional<VotingResultResult> close(UUID agendaId) {
+        VotingSession session = sessionRepository.findByAgendaId(agendaId)
+                .orElseThrow(() -> {
+                    log.error("No session found for agenda: {}", agendaId);
+                    return new IllegalStateException("No session found for agenda: " + agendaId);
+                });
+
+        LocalDateTime now = LocalDateTime.now();
+        if (SessionRules.isSessionOpen(session, now)) {
+            log.debug("Session still open for agenda: {}, closes at: {}", agendaId, session.getClosesAt());
+            return Optional.empty();
+        }
+
+        VotingResultResult result = votingResultRepository.findByAgendaId(agendaId)
+                .orElseGet(() -> votingResultRepository.save(tally(agendaId), session.getClosesAt()));
+
+        if (votingResultRepository.markPublished(agendaId, now)) {
+            resultOutbox.enqueue(result, now);
+            log.info("Session closed and result queued for publication. Agenda: {}, result: {}", agendaId, result.result());
+        } else {
+            log.debug("Result already published for agenda: {}", agendaId);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Lista uma página das sessões cujo resultado ainda não foi publicado (abertas ou encerradas)
+     * e que fecham depois do instante informado, usadas para reagendar o encerramento após um reinício.
+     *
+     * @param closesAfter início da janela de closesAt
+     * @param after última sessão da página anterior, ou null na primeira página
+     * @param limit tamanho da página
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<VotingSession> findPendingClosings(LocalDateTime closesAfter, VotingSession after, int limit) {
+        return sessionRepository.findWithoutPublishedResult(closesAfter, after, limit);
+    }
+
+    private VotingResultResult tally(UUID agendaId) {
+        VoteTally tally = voteRepository.countVotesByChoice(agendaId);
+        VotingResult result = VoteRules.determineResult(tally.getYes(), tally.getNo());
+        log.info("Final tally for agenda {}: {} approved, {} rejected, total: {}, result: {}",
+                agendaId, tally.getYes(), tally.getNo(), tally.getTotal(), result);
+        return new VotingResultResult(
+                agendaId,
+                SessionStatus.CLOSED,
+                tally.getYes(),
+                tally.getNo(),
+                tally.getTotal(),
+                result
+        );
+    }
+}
@@ -5,6 +5,7 @@ import br.com.bank.voting.application.dto.result.AgendaCreatedResult;
 import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
 import br.com.bank.voting.domain.model.Agenda;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class CreateAgendaService implements CreateAgendaUseCase {
      */
     @Override
     @Transactional
+    @Observed(name = "voting.usecase")
     public AgendaCreatedResult create(CreateAgendaCommand command) {
         log.info("Creating new agenda with title: {}", command.title());
         
@@ -3,26 +3,24 @@ package br.com.bank.voting.application.service;
 import br.com.bank.voting.application.dto.result.VotingResultResult;
 import br.com.bank.voting.application.port.in.GetResultUseCase;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
-import br.com.bank.voting.application.port.out.ResultPublisherPort;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
 import br.com.bank.voting.application.port.out.VoteRepositoryPort;
-import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.application.port.out.VotingResultRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
 import br.com.bank.voting.domain.model.VotingSession;
 import br.com.bank.voting.domain.model.enums.SessionStatus;
-import br.com.bank.voting.domain.model.enums.VoteChoice;
 import br.com.bank.voting.domain.model.enums.VotingResult;
 import br.com.bank.voting.domain.rules.SessionRules;
 import br.com.bank.voting.domain.rules.VoteRules;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -37,23 +35,27 @@ public class GetResultService implements GetResultUseCase {
     private final AgendaRepositoryPort agendaRepository;
     private final SessionRepositoryPort sessionRepository;
     private final VoteRepositoryPort voteRepository;
-    private final ResultPublisherPort resultPublisherPort;
-    private final Set<UUID> publishedResults = Collections.synchronizedSet(new HashSet<>());
+    private final VoteTallyRepositoryPort voteTallyRepository;
+    private final VotingResultRepositoryPort votingResultRepository;
 
     public GetResultService(
             AgendaRepositoryPort agendaRepository,
             SessionRepositoryPort sessionRepository,
             VoteRepositoryPort voteRepository,
-            ResultPublisherPort resultPublisherPort) {
+            VoteTallyRepositoryPort voteTallyRepository,
+            VotingResultRepositoryPort votingResultRepository) {
         this.agendaRepository = agendaRepository;
         this.sessionRepository = sessionRepository;
         this.voteRepository = voteRepository;
-        this.resultPublisherPort = resultPublisherPort;
+        this.voteTallyRepository = voteTallyRepository;
+        this.votingResultRepository = votingResultRepository;
     }
 
     /**
      * Obtém o resultado da votação de uma pauta.
-     * Contabiliza os votos SIM e NÃO e determina se a pauta foi aprovada ou rejeitada.
+     * Sessões já encerradas pelo motor de encerramento são respondidas a partir do snapshot gravado.
+     * Caso contrário, lê os contadores incrementais da pauta e determina se a pauta foi aprovada ou rejeitada.
+     * Pautas sem contador (anteriores à sua criação) são contabilizadas com uma consulta agregada.
      * Em caso de empate, a pauta é considerada rejeitada.
      *
      * @param agendaId ID da pauta
@@ -62,6 +64,7 @@ public class GetResultService implements GetResultUseCase {
      */
     @Override
     @Transactional(readOnly = true)
+    @Observed(name = "voting.usecase")
     public VotingResultResult getResult(UUID agendaId) {
         log.info("Getting voting result for agenda: {}", agendaId);
         
@@ -71,29 +74,29 @@ public class GetResultService implements GetResultUseCase {
                     return new IllegalArgumentException("Agenda not found: " + agendaId);
                 });
 
+        Optional<VotingResultResult> snapshot = votingResultRepository.findByAgendaId(agendaId);
+        if (snapshot.isPresent()) {
+            log.debug("Returning closed session snapshot for agenda: {}", agendaId);
+            return snapshot.get();
+        }
+
         VotingSession session = sessionRepository.findByAgendaId(agendaId).orElse(null);
         LocalDateTime now = LocalDateTime.now();
-        SessionStatus sessionStatus = (session != null && SessionRules.isSessionOpen(session, now))
-                ? SessionStatus.OPEN
-                : SessionStatus.CLOSED;
+        SessionStatus sessionStatus = SessionRules.statusOf(session, now);
 
-        List<Vote> votes = voteRepository.findAllByAgendaId(agendaId);
+        VoteTally tally = voteTallyRepository.findByAgendaId(agendaId)
+                .orElseGet(() -> voteRepository.countVotesByChoice(agendaId));
 
-        long yesCount = VoteRules.countVotesByChoice(votes, VoteChoice.YES);
-        long noCount = VoteRules.countVotesByChoice(votes, VoteChoice.NO);
-        long total = votes.size();
+        long yesCount = tally.getYes();
+        long noCount = tally.getNo();
+        long total = tally.getTotal();
 
-        VotingResult result;
-        if (yesCount > noCount) {
-            result = VotingResult.APPROVED;
-        } else {
-            result = VotingResult.REJECTED;
-        }
+        VotingResult result = VoteRules.determineResult(yesCount, noCount);
 
         log.info("Voting result for agenda {}: {} approved, {} rejected, total: {}, result: {}", 
                 agendaId, yesCount, noCount, total, result);
 
-        VotingResultResult votingResult = new VotingResultResult(
+        return new VotingResultResult(
                 agendaId,
                 sessionStatus,
                 yesCount,
@@ -101,20 +104,17 @@ public class GetResultService implements GetResultUseCase {
                 total,
                 result
         );
+    }
 
-        // Publica resultado na fila quando a sessão estiver fechada (Bônus 2)
-        if (sessionStatus == SessionStatus.CLOSED && !publishedResults.contains(agendaId)) {
-            try {
-                resultPublisherPort.publishResult(votingResult);
-                publishedResults.add(agendaId);
-                log.info("Voting result published to message queue for agenda: {}", agendaId);
-            } catch (Exception e) {
-                log.error("Error publishing result to message queue for agenda: {}", agendaId, e);
-                // Não lança exceção para não quebrar o fluxo principal
-            }
-        }
-
-        return votingResult;
+    /**
+     * Obtém o resultado final (snapshot) de uma pauta cuja sessão já foi encerrada.
+     * O snapshot é imutável; sem transação, um snapshot em cache é retornado sem tocar no banco.
+     *
+     * @param agendaId ID da pauta
+     * @return resultado final, ou vazio se a sessão ainda não foi encerrada
+     */
+    @Override
+    public Optional<VotingResultResult> findFinalResult(UUID agendaId) {
+        return votingResultRepository.findByAgendaId(agendaId);
     }
 }
-
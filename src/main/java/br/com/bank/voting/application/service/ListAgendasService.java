@@ -0,0 +1,108 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.query.AgendaCursor;
+import br.com.bank.voting.application.dto.query.ListAgendasQuery;
+import br.com.bank.voting.application.dto.result.AgendaPageResult;
+import br.com.bank.voting.application.dto.result.AgendaSummaryResult;
+import br.com.bank.voting.application.port.in.ListAgendasUseCase;
+import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.rules.SessionRules;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsável por listar pautas em páginas, da mais recente para a mais antiga.
+ * A paginação é por cursor (keyset): cada página começa após a última pauta da anterior,
+ * sem OFFSET nem contagem total, de modo que o custo de uma página não depende da sua posição.
+ */
+@Service
+public class ListAgendasService implements ListAgendasUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ListAgendasService.class);
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private final AgendaRepositoryPort agendaRepository;
+    private final SessionRepositoryPort sessionRepository;
+
+    public ListAgendasService(AgendaRepositoryPort agendaRepository, SessionRepositoryPort sessionRepository) {
+        this.agendaRepository = agendaRepository;
+        this.sessionRepository = sessionRepository;
+    }
+
+    /**
+     * Lista uma página de pautas.
+     *
+     * @param query cursor da página anterior (opcional), filtro de status da sessão (opcional)
+     *              e tamanho da página (padrão 20, máximo 100)
+     * @return pautas da página com o status da sessão de cada uma e o cursor da próxima página
+     *         (null na última página)
+     * @throws IllegalArgumentException se o cursor for inválido ou o limite não for positivo
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Observed(name = "voting.usecase")
+    public AgendaPageResult list(ListAgendasQuery query) {
+        int limit = resolveLimit(query.limit());
+        AgendaCursor after = query.cursor() == null || query.cursor().isBlank()
+                ? null
+                : AgendaCursor.decode(query.cursor());
+        LocalDateTime now = LocalDateTime.now();
+
+        log.info("Listing agendas with status: {}, limit: {}, after: {}", query.sessionStatus(), limit, after);
+
+        // uma linha a mais indica se existe próxima página
+        List<Agenda> agendas = agendaRepository.findPage(after, query.sessionStatus(), now, limit + 1);
+        boolean hasNext = agendas.size() > limit;
+        List<Agenda> page = hasNext ? agendas.subList(0, limit) : agendas;
+
+        // sessões da página em uma única consulta, em vez de uma por pauta
+        Map<UUID, VotingSession> sessions = page.isEmpty()
+                ? Map.of()
+                : sessionRepository.findByAgendaIds(page.stream().map(Agenda::getId).toList()).stream()
+                        .collect(Collectors.toMap(VotingSession::getAgendaId, Function.identity()));
+
+        List<AgendaSummaryResult> items = page.stream()
+                .map(agenda -> toSummary(agenda, sessions.get(agenda.getId()), now))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Agenda last = page.getLast();
+            nextCursor = new AgendaCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new AgendaPageResult(items, nextCursor);
+    }
+
+    private static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Pautas sem sessão são CLOSED, como no resultado da votação e no filtro status=CLOSED.
+     */
+    private static AgendaSummaryResult toSummary(Agenda agenda, VotingSession session, LocalDateTime now) {
+        return new AgendaSummaryResult(agenda.getId(), agenda.getTitle(), agenda.getCreatedAt(),
+                SessionRules.statusOf(session, now), session != null ? session.getClosesAt() : null);
+    }
+}
@@ -4,10 +4,13 @@ import br.com.bank.voting.application.dto.command.OpenSessionCommand;
 import br.com.bank.voting.application.dto.result.SessionOpenedResult;
 import br.com.bank.voting.application.port.in.OpenSessionUseCase;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.application.port.out.SessionClosingSchedulerPort;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
 import br.com.bank.voting.domain.model.VotingSession;
 import br.com.bank.voting.domain.model.enums.SessionStatus;
 import br.com.bank.voting.domain.rules.SessionRules;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -27,15 +30,25 @@ public class OpenSessionService implements OpenSessionUseCase {
 
     private final SessionRepositoryPort sessionRepository;
     private final AgendaRepositoryPort agendaRepository;
+    private final VoteTallyRepositoryPort voteTallyRepository;
+    private final SessionClosingSchedulerPort sessionClosingScheduler;
 
-    public OpenSessionService(SessionRepositoryPort sessionRepository, AgendaRepositoryPort agendaRepository) {
+    public OpenSessionService(
+            SessionRepositoryPort sessionRepository,
+            AgendaRepositoryPort agendaRepository,
+            VoteTallyRepositoryPort voteTallyRepository,
+            SessionClosingSchedulerPort sessionClosingScheduler) {
         this.sessionRepository = sessionRepository;
         this.agendaRepository = agendaRepository;
+        this.voteTallyRepository = voteTallyRepository;
+        this.sessionClosingScheduler = sessionClosingScheduler;
     }
 
     /**
      * Abre uma sessão de votação para uma pauta.
      * A sessão ficará aberta pelo tempo especificado ou 1 minuto por padrão.
+     * O contador de votos da pauta é criado zerado junto com a sessão,
+     * e o encerramento da sessão é agendado para o seu horário de fechamento.
      *
      * @param command comando contendo o ID da pauta e duração opcional em minutos
      * @return resultado com os dados da sessão aberta
@@ -44,6 +57,7 @@ public class OpenSessionService implements OpenSessionUseCase {
      */
     @Override
     @Transactional
+    @Observed(name = "voting.usecase")
     public SessionOpenedResult open(OpenSessionCommand command) {
         log.info("Opening session for agenda: {}", command.agendaId());
         
@@ -83,6 +97,8 @@ public class OpenSessionService implements OpenSessionUseCase {
         );
 
         VotingSession saved = sessionRepository.save(session);
+        voteTallyRepository.initialize(saved.getAgendaId());
+        sessionClosingScheduler.scheduleClose(saved.getAgendaId(), saved.getClosesAt());
         
         log.info("Session opened successfully. Session ID: {}, Closes at: {}", saved.getId(), closesAt);
 
@@ -0,0 +1,75 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.port.in.ReconcileTallyUseCase;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.VotingSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service responsável por reconciliar os contadores de votos com a tabela de votos.
+ * Corrige eventuais divergências reconstruindo cada contador a partir dos votos persistidos.
+ * Só entram as pautas com sessão aberta ou encerrada há pouco tempo: depois disso o resultado já foi
+ * gravado e o contador não muda mais, então o custo de cada rodada não cresce com o histórico de votos.
+ */
+@Service
+public class ReconcileTallyService implements ReconcileTallyUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconcileTallyService.class);
+
+    private final VoteTallyRepositoryPort voteTallyRepository;
+    private final SessionRepositoryPort sessionRepository;
+    private final Duration closedWindow;
+
+    @Autowired
+    public ReconcileTallyService(
+            VoteTallyRepositoryPort voteTallyRepository,
+            SessionRepositoryPort sessionRepository,
+            @Value("${voting.tally.reconciliation.closed-window-minutes:60}") long closedWindowMinutes) {
+        this(voteTallyRepository, sessionRepository, Duration.ofMinutes(closedWindowMinutes));
+    }
+
+    ReconcileTallyService(
+            VoteTallyRepositoryPort voteTallyRepository,
+            SessionRepositoryPort sessionRepository,
+            Duration closedWindow) {
+        this.voteTallyRepository = voteTallyRepository;
+        this.sessionRepository = sessionRepository;
+        this.closedWindow = closedWindow;
+    }
+
+    /**
+     * Reconstrói os contadores das pautas com sessão aberta ou encerrada dentro da janela configurada.
+     * Cada pauta é reconstruída em sua própria transação; uma falha não interrompe as demais.
+     *
+     * @return quantidade de contadores reconstruídos com sucesso
+     */
+    @Override
+    public int reconcileAll() {
+        List<VotingSession> sessions = sessionRepository.findClosingAfter(LocalDateTime.now().minus(closedWindow));
+        log.info("Reconciling vote tallies for {} agendas", sessions.size());
+
+        int reconciled = 0;
+        for (VotingSession session : sessions) {
+            UUID agendaId = session.getAgendaId();
+            try {
+                VoteTally tally = voteTallyRepository.rebuild(agendaId);
+                log.debug("Tally rebuilt for agenda {}: yes={}, no={}", agendaId, tally.getYes(), tally.getNo());
+                reconciled++;
+            } catch (Exception e) {
+                log.error("Error reconciling tally for agenda: {}", agendaId, e);
+            }
+        }
+        return reconciled;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.result.OutboxMessage;
+import br.com.bank.voting.application.port.in.RelayOutboxUseCase;
+import br.com.bank.voting.application.port.out.ResultOutboxPort;
+import br.com.bank.voting.application.port.out.ResultPublisherPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service responsável por repassar ao publicador os resultados gravados no outbox.
+ * Cada mensagem é marcada como publicada somente depois que o publicador a aceita; em caso de falha,
+ * a próxima tentativa é agendada com backoff exponencial e a mensagem continua no outbox.
+ * As mensagens são reivindicadas antes da publicação (a próxima tentativa é adiada por {@code claim-lease-ms}),
+ * então cada mensagem é publicada por uma única instância. Se a instância cair entre a publicação e a
+ * marcação, a mensagem volta a vencer ao fim da reivindicação e é reenviada: o publicador descarta a
+ * repetição pelo ID da pauta.
+ */
+@Service
+public class RelayOutboxService implements RelayOutboxUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RelayOutboxService.class);
+
+    private final ResultOutboxPort resultOutbox;
+    private final ResultPublisherPort resultPublisher;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long claimLeaseMillis;
+
+    public RelayOutboxService(
+            ResultOutboxPort resultOutbox,
+            ResultPublisherPort resultPublisher,
+            @Value("${voting.outbox.relay.initial-backoff-ms:1000}") long initialBackoffMillis,
+            @Value("${voting.outbox.relay.max-backoff-ms:300000}") long maxBackoffMillis,
+            @Value("${voting.outbox.relay.claim-lease-ms:60000}") long claimLeaseMillis) {
+        this.resultOutbox = resultOutbox;
+        this.resultPublisher = resultPublisher;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.claimLeaseMillis = claimLeaseMillis;
+    }
+
+    /**
+     * Publica um lote de mensagens pendentes do outbox.
+     *
+     * @param limit quantidade máxima de mensagens do lote
+     * @return quantidade de mensagens publicadas
+     */
+    @Override
+    public int relayPending(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> due = resultOutbox.claimDue(now, now.plusNanos(claimLeaseMillis * 1_000_000), limit);
+        int published = 0;
+        for (OutboxMessage message : due) {
+            UUID agendaId = message.result().agendaId();
+            try {
+                resultPublisher.publishResult(message.result());
+            } catch (RuntimeException e) {
+                int attempts = message.attempts() + 1;
+                long backoff = backoffMillis(attempts);
+                log.warn("Could not publish result for agenda: {} (attempt {}), retrying in {} ms",
+                        agendaId, attempts, backoff, e);
+                resultOutbox.markFailed(agendaId, attempts, now.plusNanos(backoff * 1_000_000), e.toString());
+                continue;
+            }
+            resultOutbox.markPublished(agendaId, LocalDateTime.now());
+            published++;
+        }
+        if (!due.isEmpty()) {
+            log.debug("Relayed {} of {} results from the outbox", published, due.size());
+        }
+        return published;
+    }
+
+    long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(initialBackoffMillis << shift, maxBackoffMillis);
+    }
+}
@@ -5,10 +5,15 @@ import br.com.bank.voting.application.port.in.VoteUseCase;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
 import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
 import br.com.bank.voting.application.port.out.VoterEligibilityPort;
 import br.com.bank.voting.domain.model.Vote;
 import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.rules.CpfRules;
+import br.com.bank.voting.domain.rules.CpfValidator;
 import br.com.bank.voting.domain.rules.SessionRules;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -29,35 +34,47 @@ public class VoteService implements VoteUseCase {
     private final SessionRepositoryPort sessionRepository;
     private final AgendaRepositoryPort agendaRepository;
     private final VoterEligibilityPort voterEligibilityPort;
+    private final VoteTallyRepositoryPort voteTallyRepository;
 
     public VoteService(
             VoteRepositoryPort voteRepository,
             SessionRepositoryPort sessionRepository,
             AgendaRepositoryPort agendaRepository,
-            VoterEligibilityPort voterEligibilityPort) {
+            VoterEligibilityPort voterEligibilityPort,
+            VoteTallyRepositoryPort voteTallyRepository) {
         this.voteRepository = voteRepository;
         this.sessionRepository = sessionRepository;
         this.agendaRepository = agendaRepository;
         this.voterEligibilityPort = voterEligibilityPort;
+        this.voteTallyRepository = voteTallyRepository;
     }
 
     /**
      * Registra um voto de um associado em uma pauta.
-     * Valida se a pauta existe, se a sessão está aberta, se o associado já votou
-     * e se o associado é elegível para votar.
+     * Valida o CPF (dígitos verificadores) antes de qualquer consulta, depois se a pauta existe,
+     * se a sessão está aberta, se o associado já votou e se o associado é elegível para votar.
+     * O contador de votos da pauta é atualizado na mesma transação da inserção do voto.
      *
      * @param command comando contendo o ID da pauta, CPF do associado e escolha (SIM/NÃO)
-     * @throws IllegalArgumentException se a pauta não existir
+     * @throws IllegalArgumentException se o CPF for inválido ou a pauta não existir
      * @throws IllegalStateException se a sessão não existir, estiver fechada, o associado já votou ou não for elegível
      */
     @Override
     @Transactional
+    @Observed(name = "voting.usecase")
     public void vote(VoteCommand command) {
+        if (!CpfValidator.isValid(command.cpf())) {
+            if (log.isErrorEnabled()) {
+                log.error("Invalid CPF for agenda: {}, CPF: {}", command.agendaId(), maskCpf(command.cpf()));
+            }
+            throw new IllegalArgumentException("Invalid CPF");
+        }
         if (log.isInfoEnabled()) {
             log.info("Processing vote for agenda: {}, CPF: {}, Choice: {}", 
                     command.agendaId(), maskCpf(command.cpf()), command.choice());
         }
-        
+        long cpf = CpfRules.toNumber(command.cpf());
+
         agendaRepository.findById(command.agendaId())
                 .orElseThrow(() -> {
                     log.error("Agenda not found: {}", command.agendaId());
@@ -76,14 +93,13 @@ public class VoteService implements VoteUseCase {
             throw new IllegalStateException("Session is closed for agenda: " + command.agendaId());
         }
 
-        voteRepository.findByAgendaIdAndCpf(command.agendaId(), command.cpf())
-                .ifPresent(vote -> {
-                    log.error("Associate already voted for agenda: {}, CPF: {}", 
-                            command.agendaId(), maskCpf(command.cpf()));
-                    throw new IllegalStateException("Associate already voted for this agenda");
-                });
+        if (voteRepository.existsByAgendaIdAndCpf(command.agendaId(), cpf)) {
+            log.error("Associate already voted for agenda: {}, CPF: {}",
+                    command.agendaId(), maskCpf(command.cpf()));
+            throw new IllegalStateException("Associate already voted for this agenda");
+        }
 
-        if (!voterEligibilityPort.isEligibleToVote(command.cpf())) {
+        if (!voterEligibilityPort.isEligibleToVote(cpf)) {
             String maskedCpf = maskCpf(command.cpf());
             log.error("Associate is not eligible to vote. CPF: {}", maskedCpf);
             throw new IllegalStateException("Associate is not eligible to vote");
@@ -92,12 +108,17 @@ public class VoteService implements VoteUseCase {
         Vote vote = new Vote(
                 null,
                 command.agendaId(),
-                command.cpf(),
+                cpf,
                 command.choice(),
                 now
         );
 
         voteRepository.save(vote);
+        voteTallyRepository.increment(
+                command.agendaId(),
+                command.choice() == VoteChoice.YES ? 1 : 0,
+                command.choice() == VoteChoice.NO ? 1 : 0
+        );
         if (log.isInfoEnabled()) {
             log.info("Vote registered successfully for agenda: {}, CPF: {}", 
                     command.agendaId(), maskCpf(command.cpf()));
@@ -0,0 +1,56 @@
+package br.com.bank.voting.config;
+
+import br.com.bank.voting.adapters.in.scheduling.SessionClosingEngine;
+import br.com.bank.voting.adapters.out.messaging.InMemoryMessageQueue;
+import br.com.bank.voting.adapters.out.persistence.journal.WriteBehindVoteRepositoryAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas e tracing da aplicação: habilita o @Observed dos casos de uso (timer e span
+ * {@code voting.usecase}) e registra os gauges de sessões abertas e de profundidade das filas.
+ * As observações das portas de saída e os contadores de votos rejeitados ficam nos aspectos do
+ * pacote metrics.
+ */
+@Configuration
+public class ObservabilityConfiguration {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    public MeterBinder votingGauges(
+            SessionClosingEngine sessionClosingEngine,
+            InMemoryMessageQueue messageQueue,
+            ObjectProvider<WriteBehindVoteRepositoryAdapter> writeBehindAdapter) {
+        return registry -> {
+            Gauge.builder("voting.sessions.open", sessionClosingEngine, SessionClosingEngine::getScheduledCount)
+                    .description("Sessions opened and not yet closed by the closing engine")
+                    .register(registry);
+            Gauge.builder("voting.messaging.queue.depth", messageQueue, InMemoryMessageQueue::getMessageCount)
+                    .description("Results held in the in-memory message queue")
+                    .register(registry);
+            writeBehindAdapter.ifAvailable(adapter -> {
+                Gauge.builder("voting.ingestion.pending", adapter, WriteBehindVoteRepositoryAdapter::getPendingCount)
+                        .description("Votes journaled and not yet written to the database")
+                        .register(registry);
+                Gauge.builder("voting.ingestion.drain.failures", adapter,
+                                WriteBehindVoteRepositoryAdapter::getConsecutiveFailures)
+                        .description("Consecutive failed attempts to drain the ingestion journal")
+                        .register(registry);
+                FunctionCounter.builder("voting.ingestion.dropped", adapter,
+                                WriteBehindVoteRepositoryAdapter::getDroppedCount)
+                        .description("Journaled votes dropped because the database rejected them")
+                        .register(registry);
+            });
+        };
+    }
+}
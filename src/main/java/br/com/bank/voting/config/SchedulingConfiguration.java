@@ -0,0 +1,12 @@
+package br.com.bank.voting.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de jobs agendados (@Scheduled).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,72 @@
+package br.com.bank.voting.config.metrics;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Observa toda chamada às portas de saída (repositórios, elegibilidade, publicação).
+ * Cada chamada gera o timer {@code voting.port}, com as tags port (interface), method, adapter
+ * (classe que atendeu a chamada) e error, e um span filho do span do caso de uso: no voto, os spans
+ * mostram separadamente a busca da pauta, a busca da sessão, a verificação de voto duplicado,
+ * a consulta ao user-info e a gravação. Decorators como os caches aparecem separados da
+ * implementação que envolvem.
+ */
+@Aspect
+@Component
+public class PortObservationAspect {
+
+    static final String OBSERVATION_NAME = "voting.port";
+    private static final String PORT_PACKAGE = "br.com.bank.voting.application.port.out";
+
+    private final ObservationRegistry observationRegistry;
+    // tags e nome do span por adapter e método, montados uma vez
+    private final Map<CallKey, CallTags> tags = new ConcurrentHashMap<>();
+
+    public PortObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(* br.com.bank.voting.application.port.out..*.*(..))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return joinPoint.proceed();
+        }
+        Class<?> adapter = ClassUtils.getUserClass(joinPoint.getTarget());
+        CallTags call = tags.computeIfAbsent(new CallKey(adapter, joinPoint.getSignature().getName()), CallTags::of);
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(call.contextualName())
+                .lowCardinalityKeyValues(call.keyValues())
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+
+    private record CallKey(Class<?> adapter, String method) {
+    }
+
+    private record CallTags(String contextualName, KeyValues keyValues) {
+
+        static CallTags of(CallKey key) {
+            String port = portOf(key.adapter());
+            return new CallTags(
+                    port + "." + key.method(),
+                    KeyValues.of("port", port, "method", key.method(), "adapter", key.adapter().getSimpleName()));
+        }
+
+        private static String portOf(Class<?> adapter) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(adapter)) {
+                if (type.getPackageName().equals(PORT_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+            return "unknown";
+        }
+    }
+}
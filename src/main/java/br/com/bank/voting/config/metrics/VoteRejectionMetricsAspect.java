@@ -0,0 +1,54 @@
+package br.com.bank.voting.config.metrics;
+
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Conta os votos rejeitados por motivo ({@code voting.votes.rejected}, tag reason), tanto no voto
+ * individual quanto em cada item rejeitado de um lote. Roda por fora da transação, para contar
+ * também a violação da constraint única detectada no commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class VoteRejectionMetricsAspect {
+
+    static final String METRIC_NAME = "voting.votes.rejected";
+
+    private final Map<VoteRejectionReason, Counter> counters = new EnumMap<>(VoteRejectionReason.class);
+
+    public VoteRejectionMetricsAspect(MeterRegistry meterRegistry) {
+        for (VoteRejectionReason reason : VoteRejectionReason.values()) {
+            counters.put(reason, Counter.builder(METRIC_NAME)
+                    .description("Votes rejected, by reason")
+                    .tag("reason", reason.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @AfterThrowing(pointcut = "execution(* br.com.bank.voting.application.port.in.VoteUseCase.vote(..))",
+            throwing = "failure")
+    public void countRejectedVote(Throwable failure) {
+        counters.get(VoteRejectionReason.of(failure)).increment();
+    }
+
+    @AfterReturning(pointcut = "execution(* br.com.bank.voting.application.port.in.BatchVoteUseCase.vote(..))",
+            returning = "result")
+    public void countRejectedBatchItems(BatchVoteResult result) {
+        for (BatchVoteResult.ItemResult item : result.items()) {
+            if (!item.isAccepted()) {
+                counters.get(VoteRejectionReason.of(item.rejection())).increment();
+            }
+        }
+    }
+}
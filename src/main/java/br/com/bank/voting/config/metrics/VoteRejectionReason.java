@@ -0,0 +1,77 @@
+package br.com.bank.voting.config.metrics;
+
+import br.com.bank.voting.adapters.out.external.exception.ExternalServiceUnavailableException;
+import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+
+/**
+ * Motivo de rejeição de um voto, usado como tag do contador {@code voting.votes.rejected}.
+ * A classificação segue as mesmas mensagens usadas pelo GlobalExceptionHandler.
+ */
+public enum VoteRejectionReason {
+
+    DUPLICATE("duplicate"),
+    CLOSED("closed"),
+    INELIGIBLE("ineligible"),
+    INVALID_CPF("invalid_cpf"),
+    UPSTREAM_DOWN("upstream_down"),
+    OTHER("other");
+
+    private final String tag;
+
+    VoteRejectionReason(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Classifica a exceção que rejeitou o voto.
+     *
+     * @param failure exceção lançada pelo caso de uso (ou do item rejeitado no lote)
+     * @return motivo da rejeição; OTHER se não corresponder a nenhum dos motivos conhecidos
+     */
+    public static VoteRejectionReason of(Throwable failure) {
+        if (failure instanceof InvalidCpfException) {
+            return INVALID_CPF;
+        }
+        if (failure instanceof ExternalServiceUnavailableException
+                || failure.getCause() instanceof ExternalServiceUnavailableException) {
+            return UPSTREAM_DOWN;
+        }
+        String message = failure.getMessage() != null ? failure.getMessage() : "";
+        if (failure instanceof IllegalStateException) {
+            if (message.contains("already voted")) {
+                return DUPLICATE;
+            }
+            if (message.contains("closed")) {
+                return CLOSED;
+            }
+            if (message.contains("not eligible")) {
+                return INELIGIBLE;
+            }
+        }
+        if (failure instanceof IllegalArgumentException && message.contains("CPF")) {
+            return INVALID_CPF;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Classifica o motivo de rejeição de um item do lote.
+     *
+     * @param rejection motivo devolvido pelo caso de uso de lote
+     * @return motivo da rejeição
+     */
+    public static VoteRejectionReason of(BatchVoteResult.Rejection rejection) {
+        return switch (rejection) {
+            case ALREADY_VOTED -> DUPLICATE;
+            case NOT_ELIGIBLE -> INELIGIBLE;
+            case INVALID_CPF, UNKNOWN_CPF -> INVALID_CPF;
+            case SERVICE_UNAVAILABLE -> UPSTREAM_DOWN;
+            case INVALID_REQUEST -> OTHER;
+        };
+    }
+}
@@ -8,11 +8,11 @@ import java.util.UUID;
 public class Vote {
     private UUID id;
     private UUID agendaId;
-    private String cpf;
+    private long cpf;
     private VoteChoice choice;
     private LocalDateTime createdAt;
 
-    public Vote(UUID id, UUID agendaId, String cpf, VoteChoice choice, LocalDateTime createdAt) {
+    public Vote(UUID id, UUID agendaId, long cpf, VoteChoice choice, LocalDateTime createdAt) {
         this.id = id;
         this.agendaId = agendaId;
         this.cpf = cpf;
@@ -28,7 +28,7 @@ public class Vote {
         return agendaId;
     }
 
-    public String getCpf() {
+    public long getCpf() {
         return cpf;
     }
 
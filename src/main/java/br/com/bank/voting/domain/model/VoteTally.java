@@ -0,0 +1,34 @@
+package br.com.bank.voting.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Contagem consolidada de votos de uma pauta (SIM, NÃO e total).
+ */
+public class VoteTally {
+    private UUID agendaId;
+    private long yes;
+    private long no;
+
+    public VoteTally(UUID agendaId, long yes, long no) {
+        this.agendaId = agendaId;
+        this.yes = yes;
+        this.no = no;
+    }
+
+    public UUID getAgendaId() {
+        return agendaId;
+    }
+
+    public long getYes() {
+        return yes;
+    }
+
+    public long getNo() {
+        return no;
+    }
+
+    public long getTotal() {
+        return yes + no;
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.bank.voting.domain.model.enums;
+
+/**
+ * Desfecho da consulta de elegibilidade de um associado.
+ * UNAVAILABLE indica que a elegibilidade não pôde ser determinada (serviço externo indisponível).
+ */
+public enum EligibilityStatus {
+    ABLE_TO_VOTE,
+    UNABLE_TO_VOTE,
+    INVALID_CPF,
+    UNAVAILABLE
+}
@@ -0,0 +1,69 @@
+package br.com.bank.voting.domain.rules;
+
+/**
+ * Regras de representação do CPF.
+ * Fora da API o CPF circula como número: os 11 dígitos cabem em um long e os zeros à esquerda
+ * são recompostos na formatação. Contém lógica pura de domínio, sem dependências de frameworks.
+ */
+public class CpfRules {
+
+    public static final int LENGTH = 11;
+
+    private static final long MAX_VALUE = 99_999_999_999L;
+
+    private CpfRules() {
+        // Utility class - não deve ser instanciada
+    }
+
+    /**
+     * Converte o CPF recebido na API (11 dígitos) para a forma numérica usada no domínio e no banco.
+     *
+     * @param cpf CPF com exatamente 11 dígitos
+     * @return CPF como número
+     * @throws IllegalArgumentException se o CPF não tiver exatamente 11 dígitos
+     */
+    public static long toNumber(String cpf) {
+        if (cpf == null || cpf.length() != LENGTH) {
+            throw new IllegalArgumentException("CPF must contain exactly 11 digits");
+        }
+        long number = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char digit = cpf.charAt(i);
+            if (digit < '0' || digit > '9') {
+                throw new IllegalArgumentException("CPF must contain exactly 11 digits");
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Formata o CPF numérico com os 11 dígitos, incluindo zeros à esquerda.
+     *
+     * @param cpf CPF como número
+     * @return CPF com 11 dígitos
+     * @throws IllegalArgumentException se o número não couber em 11 dígitos
+     */
+    public static String format(long cpf) {
+        if (cpf < 0 || cpf > MAX_VALUE) {
+            throw new IllegalArgumentException("CPF must contain exactly 11 digits");
+        }
+        char[] digits = new char[LENGTH];
+        long remaining = cpf;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Mascara o CPF para logs, mantendo apenas os 4 últimos dígitos.
+     *
+     * @param cpf CPF como número
+     * @return CPF mascarado (ex.: ***4725)
+     */
+    public static String mask(long cpf) {
+        return "***" + format(cpf).substring(LENGTH - 4);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.bank.voting.domain.rules;
+
+/**
+ * Validação estrutural do CPF: 11 dígitos, dígitos verificadores (módulo 11) corretos e
+ * rejeição de sequências de um único dígito repetido (ex.: 11111111111), que passam no módulo 11.
+ * Percorre a string uma única vez, sem regex e sem alocação, para que entradas inválidas sejam
+ * descartadas antes de qualquer acesso ao banco ou ao serviço externo.
+ */
+public class CpfValidator {
+
+    private static final int BASE_DIGITS = 9;
+
+    private CpfValidator() {
+        // Utility class - não deve ser instanciada
+    }
+
+    /**
+     * Verifica se o CPF é estruturalmente válido.
+     *
+     * @param cpf CPF com 11 dígitos, sem pontuação
+     * @return true se o CPF tiver 11 dígitos, não for um único dígito repetido e os dígitos verificadores conferirem
+     */
+    public static boolean isValid(String cpf) {
+        if (cpf == null || cpf.length() != CpfRules.LENGTH) {
+            return false;
+        }
+        int first = cpf.charAt(0) - '0';
+        boolean repeated = true;
+        int sum1 = 0;
+        int sum2 = 0;
+        for (int i = 0; i < BASE_DIGITS; i++) {
+            int digit = cpf.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            repeated &= digit == first;
+            sum1 += digit * (10 - i);
+            sum2 += digit * (11 - i);
+        }
+        int check1 = cpf.charAt(9) - '0';
+        int check2 = cpf.charAt(10) - '0';
+        if (check1 < 0 || check1 > 9 || check2 < 0 || check2 > 9) {
+            return false;
+        }
+        if (repeated && check1 == first && check2 == first) {
+            return false;
+        }
+        sum2 += check1 * 2;
+        return check1 == checkDigit(sum1) && check2 == checkDigit(sum2);
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum * 10 % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+}
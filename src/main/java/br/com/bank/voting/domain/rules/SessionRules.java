@@ -1,6 +1,7 @@
 package br.com.bank.voting.domain.rules;
 
 import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
 
 import java.time.LocalDateTime;
 
@@ -28,6 +29,18 @@ public class SessionRules {
         return session.isOpen(now);
     }
 
+    /**
+     * Status da sessão de uma pauta: OPEN enquanto a sessão estiver aberta; CLOSED caso contrário,
+     * inclusive para pautas sem sessão. É a mesma definição usada no resultado e no filtro da listagem.
+     *
+     * @param session sessão da pauta, ou null se a pauta não tiver sessão
+     * @param now data/hora atual para comparação
+     * @return status da sessão
+     */
+    public static SessionStatus statusOf(VotingSession session, LocalDateTime now) {
+        return isSessionOpen(session, now) ? SessionStatus.OPEN : SessionStatus.CLOSED;
+    }
+
     /**
      * Calcula o horário de fechamento de uma sessão baseado no horário de abertura e duração.
      *
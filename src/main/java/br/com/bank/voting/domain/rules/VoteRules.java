@@ -2,6 +2,7 @@ package br.com.bank.voting.domain.rules;
 
 import br.com.bank.voting.domain.model.Vote;
 import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.model.enums.VotingResult;
 
 import java.util.List;
 
@@ -22,9 +23,9 @@ public class VoteRules {
      * @param cpf CPF do associado
      * @return true se o associado já votou, false caso contrário
      */
-    public static boolean hasAlreadyVoted(List<Vote> votes, String cpf) {
+    public static boolean hasAlreadyVoted(List<Vote> votes, long cpf) {
         return votes.stream()
-                .anyMatch(vote -> vote.getCpf().equals(cpf));
+                .anyMatch(vote -> vote.getCpf() == cpf);
     }
 
     /**
@@ -39,5 +40,16 @@ public class VoteRules {
                 .filter(vote -> vote.getChoice() == choice)
                 .count();
     }
-}
 
+    /**
+     * Determina o resultado da votação a partir da contagem de votos.
+     * Em caso de empate, a pauta é considerada rejeitada.
+     *
+     * @param yes quantidade de votos SIM
+     * @param no quantidade de votos NÃO
+     * @return APPROVED se houver mais votos SIM, REJECTED caso contrário
+     */
+    public static VotingResult determineResult(long yes, long no) {
+        return yes > no ? VotingResult.APPROVED : VotingResult.REJECTED;
+    }
+}
@@ -0,0 +1,88 @@
+-- Esquema inicial no PostgreSQL (profile prod). Espelha as entidades JPA; o Hibernate roda com
+-- ddl-auto=validate e só confere que tabelas e colunas batem com este script.
+-- Mudanças de esquema entram em novos arquivos V{n}__descricao.sql, nunca editando os já aplicados.
+
+CREATE TABLE agendas (
+    id         UUID         NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_agendas PRIMARY KEY (id)
+);
+
+-- listagem paginada por cursor (mais recente primeiro); title incluído para que a página, inclusive o
+-- filtro CLOSED (anti-join pelo índice de sessões por pauta), saia de index-only scan
+CREATE INDEX idx_agendas_created_at_id ON agendas (created_at, id) INCLUDE (title);
+
+CREATE TABLE voting_sessions (
+    id        UUID         NOT NULL,
+    agenda_id UUID         NOT NULL,
+    opened_at TIMESTAMP(6) NOT NULL,
+    closes_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_voting_sessions PRIMARY KEY (id)
+);
+
+-- busca da sessão da pauta (prefixo agenda_id) e da sessão mais recente (closes_at)
+CREATE INDEX idx_voting_sessions_agenda_closes_at ON voting_sessions (agenda_id, closes_at);
+
+-- sessões abertas ou encerradas há pouco (reconciliação dos contadores) e listagem com status=OPEN,
+-- que parte das sessões abertas; agenda_id incluído para a junção com as pautas sem ler o heap
+CREATE INDEX idx_voting_sessions_closes_at ON voting_sessions (closes_at) INCLUDE (agenda_id);
+
+CREATE TABLE votes (
+    id         UUID         NOT NULL,
+    agenda_id  UUID         NOT NULL,
+    cpf        BIGINT       NOT NULL,
+    choice     VARCHAR(3)   NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_votes PRIMARY KEY (id),
+    -- voto único por CPF; o índice da constraint responde a verificação de voto duplicado
+    CONSTRAINT uk_votes_agenda_cpf UNIQUE (agenda_id, cpf)
+);
+
+-- apuração agregada por pauta (count(*) por choice): todas as colunas da consulta estão no índice, que
+-- permite index-only scan (sem ler o heap nas páginas já marcadas como visíveis pelo VACUUM)
+CREATE INDEX idx_votes_agenda_choice ON votes (agenda_id, choice);
+
+CREATE TABLE vote_tallies (
+    agenda_id UUID   NOT NULL,
+    yes_count BIGINT NOT NULL,
+    no_count  BIGINT NOT NULL,
+    CONSTRAINT pk_vote_tallies PRIMARY KEY (agenda_id)
+);
+
+CREATE TABLE voting_results (
+    agenda_id    UUID         NOT NULL,
+    yes_count    BIGINT       NOT NULL,
+    no_count     BIGINT       NOT NULL,
+    result       VARCHAR(8)   NOT NULL,
+    closed_at    TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6),
+    CONSTRAINT pk_voting_results PRIMARY KEY (agenda_id)
+);
+
+-- seleção das pautas encerradas a arquivar (closed_at < corte)
+CREATE INDEX idx_voting_results_closed_at ON voting_results (closed_at, agenda_id);
+
+CREATE TABLE result_outbox (
+    agenda_id       UUID         NOT NULL,
+    yes_count       BIGINT       NOT NULL,
+    no_count        BIGINT       NOT NULL,
+    result          VARCHAR(8)   NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    published_at    TIMESTAMP(6),
+    last_error      VARCHAR(500),
+    CONSTRAINT pk_result_outbox PRIMARY KEY (agenda_id)
+);
+
+CREATE INDEX idx_result_outbox_pending ON result_outbox (published_at, next_attempt_at);
+
+CREATE TABLE vote_archives (
+    agenda_id   UUID         NOT NULL,
+    yes_count   BIGINT       NOT NULL,
+    no_count    BIGINT       NOT NULL,
+    payload     BYTEA        NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_vote_archives PRIMARY KEY (agenda_id)
+);
@@ -0,0 +1,138 @@
+package br.com.bank.voting;
+
+import br.com.bank.voting.adapters.out.persistence.archive.VoteArchiveCodec;
+import br.com.bank.voting.adapters.out.persistence.entity.VoteArchiveEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteArchiveJpaRepository;
+import br.com.bank.voting.application.dto.command.CreateAgendaCommand;
+import br.com.bank.voting.application.dto.command.OpenSessionCommand;
+import br.com.bank.voting.application.dto.command.VoteCommand;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
+import br.com.bank.voting.application.port.in.GetResultUseCase;
+import br.com.bank.voting.application.port.in.OpenSessionUseCase;
+import br.com.bank.voting.application.port.in.VoteUseCase;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "voting.external.user-info.enabled=false",
+        "voting.tally.reconciliation.enabled=false",
+        "voting.vote.archive.enabled=false"
+})
+@ActiveProfiles("prod")
+@DisplayName("Profile prod (PostgreSQL) Tests")
+class ProdProfileApplicationTest {
+
+    // PostgreSQL embarcado, iniciado uma vez por JVM; o processo é encerrado pelo shutdown hook do zonky
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreateAgendaUseCase createAgendaUseCase;
+
+    @Autowired
+    private OpenSessionUseCase openSessionUseCase;
+
+    @Autowired
+    private VoteUseCase voteUseCase;
+
+    @Autowired
+    private GetResultUseCase getResultUseCase;
+
+    @Autowired
+    private VoteArchiveJpaRepository voteArchiveJpaRepository;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static synchronized EmbeddedPostgres postgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return postgres;
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as migrações do Flyway e validar as entidades contra o esquema")
+    void shouldApplyMigrationsAndValidateSchema() {
+        // o contexto só sobe se o Hibernate (ddl-auto=validate) encontrar todas as tabelas e colunas
+        Integer applied = jdbcTemplate.queryForObject(
+                "select count(*) from flyway_schema_history where version = '1' and success", Integer.class);
+
+        assertEquals(1, applied);
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices de votos e sessões por pauta")
+    void shouldCreateAgendaIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select indexdef from pg_indexes where tablename in ('votes', 'voting_sessions')", String.class);
+
+        assertTrue(indexes.stream().anyMatch(def -> def.contains("UNIQUE INDEX uk_votes_agenda_cpf")
+                && def.contains("(agenda_id, cpf)")));
+        assertTrue(indexes.stream().anyMatch(def -> def.contains("idx_votes_agenda_choice")
+                && def.contains("(agenda_id, choice)")));
+        assertTrue(indexes.stream().anyMatch(def -> def.contains("idx_voting_sessions_agenda_closes_at")
+                && def.contains("(agenda_id, closes_at)")));
+    }
+
+    @Test
+    @DisplayName("Deve registrar votos e apurar o resultado no PostgreSQL")
+    void shouldVoteAndCountOnPostgres() {
+        UUID agendaId = createAgendaUseCase.create(new CreateAgendaCommand("Pauta no PostgreSQL")).id();
+        openSessionUseCase.open(new OpenSessionCommand(agendaId, 10));
+
+        voteUseCase.vote(new VoteCommand(agendaId, "52998224725", VoteChoice.YES));
+        voteUseCase.vote(new VoteCommand(agendaId, "12345678909", VoteChoice.YES));
+        voteUseCase.vote(new VoteCommand(agendaId, "11144477735", VoteChoice.NO));
+
+        VotingResultResult result = getResultUseCase.getResult(agendaId);
+        assertEquals(2L, result.yes());
+        assertEquals(1L, result.no());
+        Long cpf = jdbcTemplate.queryForObject(
+                "select cpf from votes where agenda_id = ? and choice = 'NO'", Long.class, agendaId);
+        assertEquals(11144477735L, cpf);
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler o arquivo compactado de votos em coluna bytea")
+    void shouldStoreVoteArchivePayloadAsBytea() {
+        UUID agendaId = UUID.randomUUID();
+        List<Vote> votes = List.of(new Vote(UUID.randomUUID(), agendaId, 52998224725L, VoteChoice.YES,
+                LocalDateTime.of(2026, 1, 1, 10, 0)));
+        byte[] payload = VoteArchiveCodec.encode(votes);
+
+        voteArchiveJpaRepository.save(new VoteArchiveEntity(agendaId, 1, 0, payload, LocalDateTime.now()));
+
+        VoteArchiveEntity saved = voteArchiveJpaRepository.findById(agendaId).orElseThrow();
+        assertArrayEquals(payload, saved.getPayload());
+        assertEquals(52998224725L, VoteArchiveCodec.decode(agendaId, saved.getPayload()).getFirst().getCpf());
+    }
+}
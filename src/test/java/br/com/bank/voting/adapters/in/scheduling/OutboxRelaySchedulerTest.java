@@ -0,0 +1,35 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.RelayOutboxUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelayScheduler Tests")
+class OutboxRelaySchedulerTest {
+
+    @Mock
+    private RelayOutboxUseCase relayOutboxUseCase;
+
+    @Test
+    @DisplayName("Deve processar lotes seguidos enquanto vierem cheios")
+    void shouldRelayNextBatchWhileBatchesAreFull() {
+        when(relayOutboxUseCase.relayPending(10)).thenReturn(10, 10, 3);
+
+        new OutboxRelayScheduler(relayOutboxUseCase, 10).relay();
+
+        verify(relayOutboxUseCase, times(3)).relayPending(10);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de lote não positivo")
+    void shouldRejectNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new OutboxRelayScheduler(relayOutboxUseCase, 0));
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.in.CloseSessionUseCase;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionClosingEngine Tests")
+class SessionClosingEngineTest {
+
+    @Mock
+    private CloseSessionUseCase closeSessionUseCase;
+
+    private SessionClosingEngine engine;
+    private UUID agendaId;
+    private VotingResultResult result;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SessionClosingEngine(closeSessionUseCase, 0, Duration.ofHours(24), 2);
+        agendaId = UUID.randomUUID();
+        result = new VotingResultResult(agendaId, SessionStatus.CLOSED, 1L, 0L, 1L, VotingResult.APPROVED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a sessão quando o horário de fechamento for atingido")
+    void shouldCloseSessionWhenClosingTimeIsReached() {
+        when(closeSessionUseCase.close(agendaId)).thenReturn(Optional.of(result));
+
+        engine.scheduleClose(agendaId, LocalDateTime.now().minusSeconds(1));
+
+        assertEquals(1, engine.runDue());
+        verify(closeSessionUseCase).close(agendaId);
+        assertEquals(0, engine.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Não deve encerrar a sessão antes do horário de fechamento")
+    void shouldNotCloseSessionBeforeClosingTime() {
+        engine.scheduleClose(agendaId, LocalDateTime.now().plusMinutes(5));
+
+        assertEquals(0, engine.runDue());
+        verifyNoInteractions(closeSessionUseCase);
+        assertEquals(1, engine.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Deve agendar apenas após o commit da transação")
+    void shouldScheduleOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        engine.scheduleClose(agendaId, LocalDateTime.now().minusSeconds(1));
+
+        assertEquals(0, engine.getScheduledCount());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, engine.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Deve reagendar sessões pendentes sem duplicar as já agendadas")
+    void shouldSweepPendingSessionsWithoutDuplicates() {
+        LocalDateTime closesAt = LocalDateTime.now().minusSeconds(1);
+        VotingSession session = new VotingSession(UUID.randomUUID(), agendaId, closesAt.minusMinutes(1), closesAt);
+        when(closeSessionUseCase.findPendingClosings(any(LocalDateTime.class), isNull(), eq(2)))
+                .thenReturn(List.of(session));
+        when(closeSessionUseCase.close(agendaId)).thenReturn(Optional.of(result));
+
+        engine.scheduleClose(agendaId, closesAt);
+        engine.sweep();
+
+        assertEquals(1, engine.runDue());
+        verify(closeSessionUseCase, times(1)).close(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve varrer as sessões pendentes da janela em páginas")
+    void shouldSweepPendingSessionsInPages() {
+        LocalDateTime now = LocalDateTime.now();
+        VotingSession first = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now.minusHours(2), now.minusHours(1));
+        VotingSession second = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now.minusMinutes(50), now.minusMinutes(40));
+        VotingSession third = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now, now.plusMinutes(10));
+        when(closeSessionUseCase.findPendingClosings(any(LocalDateTime.class), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(closeSessionUseCase.findPendingClosings(any(LocalDateTime.class), eq(second), eq(2)))
+                .thenReturn(List.of(third));
+
+        engine.sweep();
+
+        assertEquals(3, engine.getScheduledCount());
+        ArgumentCaptor<LocalDateTime> closesAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(closeSessionUseCase, times(2)).findPendingClosings(closesAfter.capture(), any(), eq(2));
+        assertFalse(closesAfter.getValue().isAfter(LocalDateTime.now().minusHours(24)));
+    }
+
+    @Test
+    @DisplayName("Deve liberar a sessão para a próxima varredura quando o encerramento falhar")
+    void shouldReleaseSessionForNextSweepWhenClosingFails() {
+        when(closeSessionUseCase.close(agendaId))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Optional.of(result));
+        engine.scheduleClose(agendaId, LocalDateTime.now().minusSeconds(1));
+
+        assertDoesNotThrow(() -> engine.runDue());
+        assertEquals(0, engine.getScheduledCount());
+
+        engine.scheduleClose(agendaId, LocalDateTime.now().minusSeconds(1));
+        assertEquals(1, engine.runDue());
+        verify(closeSessionUseCase, times(2)).close(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente mais tarde quando a sessão ainda estiver aberta")
+    void shouldRetryLaterWhenSessionIsStillOpen() {
+        when(closeSessionUseCase.close(agendaId)).thenReturn(Optional.empty());
+        engine.scheduleClose(agendaId, LocalDateTime.now().minusSeconds(1));
+
+        assertEquals(1, engine.runDue());
+
+        assertEquals(1, engine.getScheduledCount());
+        assertEquals(0, engine.runDue());
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.ReconcileTallyUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TallyReconciliationScheduler Tests")
+class TallyReconciliationSchedulerTest {
+
+    @Mock
+    private ReconcileTallyUseCase reconcileTallyUseCase;
+
+    @InjectMocks
+    private TallyReconciliationScheduler scheduler;
+
+    @Test
+    @DisplayName("Deve delegar reconciliação ao caso de uso")
+    void shouldDelegateReconciliationToUseCase() {
+        when(reconcileTallyUseCase.reconcileAll()).thenReturn(3);
+
+        scheduler.reconcile();
+
+        verify(reconcileTallyUseCase).reconcileAll();
+    }
+}
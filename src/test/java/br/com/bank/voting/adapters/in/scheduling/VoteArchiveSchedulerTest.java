@@ -0,0 +1,35 @@
+package br.com.bank.voting.adapters.in.scheduling;
+
+import br.com.bank.voting.application.port.in.ArchiveVotesUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteArchiveScheduler Tests")
+class VoteArchiveSchedulerTest {
+
+    @Mock
+    private ArchiveVotesUseCase archiveVotesUseCase;
+
+    @Test
+    @DisplayName("Deve arquivar lotes seguidos enquanto vierem cheios")
+    void shouldArchiveNextBatchWhileBatchesAreFull() {
+        when(archiveVotesUseCase.archiveClosedAgendas(5)).thenReturn(5, 5, 2);
+
+        new VoteArchiveScheduler(archiveVotesUseCase, 5).archive();
+
+        verify(archiveVotesUseCase, times(3)).archiveClosedAgendas(5);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de lote não positivo")
+    void shouldRejectNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new VoteArchiveScheduler(archiveVotesUseCase, 0));
+    }
+}
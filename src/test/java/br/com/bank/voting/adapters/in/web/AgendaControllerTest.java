@@ -1,10 +1,15 @@
 package br.com.bank.voting.adapters.in.web;
 
+import br.com.bank.voting.adapters.in.web.stream.ResultStreamBroadcaster;
 import br.com.bank.voting.application.dto.command.CreateAgendaCommand;
+import br.com.bank.voting.application.dto.query.ListAgendasQuery;
 import br.com.bank.voting.application.dto.result.AgendaCreatedResult;
+import br.com.bank.voting.application.dto.result.AgendaPageResult;
+import br.com.bank.voting.application.dto.result.AgendaSummaryResult;
 import br.com.bank.voting.application.dto.result.VotingResultResult;
 import br.com.bank.voting.application.port.in.CreateAgendaUseCase;
 import br.com.bank.voting.application.port.in.GetResultUseCase;
+import br.com.bank.voting.application.port.in.ListAgendasUseCase;
 import br.com.bank.voting.domain.model.enums.SessionStatus;
 import br.com.bank.voting.domain.model.enums.VotingResult;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,14 +19,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +45,12 @@ class AgendaControllerTest {
     @Mock
     private GetResultUseCase getResultUseCase;
 
+    @Mock
+    private ResultStreamBroadcaster resultStreamBroadcaster;
+
+    @Mock
+    private ListAgendasUseCase listAgendasUseCase;
+
     @InjectMocks
     private AgendaController controller;
 
@@ -130,5 +146,74 @@ class AgendaControllerTest {
         assertEquals(VotingResult.REJECTED, response.getBody().result());
         verify(getResultUseCase).getResult(agendaId);
     }
-}
 
+    @Test
+    @DisplayName("Deve responder resultado final com ETag e cache imutável")
+    void shouldServeFinalResultWithETagAndImmutableCache() {
+        VotingResultResult result = new VotingResultResult(
+                agendaId,
+                SessionStatus.CLOSED,
+                4L,
+                1L,
+                5L,
+                VotingResult.APPROVED
+        );
+
+        when(getResultUseCase.findFinalResult(agendaId)).thenReturn(Optional.of(result));
+
+        ResponseEntity<VotingResultResult> response = controller.getResult(agendaId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        assertEquals("\"" + agendaId + "-4-1\"", response.getHeaders().getETag());
+        String cacheControl = response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL);
+        assertNotNull(cacheControl);
+        assertTrue(cacheControl.contains("immutable"));
+        assertTrue(cacheControl.contains("public"));
+        verify(getResultUseCase, never()).getResult(agendaId);
+    }
+
+    @Test
+    @DisplayName("Não deve permitir cache do resultado enquanto não houver resultado final")
+    void shouldNotSetCacheHeadersForLiveResult() {
+        VotingResultResult result = new VotingResultResult(
+                agendaId,
+                SessionStatus.OPEN,
+                1L,
+                0L,
+                1L,
+                VotingResult.APPROVED
+        );
+
+        when(getResultUseCase.findFinalResult(agendaId)).thenReturn(Optional.empty());
+        when(getResultUseCase.getResult(agendaId)).thenReturn(result);
+
+        ResponseEntity<VotingResultResult> response = controller.getResult(agendaId);
+
+        assertNull(response.getHeaders().getETag());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("Deve abrir stream do resultado pelo broadcaster")
+    void shouldOpenResultStreamThroughBroadcaster() {
+        SseEmitter emitter = new SseEmitter();
+        when(resultStreamBroadcaster.subscribe(agendaId)).thenReturn(emitter);
+
+        assertSame(emitter, controller.streamResult(agendaId));
+    }
+
+    @Test
+    @DisplayName("Deve listar pautas repassando filtro, cursor e limite")
+    void shouldListAgendasWithFilterCursorAndLimit() {
+        AgendaSummaryResult item = new AgendaSummaryResult(agendaId, "Pauta Teste", LocalDateTime.now(),
+                SessionStatus.OPEN, LocalDateTime.now().plusMinutes(1));
+        AgendaPageResult page = new AgendaPageResult(List.of(item), "next");
+        when(listAgendasUseCase.list(new ListAgendasQuery("cursor", SessionStatus.OPEN, 10))).thenReturn(page);
+
+        ResponseEntity<AgendaPageResult> response = controller.listAgendas(SessionStatus.OPEN, "cursor", 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+}
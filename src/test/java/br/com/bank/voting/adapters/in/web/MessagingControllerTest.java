@@ -1,6 +1,7 @@
 package br.com.bank.voting.adapters.in.web;
 
 import br.com.bank.voting.adapters.in.web.dto.PublishedResultResponse;
+import br.com.bank.voting.adapters.in.web.stream.MessageLongPoller;
 import br.com.bank.voting.adapters.out.messaging.InMemoryMessageQueue;
 import br.com.bank.voting.application.dto.result.VotingResultResult;
 import br.com.bank.voting.domain.model.enums.SessionStatus;
@@ -9,20 +10,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +36,9 @@ class MessagingControllerTest {
     @Mock
     private InMemoryMessageQueue messageQueue;
 
+    @Mock
+    private MessageLongPoller messageLongPoller;
+
     @InjectMocks
     private MessagingController controller;
 
@@ -52,51 +59,51 @@ class MessagingControllerTest {
     }
 
     @Test
-    @DisplayName("Deve listar mensagens publicadas")
-    void shouldListPublishedMessages() {
-        InMemoryMessageQueue.PublishedResult publishedResult = 
-                new InMemoryMessageQueue.PublishedResult(result, LocalDateTime.now());
-        List<InMemoryMessageQueue.PublishedResult> messages = Arrays.asList(publishedResult);
-
-        when(messageQueue.getAllMessages()).thenReturn(messages);
-
-        ResponseEntity<List<PublishedResultResponse>> response = controller.getMessages();
-
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
-        assertEquals(agendaId, response.getBody().get(0).result().agendaId());
-        assertEquals(SessionStatus.CLOSED, response.getBody().get(0).result().sessionStatus());
-        assertEquals(10L, response.getBody().get(0).result().yes());
-        assertEquals(5L, response.getBody().get(0).result().no());
-        assertEquals(VotingResult.APPROVED, response.getBody().get(0).result().result());
-        assertNotNull(response.getBody().get(0).publishedAt());
-        verify(messageQueue).getAllMessages();
+    @DisplayName("Deve listar mensagens publicadas após o cursor")
+    void shouldListPublishedMessagesAfterCursor() {
+        DeferredResult<List<PublishedResultResponse>> pending = new DeferredResult<>();
+        pending.setResult(List.of(new PublishedResultResponse(3L, result, LocalDateTime.now())));
+        when(messageLongPoller.poll(2L, 10, 0L)).thenReturn(pending);
+
+        DeferredResult<List<PublishedResultResponse>> response = controller.getMessages(2L, 10, 0L);
+
+        assertSame(pending, response);
+        @SuppressWarnings("unchecked")
+        List<PublishedResultResponse> messages = (List<PublishedResultResponse>) response.getResult();
+        assertEquals(1, messages.size());
+        assertEquals(3L, messages.get(0).sequence());
+        assertEquals(agendaId, messages.get(0).result().agendaId());
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não houver mensagens")
-    void shouldReturnEmptyListWhenNoMessages() {
-        when(messageQueue.getAllMessages()).thenReturn(List.of());
+    @DisplayName("Deve repassar o tempo de espera para o long-polling")
+    void shouldDelegateWaitToLongPoller() {
+        DeferredResult<List<PublishedResultResponse>> pending = new DeferredResult<>();
+        when(messageLongPoller.poll(0L, MessagingController.DEFAULT_LIMIT, 5000L)).thenReturn(pending);
 
-        ResponseEntity<List<PublishedResultResponse>> response = controller.getMessages();
+        assertSame(pending, controller.getMessages(0L, MessagingController.DEFAULT_LIMIT, 5000L));
+    }
 
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertTrue(response.getBody().isEmpty());
-        verify(messageQueue).getAllMessages();
+    @ParameterizedTest
+    @CsvSource({"-1, 10, 0", "0, 0, 0", "0, 1001, 0", "0, 10, -1"})
+    @DisplayName("Deve rejeitar parâmetros de leitura inválidos")
+    void shouldRejectInvalidReadParameters(long after, int limit, long waitMs) {
+        assertThrows(IllegalArgumentException.class, () -> controller.getMessages(after, limit, waitMs));
+        verifyNoInteractions(messageLongPoller);
     }
 
     @Test
     @DisplayName("Deve retornar informações da fila")
     void shouldReturnQueueInfo() {
         when(messageQueue.getMessageCount()).thenReturn(5);
+        when(messageQueue.getLastSequence()).thenReturn(12L);
 
         ResponseEntity<Map<String, Object>> response = controller.getQueueInfo();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(5, response.getBody().get("messageCount"));
+        assertEquals(12L, response.getBody().get("lastSequence"));
         assertEquals("In-Memory", response.getBody().get("queueType"));
         assertTrue(response.getBody().containsKey("description"));
         verify(messageQueue).getMessageCount();
@@ -113,29 +120,4 @@ class MessagingControllerTest {
         assertEquals(0, response.getBody().get("messageCount"));
         verify(messageQueue).getMessageCount();
     }
-
-    @Test
-    @DisplayName("Deve retornar múltiplas mensagens")
-    void shouldReturnMultipleMessages() {
-        VotingResultResult result1 = new VotingResultResult(
-                UUID.randomUUID(), SessionStatus.CLOSED, 5L, 3L, 8L, VotingResult.APPROVED
-        );
-        VotingResultResult result2 = new VotingResultResult(
-                UUID.randomUUID(), SessionStatus.CLOSED, 10L, 2L, 12L, VotingResult.APPROVED
-        );
-        
-        InMemoryMessageQueue.PublishedResult published1 = 
-                new InMemoryMessageQueue.PublishedResult(result1, LocalDateTime.now());
-        InMemoryMessageQueue.PublishedResult published2 = 
-                new InMemoryMessageQueue.PublishedResult(result2, LocalDateTime.now());
-        
-        when(messageQueue.getAllMessages()).thenReturn(Arrays.asList(published1, published2));
-
-        ResponseEntity<List<PublishedResultResponse>> response = controller.getMessages();
-
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(2, response.getBody().size());
-        verify(messageQueue).getAllMessages();
-    }
 }
-
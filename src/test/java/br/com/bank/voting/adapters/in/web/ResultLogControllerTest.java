@@ -0,0 +1,73 @@
+package br.com.bank.voting.adapters.in.web;
+
+import br.com.bank.voting.adapters.in.web.dto.PublishedResultResponse;
+import br.com.bank.voting.adapters.out.messaging.log.LogResultPublisherAdapter;
+import br.com.bank.voting.adapters.out.messaging.log.ResultLogRecord;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultLogController Tests")
+class ResultLogControllerTest {
+
+    @Mock
+    private LogResultPublisherAdapter resultLog;
+
+    @InjectMocks
+    private ResultLogController controller;
+
+    @Test
+    @DisplayName("Deve retornar registros do log com o offset como sequência")
+    void shouldReturnRecordsWithOffsetAsSequence() {
+        VotingResultResult result = new VotingResultResult(
+                UUID.randomUUID(), SessionStatus.CLOSED, 3L, 1L, 4L, VotingResult.APPROVED);
+        when(resultLog.read(10L, 50)).thenReturn(List.of(new ResultLogRecord(11L, result, LocalDateTime.now())));
+
+        ResponseEntity<List<PublishedResultResponse>> response = controller.getRecords(10L, 50);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(11L, response.getBody().get(0).sequence());
+        assertEquals(result, response.getBody().get(0).result());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 10", "0, 0", "0, 1001"})
+    @DisplayName("Deve rejeitar parâmetros de leitura inválidos")
+    void shouldRejectInvalidReadParameters(long after, int limit) {
+        assertThrows(IllegalArgumentException.class, () -> controller.getRecords(after, limit));
+        verifyNoInteractions(resultLog);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o intervalo de offsets do log")
+    void shouldReturnOffsetRange() {
+        when(resultLog.getFirstOffset()).thenReturn(5L);
+        when(resultLog.getLastOffset()).thenReturn(42L);
+
+        ResponseEntity<Map<String, Object>> response = controller.getInfo();
+
+        assertEquals(5L, response.getBody().get("firstOffset"));
+        assertEquals(42L, response.getBody().get("lastOffset"));
+    }
+}
@@ -1,6 +1,10 @@
 package br.com.bank.voting.adapters.in.web;
 
+import br.com.bank.voting.application.dto.command.BatchVoteCommand;
 import br.com.bank.voting.application.dto.command.VoteCommand;
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+import br.com.bank.voting.application.dto.result.BatchVoteResult.Rejection;
+import br.com.bank.voting.application.port.in.BatchVoteUseCase;
 import br.com.bank.voting.application.port.in.VoteUseCase;
 import br.com.bank.voting.domain.model.enums.VoteChoice;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +31,9 @@ class VoteControllerTest {
     @Mock
     private VoteUseCase voteUseCase;
 
+    @Mock
+    private BatchVoteUseCase batchVoteUseCase;
+
     @InjectMocks
     private VoteController controller;
 
@@ -98,4 +106,92 @@ class VoteControllerTest {
         assertNull(request.cpf());
         assertEquals(VoteChoice.YES, request.choice());
     }
+
+    @Test
+    @DisplayName("Deve registrar lote de votos e retornar status por item")
+    void shouldRegisterBatchAndReturnStatusPerItem() {
+        VoteController.BatchVoteRequest request = new VoteController.BatchVoteRequest(List.of(
+                new VoteController.VoteRequest(cpf, VoteChoice.YES),
+                new VoteController.VoteRequest(cpf, VoteChoice.NO),
+                new VoteController.VoteRequest("98765432100", VoteChoice.NO)
+        ));
+        BatchVoteResult result = new BatchVoteResult(agendaId, List.of(
+                BatchVoteResult.ItemResult.accepted(0),
+                BatchVoteResult.ItemResult.rejected(1, Rejection.ALREADY_VOTED, "Associate already voted for this agenda"),
+                BatchVoteResult.ItemResult.rejected(2, Rejection.NOT_ELIGIBLE, "Associate is not eligible to vote")
+        ));
+        when(batchVoteUseCase.vote(any(BatchVoteCommand.class))).thenReturn(result);
+
+        ResponseEntity<VoteController.BatchVoteResponse> response = controller.voteBatch(agendaId, request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        VoteController.BatchVoteResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.accepted());
+        assertEquals(2, body.rejected());
+        assertEquals(204, body.results().get(0).status());
+        assertEquals("VOTE_REGISTERED", body.results().get(0).code());
+        assertEquals(409, body.results().get(1).status());
+        assertEquals("BUSINESS_RULE_VIOLATION", body.results().get(1).code());
+        assertEquals("Associate already voted for this agenda", body.results().get(1).message());
+        assertEquals(403, body.results().get(2).status());
+    }
+
+    @Test
+    @DisplayName("Deve mapear CPF inválido, CPF desconhecido e serviço indisponível como no voto individual")
+    void shouldMapBatchRejectionsLikeSingleVote() {
+        VoteController.BatchVoteRequest request = new VoteController.BatchVoteRequest(List.of(
+                new VoteController.VoteRequest("123", VoteChoice.YES),
+                new VoteController.VoteRequest(cpf, VoteChoice.YES),
+                new VoteController.VoteRequest("98765432100", VoteChoice.NO)
+        ));
+        when(batchVoteUseCase.vote(any(BatchVoteCommand.class))).thenReturn(new BatchVoteResult(agendaId, List.of(
+                BatchVoteResult.ItemResult.rejected(0, Rejection.INVALID_CPF, "Invalid CPF"),
+                BatchVoteResult.ItemResult.rejected(1, Rejection.UNKNOWN_CPF, "Invalid CPF"),
+                BatchVoteResult.ItemResult.rejected(2, Rejection.SERVICE_UNAVAILABLE, "unavailable")
+        )));
+
+        VoteController.BatchVoteResponse body = controller.voteBatch(agendaId, request).getBody();
+
+        assertNotNull(body);
+        assertEquals(400, body.results().get(0).status());
+        assertEquals("INVALID_REQUEST", body.results().get(0).code());
+        assertEquals(400, body.results().get(1).status());
+        assertEquals("INVALID_CPF", body.results().get(1).code());
+        assertEquals(503, body.results().get(2).status());
+        assertEquals("EXTERNAL_SERVICE_UNAVAILABLE", body.results().get(2).code());
+    }
+
+    @Test
+    @DisplayName("Deve repassar itens do lote ao caso de uso na ordem de envio")
+    void shouldPassBatchItemsInOrder() {
+        VoteController.BatchVoteRequest request = new VoteController.BatchVoteRequest(List.of(
+                new VoteController.VoteRequest(cpf, VoteChoice.YES),
+                new VoteController.VoteRequest("98765432100", VoteChoice.NO)
+        ));
+        when(batchVoteUseCase.vote(any(BatchVoteCommand.class))).thenReturn(new BatchVoteResult(agendaId, List.of(
+                BatchVoteResult.ItemResult.accepted(0),
+                BatchVoteResult.ItemResult.accepted(1)
+        )));
+
+        controller.voteBatch(agendaId, request);
+
+        verify(batchVoteUseCase).vote(argThat(command ->
+                command.agendaId().equals(agendaId) &&
+                command.items().size() == 2 &&
+                command.items().get(0).cpf().equals(cpf) &&
+                command.items().get(1).choice() == VoteChoice.NO
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve tratar lote sem votos como lista vazia")
+    void shouldTreatNullVotesAsEmptyBatch() {
+        VoteController.BatchVoteRequest request = new VoteController.BatchVoteRequest(null);
+        when(batchVoteUseCase.vote(any(BatchVoteCommand.class)))
+                .thenThrow(new IllegalArgumentException("Batch must contain at least one vote"));
+
+        assertThrows(IllegalArgumentException.class, () -> controller.voteBatch(agendaId, request));
+        verify(batchVoteUseCase).vote(argThat(command -> command.items().isEmpty()));
+    }
 }
@@ -2,6 +2,7 @@ package br.com.bank.voting.adapters.in.web.exception;
 
 import br.com.bank.voting.adapters.out.external.exception.ExternalServiceUnavailableException;
 import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Path;
@@ -10,11 +11,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.Collections;
 import java.util.Set;
@@ -118,6 +121,19 @@ class GlobalExceptionHandlerTest {
         assertEquals("Validation failed", response.getBody().message());
     }
 
+    @Test
+    @DisplayName("Deve tratar parâmetro com valor inválido com BAD_REQUEST")
+    void shouldHandleMethodArgumentTypeMismatchException() {
+        MethodArgumentTypeMismatchException ex =
+                new MethodArgumentTypeMismatchException("PENDING", SessionStatus.class, "status", null, null);
+
+        ResponseEntity<ErrorResponse> response = handler.handleTypeMismatchException(ex);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("INVALID_REQUEST", response.getBody().code());
+        assertEquals("Invalid value for parameter: status", response.getBody().message());
+    }
+
     @Test
     @DisplayName("Deve tratar ConstraintViolationException")
     void shouldHandleConstraintViolationException() {
@@ -199,6 +215,18 @@ class GlobalExceptionHandlerTest {
         assertEquals("INTERNAL_ERROR", response.getBody().code());
         assertEquals("An unexpected error occurred", response.getBody().message());
     }
-}
 
+    @Test
+    @DisplayName("Deve tratar violação de integridade com CONFLICT e mensagem neutra")
+    void shouldHandleDataIntegrityViolationWithNeutralMessage() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("NULL not allowed for column \"TITLE\""));
+
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(ex);
 
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("DATA_CONFLICT", response.getBody().code());
+        assertFalse(response.getBody().message().contains("already voted"));
+        assertFalse(response.getBody().message().contains("TITLE"));
+    }
+}
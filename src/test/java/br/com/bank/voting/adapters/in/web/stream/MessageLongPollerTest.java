@@ -0,0 +1,95 @@
+package br.com.bank.voting.adapters.in.web.stream;
+
+import br.com.bank.voting.adapters.in.web.dto.PublishedResultResponse;
+import br.com.bank.voting.adapters.out.messaging.InMemoryMessageQueue;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MessageLongPoller Tests")
+class MessageLongPollerTest {
+
+    private InMemoryMessageQueue messageQueue;
+    private MessageLongPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        messageQueue = new InMemoryMessageQueue(10);
+        poller = new MessageLongPoller(messageQueue, 30_000);
+        poller.start();
+    }
+
+    @Test
+    @DisplayName("Deve responder de imediato quando houver mensagens após o cursor")
+    void shouldAnswerImmediatelyWhenMessagesAreAvailable() {
+        messageQueue.publish(result());
+        messageQueue.publish(result());
+        messageQueue.publish(result());
+
+        DeferredResult<List<PublishedResultResponse>> response = poller.poll(1, 10, 5_000);
+
+        assertEquals(List.of(2L, 3L), sequences(response));
+        assertEquals(0, poller.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("Deve responder lista vazia de imediato sem tempo de espera")
+    void shouldAnswerEmptyWithoutWait() {
+        DeferredResult<List<PublishedResultResponse>> response = poller.poll(0, 10, 0);
+
+        assertTrue(response.hasResult());
+        assertEquals(List.of(), response.getResult());
+        assertEquals(0, poller.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("Deve aguardar e responder na próxima publicação")
+    void shouldWaitAndAnswerOnNextPublication() {
+        messageQueue.publish(result());
+
+        DeferredResult<List<PublishedResultResponse>> response = poller.poll(1, 10, 5_000);
+
+        assertFalse(response.hasResult());
+        assertEquals(1, poller.getWaitingCount());
+
+        messageQueue.publish(result());
+
+        assertEquals(List.of(2L), sequences(response));
+        assertEquals(0, poller.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("Deve manter aguardando o consumidor cujo cursor está à frente da publicação")
+    void shouldKeepWaitingWhenCursorIsAhead() {
+        messageQueue.publish(result());
+        messageQueue.publish(result());
+        messageQueue.clear();
+
+        DeferredResult<List<PublishedResultResponse>> response = poller.poll(5, 10, 5_000);
+        messageQueue.publish(result());
+
+        assertFalse(response.hasResult());
+        assertEquals(1, poller.getWaitingCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> sequences(DeferredResult<List<PublishedResultResponse>> response) {
+        assertTrue(response.hasResult());
+        return ((List<PublishedResultResponse>) response.getResult()).stream()
+                .map(PublishedResultResponse::sequence)
+                .toList();
+    }
+
+    private VotingResultResult result() {
+        return new VotingResultResult(UUID.randomUUID(), SessionStatus.CLOSED, 1L, 0L, 1L, VotingResult.APPROVED);
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.bank.voting.adapters.in.web.stream;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.in.GetResultUseCase;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultStreamBroadcaster Tests")
+class ResultStreamBroadcasterTest {
+
+    // intervalo longo: os ticks são disparados manualmente nos testes
+    private static final long TICK_MILLIS = 3_600_000;
+
+    @Mock
+    private GetResultUseCase getResultUseCase;
+
+    private ResultStreamBroadcaster broadcaster;
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ResultStreamBroadcaster(getResultUseCase, TICK_MILLIS, 60_000);
+        agendaId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("Deve ler o placar uma única vez para vários espectadores da mesma pauta")
+    void shouldReadTallyOnceForManyViewers() {
+        VotingResultResult tally = tally(2, 1);
+        when(getResultUseCase.getResult(agendaId)).thenReturn(tally);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+
+        broadcaster.subscribe(agendaId, first);
+        broadcaster.subscribe(agendaId, second);
+
+        assertEquals(List.of(ResultStreamBroadcaster.TALLY_EVENT), first.names);
+        assertEquals(List.of(tally), second.results);
+        verify(getResultUseCase, times(1)).getResult(agendaId);
+        assertEquals(1, broadcaster.getChannelCount());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o placar a cada tick somente quando ele mudar")
+    void shouldPublishOnlyWhenTallyChanges() {
+        when(getResultUseCase.getResult(agendaId)).thenReturn(tally(1, 0), tally(1, 0), tally(2, 0));
+        RecordingEmitter viewer = new RecordingEmitter();
+        broadcaster.subscribe(agendaId, viewer);
+
+        broadcaster.tick(agendaId);
+        broadcaster.tick(agendaId);
+
+        assertEquals(List.of(tally(1, 0), tally(2, 0)), viewer.results);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento final e encerrar os streams quando a sessão fechar")
+    void shouldSendFinalEventAndCompleteWhenSessionCloses() {
+        VotingResultResult finalResult = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 3L, 1L, 4L, VotingResult.APPROVED);
+        when(getResultUseCase.getResult(agendaId)).thenReturn(tally(3, 1));
+        when(getResultUseCase.findFinalResult(agendaId)).thenReturn(Optional.empty(), Optional.of(finalResult));
+        RecordingEmitter viewer = new RecordingEmitter();
+        broadcaster.subscribe(agendaId, viewer);
+
+        broadcaster.tick(agendaId);
+
+        assertEquals(List.of(ResultStreamBroadcaster.TALLY_EVENT, ResultStreamBroadcaster.FINAL_EVENT), viewer.names);
+        assertEquals(finalResult, viewer.results.get(1));
+        assertTrue(viewer.completed);
+        assertEquals(0, broadcaster.getChannelCount());
+    }
+
+    @Test
+    @DisplayName("Deve responder apenas o evento final quando a sessão já estiver encerrada")
+    void shouldSendOnlyFinalEventWhenAlreadyClosed() {
+        VotingResultResult finalResult = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 0L, 1L, 1L, VotingResult.REJECTED);
+        when(getResultUseCase.findFinalResult(agendaId)).thenReturn(Optional.of(finalResult));
+        RecordingEmitter viewer = new RecordingEmitter();
+
+        broadcaster.subscribe(agendaId, viewer);
+
+        assertEquals(List.of(ResultStreamBroadcaster.FINAL_EVENT), viewer.names);
+        assertTrue(viewer.completed);
+        assertEquals(0, broadcaster.getChannelCount());
+        verify(getResultUseCase, never()).getResult(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção antes de abrir o stream quando a pauta não existir")
+    void shouldThrowBeforeStreamingWhenAgendaNotFound() {
+        when(getResultUseCase.getResult(agendaId)).thenThrow(new IllegalArgumentException("Agenda not found: " + agendaId));
+        RecordingEmitter viewer = new RecordingEmitter();
+
+        assertThrows(IllegalArgumentException.class, () -> broadcaster.subscribe(agendaId, viewer));
+
+        assertTrue(viewer.names.isEmpty());
+        assertEquals(0, broadcaster.getChannelCount());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o canal quando o último espectador sair")
+    void shouldDiscardChannelWhenLastViewerLeaves() {
+        when(getResultUseCase.getResult(agendaId)).thenReturn(tally(1, 1));
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        broadcaster.subscribe(agendaId, first);
+        broadcaster.subscribe(agendaId, second);
+
+        first.completionCallback.run();
+        assertEquals(1, broadcaster.getChannelCount());
+
+        second.completionCallback.run();
+        assertEquals(0, broadcaster.getChannelCount());
+    }
+
+    private VotingResultResult tally(long yes, long no) {
+        return new VotingResultResult(agendaId, SessionStatus.OPEN, yes, no, yes + no,
+                VotingResult.APPROVED);
+    }
+
+    /**
+     * Emitter que registra os eventos enviados, sem resposta HTTP associada.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Object> results = new ArrayList<>();
+        private Runnable completionCallback;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Iterator<ResponseBodyEmitter.DataWithMediaType> parts = builder.build().iterator();
+            String header = parts.next().getData().toString();
+            names.add(header.substring("event:".length(), header.indexOf('\n')));
+            results.add(parts.next().getData());
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.bank.voting.adapters.out.external;
+
+import br.com.bank.voting.adapters.out.external.exception.ExternalServiceUnavailableException;
+import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingVoterEligibilityAdapter Tests")
+class CachingVoterEligibilityAdapterTest {
+
+    private static final long CPF = 12345678901L;
+
+    @Mock
+    private VoterEligibilityPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakeTicker ticker;
+    private CachingVoterEligibilityAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ticker = new FakeTicker();
+        adapter = new CachingVoterEligibilityAdapter(
+                delegate,
+                meterRegistry,
+                100,
+                Duration.ofMinutes(10),
+                Duration.ofMinutes(1),
+                Duration.ofHours(1),
+                ticker
+        );
+    }
+
+    @Test
+    @DisplayName("Deve consultar o serviço remoto apenas uma vez para o mesmo CPF")
+    void shouldCallDelegateOnceForSameCpf() {
+        when(delegate.isEligibleToVote(CPF)).thenReturn(true);
+
+        assertTrue(adapter.isEligibleToVote(CPF));
+        assertTrue(adapter.isEligibleToVote(CPF));
+
+        verify(delegate, times(1)).isEligibleToVote(CPF);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar resposta UNABLE_TO_VOTE com TTL próprio")
+    void shouldExpireUnableOutcomeAfterItsTtl() {
+        when(delegate.isEligibleToVote(CPF)).thenReturn(false);
+
+        assertFalse(adapter.isEligibleToVote(CPF));
+        ticker.advance(Duration.ofSeconds(30));
+        assertFalse(adapter.isEligibleToVote(CPF));
+        verify(delegate, times(1)).isEligibleToVote(CPF);
+
+        ticker.advance(Duration.ofSeconds(31));
+        assertFalse(adapter.isEligibleToVote(CPF));
+        verify(delegate, times(2)).isEligibleToVote(CPF);
+    }
+
+    @Test
+    @DisplayName("Deve manter resposta ABLE_TO_VOTE além do TTL de UNABLE_TO_VOTE")
+    void shouldKeepAbleOutcomeLongerThanUnable() {
+        when(delegate.isEligibleToVote(CPF)).thenReturn(true);
+
+        adapter.isEligibleToVote(CPF);
+        ticker.advance(Duration.ofMinutes(5));
+        adapter.isEligibleToVote(CPF);
+        verify(delegate, times(1)).isEligibleToVote(CPF);
+
+        ticker.advance(Duration.ofMinutes(6));
+        adapter.isEligibleToVote(CPF);
+        verify(delegate, times(2)).isEligibleToVote(CPF);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar CPF inválido em cache e relançar InvalidCpfException")
+    void shouldNegativelyCacheInvalidCpf() {
+        when(delegate.isEligibleToVote(CPF)).thenThrow(new InvalidCpfException("12345678901"));
+
+        assertThrows(InvalidCpfException.class, () -> adapter.isEligibleToVote(CPF));
+        assertThrows(InvalidCpfException.class, () -> adapter.isEligibleToVote(CPF));
+
+        verify(delegate, times(1)).isEligibleToVote(CPF);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar em cache falhas de indisponibilidade do serviço")
+    void shouldNotCacheServiceUnavailable() {
+        when(delegate.isEligibleToVote(CPF))
+                .thenThrow(new ExternalServiceUnavailableException("timeout", null))
+                .thenReturn(true);
+
+        assertThrows(ExternalServiceUnavailableException.class, () -> adapter.isEligibleToVote(CPF));
+        assertTrue(adapter.isEligibleToVote(CPF));
+
+        verify(delegate, times(2)).isEligibleToVote(CPF);
+    }
+
+    @Test
+    @DisplayName("Deve registrar métricas de hit e miss do cache")
+    void shouldRecordHitAndMissMetrics() {
+        when(delegate.isEligibleToVote(CPF)).thenReturn(true);
+
+        adapter.isEligibleToVote(CPF);
+        adapter.isEligibleToVote(CPF);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", CachingVoterEligibilityAdapter.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", CachingVoterEligibilityAdapter.CACHE_NAME)
+                .tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve consultar em lote apenas os CPFs fora do cache")
+    void shouldBatchOnlyCacheMisses() {
+        long other = 52998224725L;
+        when(delegate.isEligibleToVote(CPF)).thenReturn(true);
+        when(delegate.checkEligibility(List.of(other))).thenReturn(Map.of(other, EligibilityStatus.UNABLE_TO_VOTE));
+        adapter.isEligibleToVote(CPF);
+
+        Map<Long, EligibilityStatus> statuses = adapter.checkEligibility(List.of(CPF, other));
+
+        assertEquals(EligibilityStatus.ABLE_TO_VOTE, statuses.get(CPF));
+        assertEquals(EligibilityStatus.UNABLE_TO_VOTE, statuses.get(other));
+        assertFalse(adapter.isEligibleToVote(other));
+        verify(delegate, never()).isEligibleToVote(other);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar em cache status UNAVAILABLE da consulta em lote")
+    void shouldNotCacheUnavailableFromBatch() {
+        when(delegate.checkEligibility(List.of(CPF))).thenReturn(Map.of(CPF, EligibilityStatus.UNAVAILABLE));
+        when(delegate.isEligibleToVote(CPF)).thenReturn(true);
+
+        assertEquals(EligibilityStatus.UNAVAILABLE, adapter.checkEligibility(List.of(CPF)).get(CPF));
+        assertTrue(adapter.isEligibleToVote(CPF));
+
+        verify(delegate).isEligibleToVote(CPF);
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
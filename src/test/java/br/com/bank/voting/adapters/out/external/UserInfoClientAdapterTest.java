@@ -2,6 +2,7 @@ package br.com.bank.voting.adapters.out.external;
 
 import br.com.bank.voting.adapters.out.external.exception.ExternalServiceUnavailableException;
 import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,22 +11,26 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("UserInfoClientAdapter Tests")
 class UserInfoClientAdapterTest {
 
+    private static final String UNREACHABLE_URL = "http://localhost:1";
+
     private UserInfoClientAdapter adapter;
     private String baseUrl;
-    private String cpf;
+    private long cpf;
 
     @BeforeEach
     void setUp() {
         baseUrl = "https://user-info.herokuapp.com";
-        cpf = "12345678901";
+        cpf = 12345678901L;
         
-        adapter = new UserInfoClientAdapter(baseUrl);
+        adapter = new UserInfoClientAdapter(baseUrl, 2, 5, 50, 100, 5, 30, false);
     }
 
     @Test
@@ -38,7 +43,7 @@ class UserInfoClientAdapterTest {
     @DisplayName("Deve lançar InvalidCpfException quando CPF é inválido")
     void shouldThrowInvalidCpfExceptionWhenCpfIsInvalid() {
         InvalidCpfException exception = assertThrows(InvalidCpfException.class, () -> {
-            throw new InvalidCpfException(cpf);
+            throw new InvalidCpfException("12345678901");
         });
         
         assertTrue(exception.getMessage().contains("Invalid CPF"));
@@ -48,7 +53,7 @@ class UserInfoClientAdapterTest {
     @Test
     @DisplayName("Deve mascarar CPF na mensagem de erro")
     void shouldMaskCpfInErrorMessage() {
-        InvalidCpfException exception = new InvalidCpfException(cpf);
+        InvalidCpfException exception = new InvalidCpfException("12345678901");
         
         String message = exception.getMessage();
         assertTrue(message.contains("***"));
@@ -100,6 +105,42 @@ class UserInfoClientAdapterTest {
         assertNull(exception.getCause());
     }
 
+    @Test
+    @DisplayName("Deve lançar ExternalServiceUnavailableException quando a conexão é recusada")
+    void shouldThrowExternalServiceUnavailableExceptionWhenConnectionIsRefused() {
+        UserInfoClientAdapter unreachableAdapter = new UserInfoClientAdapter(UNREACHABLE_URL, 1, 1, 5, 100, 5, 30, false);
+
+        assertThrows(ExternalServiceUnavailableException.class, () -> unreachableAdapter.isEligibleToVote(cpf));
+    }
+
+    @Test
+    @DisplayName("Deve falhar rápido com circuito aberto após falhas consecutivas")
+    void shouldFailFastWhenCircuitBreakerIsOpen() {
+        UserInfoClientAdapter unreachableAdapter = new UserInfoClientAdapter(UNREACHABLE_URL, 1, 1, 5, 100, 2, 30, true);
+
+        assertThrows(ExternalServiceUnavailableException.class, () -> unreachableAdapter.isEligibleToVote(cpf));
+        assertThrows(ExternalServiceUnavailableException.class, () -> unreachableAdapter.isEligibleToVote(cpf));
+
+        ExternalServiceUnavailableException exception = assertThrows(
+                ExternalServiceUnavailableException.class,
+                () -> unreachableAdapter.isEligibleToVote(cpf)
+        );
+        assertTrue(exception.getMessage().contains("Circuit breaker is open"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver UNAVAILABLE por CPF na consulta em lote, sem lançar exceção")
+    void shouldReturnUnavailablePerCpfInBatch() {
+        // um único slot no bulkhead, sem espera: o lote só passa se respeitar o limite de concorrência
+        UserInfoClientAdapter unreachableAdapter = new UserInfoClientAdapter(UNREACHABLE_URL, 1, 1, 1, 0, 100, 30, true);
+
+        Map<Long, EligibilityStatus> statuses = unreachableAdapter.checkEligibility(
+                List.of(cpf, 52998224725L, 11144477735L));
+
+        assertEquals(3, statuses.size());
+        assertTrue(statuses.values().stream().allMatch(status -> status == EligibilityStatus.UNAVAILABLE));
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @ValueSource(strings = {"1", "12", "123"})
@@ -0,0 +1,42 @@
+package br.com.bank.voting.adapters.out.external.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("Deve rejeitar chamadas acima do limite de concorrência")
+    void shouldRejectCallsAboveLimit() {
+        Bulkhead bulkhead = new Bulkhead(2, Duration.ofMillis(10));
+
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(0, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve liberar permissão após release")
+    void shouldReleasePermit() {
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ZERO);
+
+        assertTrue(bulkhead.tryAcquire());
+        bulkhead.release();
+
+        assertTrue(bulkhead.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite de concorrência menor que 1")
+    void shouldRejectInvalidLimit() {
+        Duration maxWait = Duration.ZERO;
+
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(0, maxWait));
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.bank.voting.adapters.out.external.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private AtomicLong clock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        circuitBreaker = new CircuitBreaker("test", 3, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve permitir chamadas com circuito fechado")
+    void shouldAllowCallsWhenClosed() {
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuito após atingir o limite de falhas consecutivas")
+    void shouldOpenAfterConsecutiveFailures() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve zerar falhas consecutivas após sucesso")
+    void shouldResetFailuresOnSuccess() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("Deve liberar uma única chamada de teste após o tempo de espera")
+    void shouldAllowSingleTrialCallAfterOpenDuration() {
+        openCircuit();
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve fechar o circuito quando a chamada de teste tiver sucesso")
+    void shouldCloseWhenTrialCallSucceeds() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve reabrir o circuito quando a chamada de teste falhar")
+    void shouldReopenWhenTrialCallFails() {
+        openCircuit();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite de falhas menor que 1")
+    void shouldRejectInvalidThreshold() {
+        Duration openDuration = Duration.ofSeconds(1);
+
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("test", 0, openDuration));
+    }
+
+    private void openCircuit() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+    }
+}
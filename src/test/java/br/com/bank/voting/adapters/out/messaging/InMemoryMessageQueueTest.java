@@ -8,8 +8,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,7 +24,7 @@ class InMemoryMessageQueueTest {
 
     @BeforeEach
     void setUp() {
-        messageQueue = new InMemoryMessageQueue();
+        messageQueue = new InMemoryMessageQueue(1000);
     }
 
     @Test
@@ -151,6 +155,80 @@ class InMemoryMessageQueueTest {
         assertEquals(newResult.agendaId(), messages.get(messages.size() - 1).result().agendaId());
     }
 
+    @Test
+    @DisplayName("Deve atribuir sequências crescentes e ler a partir de um cursor")
+    void shouldReadFromCursor() {
+        for (int i = 0; i < 5; i++) {
+            messageQueue.publish(createTestResult());
+        }
+
+        List<InMemoryMessageQueue.PublishedResult> page = messageQueue.readAfter(2, 2);
+
+        assertEquals(List.of(3L, 4L), page.stream().map(InMemoryMessageQueue.PublishedResult::sequence).toList());
+        assertEquals(5L, messageQueue.getLastSequence());
+        assertTrue(messageQueue.readAfter(5, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve pular mensagens sobrescritas ao ler de um cursor antigo")
+    void shouldSkipOverwrittenMessagesWhenReadingFromOldCursor() {
+        InMemoryMessageQueue small = new InMemoryMessageQueue(3);
+        for (int i = 0; i < 5; i++) {
+            small.publish(createTestResult());
+        }
+
+        List<InMemoryMessageQueue.PublishedResult> messages = small.readAfter(0, 10);
+
+        assertEquals(List.of(3L, 4L, 5L), messages.stream().map(InMemoryMessageQueue.PublishedResult::sequence).toList());
+        assertEquals(3, small.getMessageCount());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a numeração após limpar a fila")
+    void shouldKeepSequenceAfterClear() {
+        messageQueue.publish(createTestResult());
+        messageQueue.clear();
+
+        long sequence = messageQueue.publish(createTestResult());
+
+        assertEquals(2L, sequence);
+        assertEquals(1, messageQueue.getMessageCount());
+        assertEquals(2L, messageQueue.readAfter(0, 10).getFirst().sequence());
+    }
+
+    @Test
+    @DisplayName("Não deve perder mensagens com publicadores concorrentes")
+    void shouldNotLoseMessagesWithConcurrentPublishers() throws Exception {
+        int threads = 8;
+        int perThread = 100;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> publishers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                publishers.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        messageQueue.publish(createTestResult());
+                    }
+                }));
+            }
+            for (Future<?> publisher : publishers) {
+                publisher.get();
+            }
+        }
+
+        List<InMemoryMessageQueue.PublishedResult> messages = messageQueue.getAllMessages();
+        assertEquals(threads * perThread, messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(i + 1L, messages.get(i).sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar capacidade não positiva")
+    void shouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryMessageQueue(0));
+    }
+
     private VotingResultResult createTestResult() {
         return createTestResult(UUID.randomUUID());
     }
@@ -60,13 +60,22 @@ class ResultPublisherAdapterTest {
     }
 
     @Test
-    @DisplayName("Deve tratar exceção sem quebrar o fluxo")
-    void shouldHandleExceptionWithoutBreakingFlow() {
-        doThrow(new RuntimeException("Queue error")).when(messageQueue).publish(any());
-        
-        // Não deve lançar exceção
-        assertDoesNotThrow(() -> adapter.publishResult(testResult));
-        
+    @DisplayName("Deve propagar exceção da fila para que o relay tente novamente")
+    void shouldPropagateQueueExceptionSoRelayRetries() {
+        doThrow(new RuntimeException("Queue error")).doReturn(1L).when(messageQueue).publish(any());
+
+        assertThrows(RuntimeException.class, () -> adapter.publishResult(testResult));
+        adapter.publishResult(testResult);
+
+        verify(messageQueue, times(2)).publish(testResult);
+    }
+
+    @Test
+    @DisplayName("Deve descartar reenvio de resultado já publicado para a mesma pauta")
+    void shouldIgnoreRedeliveryOfResultAlreadyPublished() {
+        adapter.publishResult(testResult);
+        adapter.publishResult(testResult);
+
         verify(messageQueue, times(1)).publish(testResult);
     }
 
@@ -0,0 +1,86 @@
+package br.com.bank.voting.adapters.out.messaging.log;
+
+import br.com.bank.voting.adapters.out.messaging.ResultPublisherAdapter;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogResultPublisherAdapter Tests")
+class LogResultPublisherAdapterTest {
+
+    @Mock
+    private ResultPublisherAdapter delegate;
+
+    @Mock
+    private ResultLog resultLog;
+
+    private LogResultPublisherAdapter adapter;
+    private VotingResultResult result;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LogResultPublisherAdapter(delegate, resultLog);
+        result = new VotingResultResult(UUID.randomUUID(), SessionStatus.CLOSED, 3L, 1L, 4L, VotingResult.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Deve gravar no log antes de publicar na fila in-memory")
+    void shouldAppendToLogBeforePublishingToQueue() {
+        when(resultLog.append(eq(result), any(LocalDateTime.class))).thenReturn(1L);
+
+        adapter.publishResult(result);
+
+        InOrder inOrder = inOrder(resultLog, delegate);
+        inOrder.verify(resultLog).append(eq(result), any(LocalDateTime.class));
+        inOrder.verify(delegate).publishResult(result);
+    }
+
+    @Test
+    @DisplayName("Deve propagar falha de gravação no log sem publicar na fila")
+    void shouldPropagateLogFailureWithoutPublishing() {
+        when(resultLog.append(eq(result), any(LocalDateTime.class)))
+                .thenThrow(new UncheckedIOException(new IOException("disk full")));
+
+        assertThrows(UncheckedIOException.class, () -> adapter.publishResult(result));
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Deve ler registros do log por offset")
+    void shouldReadRecordsByOffset() {
+        List<ResultLogRecord> records = List.of(new ResultLogRecord(5L, result, LocalDateTime.now()));
+        when(resultLog.read(4L, 10)).thenReturn(records);
+
+        assertEquals(records, adapter.read(4L, 10));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a retenção do log")
+    void shouldEnforceRetention() {
+        when(resultLog.enforceRetention(any(LocalDateTime.class))).thenReturn(2);
+
+        adapter.enforceRetention();
+
+        verify(resultLog).enforceRetention(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.bank.voting.adapters.out.messaging.log;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResultLog Tests")
+class ResultLogTest {
+
+    // quatro registros por segmento
+    private static final int SEGMENT_SIZE = ResultLog.RECORD_SIZE * 4;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private ResultLog resultLog;
+
+    @BeforeEach
+    void setUp() {
+        resultLog = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resultLog.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler resultados por offset entre segmentos")
+    void shouldAppendAndReadByOffsetAcrossSegments() {
+        VotingResultResult first = result(7L, 3L, VotingResult.APPROVED);
+        assertEquals(1L, resultLog.append(first, START));
+        appendMany(9);
+
+        List<ResultLogRecord> page = resultLog.read(2, 5);
+
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), offsets(page));
+        assertEquals(3, resultLog.getSegmentCount());
+        assertEquals(10L, resultLog.getLastOffset());
+        ResultLogRecord record = resultLog.read(0, 1).getFirst();
+        assertEquals(first, record.result());
+        assertEquals(START, record.publishedAt());
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando não houver registros após o offset")
+    void shouldReturnEmptyWhenNothingAfterOffset() {
+        appendMany(2);
+
+        assertTrue(resultLog.read(2, 10).isEmpty());
+        assertTrue(open(Path.of(directory.toString(), "empty")).read(0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter os registros após reiniciar e continuar a numeração")
+    void shouldKeepRecordsAfterRestart() {
+        appendMany(6);
+        resultLog.close();
+
+        resultLog = open();
+        long offset = resultLog.append(result(1L, 0L, VotingResult.APPROVED), START);
+
+        assertEquals(7L, offset);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), offsets(resultLog.read(0, 100)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o offset original ao regravar resultado da mesma pauta, inclusive após reiniciar")
+    void shouldNotAppendSameAgendaTwice() {
+        VotingResultResult redelivered = result(2L, 1L, VotingResult.APPROVED);
+        appendMany(2);
+        assertEquals(3L, resultLog.append(redelivered, START));
+
+        assertEquals(3L, resultLog.append(redelivered, START.plusMinutes(1)));
+        resultLog.close();
+        resultLog = open();
+
+        assertEquals(3L, resultLog.append(redelivered, START.plusMinutes(2)));
+        assertEquals(3L, resultLog.getLastOffset());
+    }
+
+    @Test
+    @DisplayName("Deve descartar registro corrompido no fim do segmento ao reabrir")
+    void shouldDiscardTornRecordOnReopen() throws IOException {
+        appendMany(6);
+        resultLog.close();
+        Path lastSegment = directory.resolve(String.format("segment-%020d.log", 5));
+        byte[] bytes = Files.readAllBytes(lastSegment);
+        bytes[ResultLog.RECORD_SIZE + 30] ^= 1;
+        Files.write(lastSegment, bytes);
+
+        resultLog = open();
+
+        assertEquals(5L, resultLog.getLastOffset());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), offsets(resultLog.read(0, 100)));
+        assertEquals(6L, resultLog.append(result(1L, 0L, VotingResult.APPROVED), START));
+    }
+
+    @Test
+    @DisplayName("Deve apagar os segmentos mais antigos quando o log passar do tamanho máximo")
+    void shouldDeleteOldestSegmentsOverSizeLimit() {
+        appendMany(13);
+
+        int deleted = resultLog.enforceRetention(START);
+
+        // limite de três segmentos: o primeiro (offsets 1 a 4) é apagado
+        assertEquals(1, deleted);
+        assertEquals(5L, resultLog.getFirstOffset());
+        assertEquals(List.of(5L, 6L), offsets(resultLog.read(0, 2)));
+    }
+
+    @Test
+    @DisplayName("Deve apagar segmentos fechados cujo último registro passou da idade máxima")
+    void shouldDeleteExpiredSegments() {
+        appendMany(6);
+
+        assertEquals(0, resultLog.enforceRetention(START.plusMinutes(30)));
+        assertEquals(1, resultLog.enforceRetention(START.plusHours(2)));
+
+        // o segmento ativo nunca é apagado
+        assertEquals(1, resultLog.getSegmentCount());
+        assertEquals(List.of(5L, 6L), offsets(resultLog.read(0, 100)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar segmento menor que um registro")
+    void shouldRejectSegmentSmallerThanRecord() {
+        Path other = directory.resolve("other");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResultLog(other, ResultLog.RECORD_SIZE - 1, SEGMENT_SIZE, Duration.ofHours(1)));
+    }
+
+    private ResultLog open() {
+        return open(directory);
+    }
+
+    private ResultLog open(Path path) {
+        return new ResultLog(path, SEGMENT_SIZE, SEGMENT_SIZE * 3L, Duration.ofHours(1));
+    }
+
+    private void appendMany(int count) {
+        for (int i = 0; i < count; i++) {
+            resultLog.append(result(i, 1L, VotingResult.APPROVED), START.plusMinutes(i));
+        }
+    }
+
+    private static List<Long> offsets(List<ResultLogRecord> records) {
+        return records.stream().map(ResultLogRecord::offset).toList();
+    }
+
+    private static VotingResultResult result(long yes, long no, VotingResult result) {
+        return new VotingResultResult(UUID.randomUUID(), SessionStatus.CLOSED, yes, no, yes + no, result);
+    }
+}
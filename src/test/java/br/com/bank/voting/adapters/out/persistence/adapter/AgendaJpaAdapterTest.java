@@ -2,7 +2,9 @@ package br.com.bank.voting.adapters.out.persistence.adapter;
 
 import br.com.bank.voting.adapters.out.persistence.entity.AgendaEntity;
 import br.com.bank.voting.adapters.out.persistence.repository.AgendaJpaRepository;
+import br.com.bank.voting.application.dto.query.AgendaCursor;
 import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,8 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -141,6 +146,46 @@ class AgendaJpaAdapterTest {
             entityToSave.getId().equals(agendaId)
         ));
     }
-}
 
+    @Test
+    @DisplayName("Deve buscar página de pautas e converter para domain")
+    @SuppressWarnings("unchecked")
+    void shouldFindPageAndConvertToDomain() {
+        LocalDateTime now = LocalDateTime.now();
+        AgendaCursor cursor = new AgendaCursor(now, UUID.randomUUID());
+        when(repository.findBy(any(Specification.class), any())).thenReturn(List.of(entity));
+
+        List<Agenda> page = adapter.findPage(cursor, SessionStatus.CLOSED, now, 21);
+
+        assertEquals(1, page.size());
+        assertEquals(agendaId, page.getFirst().getId());
+        assertEquals("Pauta Teste", page.getFirst().getTitle());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pautas abertas a partir das sessões abertas")
+    void shouldFindOpenPageFromOpenSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findWithOpenSession(now, PageRequest.of(0, 21))).thenReturn(List.of(entity));
+
+        List<Agenda> page = adapter.findPage(null, SessionStatus.OPEN, now, 21);
+
+        assertEquals(1, page.size());
+        assertEquals(agendaId, page.getFirst().getId());
+        verify(repository, never()).findBy(any(Specification.class), any());
+    }
 
+    @Test
+    @DisplayName("Deve aplicar o cursor na busca de pautas abertas")
+    void shouldApplyCursorToOpenPage() {
+        LocalDateTime now = LocalDateTime.now();
+        AgendaCursor cursor = new AgendaCursor(now.minusMinutes(1), UUID.randomUUID());
+        when(repository.findWithOpenSessionAfter(now, cursor.createdAt(), cursor.id(), PageRequest.of(0, 21)))
+                .thenReturn(List.of(entity));
+
+        List<Agenda> page = adapter.findPage(cursor, SessionStatus.OPEN, now, 21);
+
+        assertEquals(1, page.size());
+        verify(repository, never()).findWithOpenSession(any(), any());
+    }
+}
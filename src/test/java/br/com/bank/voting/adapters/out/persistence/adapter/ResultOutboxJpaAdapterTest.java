@@ -0,0 +1,105 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.ResultOutboxEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.ResultOutboxJpaRepository;
+import br.com.bank.voting.application.dto.result.OutboxMessage;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultOutboxJpaAdapter Tests")
+class ResultOutboxJpaAdapterTest {
+
+    @Mock
+    private ResultOutboxJpaRepository repository;
+
+    @InjectMocks
+    private ResultOutboxJpaAdapter adapter;
+
+    private UUID agendaId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        agendaId = UUID.randomUUID();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("Deve gravar mensagem pendente disponível para envio imediato")
+    void shouldEnqueuePendingMessageDueImmediately() {
+        VotingResultResult result = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 4L, 1L, 5L, VotingResult.APPROVED);
+
+        adapter.enqueue(result, now);
+
+        verify(repository).save(argThat(entity ->
+                entity.getAgendaId().equals(agendaId)
+                        && entity.getYesCount() == 4
+                        && entity.getNoCount() == 1
+                        && entity.getResult().equals("APPROVED")
+                        && entity.getCreatedAt().equals(now)
+                        && entity.getNextAttemptAt().equals(now)
+                        && entity.getAttempts() == 0
+                        && entity.getPublishedAt() == null));
+    }
+
+    @Test
+    @DisplayName("Deve converter mensagens pendentes em resultados de sessão fechada")
+    void shouldMapDueMessagesToClosedResults() {
+        ResultOutboxEntity entity = new ResultOutboxEntity(agendaId, 1L, 2L, "REJECTED", now);
+        entity.setAttempts(2);
+        when(repository.findDueForUpdate(now, PageRequest.of(0, 50))).thenReturn(List.of(entity));
+
+        List<OutboxMessage> due = adapter.claimDue(now, now.plusMinutes(1), 50);
+
+        assertEquals(List.of(new OutboxMessage(
+                new VotingResultResult(agendaId, SessionStatus.CLOSED, 1L, 2L, 3L, VotingResult.REJECTED), 2)), due);
+    }
+
+    @Test
+    @DisplayName("Deve adiar a próxima tentativa das mensagens reivindicadas")
+    void shouldPostponeClaimedMessages() {
+        ResultOutboxEntity entity = new ResultOutboxEntity(agendaId, 1L, 2L, "REJECTED", now);
+        LocalDateTime claimedUntil = now.plusMinutes(1);
+        when(repository.findDueForUpdate(now, PageRequest.of(0, 50))).thenReturn(List.of(entity));
+
+        adapter.claimDue(now, claimedUntil, 50);
+
+        assertEquals(claimedUntil, entity.getNextAttemptAt());
+    }
+
+    @Test
+    @DisplayName("Deve truncar a mensagem de erro ao registrar falha")
+    void shouldTruncateErrorWhenMarkingFailure() {
+        adapter.markFailed(agendaId, 1, now, "x".repeat(600));
+
+        verify(repository).markFailed(agendaId, 1, now, "x".repeat(500));
+    }
+
+    @Test
+    @DisplayName("Deve marcar mensagem como publicada")
+    void shouldMarkMessagePublished() {
+        adapter.markPublished(agendaId, now);
+
+        verify(repository).markPublished(agendaId, now);
+        verify(repository, never()).save(any());
+    }
+}
@@ -1,25 +1,41 @@
 package br.com.bank.voting.adapters.out.persistence.adapter;
 
+import br.com.bank.voting.adapters.out.persistence.archive.ArchivedVoteIndex;
+import br.com.bank.voting.adapters.out.persistence.archive.VoteArchiveCodec;
+import br.com.bank.voting.adapters.out.persistence.entity.VoteArchiveEntity;
 import br.com.bank.voting.adapters.out.persistence.entity.VoteEntity;
+import br.com.bank.voting.adapters.out.persistence.index.VotedCpfIndex;
+import br.com.bank.voting.adapters.out.persistence.repository.ArchivableVote;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteArchiveJpaRepository;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteChoiceCount;
 import br.com.bank.voting.adapters.out.persistence.repository.VoteJpaRepository;
 import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
 import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,12 +45,21 @@ class VoteJpaAdapterTest {
     @Mock
     private VoteJpaRepository repository;
 
+    @Mock
+    private VoteArchiveJpaRepository archiveRepository;
+
+    @Spy
+    private VotedCpfIndex votedCpfIndex = new VotedCpfIndex(true, 100, 30);
+
+    @Spy
+    private ArchivedVoteIndex archivedVoteIndex = new ArchivedVoteIndex(1000, 10);
+
     @InjectMocks
     private VoteJpaAdapter adapter;
 
     private UUID voteId;
     private UUID agendaId;
-    private String cpf;
+    private long cpf;
     private Vote domainVote;
     private VoteEntity entity;
 
@@ -42,7 +67,7 @@ class VoteJpaAdapterTest {
     void setUp() {
         voteId = UUID.randomUUID();
         agendaId = UUID.randomUUID();
-        cpf = "12345678901";
+        cpf = 12345678901L;
         LocalDateTime now = LocalDateTime.now();
         
         domainVote = new Vote(null, agendaId, cpf, VoteChoice.YES, now);
@@ -77,7 +102,7 @@ class VoteJpaAdapterTest {
     }
 
     @Test
-    @DisplayName("Deve salvar voto sem ID e permitir JPA gerar")
+    @DisplayName("Deve salvar voto sem ID gerando UUID v7 na aplicação")
     void shouldSaveVoteWithoutId() {
         Vote voteWithoutId = new Vote(null, agendaId, cpf, VoteChoice.NO, LocalDateTime.now());
         VoteEntity expectedEntity = new VoteEntity();
@@ -92,7 +117,47 @@ class VoteJpaAdapterTest {
         Vote saved = adapter.save(voteWithoutId);
 
         assertNotNull(saved.getId());
-        verify(repository).save(argThat(entityToSave -> entityToSave.getId() == null));
+        verify(repository).save(argThat(entityToSave ->
+            entityToSave.getId() != null &&
+            entityToSave.getId().version() == 7 &&
+            entityToSave.isNew()
+        ));
+    }
+
+    @Test
+    @DisplayName("Deve converter violação da constraint (agenda_id, cpf) em voto duplicado")
+    void shouldTranslateAgendaCpfViolationToAlreadyVoted() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", null,
+                        "uk_votes_agenda_cpf"));
+        when(repository.save(any(VoteEntity.class))).thenReturn(entity);
+        doThrow(violation).when(repository).flush();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> adapter.save(domainVote));
+
+        assertEquals("Associate already voted for this agenda", exception.getMessage());
+        assertSame(violation, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer a constraint pela mensagem do H2, em maiúsculas")
+    void shouldTranslateAgendaCpfViolationFromH2Message() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("Unique index or primary key violation: \"PUBLIC.UK_VOTES_AGENDA_CPF_INDEX_4 ON PUBLIC.VOTES(AGENDA_ID, CPF)\""));
+        when(repository.saveAll(anyList())).thenThrow(violation);
+        List<Vote> votes = List.of(domainVote);
+
+        assertThrows(IllegalStateException.class, () -> adapter.saveAll(votes));
+    }
+
+    @Test
+    @DisplayName("Deve manter as demais violações de integridade sem conversão")
+    void shouldNotTranslateOtherIntegrityViolations() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("NULL not allowed for column \"CHOICE\""));
+        when(repository.save(any(VoteEntity.class))).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> adapter.save(domainVote)));
     }
 
     @Test
@@ -127,14 +192,14 @@ class VoteJpaAdapterTest {
         VoteEntity entity1 = new VoteEntity();
         entity1.setId(UUID.randomUUID());
         entity1.setAgendaId(agendaId);
-        entity1.setCpf("11111111111");
+        entity1.setCpf(11111111111L);
         entity1.setChoice("YES");
         entity1.setCreatedAt(LocalDateTime.now());
 
         VoteEntity entity2 = new VoteEntity();
         entity2.setId(UUID.randomUUID());
         entity2.setAgendaId(agendaId);
-        entity2.setCpf("22222222222");
+        entity2.setCpf(22222222222L);
         entity2.setChoice("NO");
         entity2.setCreatedAt(LocalDateTime.now());
 
@@ -191,7 +256,7 @@ class VoteJpaAdapterTest {
 
         verify(repository).save(argThat(entityToSave -> 
             entityToSave.getAgendaId().equals(domainVote.getAgendaId()) &&
-            entityToSave.getCpf().equals(domainVote.getCpf()) &&
+            entityToSave.getCpf() == domainVote.getCpf() &&
             entityToSave.getChoice().equals(domainVote.getChoice().name()) &&
             entityToSave.getCreatedAt().equals(domainVote.getCreatedAt())
         ));
@@ -244,14 +309,14 @@ class VoteJpaAdapterTest {
         VoteEntity entity1 = new VoteEntity();
         entity1.setId(UUID.randomUUID());
         entity1.setAgendaId(agendaId);
-        entity1.setCpf("11111111111");
+        entity1.setCpf(11111111111L);
         entity1.setChoice("YES");
         entity1.setCreatedAt(LocalDateTime.now());
 
         VoteEntity entity2 = new VoteEntity();
         entity2.setId(UUID.randomUUID());
         entity2.setAgendaId(agendaId);
-        entity2.setCpf("22222222222");
+        entity2.setCpf(22222222222L);
         entity2.setChoice("NO");
         entity2.setCreatedAt(LocalDateTime.now());
 
@@ -262,9 +327,300 @@ class VoteJpaAdapterTest {
         assertEquals(2, votes.size());
         assertEquals(VoteChoice.YES, votes.get(0).getChoice());
         assertEquals(VoteChoice.NO, votes.get(1).getChoice());
-        assertEquals("11111111111", votes.get(0).getCpf());
-        assertEquals("22222222222", votes.get(1).getCpf());
+        assertEquals(11111111111L, votes.get(0).getCpf());
+        assertEquals(22222222222L, votes.get(1).getCpf());
     }
-}
 
+    @Test
+    @DisplayName("Deve contar votos por escolha com consulta agregada")
+    void shouldCountVotesByChoiceWithAggregateQuery() {
+        when(repository.countByChoice(agendaId)).thenReturn(List.of(
+            choiceCount("YES", 7L),
+            choiceCount("NO", 4L)
+        ));
+
+        VoteTally tally = adapter.countVotesByChoice(agendaId);
+
+        assertEquals(agendaId, tally.getAgendaId());
+        assertEquals(7L, tally.getYes());
+        assertEquals(4L, tally.getNo());
+        assertEquals(11L, tally.getTotal());
+        verify(repository, never()).findAllByAgendaId(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar zero para escolhas sem votos na consulta agregada")
+    void shouldReturnZeroForChoicesWithoutVotes() {
+        when(repository.countByChoice(agendaId)).thenReturn(List.of(choiceCount("NO", 2L)));
+
+        VoteTally tally = adapter.countVotesByChoice(agendaId);
+
+        assertEquals(0L, tally.getYes());
+        assertEquals(2L, tally.getNo());
+    }
+
+    @Test
+    @DisplayName("Deve contar votos pelos totais do arquivo quando a pauta estiver arquivada")
+    void shouldCountVotesFromArchiveWhenAgendaIsArchived() {
+        when(repository.countByChoice(agendaId)).thenReturn(List.of());
+        when(archiveRepository.findById(agendaId)).thenReturn(Optional.of(
+                new VoteArchiveEntity(agendaId, 7, 4, VoteArchiveCodec.encode(List.of()), LocalDateTime.now())));
+
+        VoteTally tally = adapter.countVotesByChoice(agendaId);
+
+        assertEquals(7L, tally.getYes());
+        assertEquals(4L, tally.getNo());
+    }
+
+    @Test
+    @DisplayName("Deve retornar votos do arquivo quando a pauta estiver arquivada")
+    void shouldFindVotesFromArchiveWhenAgendaIsArchived() {
+        Vote archived = new Vote(voteId, agendaId, cpf, VoteChoice.YES, LocalDateTime.of(2026, 1, 5, 10, 0));
+        when(repository.findAllByAgendaId(agendaId)).thenReturn(List.of());
+        when(repository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(agendaId)).thenReturn(Optional.of(
+                new VoteArchiveEntity(agendaId, 1, 0, VoteArchiveCodec.encode(List.of(archived)), LocalDateTime.now())));
+
+        List<Vote> votes = adapter.findAllByAgendaId(agendaId);
+        Optional<Vote> found = adapter.findByAgendaIdAndCpf(agendaId, cpf);
+
+        assertEquals(1, votes.size());
+        assertEquals(voteId, votes.get(0).getId());
+        assertEquals(cpf, votes.get(0).getCpf());
+        assertTrue(found.isPresent());
+        assertEquals(archived.getCreatedAt(), found.get().getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Deve descompactar o arquivo da pauta uma única vez para consultas repetidas")
+    void shouldDecodeArchiveOnceForRepeatedLookups() {
+        Vote archived = new Vote(voteId, agendaId, cpf, VoteChoice.YES, LocalDateTime.of(2026, 1, 5, 10, 0));
+        when(repository.findByAgendaIdAndCpf(eq(agendaId), anyLong())).thenReturn(Optional.empty());
+        when(archiveRepository.findById(agendaId)).thenReturn(Optional.of(
+                new VoteArchiveEntity(agendaId, 1, 0, VoteArchiveCodec.encode(List.of(archived)), LocalDateTime.now())));
+
+        assertTrue(adapter.findByAgendaIdAndCpf(agendaId, cpf).isPresent());
+        assertTrue(adapter.findByAgendaIdAndCpf(agendaId, 52998224725L).isEmpty());
+        assertTrue(adapter.findByAgendaIdAndCpf(agendaId, cpf).isPresent());
+
+        verify(archiveRepository, times(1)).findById(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o arquivo novamente enquanto a pauta não estiver arquivada")
+    void shouldNotCacheMissingArchive() {
+        when(repository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(agendaId)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findByAgendaIdAndCpf(agendaId, cpf).isEmpty());
+        assertTrue(adapter.findByAgendaIdAndCpf(agendaId, cpf).isEmpty());
+
+        verify(archiveRepository, times(2)).findById(agendaId);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o arquivo quando a pauta tiver votos na tabela de votos")
+    void shouldNotQueryArchiveWhenVotesAreInHotTable() {
+        when(repository.findAllByAgendaId(agendaId)).thenReturn(List.of(entity));
+        when(repository.countByChoice(agendaId)).thenReturn(List.of(choiceCount("YES", 1L)));
+
+        adapter.findAllByAgendaId(agendaId);
+        adapter.countVotesByChoice(agendaId);
 
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    @DisplayName("Deve mover os votos da pauta para o arquivo compactado")
+    void shouldMoveVotesToArchive() {
+        VoteEntity noVote = new VoteEntity(UUID.randomUUID(), agendaId, 52998224725L, "NO", LocalDateTime.now());
+        when(archiveRepository.existsById(agendaId)).thenReturn(false);
+        when(repository.findArchivableAfter(agendaId, -1L, PageRequest.of(0, VoteJpaAdapter.ARCHIVE_CHUNK_SIZE)))
+                .thenReturn(List.of(archivable(entity), archivable(noVote)));
+
+        long archived = adapter.archive(agendaId);
+
+        assertEquals(2, archived);
+        ArgumentCaptor<VoteArchiveEntity> saved = ArgumentCaptor.forClass(VoteArchiveEntity.class);
+        var inOrder = inOrder(archiveRepository, repository);
+        inOrder.verify(archiveRepository).save(saved.capture());
+        inOrder.verify(repository).deleteByAgendaId(agendaId);
+        assertEquals(agendaId, saved.getValue().getAgendaId());
+        assertEquals(1, saved.getValue().getYesCount());
+        assertEquals(1, saved.getValue().getNoCount());
+        List<Vote> decoded = VoteArchiveCodec.decode(agendaId, saved.getValue().getPayload());
+        assertEquals(List.of(cpf, 52998224725L), decoded.stream().map(Vote::getCpf).toList());
+    }
+
+    @Test
+    @DisplayName("Deve ler os votos a arquivar em lotes a partir do último CPF lido")
+    void shouldArchiveVotesInChunks() {
+        int total = VoteJpaAdapter.ARCHIVE_CHUNK_SIZE + 1;
+        List<ArchivableVote> rows = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            rows.add(archivable(new VoteEntity(UUID.randomUUID(), agendaId, 1_000L + i,
+                    i % 2 == 0 ? "YES" : "NO", LocalDateTime.now())));
+        }
+        List<ArchivableVote> firstChunk = rows.subList(0, VoteJpaAdapter.ARCHIVE_CHUNK_SIZE);
+        long lastCpfOfFirstChunk = firstChunk.getLast().getCpf();
+        PageRequest chunk = PageRequest.of(0, VoteJpaAdapter.ARCHIVE_CHUNK_SIZE);
+        when(archiveRepository.existsById(agendaId)).thenReturn(false);
+        when(repository.findArchivableAfter(agendaId, -1L, chunk)).thenReturn(firstChunk);
+        when(repository.findArchivableAfter(agendaId, lastCpfOfFirstChunk, chunk))
+                .thenReturn(rows.subList(VoteJpaAdapter.ARCHIVE_CHUNK_SIZE, total));
+
+        long archived = adapter.archive(agendaId);
+
+        assertEquals(total, archived);
+        verify(repository, never()).findAllByAgendaId(any());
+        ArgumentCaptor<VoteArchiveEntity> saved = ArgumentCaptor.forClass(VoteArchiveEntity.class);
+        verify(archiveRepository).save(saved.capture());
+        assertEquals(501, saved.getValue().getYesCount());
+        assertEquals(500, saved.getValue().getNoCount());
+        List<Vote> decoded = VoteArchiveCodec.decode(agendaId, saved.getValue().getPayload());
+        assertEquals(total, decoded.size());
+        assertEquals(1_000L + total - 1, decoded.getLast().getCpf());
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar novamente uma pauta já arquivada")
+    void shouldNotArchiveAgendaTwice() {
+        when(archiveRepository.existsById(agendaId)).thenReturn(true);
+
+        assertEquals(0, adapter.archive(agendaId));
+        verify(archiveRepository, never()).save(any());
+        verify(repository, never()).deleteByAgendaId(any());
+    }
+
+    @Test
+    @DisplayName("Deve listar pautas arquiváveis limitando o lote")
+    void shouldFindArchivableAgendasWithLimit() {
+        LocalDateTime closedBefore = LocalDateTime.now().minusDays(7);
+        when(archiveRepository.findArchivableAgendaIds(closedBefore, PageRequest.of(0, 10)))
+                .thenReturn(List.of(agendaId));
+
+        assertEquals(List.of(agendaId), adapter.findArchivableAgendaIds(closedBefore, 10));
+    }
+
+    private ArchivableVote archivable(VoteEntity vote) {
+        return new ArchivableVote() {
+            @Override
+            public UUID getId() {
+                return vote.getId();
+            }
+
+            @Override
+            public long getCpf() {
+                return vote.getCpf();
+            }
+
+            @Override
+            public String getChoice() {
+                return vote.getChoice();
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return vote.getCreatedAt();
+            }
+        };
+    }
+
+    private VoteChoiceCount choiceCount(String choice, long total) {
+        return new VoteChoiceCount() {
+            @Override
+            public String getChoice() {
+                return choice;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve salvar lote de votos com saveAll")
+    void shouldSaveAllVotes() {
+        when(repository.saveAll(anyList())).thenReturn(List.of(entity));
+
+        List<Vote> saved = adapter.saveAll(List.of(domainVote));
+
+        assertEquals(1, saved.size());
+        assertEquals(voteId, saved.get(0).getId());
+        verify(repository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve retornar CPFs que já votaram na pauta usando o índice em memória")
+    void shouldFindCpfsAlreadyVoted() {
+        List<Long> cpfs = List.of(cpf, 98765432100L);
+        when(repository.findCpfsByAgendaId(agendaId)).thenReturn(List.of(cpf));
+
+        Set<Long> alreadyVoted = adapter.findCpfsAlreadyVoted(agendaId, cpfs);
+
+        assertEquals(Set.of(cpf), alreadyVoted);
+        verify(repository, never()).findCpfsByAgendaIdAndCpfIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar CPFs já votados com IN quando o índice estiver desabilitado")
+    void shouldFindCpfsAlreadyVotedWithQueryWhenIndexIsDisabled() {
+        VoteJpaAdapter withoutIndex = new VoteJpaAdapter(repository, new VotedCpfIndex(false, 100, 30), archiveRepository,
+                archivedVoteIndex);
+        List<Long> cpfs = List.of(cpf, 98765432100L);
+        when(repository.findCpfsByAgendaIdAndCpfIn(agendaId, cpfs)).thenReturn(List.of(cpf));
+
+        Set<Long> alreadyVoted = withoutIndex.findCpfsAlreadyVoted(agendaId, cpfs);
+
+        assertEquals(Set.of(cpf), alreadyVoted);
+        verify(repository, never()).findCpfsByAgendaId(any());
+    }
+
+    @Test
+    @DisplayName("Deve carregar o índice da pauta uma única vez e responder as demais verificações em memória")
+    void shouldLoadIndexOnceAndAnswerFromMemory() {
+        when(repository.findCpfsByAgendaId(agendaId)).thenReturn(List.of(cpf));
+
+        assertTrue(adapter.existsByAgendaIdAndCpf(agendaId, cpf));
+        assertFalse(adapter.existsByAgendaIdAndCpf(agendaId, 98765432100L));
+        assertTrue(adapter.existsByAgendaIdAndCpf(agendaId, cpf));
+
+        verify(repository, times(1)).findCpfsByAgendaId(agendaId);
+        verify(repository, never()).existsByAgendaIdAndCpf(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve incluir no índice os votos gravados após o carregamento")
+    void shouldAddSavedVotesToIndex() {
+        when(repository.findCpfsByAgendaId(agendaId)).thenReturn(List.of());
+        when(repository.save(any(VoteEntity.class))).thenReturn(entity);
+        assertFalse(adapter.existsByAgendaIdAndCpf(agendaId, cpf));
+
+        adapter.save(domainVote);
+
+        assertTrue(adapter.existsByAgendaIdAndCpf(agendaId, cpf));
+        verify(repository, times(1)).findCpfsByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o índice estiver desabilitado")
+    void shouldQueryDatabaseWhenIndexIsDisabled() {
+        VoteJpaAdapter withoutIndex = new VoteJpaAdapter(repository, new VotedCpfIndex(false, 100, 30), archiveRepository,
+                archivedVoteIndex);
+        when(repository.existsByAgendaIdAndCpf(agendaId, cpf)).thenReturn(true);
+
+        assertTrue(withoutIndex.existsByAgendaIdAndCpf(agendaId, cpf));
+        verify(repository, never()).findCpfsByAgendaId(any());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando a lista de CPFs estiver vazia")
+    void shouldNotQueryWhenCpfListIsEmpty() {
+        Set<Long> alreadyVoted = adapter.findCpfsAlreadyVoted(agendaId, List.of());
+
+        assertTrue(alreadyVoted.isEmpty());
+        verifyNoInteractions(repository);
+    }
+}
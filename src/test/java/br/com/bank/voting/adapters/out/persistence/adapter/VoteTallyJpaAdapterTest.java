@@ -0,0 +1,132 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VoteTallyEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.VoteTallyJpaRepository;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteTallyJpaAdapter Tests")
+class VoteTallyJpaAdapterTest {
+
+    @Mock
+    private VoteTallyJpaRepository repository;
+
+    @Mock
+    private VoteRepositoryPort voteRepository;
+
+    @InjectMocks
+    private VoteTallyJpaAdapter adapter;
+
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        agendaId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar contador por agendaId")
+    void shouldFindTallyByAgendaId() {
+        when(repository.findById(agendaId)).thenReturn(Optional.of(new VoteTallyEntity(agendaId, 4, 2)));
+
+        Optional<VoteTally> found = adapter.findByAgendaId(agendaId);
+
+        assertTrue(found.isPresent());
+        assertEquals(4, found.get().getYes());
+        assertEquals(2, found.get().getNo());
+        assertEquals(6, found.get().getTotal());
+    }
+
+    @Test
+    @DisplayName("Deve criar contador zerado quando não existir")
+    void shouldInitializeTallyWhenMissing() {
+        when(repository.existsById(agendaId)).thenReturn(false);
+
+        adapter.initialize(agendaId);
+
+        verify(repository).save(argThat(entity ->
+            entity.getAgendaId().equals(agendaId) &&
+            entity.getYesCount() == 0 &&
+            entity.getNoCount() == 0
+        ));
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever contador existente na inicialização")
+    void shouldNotOverwriteExistingTallyOnInitialize() {
+        when(repository.existsById(agendaId)).thenReturn(true);
+
+        adapter.initialize(agendaId);
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve incrementar contador com UPDATE atômico")
+    void shouldIncrementTallyAtomically() {
+        when(repository.increment(agendaId, 1, 0)).thenReturn(1);
+
+        adapter.increment(agendaId, 1, 0);
+
+        verify(repository).increment(agendaId, 1, 0);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve falhar sem criar o contador quando ele não existir no incremento")
+    void shouldFailWithoutCreatingTallyWhenMissingOnIncrement() {
+        when(repository.increment(agendaId, 1, 0)).thenReturn(0);
+
+        IncorrectUpdateSemanticsDataAccessException exception = assertThrows(
+                IncorrectUpdateSemanticsDataAccessException.class,
+                () -> adapter.increment(agendaId, 1, 0));
+
+        assertTrue(exception.getMessage().contains(agendaId.toString()));
+        verify(repository, never()).save(any());
+        verifyNoInteractions(voteRepository);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir contador a partir dos votos")
+    void shouldRebuildTallyFromVotes() {
+        VoteTallyEntity existing = new VoteTallyEntity(agendaId, 1, 1);
+        when(repository.findForUpdate(agendaId)).thenReturn(Optional.of(existing));
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 5, 3));
+        when(repository.save(existing)).thenReturn(existing);
+
+        VoteTally rebuilt = adapter.rebuild(agendaId);
+
+        assertEquals(5, rebuilt.getYes());
+        assertEquals(3, rebuilt.getNo());
+    }
+
+    @Test
+    @DisplayName("Deve criar contador a partir dos votos na reconstrução quando não existir")
+    void shouldCreateTallyOnRebuildWhenMissing() {
+        when(repository.findForUpdate(agendaId)).thenReturn(Optional.empty());
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 3, 2));
+        when(repository.save(any(VoteTallyEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        VoteTally rebuilt = adapter.rebuild(agendaId);
+
+        assertEquals(3, rebuilt.getYes());
+        assertEquals(2, rebuilt.getNo());
+        verify(repository).save(argThat(entity -> entity.getAgendaId().equals(agendaId)));
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.bank.voting.adapters.out.persistence.adapter;
+
+import br.com.bank.voting.adapters.out.persistence.entity.VotingResultEntity;
+import br.com.bank.voting.adapters.out.persistence.repository.VotingResultJpaRepository;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VotingResultJpaAdapter Tests")
+class VotingResultJpaAdapterTest {
+
+    @Mock
+    private VotingResultJpaRepository repository;
+
+    @InjectMocks
+    private VotingResultJpaAdapter adapter;
+
+    private UUID agendaId;
+    private LocalDateTime closedAt;
+
+    @BeforeEach
+    void setUp() {
+        agendaId = UUID.randomUUID();
+        closedAt = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar snapshot como resultado de sessão fechada")
+    void shouldFindSnapshotAsClosedResult() {
+        when(repository.findById(agendaId))
+                .thenReturn(Optional.of(new VotingResultEntity(agendaId, 3, 1, "APPROVED", closedAt, closedAt)));
+
+        Optional<VotingResultResult> found = adapter.findByAgendaId(agendaId);
+
+        assertTrue(found.isPresent());
+        assertEquals(SessionStatus.CLOSED, found.get().sessionStatus());
+        assertEquals(3L, found.get().yes());
+        assertEquals(1L, found.get().no());
+        assertEquals(4L, found.get().total());
+        assertEquals(VotingResult.APPROVED, found.get().result());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando não existir snapshot")
+    void shouldReturnEmptyWhenSnapshotNotFound() {
+        when(repository.findById(agendaId)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findByAgendaId(agendaId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve gravar snapshot ainda não publicado")
+    void shouldSaveSnapshotNotYetPublished() {
+        when(repository.save(any(VotingResultEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        VotingResultResult result = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 1L, 2L, 3L, VotingResult.REJECTED);
+
+        VotingResultResult saved = adapter.save(result, closedAt);
+
+        assertEquals(result, saved);
+        verify(repository).save(argThat(entity ->
+                entity.getAgendaId().equals(agendaId)
+                        && entity.getYesCount() == 1
+                        && entity.getNoCount() == 2
+                        && entity.getResult().equals("REJECTED")
+                        && entity.getClosedAt().equals(closedAt)
+                        && entity.getPublishedAt() == null));
+    }
+
+    @Test
+    @DisplayName("Deve indicar se esta chamada marcou a publicação")
+    void shouldTellWhetherThisCallMarkedPublication() {
+        when(repository.markPublished(agendaId, closedAt)).thenReturn(1, 0);
+
+        assertTrue(adapter.markPublished(agendaId, closedAt));
+        assertFalse(adapter.markPublished(agendaId, closedAt));
+    }
+}
@@ -10,8 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -153,6 +155,63 @@ class VotingSessionJpaAdapterTest {
             entityToSave.getId().equals(sessionId)
         ));
     }
-}
 
+    @Test
+    @DisplayName("Deve listar sessões com resultado ainda não publicado")
+    void shouldFindSessionsWithoutPublishedResult() {
+        LocalDateTime closesAfter = LocalDateTime.now().minusDays(1);
+        when(repository.findWithoutPublishedResult(closesAfter, PageRequest.of(0, 100))).thenReturn(List.of(entity));
+
+        List<VotingSession> sessions = adapter.findWithoutPublishedResult(closesAfter, null, 100);
+
+        assertEquals(1, sessions.size());
+        assertEquals(sessionId, sessions.get(0).getId());
+        assertEquals(agendaId, sessions.get(0).getAgendaId());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a listagem de sessões pendentes a partir da última sessão da página")
+    void shouldFindSessionsWithoutPublishedResultAfterCursor() {
+        LocalDateTime closesAfter = LocalDateTime.now().minusDays(1);
+        LocalDateTime now = LocalDateTime.now();
+        VotingSession last = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now.minusMinutes(30), now.minusMinutes(20));
+        when(repository.findWithoutPublishedResultAfter(closesAfter, last.getClosesAt(), last.getId(), PageRequest.of(0, 100)))
+                .thenReturn(List.of(entity));
+
+        List<VotingSession> sessions = adapter.findWithoutPublishedResult(closesAfter, last, 100);
+
+        assertEquals(1, sessions.size());
+        verify(repository, never()).findWithoutPublishedResult(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar sessões de várias pautas em uma única consulta")
+    void shouldFindSessionsByAgendaIds() {
+        when(repository.findByAgendaIdIn(List.of(agendaId))).thenReturn(List.of(entity));
 
+        List<VotingSession> sessions = adapter.findByAgendaIds(List.of(agendaId));
+
+        assertEquals(1, sessions.size());
+        assertEquals(agendaId, sessions.get(0).getAgendaId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar sessões que fecham após o horário informado")
+    void shouldFindSessionsClosingAfter() {
+        LocalDateTime closesAfter = LocalDateTime.now().minusHours(1);
+        when(repository.findByClosesAtAfter(closesAfter)).thenReturn(List.of(entity));
+
+        List<VotingSession> sessions = adapter.findClosingAfter(closesAfter);
+
+        assertEquals(1, sessions.size());
+        assertEquals(agendaId, sessions.get(0).getAgendaId());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco sem pautas")
+    void shouldNotQueryWithoutAgendaIds() {
+        assertTrue(adapter.findByAgendaIds(List.of()).isEmpty());
+
+        verifyNoInteractions(repository);
+    }
+}
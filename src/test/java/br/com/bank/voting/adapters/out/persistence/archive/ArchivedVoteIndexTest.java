@@ -0,0 +1,64 @@
+package br.com.bank.voting.adapters.out.persistence.archive;
+
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArchivedVoteIndex Tests")
+class ArchivedVoteIndexTest {
+
+    private final UUID agendaId = UUID.randomUUID();
+    private final ArchivedVoteIndex index = new ArchivedVoteIndex(1000, 10);
+
+    @Test
+    @DisplayName("Deve encontrar o voto do CPF carregando o arquivo uma única vez")
+    void shouldFindVoteByCpfLoadingArchiveOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Vote> votes = List.of(
+                new Vote(UUID.randomUUID(), agendaId, 191L, VoteChoice.YES, now),
+                new Vote(UUID.randomUUID(), agendaId, 12345678909L, VoteChoice.NO, now),
+                new Vote(UUID.randomUUID(), agendaId, 52998224725L, VoteChoice.YES, now));
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<Vote> found = index.find(agendaId, 12345678909L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(votes);
+        });
+        Optional<Vote> missing = index.find(agendaId, 11144477735L, id -> {
+            loads.incrementAndGet();
+            return Optional.of(votes);
+        });
+
+        assertTrue(found.isPresent());
+        assertEquals(VoteChoice.NO, found.get().getChoice());
+        assertTrue(missing.isEmpty());
+        assertEquals(votes, index.votesOf(agendaId, id -> Optional.empty()));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar pauta sem arquivo")
+    void shouldNotCacheAgendaWithoutArchive() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertTrue(index.votesOf(agendaId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+        assertTrue(index.find(agendaId, 191L, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+
+        assertEquals(2, loads.get());
+    }
+}
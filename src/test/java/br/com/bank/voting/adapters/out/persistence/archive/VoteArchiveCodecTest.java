@@ -0,0 +1,113 @@
+package br.com.bank.voting.adapters.out.persistence.archive;
+
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VoteArchiveCodec Tests")
+class VoteArchiveCodecTest {
+
+    private final UUID agendaId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Deve recuperar os votos arquivados ordenados por CPF")
+    void shouldDecodeArchivedVotesSortedByCpf() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 10, 14, 30, 15, 123_456_000);
+        Vote second = new Vote(UUID.randomUUID(), agendaId, 52998224725L, VoteChoice.NO, createdAt.plusMinutes(3));
+        Vote first = new Vote(UUID.randomUUID(), agendaId, 191L, VoteChoice.YES, createdAt);
+
+        List<Vote> decoded = VoteArchiveCodec.decode(agendaId, VoteArchiveCodec.encode(List.of(second, first)));
+
+        assertEquals(2, decoded.size());
+        assertVote(first, decoded.get(0));
+        assertVote(second, decoded.get(1));
+    }
+
+    @Test
+    @DisplayName("Deve arquivar pauta sem votos")
+    void shouldEncodeEmptyAgenda() {
+        assertTrue(VoteArchiveCodec.decode(agendaId, VoteArchiveCodec.encode(List.of())).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve compactar os votos abaixo do tamanho das linhas originais")
+    void shouldCompressVotes() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 10, 14, 0);
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            votes.add(new Vote(UUID.randomUUID(), agendaId, 10_000_000_000L + i * 37L,
+                    i % 3 == 0 ? VoteChoice.NO : VoteChoice.YES, start.plusSeconds(i / 10)));
+        }
+
+        byte[] payload = VoteArchiveCodec.encode(votes);
+
+        // ID (16) + CPF (8) + escolha (1) + data (8) por voto, sem contar os índices da tabela votes
+        assertTrue(payload.length < votes.size() * 33 / 2, "payload: " + payload.length);
+        List<Vote> decoded = VoteArchiveCodec.decode(agendaId, payload);
+        votes.sort(Comparator.comparingLong(Vote::getCpf));
+        for (int i = 0; i < votes.size(); i++) {
+            assertVote(votes.get(i), decoded.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recuperar os votos comprimidos em lotes pelo codificador incremental")
+    void shouldDecodeVotesEncodedInChunks() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 10, 14, 0);
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            votes.add(new Vote(UUID.randomUUID(), agendaId, 191L + i * 11L,
+                    i % 2 == 0 ? VoteChoice.YES : VoteChoice.NO, start.plusSeconds(i)));
+        }
+
+        VoteArchiveCodec.Encoder encoder = VoteArchiveCodec.encoder();
+        for (int from = 0; from < votes.size(); from += 1_000) {
+            encoder.add(votes.subList(from, Math.min(from + 1_000, votes.size())));
+        }
+        List<Vote> decoded = VoteArchiveCodec.decode(agendaId, encoder.finish());
+
+        assertEquals(votes.size(), decoded.size());
+        for (int i = 0; i < votes.size(); i++) {
+            assertVote(votes.get(i), decoded.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote fora da ordem de CPF")
+    void shouldRejectChunkOutOfCpfOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        VoteArchiveCodec.Encoder encoder = VoteArchiveCodec.encoder();
+        encoder.add(List.of(new Vote(UUID.randomUUID(), agendaId, 52998224725L, VoteChoice.YES, now)));
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.add(
+                List.of(new Vote(UUID.randomUUID(), agendaId, 191L, VoteChoice.NO, now))));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o arquivo estiver corrompido")
+    void shouldThrowWhenPayloadIsCorrupted() {
+        byte[] payload = VoteArchiveCodec.encode(List.of(
+                new Vote(UUID.randomUUID(), agendaId, 191L, VoteChoice.YES, LocalDateTime.now())));
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+
+        assertThrows(IllegalStateException.class, () -> VoteArchiveCodec.decode(agendaId, truncated));
+    }
+
+    private void assertVote(Vote expected, Vote actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(agendaId, actual.getAgendaId());
+        assertEquals(expected.getCpf(), actual.getCpf());
+        assertEquals(expected.getChoice(), actual.getChoice());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.bank.voting.adapters.out.persistence.cache;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.AgendaJpaAdapter;
+import br.com.bank.voting.domain.model.Agenda;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingAgendaRepositoryAdapter Tests")
+class CachingAgendaRepositoryAdapterTest {
+
+    @Mock
+    private AgendaJpaAdapter delegate;
+
+    private FakeTicker ticker;
+    private CachingAgendaRepositoryAdapter adapter;
+    private UUID agendaId;
+    private Agenda agenda;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new FakeTicker();
+        adapter = new CachingAgendaRepositoryAdapter(delegate, new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(60), ticker);
+        agendaId = UUID.randomUUID();
+        agenda = new Agenda(agendaId, "Pauta Teste", LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez para a mesma pauta")
+    void shouldQueryDatabaseOnceForSameAgenda() {
+        when(delegate.findById(agendaId)).thenReturn(Optional.of(agenda));
+
+        assertEquals(Optional.of(agenda), adapter.findById(agendaId));
+        assertEquals(Optional.of(agenda), adapter.findById(agendaId));
+
+        verify(delegate, times(1)).findById(agendaId);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar pauta inexistente")
+    void shouldNotCacheMissingAgenda() {
+        when(delegate.findById(agendaId)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findById(agendaId).isEmpty());
+        assertTrue(adapter.findById(agendaId).isEmpty());
+
+        verify(delegate, times(2)).findById(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve descartar pauta sem acesso após o tempo configurado")
+    void shouldEvictIdleAgenda() {
+        when(delegate.findById(agendaId)).thenReturn(Optional.of(agenda));
+
+        adapter.findById(agendaId);
+        ticker.advance(Duration.ofMinutes(61));
+        adapter.findById(agendaId);
+
+        verify(delegate, times(2)).findById(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve delegar a gravação da pauta")
+    void shouldDelegateSave() {
+        when(delegate.save(agenda)).thenReturn(agenda);
+
+        assertSame(agenda, adapter.save(agenda));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco para listar páginas de pautas")
+    void shouldDelegatePageLookup() {
+        LocalDateTime now = LocalDateTime.now();
+        when(delegate.findPage(null, null, now, 21)).thenReturn(List.of(agenda));
+
+        assertEquals(List.of(agenda), adapter.findPage(null, null, now, 21));
+        assertEquals(List.of(agenda), adapter.findPage(null, null, now, 21));
+
+        verify(delegate, times(2)).findPage(null, null, now, 21);
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
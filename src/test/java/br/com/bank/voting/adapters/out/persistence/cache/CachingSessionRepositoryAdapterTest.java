@@ -0,0 +1,165 @@
+package br.com.bank.voting.adapters.out.persistence.cache;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VotingSessionJpaAdapter;
+import br.com.bank.voting.domain.model.VotingSession;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingSessionRepositoryAdapter Tests")
+class CachingSessionRepositoryAdapterTest {
+
+    @Mock
+    private VotingSessionJpaAdapter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FakeTicker ticker;
+    private CachingSessionRepositoryAdapter adapter;
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ticker = new FakeTicker();
+        adapter = new CachingSessionRepositoryAdapter(delegate, meterRegistry, 100, ticker);
+        agendaId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez enquanto a sessão estiver aberta")
+    void shouldQueryDatabaseOnceWhileSessionIsOpen() {
+        VotingSession open = sessionClosingIn(Duration.ofMinutes(10));
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.of(open));
+
+        assertEquals(Optional.of(open), adapter.findByAgendaId(agendaId));
+        ticker.advance(Duration.ofMinutes(9));
+        assertEquals(Optional.of(open), adapter.findByAgendaId(agendaId));
+
+        verify(delegate, times(1)).findByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve expirar a sessão do cache no horário de fechamento")
+    void shouldExpireSessionAtClosingTime() {
+        VotingSession open = sessionClosingIn(Duration.ofMinutes(10));
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.of(open));
+
+        adapter.findByAgendaId(agendaId);
+        ticker.advance(Duration.ofMinutes(10).plusSeconds(1));
+        adapter.findByAgendaId(agendaId);
+
+        verify(delegate, times(2)).findByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar sessões fechadas nem pautas sem sessão")
+    void shouldNotCacheClosedOrMissingSessions() {
+        UUID agendaWithoutSession = UUID.randomUUID();
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.of(sessionClosingIn(Duration.ofMinutes(-1))));
+        when(delegate.findByAgendaId(agendaWithoutSession)).thenReturn(Optional.empty());
+
+        adapter.findByAgendaId(agendaId);
+        adapter.findByAgendaId(agendaId);
+        adapter.findByAgendaId(agendaWithoutSession);
+        adapter.findByAgendaId(agendaWithoutSession);
+
+        verify(delegate, times(2)).findByAgendaId(agendaId);
+        verify(delegate, times(2)).findByAgendaId(agendaWithoutSession);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar a sessão da pauta ao gravar, inclusive após o commit")
+    void shouldInvalidateOnSaveAndAfterCommit() {
+        VotingSession open = sessionClosingIn(Duration.ofMinutes(10));
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.of(open));
+        when(delegate.save(open)).thenReturn(open);
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.save(open);
+        adapter.findByAgendaId(agendaId);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        adapter.findByAgendaId(agendaId);
+
+        verify(delegate, times(2)).findByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco para listar sessões com resultado não publicado")
+    void shouldDelegatePendingSessionsLookup() {
+        VotingSession open = sessionClosingIn(Duration.ofMinutes(10));
+        LocalDateTime closesAfter = LocalDateTime.now().minusDays(1);
+        when(delegate.findWithoutPublishedResult(closesAfter, null, 100)).thenReturn(List.of(open));
+
+        assertEquals(List.of(open), adapter.findWithoutPublishedResult(closesAfter, null, 100));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco para buscar sessões de várias pautas")
+    void shouldDelegateSessionsByAgendaIdsLookup() {
+        VotingSession open = sessionClosingIn(Duration.ofMinutes(10));
+        when(delegate.findByAgendaIds(List.of(agendaId))).thenReturn(List.of(open));
+
+        assertEquals(List.of(open), adapter.findByAgendaIds(List.of(agendaId)));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco para buscar sessões abertas ou encerradas há pouco")
+    void shouldDelegateSessionsClosingAfterLookup() {
+        VotingSession open = sessionClosingIn(Duration.ofMinutes(10));
+        LocalDateTime closesAfter = LocalDateTime.now().minusHours(1);
+        when(delegate.findClosingAfter(closesAfter)).thenReturn(List.of(open));
+
+        assertEquals(List.of(open), adapter.findClosingAfter(closesAfter));
+    }
+
+    @Test
+    @DisplayName("Deve registrar métricas do cache")
+    void shouldRegisterCacheMetrics() {
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CachingSessionRepositoryAdapter.CACHE_NAME).meter());
+    }
+
+    private VotingSession sessionClosingIn(Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        return new VotingSession(UUID.randomUUID(), agendaId, now.minusMinutes(1), now.plus(duration));
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+}
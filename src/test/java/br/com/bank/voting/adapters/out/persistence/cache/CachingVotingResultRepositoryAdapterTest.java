@@ -0,0 +1,90 @@
+package br.com.bank.voting.adapters.out.persistence.cache;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VotingResultJpaAdapter;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingVotingResultRepositoryAdapter Tests")
+class CachingVotingResultRepositoryAdapterTest {
+
+    @Mock
+    private VotingResultJpaAdapter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingVotingResultRepositoryAdapter adapter;
+    private UUID agendaId;
+    private VotingResultResult snapshot;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CachingVotingResultRepositoryAdapter(delegate, meterRegistry, 100);
+        agendaId = UUID.randomUUID();
+        snapshot = new VotingResultResult(agendaId, SessionStatus.CLOSED, 2L, 1L, 3L, VotingResult.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco apenas uma vez para o mesmo snapshot")
+    void shouldQueryDatabaseOnceForSameSnapshot() {
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.of(snapshot));
+
+        assertEquals(Optional.of(snapshot), adapter.findByAgendaId(agendaId));
+        assertEquals(Optional.of(snapshot), adapter.findByAgendaId(agendaId));
+
+        verify(delegate, times(1)).findByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar snapshot inexistente")
+    void shouldNotCacheMissingSnapshot() {
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findByAgendaId(agendaId).isEmpty());
+        assertTrue(adapter.findByAgendaId(agendaId).isEmpty());
+
+        verify(delegate, times(2)).findByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar o snapshot ao gravar")
+    void shouldNotCacheOnSave() {
+        LocalDateTime closedAt = LocalDateTime.now();
+        when(delegate.save(snapshot, closedAt)).thenReturn(snapshot);
+        when(delegate.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+
+        assertSame(snapshot, adapter.save(snapshot, closedAt));
+
+        assertTrue(adapter.findByAgendaId(agendaId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve delegar a marcação de publicação")
+    void shouldDelegateMarkPublished() {
+        LocalDateTime now = LocalDateTime.now();
+        when(delegate.markPublished(agendaId, now)).thenReturn(true);
+
+        assertTrue(adapter.markPublished(agendaId, now));
+    }
+
+    @Test
+    @DisplayName("Deve registrar métricas do cache")
+    void shouldRegisterCacheMetrics() {
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", CachingVotingResultRepositoryAdapter.CACHE_NAME).meter());
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ResultOutboxEntity Tests")
+class ResultOutboxEntityTest {
+
+    @Test
+    @DisplayName("Deve criar mensagem pendente com próxima tentativa na criação")
+    void shouldCreatePendingMessageDueAtCreation() {
+        UUID agendaId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        ResultOutboxEntity entity = new ResultOutboxEntity(agendaId, 5, 3, "APPROVED", createdAt);
+
+        assertEquals(agendaId, entity.getAgendaId());
+        assertEquals(5, entity.getYesCount());
+        assertEquals(3, entity.getNoCount());
+        assertEquals("APPROVED", entity.getResult());
+        assertEquals(createdAt, entity.getCreatedAt());
+        assertEquals(createdAt, entity.getNextAttemptAt());
+        assertEquals(0, entity.getAttempts());
+        assertNull(entity.getPublishedAt());
+        assertNull(entity.getLastError());
+    }
+
+    @Test
+    @DisplayName("Deve definir e obter valores usando setters e getters")
+    void shouldSetAndGetValuesUsingSettersAndGetters() {
+        ResultOutboxEntity entity = new ResultOutboxEntity();
+        LocalDateTime now = LocalDateTime.now();
+
+        entity.setAttempts(3);
+        entity.setNextAttemptAt(now.plusSeconds(8));
+        entity.setPublishedAt(now);
+        entity.setLastError("broker down");
+
+        assertEquals(3, entity.getAttempts());
+        assertEquals(now.plusSeconds(8), entity.getNextAttemptAt());
+        assertEquals(now, entity.getPublishedAt());
+        assertEquals("broker down", entity.getLastError());
+    }
+}
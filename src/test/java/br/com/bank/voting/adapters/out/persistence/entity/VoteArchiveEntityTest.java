@@ -0,0 +1,46 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VoteArchiveEntity Tests")
+class VoteArchiveEntityTest {
+
+    @Test
+    @DisplayName("Deve criar entidade com construtor padrão")
+    void shouldCreateEntityWithDefaultConstructor() {
+        VoteArchiveEntity entity = new VoteArchiveEntity();
+
+        assertNull(entity.getAgendaId());
+        assertEquals(0, entity.getYesCount());
+        assertEquals(0, entity.getNoCount());
+        assertNull(entity.getPayload());
+        assertNull(entity.getArchivedAt());
+    }
+
+    @Test
+    @DisplayName("Deve definir e obter valores usando setters e getters")
+    void shouldSetAndGetValuesUsingSettersAndGetters() {
+        VoteArchiveEntity entity = new VoteArchiveEntity();
+        UUID agendaId = UUID.randomUUID();
+        LocalDateTime archivedAt = LocalDateTime.now();
+        byte[] payload = {1, 2, 3};
+
+        entity.setAgendaId(agendaId);
+        entity.setYesCount(5);
+        entity.setNoCount(3);
+        entity.setPayload(payload);
+        entity.setArchivedAt(archivedAt);
+
+        assertEquals(agendaId, entity.getAgendaId());
+        assertEquals(5, entity.getYesCount());
+        assertEquals(3, entity.getNoCount());
+        assertArrayEquals(payload, entity.getPayload());
+        assertEquals(archivedAt, entity.getArchivedAt());
+    }
+}
@@ -19,7 +19,7 @@ class VoteEntityTest {
         assertNotNull(entity);
         assertNull(entity.getId());
         assertNull(entity.getAgendaId());
-        assertNull(entity.getCpf());
+        assertEquals(0L, entity.getCpf());
         assertNull(entity.getChoice());
         assertNull(entity.getCreatedAt());
     }
@@ -29,7 +29,7 @@ class VoteEntityTest {
     void shouldCreateEntityWithParameterizedConstructor() {
         UUID id = UUID.randomUUID();
         UUID agendaId = UUID.randomUUID();
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         String choice = "YES";
         LocalDateTime createdAt = LocalDateTime.now();
 
@@ -48,7 +48,7 @@ class VoteEntityTest {
         VoteEntity entity = new VoteEntity();
         UUID id = UUID.randomUUID();
         UUID agendaId = UUID.randomUUID();
-        String cpf = "98765432100";
+        long cpf = 98765432100L;
         String choice = "NO";
         LocalDateTime createdAt = LocalDateTime.now();
 
@@ -64,5 +64,16 @@ class VoteEntityTest {
         assertEquals(choice, entity.getChoice());
         assertEquals(createdAt, entity.getCreatedAt());
     }
-}
 
+    @Test
+    @DisplayName("Deve ser nova até ser persistida ou carregada")
+    void shouldBeNewUntilPersistedOrLoaded() {
+        VoteEntity entity = new VoteEntity(UUID.randomUUID(), UUID.randomUUID(), 12345678901L, "YES", LocalDateTime.now());
+
+        assertTrue(entity.isNew());
+
+        entity.markNotNew();
+
+        assertFalse(entity.isNew());
+    }
+}
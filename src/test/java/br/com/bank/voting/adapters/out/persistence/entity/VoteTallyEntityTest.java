@@ -0,0 +1,37 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VoteTallyEntity Tests")
+class VoteTallyEntityTest {
+
+    @Test
+    @DisplayName("Deve criar entidade com construtor padrão")
+    void shouldCreateEntityWithDefaultConstructor() {
+        VoteTallyEntity entity = new VoteTallyEntity();
+
+        assertNull(entity.getAgendaId());
+        assertEquals(0, entity.getYesCount());
+        assertEquals(0, entity.getNoCount());
+    }
+
+    @Test
+    @DisplayName("Deve definir e obter valores usando setters e getters")
+    void shouldSetAndGetValuesUsingSettersAndGetters() {
+        VoteTallyEntity entity = new VoteTallyEntity();
+        UUID agendaId = UUID.randomUUID();
+
+        entity.setAgendaId(agendaId);
+        entity.setYesCount(10);
+        entity.setNoCount(4);
+
+        assertEquals(agendaId, entity.getAgendaId());
+        assertEquals(10, entity.getYesCount());
+        assertEquals(4, entity.getNoCount());
+    }
+}
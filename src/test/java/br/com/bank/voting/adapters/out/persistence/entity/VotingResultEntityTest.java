@@ -0,0 +1,48 @@
+package br.com.bank.voting.adapters.out.persistence.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VotingResultEntity Tests")
+class VotingResultEntityTest {
+
+    @Test
+    @DisplayName("Deve criar entidade com construtor padrão")
+    void shouldCreateEntityWithDefaultConstructor() {
+        VotingResultEntity entity = new VotingResultEntity();
+
+        assertNull(entity.getAgendaId());
+        assertEquals(0, entity.getYesCount());
+        assertEquals(0, entity.getNoCount());
+        assertNull(entity.getResult());
+        assertNull(entity.getClosedAt());
+        assertNull(entity.getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("Deve definir e obter valores usando setters e getters")
+    void shouldSetAndGetValuesUsingSettersAndGetters() {
+        VotingResultEntity entity = new VotingResultEntity();
+        UUID agendaId = UUID.randomUUID();
+        LocalDateTime closedAt = LocalDateTime.now();
+
+        entity.setAgendaId(agendaId);
+        entity.setYesCount(5);
+        entity.setNoCount(3);
+        entity.setResult("APPROVED");
+        entity.setClosedAt(closedAt);
+        entity.setPublishedAt(closedAt.plusSeconds(10));
+
+        assertEquals(agendaId, entity.getAgendaId());
+        assertEquals(5, entity.getYesCount());
+        assertEquals(3, entity.getNoCount());
+        assertEquals("APPROVED", entity.getResult());
+        assertEquals(closedAt, entity.getClosedAt());
+        assertEquals(closedAt.plusSeconds(10), entity.getPublishedAt());
+    }
+}
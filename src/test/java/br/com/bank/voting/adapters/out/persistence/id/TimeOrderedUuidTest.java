@@ -0,0 +1,49 @@
+package br.com.bank.voting.adapters.out.persistence.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedUuid Tests")
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com variante RFC")
+    void shouldGenerateVersion7Uuid() {
+        UUID uuid = TimeOrderedUuid.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Deve codificar o instante atual nos 48 bits mais significativos")
+    void shouldEncodeCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuid.next();
+        long after = System.currentTimeMillis();
+
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before);
+        // pode adiantar alguns ms se o contador de 12 bits transbordar sob carga
+        assertTrue(millis - after < 1_000);
+    }
+
+    @Test
+    @DisplayName("Deve gerar UUIDs únicos e em ordem crescente")
+    void shouldGenerateUniqueIncreasingUuids() {
+        Set<UUID> generated = new HashSet<>();
+        UUID previous = TimeOrderedUuid.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = TimeOrderedUuid.next();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            assertTrue(generated.add(current));
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.bank.voting.adapters.out.persistence.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongHashSet Tests")
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("Deve adicionar e encontrar valores")
+    void shouldAddAndFindValues() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(52998224725L));
+        assertTrue(set.add(12345678901L));
+
+        assertTrue(set.contains(52998224725L));
+        assertTrue(set.contains(12345678901L));
+        assertFalse(set.contains(11111111111L));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    @DisplayName("Não deve duplicar valores já presentes")
+    void shouldNotDuplicateValues() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(52998224725L));
+        assertFalse(set.add(52998224725L));
+
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("Deve suportar o valor zero")
+    void shouldSupportZero() {
+        LongHashSet set = new LongHashSet();
+
+        assertFalse(set.contains(0L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+
+        assertTrue(set.contains(0L));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("Deve manter todos os valores após crescer a tabela")
+    void shouldKeepValuesAfterGrowing() {
+        LongHashSet set = new LongHashSet();
+
+        for (long cpf = 1; cpf <= 100_000; cpf++) {
+            set.add(cpf);
+        }
+
+        assertEquals(100_000, set.size());
+        for (long cpf = 1; cpf <= 100_000; cpf++) {
+            assertTrue(set.contains(cpf));
+        }
+        assertFalse(set.contains(100_001L));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar valores adicionados por outras threads")
+    void shouldFindValuesAddedConcurrently() throws Exception {
+        LongHashSet set = new LongHashSet();
+        int threads = 8;
+        int perThread = 10_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long offset = (long) t * perThread;
+                writers.add(executor.submit(() -> {
+                    for (long i = 1; i <= perThread; i++) {
+                        set.add(offset + i);
+                        assertTrue(set.contains(offset + i));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+
+        assertEquals(threads * perThread, set.size());
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.bank.voting.adapters.out.persistence.index;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VotedCpfIndex Tests")
+class VotedCpfIndexTest {
+
+    private static final long CPF = 52998224725L;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private VotedCpfIndex index;
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        index = new VotedCpfIndex(true, 100, Duration.ofMinutes(30), ticker);
+        agendaId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve carregar a pauta do banco apenas no primeiro acesso")
+    void shouldLoadAgendaOnlyOnFirstAccess() {
+        assertTrue(index.contains(agendaId, CPF, loader(CPF)));
+        assertFalse(index.contains(agendaId, 12345678901L, loader(CPF)));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, index.getIndexedAgendaCount());
+    }
+
+    @Test
+    @DisplayName("Deve adicionar o CPF ao índice somente após o commit")
+    void shouldAddCpfOnlyAfterCommit() {
+        index.contains(agendaId, CPF, loader());
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.addAfterCommit(agendaId, List.of(CPF));
+
+        assertFalse(index.contains(agendaId, CPF, loader()));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(index.contains(agendaId, CPF, loader()));
+    }
+
+    @Test
+    @DisplayName("Não deve adicionar o CPF quando a transação não for confirmada")
+    void shouldNotAddCpfWhenTransactionRollsBack() {
+        index.contains(agendaId, CPF, loader());
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.addAfterCommit(agendaId, List.of(CPF));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(index.contains(agendaId, CPF, loader()));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar votos de pautas ainda não carregadas")
+    void shouldIgnoreVotesOfAgendasNotLoaded() {
+        index.addAfterCommit(agendaId, List.of(CPF));
+
+        assertEquals(0, index.getIndexedAgendaCount());
+        assertTrue(index.contains(agendaId, CPF, loader(CPF)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve descartar pautas sem acesso e recarregá-las do banco")
+    void shouldEvictIdleAgendasAndReload() {
+        index.contains(agendaId, CPF, loader());
+
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+
+        assertTrue(index.contains(agendaId, CPF, loader(CPF)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Deve indicar se o índice está habilitado")
+    void shouldTellWhetherIndexIsEnabled() {
+        VotedCpfIndex disabled = new VotedCpfIndex(false, 100, Duration.ofMinutes(30), ticker);
+
+        assertTrue(index.isEnabled());
+        assertFalse(disabled.isEnabled());
+    }
+
+    private Supplier<Collection<Long>> loader(Long... cpfs) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(cpfs);
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.bank.voting.adapters.out.persistence.journal;
+
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VoteJournal Tests")
+class VoteJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve reaplicar os votos gravados após reabrir o journal")
+    void shouldReplayAppendedVotesAfterReopen() {
+        Vote vote = vote(11111111111L, VoteChoice.YES);
+        List<JournalEntry> written = new ArrayList<>();
+
+        try (VoteJournal journal = new VoteJournal(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(vote, vote(22222222222L, VoteChoice.NO)), written::add);
+        }
+
+        assertEquals(List.of(1L, 2L), written.stream().map(JournalEntry::sequence).toList());
+        try (VoteJournal reopened = new VoteJournal(directory, SEGMENT_SIZE)) {
+            List<JournalEntry> replayed = reopened.readUncheckpointed();
+
+            assertEquals(2, replayed.size());
+            Vote first = replayed.getFirst().vote();
+            assertEquals(vote.getId(), first.getId());
+            assertEquals(vote.getAgendaId(), first.getAgendaId());
+            assertEquals(vote.getCpf(), first.getCpf());
+            assertEquals(vote.getChoice(), first.getChoice());
+            assertEquals(vote.getCreatedAt(), first.getCreatedAt());
+            assertEquals(VoteChoice.NO, replayed.get(1).vote().getChoice());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar a sequência após reabrir o journal")
+    void shouldContinueSequenceAfterReopen() {
+        try (VoteJournal journal = new VoteJournal(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(vote(11111111111L, VoteChoice.YES)), entry -> { });
+        }
+
+        try (VoteJournal reopened = new VoteJournal(directory, SEGMENT_SIZE)) {
+            List<JournalEntry> entries = reopened.append(List.of(vote(22222222222L, VoteChoice.YES)), entry -> { });
+
+            assertEquals(2L, entries.getFirst().sequence());
+            assertEquals(2, reopened.readUncheckpointed().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve reaplicar votos anteriores ao checkpoint")
+    void shouldNotReplayCheckpointedVotes() {
+        try (VoteJournal journal = new VoteJournal(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(vote(11111111111L, VoteChoice.YES), vote(22222222222L, VoteChoice.NO)),
+                    entry -> { });
+            journal.checkpoint(1L);
+        }
+
+        try (VoteJournal reopened = new VoteJournal(directory, SEGMENT_SIZE)) {
+            List<JournalEntry> replayed = reopened.readUncheckpointed();
+
+            assertEquals(1L, reopened.getCheckpointSequence());
+            assertEquals(1, replayed.size());
+            assertEquals(22222222222L, replayed.getFirst().vote().getCpf());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar registro incompleto no fim do segmento")
+    void shouldDiscardTornRecordAtTail() throws IOException {
+        try (VoteJournal journal = new VoteJournal(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(vote(11111111111L, VoteChoice.YES), vote(22222222222L, VoteChoice.NO)),
+                    entry -> { });
+        }
+        Path segment = segments().getFirst();
+        long recordSize = 16 + 54;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // corrompe o último byte do CPF do segundo registro
+            channel.write(ByteBuffer.wrap(new byte[]{0}), 2 * recordSize - 1);
+        }
+
+        try (VoteJournal reopened = new VoteJournal(directory, SEGMENT_SIZE)) {
+            List<JournalEntry> replayed = reopened.readUncheckpointed();
+
+            assertEquals(1, replayed.size());
+            assertEquals(11111111111L, replayed.getFirst().vote().getCpf());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve criar novo segmento quando o atual estiver cheio e apagar segmentos já confirmados")
+    void shouldRotateSegmentsAndDeleteCheckpointedOnes() throws IOException {
+        try (VoteJournal journal = new VoteJournal(directory, SEGMENT_SIZE)) {
+            List<Vote> votes = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                votes.add(vote(i, VoteChoice.YES));
+            }
+            List<JournalEntry> entries = journal.append(votes, entry -> { });
+
+            assertTrue(journal.getSegmentCount() > 1);
+            assertEquals(journal.getSegmentCount(), segments().size());
+
+            journal.checkpoint(entries.getLast().sequence());
+
+            assertEquals(1, journal.getSegmentCount());
+            assertEquals(1, segments().size());
+            assertTrue(journal.readUncheckpointed().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registro de versão desconhecida em vez de descartá-lo")
+    void shouldRejectRecordWithUnknownVersion() throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(16 + 54);
+        record.putInt(54)
+                .putInt(0)
+                .putLong(1)
+                .put((byte) 2);
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), 8, record.capacity() - 8);
+        record.putInt(4, (int) crc.getValue());
+        Files.write(directory.resolve(String.format("segment-%020d.log", 1)), record.array());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new VoteJournal(directory, SEGMENT_SIZE));
+        assertTrue(exception.getMessage().contains("version 2"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o segmento for pequeno demais")
+    void shouldThrowWhenSegmentIsTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> new VoteJournal(directory, 64));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    private Vote vote(long cpf, VoteChoice choice) {
+        return new Vote(UUID.randomUUID(), UUID.randomUUID(), cpf, choice, LocalDateTime.now());
+    }
+}
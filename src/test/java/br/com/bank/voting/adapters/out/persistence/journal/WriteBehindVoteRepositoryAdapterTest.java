@@ -0,0 +1,257 @@
+package br.com.bank.voting.adapters.out.persistence.journal;
+
+import br.com.bank.voting.adapters.out.persistence.adapter.VoteJpaAdapter;
+import br.com.bank.voting.adapters.out.persistence.adapter.VoteTallyJpaAdapter;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindVoteRepositoryAdapter Tests")
+class WriteBehindVoteRepositoryAdapterTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private VoteJpaAdapter voteAdapter;
+
+    @Mock
+    private VoteTallyJpaAdapter tallyAdapter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VoteJournal journal;
+    private WriteBehindVoteRepositoryAdapter adapter;
+    private UUID agendaId;
+
+    @BeforeEach
+    void setUp() {
+        journal = new VoteJournal(directory, SEGMENT_SIZE);
+        adapter = newAdapter(journal);
+        agendaId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar o voto sem gravar no banco e descarregá-lo em lote depois")
+    void shouldAcknowledgeVoteAndDrainItLater() throws InterruptedException {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.findExistingIds(anyCollection())).thenReturn(Set.of());
+
+        Vote saved = adapter.save(vote(11111111111L, VoteChoice.YES));
+        adapter.save(vote(22222222222L, VoteChoice.NO));
+        adapter.save(vote(33333333333L, VoteChoice.YES));
+
+        assertNotNull(saved.getId());
+        verify(voteAdapter, never()).saveAll(anyList());
+        assertEquals(3, adapter.getPendingCount());
+
+        assertEquals(3, adapter.drainOnce(0));
+
+        verify(voteAdapter).saveAll(argThat(votes -> votes.size() == 3));
+        verify(tallyAdapter).increment(agendaId, 2, 1);
+        assertEquals(0, adapter.getPendingCount());
+        assertTrue(journal.readUncheckpointed().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar voto duplicado enquanto o primeiro ainda não chegou ao banco")
+    void shouldRejectDuplicateWhileInFlight() {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        adapter.save(vote(11111111111L, VoteChoice.YES));
+        Vote duplicate = vote(11111111111L, VoteChoice.NO);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> adapter.save(duplicate));
+
+        assertTrue(exception.getMessage().contains("already voted"));
+        assertTrue(adapter.findByAgendaIdAndCpf(agendaId, 11111111111L).isPresent());
+        assertTrue(adapter.existsByAgendaIdAndCpf(agendaId, 11111111111L));
+        assertEquals(Set.of(11111111111L), adapter.findCpfsAlreadyVoted(agendaId, List.of(11111111111L)));
+        assertEquals(1, journal.readUncheckpointed().size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar voto já gravado no banco e liberar a reserva")
+    void shouldRejectVoteAlreadyPersisted() {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of(11111111111L));
+        Vote vote = vote(11111111111L, VoteChoice.YES);
+
+        assertThrows(IllegalStateException.class, () -> adapter.save(vote));
+
+        assertEquals(0, adapter.getPendingCount());
+        assertTrue(journal.readUncheckpointed().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o voto não estiver pendente")
+    void shouldDelegateLookupWhenNotPending() {
+        Vote persisted = vote(11111111111L, VoteChoice.YES);
+        when(voteAdapter.findByAgendaIdAndCpf(agendaId, 11111111111L)).thenReturn(Optional.of(persisted));
+
+        assertEquals(Optional.of(persisted), adapter.findByAgendaIdAndCpf(agendaId, 11111111111L));
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar votos do journal após reinício sem duplicar os já gravados")
+    void shouldReplayJournalIdempotentlyAfterRestart() throws InterruptedException {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        Vote alreadyFlushed = adapter.save(vote(11111111111L, VoteChoice.YES));
+        adapter.save(vote(22222222222L, VoteChoice.NO));
+        journal.close();
+
+        journal = new VoteJournal(directory, SEGMENT_SIZE);
+        WriteBehindVoteRepositoryAdapter restarted = newAdapter(journal);
+        when(voteAdapter.findExistingIds(anyCollection())).thenReturn(Set.of(alreadyFlushed.getId()));
+
+        restarted.replay();
+
+        assertEquals(2, restarted.getPendingCount());
+        assertTrue(restarted.findByAgendaIdAndCpf(agendaId, 22222222222L).isPresent());
+        assertEquals(2, restarted.drainOnce(0));
+        verify(voteAdapter).saveAll(argThat(votes ->
+                votes.size() == 1 && votes.getFirst().getCpf() == 22222222222L));
+        verify(tallyAdapter).increment(agendaId, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Deve manter o lote pendente e tentar novamente quando a gravação falhar")
+    void shouldRetrySameBatchWhenFlushFails() throws InterruptedException {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.findExistingIds(anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of());
+        adapter.save(vote(11111111111L, VoteChoice.YES));
+
+        assertThrows(IllegalStateException.class, () -> adapter.drainOnce(0));
+        assertEquals(1, adapter.getPendingCount());
+        assertEquals(1, journal.readUncheckpointed().size());
+
+        assertEquals(1, adapter.drainOnce(0));
+        assertEquals(0, adapter.getPendingCount());
+        assertTrue(journal.readUncheckpointed().isEmpty());
+        verify(tallyAdapter, times(1)).increment(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve gravar voto a voto e descartar apenas o voto recusado por violação de constraint")
+    void shouldDropOnlyVoteRejectedByConstraint() throws InterruptedException {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.findExistingIds(anyCollection())).thenReturn(Set.of());
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("uk_votes_agenda_cpf");
+        when(voteAdapter.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Vote> votes = invocation.getArgument(0);
+            if (votes.stream().anyMatch(vote -> vote.getCpf() == 22222222222L)) {
+                throw duplicate;
+            }
+            return votes;
+        });
+        adapter.save(vote(11111111111L, VoteChoice.YES));
+        adapter.save(vote(22222222222L, VoteChoice.NO));
+        adapter.save(vote(33333333333L, VoteChoice.YES));
+
+        assertEquals(3, adapter.drainOnce(0));
+
+        verify(tallyAdapter, times(2)).increment(agendaId, 1, 0);
+        verify(tallyAdapter, never()).increment(agendaId, 0, 1);
+        assertEquals(1, adapter.getDroppedCount());
+        assertEquals(0, adapter.getPendingCount());
+        assertTrue(journal.readUncheckpointed().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve incluir na apuração final os votos ainda no journal ao encerrar a sessão")
+    void shouldIncludeBufferedVotesInFinalTally() throws InterruptedException {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.findExistingIds(anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 2, 1));
+        adapter.save(vote(11111111111L, VoteChoice.YES));
+        adapter.save(vote(22222222222L, VoteChoice.NO));
+        adapter.save(vote(33333333333L, VoteChoice.YES));
+        assertEquals(3, adapter.getPendingCount());
+
+        adapter.start();
+        try {
+            VoteTally tally = adapter.countVotesByChoice(agendaId);
+
+            assertEquals(3, tally.getTotal());
+            assertEquals(0, adapter.getPendingCount());
+            InOrder inOrder = inOrder(voteAdapter);
+            inOrder.verify(voteAdapter).saveAll(anyList());
+            inOrder.verify(voteAdapter).countVotesByChoice(agendaId);
+        } finally {
+            adapter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve falhar a apuração em vez de ignorar votos da pauta que não chegaram ao banco")
+    void shouldFailTallyWhenBufferedVotesAreNotDrained() {
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        adapter.save(vote(11111111111L, VoteChoice.YES));
+
+        assertThrows(IllegalStateException.class, () -> adapter.awaitDrained(agendaId, 20));
+        verify(voteAdapter, never()).countVotesByChoice(any());
+    }
+
+    @Test
+    @DisplayName("Não deve aguardar votos pendentes de outras pautas")
+    void shouldNotWaitForOtherAgendas() {
+        UUID otherAgenda = UUID.randomUUID();
+        when(voteAdapter.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        when(voteAdapter.countVotesByChoice(otherAgenda)).thenReturn(new VoteTally(otherAgenda, 0, 0));
+        adapter.save(vote(11111111111L, VoteChoice.YES));
+
+        assertEquals(0, adapter.countVotesByChoice(otherAgenda).getTotal());
+    }
+
+    @Test
+    @DisplayName("Não deve fazer nada quando não houver votos na fila")
+    void shouldReturnZeroWhenQueueIsEmpty() throws InterruptedException {
+        assertEquals(0, adapter.drainOnce(0));
+        verifyNoInteractions(voteAdapter, tallyAdapter, transactionManager);
+    }
+
+    private WriteBehindVoteRepositoryAdapter newAdapter(VoteJournal voteJournal) {
+        return new WriteBehindVoteRepositoryAdapter(voteAdapter, tallyAdapter,
+                new TransactionTemplate(transactionManager), voteJournal, 100, 10, 1000);
+    }
+
+    private Vote vote(long cpf, VoteChoice choice) {
+        return new Vote(null, agendaId, cpf, choice, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.bank.voting.application.dto.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AgendaCursor Tests")
+class AgendaCursorTest {
+
+    @Test
+    @DisplayName("Deve decodificar o mesmo cursor que foi codificado")
+    void shouldRoundTrip() {
+        AgendaCursor cursor = new AgendaCursor(LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_932), UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertEquals(cursor, AgendaCursor.decode(encoded));
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "AAAA", "@@@@"})
+    @DisplayName("Deve rejeitar cursor inválido")
+    void shouldRejectInvalidCursor(String value) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> AgendaCursor.decode(value));
+
+        assertTrue(exception.getMessage().startsWith("Invalid cursor"));
+    }
+}
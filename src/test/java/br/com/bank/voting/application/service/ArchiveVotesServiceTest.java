@@ -0,0 +1,78 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.port.out.VoteArchivePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveVotesService Tests")
+class ArchiveVotesServiceTest {
+
+    @Mock
+    private VoteArchivePort voteArchive;
+
+    private ArchiveVotesService archiveVotesService;
+
+    @BeforeEach
+    void setUp() {
+        archiveVotesService = new ArchiveVotesService(voteArchive, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Deve arquivar apenas pautas encerradas antes do tempo mínimo")
+    void shouldArchiveOnlyAgendasClosedBeforeMinimumAge() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(voteArchive.findArchivableAgendaIds(any(LocalDateTime.class), eq(10))).thenReturn(List.of(first, second));
+        when(voteArchive.archive(first)).thenReturn(3L);
+        when(voteArchive.archive(second)).thenReturn(0L);
+
+        LocalDateTime before = LocalDateTime.now();
+        int archived = archiveVotesService.archiveClosedAgendas(10);
+
+        assertEquals(2, archived);
+        ArgumentCaptor<LocalDateTime> closedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(voteArchive).findArchivableAgendaIds(closedBefore.capture(), eq(10));
+        assertFalse(closedBefore.getValue().isAfter(LocalDateTime.now().minusHours(24)));
+        assertFalse(closedBefore.getValue().isBefore(before.minusHours(24)));
+    }
+
+    @Test
+    @DisplayName("Deve continuar arquivamento quando uma pauta falhar")
+    void shouldContinueWhenOneAgendaFails() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(voteArchive.findArchivableAgendaIds(any(LocalDateTime.class), eq(10))).thenReturn(List.of(failing, healthy));
+        when(voteArchive.archive(failing)).thenThrow(new RuntimeException("Database error"));
+        when(voteArchive.archive(healthy)).thenReturn(5L);
+
+        int archived = archiveVotesService.archiveClosedAgendas(10);
+
+        assertEquals(1, archived);
+        verify(voteArchive).archive(healthy);
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar quando não houver pautas elegíveis")
+    void shouldDoNothingWhenNoAgendaIsArchivable() {
+        when(voteArchive.findArchivableAgendaIds(any(LocalDateTime.class), eq(10))).thenReturn(List.of());
+
+        assertEquals(0, archiveVotesService.archiveClosedAgendas(10));
+        verify(voteArchive, never()).archive(any());
+    }
+}
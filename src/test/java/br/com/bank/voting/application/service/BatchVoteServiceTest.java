@@ -0,0 +1,336 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.command.BatchVoteCommand;
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+import br.com.bank.voting.application.dto.result.BatchVoteResult.Rejection;
+import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import br.com.bank.voting.domain.model.enums.VoteChoice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchVoteService Tests")
+class BatchVoteServiceTest {
+
+    private static final int MAX_BATCH_SIZE = 5;
+
+    @Mock
+    private VoteRepositoryPort voteRepository;
+
+    @Mock
+    private SessionRepositoryPort sessionRepository;
+
+    @Mock
+    private AgendaRepositoryPort agendaRepository;
+
+    @Mock
+    private VoterEligibilityPort voterEligibilityPort;
+
+    @Mock
+    private VoteTallyRepositoryPort voteTallyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BatchVoteService batchVoteService;
+
+    private UUID agendaId;
+    private Agenda agenda;
+    private VotingSession openSession;
+    private VotingSession closedSession;
+
+    @BeforeEach
+    void setUp() {
+        batchVoteService = new BatchVoteService(
+                voteRepository,
+                sessionRepository,
+                agendaRepository,
+                voterEligibilityPort,
+                voteTallyRepository,
+                new TransactionTemplate(transactionManager),
+                MAX_BATCH_SIZE
+        );
+        agendaId = UUID.randomUUID();
+        agenda = new Agenda(agendaId, "Pauta Teste", LocalDateTime.now());
+
+        LocalDateTime now = LocalDateTime.now();
+        openSession = new VotingSession(UUID.randomUUID(), agendaId, now, now.plusMinutes(10));
+        closedSession = new VotingSession(UUID.randomUUID(), agendaId, now.minusMinutes(10), now.minusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve registrar todos os votos válidos do lote com uma única gravação")
+    void shouldRegisterAllValidVotesWithSingleSave() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        givenEligibility(Map.of());
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("52998224725", VoteChoice.YES),
+                item("12345678909", VoteChoice.YES),
+                item("11144477735", VoteChoice.NO)
+        ));
+
+        assertEquals(3, result.acceptedCount());
+        verify(voterEligibilityPort, times(1)).checkEligibility(anyCollection());
+        verify(voterEligibilityPort, never()).isEligibleToVote(anyLong());
+        assertEquals(0, result.rejectedCount());
+        verify(voteRepository).saveAll(argThat(votes -> votes.size() == 3));
+        verify(voteTallyRepository).increment(agendaId, 2, 1);
+        verify(sessionRepository, times(1)).findByAgendaId(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve consultar a elegibilidade antes de abrir a transação de gravação")
+    void shouldCheckEligibilityBeforeTransaction() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        givenEligibility(Map.of());
+
+        batchVoteService.vote(command(item("52998224725", VoteChoice.YES)));
+
+        InOrder inOrder = inOrder(voterEligibilityPort, transactionManager, voteRepository);
+        inOrder.verify(voterEligibilityPort).checkEligibility(anyCollection());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(voteRepository).saveAll(anyList());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar um a um e rejeitar só o CPF que perdeu a corrida de voto duplicado")
+    void shouldSaveOneByOneWhenBatchLosesDuplicateRace() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        givenEligibility(Map.of());
+        when(voteRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("Associate already voted for this agenda"));
+        when(voteRepository.save(any())).thenAnswer(invocation -> {
+            Vote vote = invocation.getArgument(0);
+            if (vote.getCpf() == 12345678909L) {
+                throw new IllegalStateException("Associate already voted for this agenda");
+            }
+            return vote;
+        });
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("52998224725", VoteChoice.YES),
+                item("12345678909", VoteChoice.YES),
+                item("11144477735", VoteChoice.NO)
+        ));
+
+        assertEquals(2, result.acceptedCount());
+        assertEquals(1, result.rejectedCount());
+        assertEquals(Rejection.ALREADY_VOTED, result.items().get(1).rejection());
+        assertTrue(result.items().get(0).isAccepted());
+        assertTrue(result.items().get(2).isAccepted());
+        verify(voteTallyRepository).increment(agendaId, 1, 0);
+        verify(voteTallyRepository).increment(agendaId, 0, 1);
+        verify(voteTallyRepository, never()).increment(agendaId, 2, 1);
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPF repetido dentro do lote")
+    void shouldRejectDuplicateCpfWithinBatch() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        givenEligibility(Map.of());
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("52998224725", VoteChoice.YES),
+                item("52998224725", VoteChoice.NO)
+        ));
+
+        assertTrue(result.items().get(0).isAccepted());
+        assertEquals(Rejection.ALREADY_VOTED, result.items().get(1).rejection());
+        assertTrue(result.items().get(1).message().contains("already voted"));
+        verify(voterEligibilityPort).checkEligibility(argThat(cpfs -> cpfs.size() == 1));
+        verify(voteTallyRepository).increment(agendaId, 1, 0);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPFs que já votaram usando uma única consulta")
+    void shouldRejectAlreadyVotedCpfsWithSingleQuery() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of(12345678909L));
+        givenEligibility(Map.of());
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("52998224725", VoteChoice.YES),
+                item("12345678909", VoteChoice.NO)
+        ));
+
+        assertTrue(result.items().get(0).isAccepted());
+        assertEquals(Rejection.ALREADY_VOTED, result.items().get(1).rejection());
+        verify(voteRepository, times(1)).findCpfsAlreadyVoted(eq(agendaId), anyCollection());
+        verify(voterEligibilityPort).checkEligibility(argThat(cpfs -> !cpfs.contains(12345678909L)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar itens com CPF em formato inválido ou sem escolha")
+    void shouldRejectMalformedItems() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        givenEligibility(Map.of());
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("123", VoteChoice.YES),
+                item("12345678909", null),
+                null,
+                item("52998224725", VoteChoice.NO)
+        ));
+
+        assertEquals(Rejection.INVALID_CPF, result.items().get(0).rejection());
+        assertEquals(Rejection.INVALID_REQUEST, result.items().get(1).rejection());
+        assertEquals("Vote choice is required", result.items().get(1).message());
+        assertEquals(Rejection.INVALID_CPF, result.items().get(2).rejection());
+        assertTrue(result.items().get(3).isAccepted());
+        verify(voteTallyRepository).increment(agendaId, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPFs com dígitos verificadores inválidos sem consultar votos nem elegibilidade")
+    void shouldRejectInvalidCheckDigitsWithoutQueries() {
+        givenOpenSession();
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("52998224726", VoteChoice.YES),
+                item("11111111111", VoteChoice.NO)
+        ));
+
+        assertEquals(2, result.rejectedCount());
+        assertEquals("Invalid CPF", result.items().get(0).message());
+        assertEquals("Invalid CPF", result.items().get(1).message());
+        verifyNoInteractions(voteRepository, voterEligibilityPort, voteTallyRepository);
+    }
+
+    @Test
+    @DisplayName("Deve mapear falhas de elegibilidade para cada item")
+    void shouldMapEligibilityFailuresPerItem() {
+        givenOpenSession();
+        when(voteRepository.findCpfsAlreadyVoted(eq(agendaId), anyCollection())).thenReturn(Set.of());
+        givenEligibility(Map.of(
+                52998224725L, EligibilityStatus.UNABLE_TO_VOTE,
+                12345678909L, EligibilityStatus.INVALID_CPF,
+                11144477735L, EligibilityStatus.UNAVAILABLE));
+
+        BatchVoteResult result = batchVoteService.vote(command(
+                item("52998224725", VoteChoice.YES),
+                item("12345678909", VoteChoice.YES),
+                item("11144477735", VoteChoice.YES)
+        ));
+
+        assertEquals(Rejection.NOT_ELIGIBLE, result.items().get(0).rejection());
+        assertTrue(result.items().get(0).message().contains("not eligible"));
+        assertEquals(Rejection.UNKNOWN_CPF, result.items().get(1).rejection());
+        assertEquals(Rejection.SERVICE_UNAVAILABLE, result.items().get(2).rejection());
+        verify(voteRepository, never()).saveAll(anyList());
+        verify(voteTallyRepository, never()).increment(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote estiver vazio")
+    void shouldThrowWhenBatchIsEmpty() {
+        BatchVoteCommand emptyCommand = new BatchVoteCommand(agendaId, List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> batchVoteService.vote(emptyCommand));
+        verifyNoInteractions(agendaRepository, voteRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o lote exceder o tamanho máximo")
+    void shouldThrowWhenBatchExceedsMaxSize() {
+        List<BatchVoteCommand.Item> items = new ArrayList<>(Collections.nCopies(MAX_BATCH_SIZE + 1,
+                item("52998224725", VoteChoice.YES)));
+        BatchVoteCommand oversizedCommand = new BatchVoteCommand(agendaId, items);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> batchVoteService.vote(oversizedCommand));
+        assertTrue(exception.getMessage().contains("maximum"));
+        verifyNoInteractions(agendaRepository, voteRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a pauta não existir")
+    void shouldThrowWhenAgendaNotFound() {
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.empty());
+        BatchVoteCommand batch = command(item("52998224725", VoteChoice.YES));
+
+        assertThrows(IllegalArgumentException.class, () -> batchVoteService.vote(batch));
+        verifyNoInteractions(voteRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o lote inteiro quando a sessão estiver fechada")
+    void shouldThrowWhenSessionIsClosed() {
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
+        BatchVoteCommand batch = command(item("52998224725", VoteChoice.YES));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> batchVoteService.vote(batch));
+        assertTrue(exception.getMessage().contains("closed"));
+        verifyNoInteractions(voteRepository, voterEligibilityPort);
+    }
+
+    private void givenOpenSession() {
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
+    }
+
+    /**
+     * Responde a consulta em lote com os status informados; CPFs não informados são elegíveis.
+     */
+    private void givenEligibility(Map<Long, EligibilityStatus> overrides) {
+        when(voterEligibilityPort.checkEligibility(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> cpfs = invocation.getArgument(0);
+            Map<Long, EligibilityStatus> statuses = new HashMap<>();
+            for (Long cpf : cpfs) {
+                statuses.put(cpf, overrides.getOrDefault(cpf, EligibilityStatus.ABLE_TO_VOTE));
+            }
+            return statuses;
+        });
+    }
+
+    private BatchVoteCommand command(BatchVoteCommand.Item... items) {
+        return new BatchVoteCommand(agendaId, Arrays.asList(items));
+    }
+
+    private BatchVoteCommand.Item item(String cpf, VoteChoice choice) {
+        return new BatchVoteCommand.Item(cpf, choice);
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.out.ResultOutboxPort;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VotingResultRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CloseSessionService Tests")
+class CloseSessionServiceTest {
+
+    @Mock
+    private SessionRepositoryPort sessionRepository;
+
+    @Mock
+    private VoteRepositoryPort voteRepository;
+
+    @Mock
+    private VotingResultRepositoryPort votingResultRepository;
+
+    @Mock
+    private ResultOutboxPort resultOutbox;
+
+    @InjectMocks
+    private CloseSessionService closeSessionService;
+
+    private UUID agendaId;
+    private VotingSession openSession;
+    private VotingSession closedSession;
+
+    @BeforeEach
+    void setUp() {
+        agendaId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        openSession = new VotingSession(UUID.randomUUID(), agendaId, now, now.plusMinutes(10));
+        closedSession = new VotingSession(UUID.randomUUID(), agendaId, now.minusMinutes(10), now.minusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve apurar, gravar o snapshot e registrar o resultado no outbox ao encerrar a sessão")
+    void shouldTallySaveSnapshotAndEnqueueWhenClosing() {
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 3, 1));
+        when(votingResultRepository.save(any(VotingResultResult.class), eq(closedSession.getClosesAt())))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(votingResultRepository.markPublished(eq(agendaId), any(LocalDateTime.class))).thenReturn(true);
+
+        Optional<VotingResultResult> result = closeSessionService.close(agendaId);
+
+        assertTrue(result.isPresent());
+        assertEquals(SessionStatus.CLOSED, result.get().sessionStatus());
+        assertEquals(3L, result.get().yes());
+        assertEquals(1L, result.get().no());
+        assertEquals(4L, result.get().total());
+        assertEquals(VotingResult.APPROVED, result.get().result());
+        verify(resultOutbox).enqueue(eq(result.get()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Não deve encerrar sessão ainda aberta")
+    void shouldNotCloseOpenSession() {
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
+
+        assertTrue(closeSessionService.close(agendaId).isEmpty());
+
+        verifyNoInteractions(voteRepository, votingResultRepository, resultOutbox);
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o snapshot existente sem recontar votos")
+    void shouldReuseExistingSnapshotWithoutCounting() {
+        VotingResultResult snapshot = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 1L, 2L, 3L, VotingResult.REJECTED);
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(snapshot));
+        when(votingResultRepository.markPublished(eq(agendaId), any(LocalDateTime.class))).thenReturn(true);
+
+        assertEquals(Optional.of(snapshot), closeSessionService.close(agendaId));
+
+        verify(votingResultRepository, never()).save(any(), any());
+        verifyNoInteractions(voteRepository);
+        verify(resultOutbox).enqueue(eq(snapshot), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Não deve registrar no outbox resultado já registrado por outra execução")
+    void shouldNotPublishResultAlreadyPublished() {
+        VotingResultResult snapshot = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 1L, 0L, 1L, VotingResult.APPROVED);
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(snapshot));
+        when(votingResultRepository.markPublished(eq(agendaId), any(LocalDateTime.class))).thenReturn(false);
+
+        assertTrue(closeSessionService.close(agendaId).isPresent());
+
+        verifyNoInteractions(resultOutbox);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando não existir sessão para a pauta")
+    void shouldThrowExceptionWhenSessionNotFound() {
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> closeSessionService.close(agendaId));
+
+        assertEquals("No session found for agenda: " + agendaId, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve listar sessões com resultado ainda não publicado")
+    void shouldListSessionsPendingClosing() {
+        LocalDateTime closesAfter = LocalDateTime.now().minusDays(1);
+        when(sessionRepository.findWithoutPublishedResult(closesAfter, null, 100))
+                .thenReturn(List.of(openSession, closedSession));
+
+        assertEquals(List.of(openSession, closedSession), closeSessionService.findPendingClosings(closesAfter, null, 100));
+    }
+}
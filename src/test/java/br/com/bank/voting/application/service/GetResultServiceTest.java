@@ -2,14 +2,14 @@ package br.com.bank.voting.application.service;
 
 import br.com.bank.voting.application.dto.result.VotingResultResult;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
-import br.com.bank.voting.application.port.out.ResultPublisherPort;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
 import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.application.port.out.VotingResultRepositoryPort;
 import br.com.bank.voting.domain.model.Agenda;
-import br.com.bank.voting.domain.model.Vote;
+import br.com.bank.voting.domain.model.VoteTally;
 import br.com.bank.voting.domain.model.VotingSession;
 import br.com.bank.voting.domain.model.enums.SessionStatus;
-import br.com.bank.voting.domain.model.enums.VoteChoice;
 import br.com.bank.voting.domain.model.enums.VotingResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +20,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -43,7 +40,10 @@ class GetResultServiceTest {
     private VoteRepositoryPort voteRepository;
 
     @Mock
-    private ResultPublisherPort resultPublisherPort;
+    private VoteTallyRepositoryPort voteTallyRepository;
+
+    @Mock
+    private VotingResultRepositoryPort votingResultRepository;
 
     @InjectMocks
     private GetResultService getResultService;
@@ -71,15 +71,9 @@ class GetResultServiceTest {
     @Test
     @DisplayName("Deve retornar resultado com sessão aberta e votos aprovados")
     void shouldReturnResultWithOpenSessionAndApprovedVotes() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.NO, LocalDateTime.now())
-        );
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 2, 1));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -95,15 +89,9 @@ class GetResultServiceTest {
     @Test
     @DisplayName("Deve retornar resultado com sessão fechada e votos rejeitados")
     void shouldReturnResultWithClosedSessionAndRejectedVotes() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.NO, LocalDateTime.now())
-        );
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 1, 2));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -118,14 +106,9 @@ class GetResultServiceTest {
     @Test
     @DisplayName("Deve retornar resultado rejeitado quando houver empate")
     void shouldReturnRejectedResultWhenThereIsATie() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.NO, LocalDateTime.now())
-        );
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 1, 1));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -139,7 +122,7 @@ class GetResultServiceTest {
     void shouldReturnResultWithZeroVotesWhenNoVotesExist() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(Collections.emptyList());
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 0, 0));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -152,11 +135,9 @@ class GetResultServiceTest {
     @Test
     @DisplayName("Deve retornar sessão fechada quando não existir sessão")
     void shouldReturnClosedSessionWhenNoSessionExists() {
-        List<Vote> votes = Collections.emptyList();
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 0, 0));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -177,16 +158,9 @@ class GetResultServiceTest {
     @Test
     @DisplayName("Deve contabilizar corretamente múltiplos votos SIM")
     void shouldCountMultipleYesVotesCorrectly() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "44444444444", VoteChoice.YES, LocalDateTime.now())
-        );
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 4, 0));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -198,15 +172,9 @@ class GetResultServiceTest {
     @Test
     @DisplayName("Deve contabilizar corretamente múltiplos votos NÃO")
     void shouldCountMultipleNoVotesCorrectly() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.NO, LocalDateTime.now())
-        );
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(voteRepository.countVotesByChoice(agendaId)).thenReturn(new VoteTally(agendaId, 0, 3));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
@@ -216,73 +184,66 @@ class GetResultServiceTest {
     }
 
     @Test
-    @DisplayName("Deve publicar resultado quando sessão está fechada")
-    void shouldPublishResultWhenSessionIsClosed() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.NO, LocalDateTime.now())
-        );
-
+    @DisplayName("Deve retornar o snapshot da sessão encerrada sem recontar votos")
+    void shouldReturnSnapshotOfClosedSessionWithoutCounting() {
+        VotingResultResult snapshot = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 5L, 2L, 7L, VotingResult.APPROVED);
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
-        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(snapshot));
 
         VotingResultResult result = getResultService.getResult(agendaId);
 
-        verify(resultPublisherPort, times(1)).publishResult(result);
+        assertSame(snapshot, result);
+        verifyNoInteractions(sessionRepository, voteRepository, voteTallyRepository);
     }
 
     @Test
-    @DisplayName("Não deve publicar resultado quando sessão está aberta")
-    void shouldNotPublishResultWhenSessionIsOpen() {
-        List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now())
-        );
-
+    @DisplayName("Deve apurar o resultado quando a sessão fechada ainda não tiver snapshot")
+    void shouldComputeResultWhenClosedSessionHasNoSnapshotYet() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
-        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
+        when(voteTallyRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(new VoteTally(agendaId, 1, 1)));
 
-        getResultService.getResult(agendaId);
+        VotingResultResult result = getResultService.getResult(agendaId);
 
-        verify(resultPublisherPort, never()).publishResult(any());
+        assertEquals(SessionStatus.CLOSED, result.sessionStatus());
+        assertEquals(2L, result.total());
+        assertEquals(VotingResult.REJECTED, result.result());
     }
 
     @Test
-    @DisplayName("Não deve publicar resultado duplicado quando já foi publicado")
-    void shouldNotPublishDuplicateResult() {
-        List<Vote> votes = Collections.emptyList();
-
+    @DisplayName("Deve obter resultado a partir do contador sem consultar votos")
+    void shouldGetResultFromTallyWithoutLoadingVotes() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
-        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
+        when(voteTallyRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(new VoteTally(agendaId, 7, 3)));
 
-        // Primeira chamada - deve publicar
-        getResultService.getResult(agendaId);
-        verify(resultPublisherPort, times(1)).publishResult(any());
+        VotingResultResult result = getResultService.getResult(agendaId);
 
-        // Segunda chamada - não deve publicar novamente
-        getResultService.getResult(agendaId);
-        verify(resultPublisherPort, times(1)).publishResult(any());
+        assertEquals(7L, result.yes());
+        assertEquals(3L, result.no());
+        assertEquals(10L, result.total());
+        assertEquals(VotingResult.APPROVED, result.result());
+        verify(voteRepository, never()).countVotesByChoice(any());
     }
 
     @Test
-    @DisplayName("Deve tratar erro de publicação sem quebrar o fluxo")
-    void shouldHandlePublishErrorWithoutBreakingFlow() {
-        List<Vote> votes = Collections.emptyList();
-
-        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
-        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
-        when(voteRepository.findAllByAgendaId(agendaId)).thenReturn(votes);
-        doThrow(new RuntimeException("Publish error")).when(resultPublisherPort).publishResult(any());
+    @DisplayName("Deve retornar o resultado final somente a partir do snapshot")
+    void shouldFindFinalResultFromSnapshotOnly() {
+        VotingResultResult snapshot = new VotingResultResult(
+                agendaId, SessionStatus.CLOSED, 3L, 4L, 7L, VotingResult.REJECTED);
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(snapshot));
+
+        assertEquals(Optional.of(snapshot), getResultService.findFinalResult(agendaId));
+        verifyNoInteractions(agendaRepository, sessionRepository, voteRepository, voteTallyRepository);
+    }
 
-        // Não deve lançar exceção
-        assertDoesNotThrow(() -> {
-            VotingResultResult result = getResultService.getResult(agendaId);
-            assertNotNull(result);
-        });
+    @Test
+    @DisplayName("Deve retornar vazio quando a sessão ainda não tiver resultado final")
+    void shouldReturnEmptyFinalResultWhenNoSnapshot() {
+        when(votingResultRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
 
-        verify(resultPublisherPort, times(1)).publishResult(any());
+        assertTrue(getResultService.findFinalResult(agendaId).isEmpty());
     }
 }
-
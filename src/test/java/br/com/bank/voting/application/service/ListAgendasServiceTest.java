@@ -0,0 +1,145 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.query.AgendaCursor;
+import br.com.bank.voting.application.dto.query.ListAgendasQuery;
+import br.com.bank.voting.application.dto.result.AgendaPageResult;
+import br.com.bank.voting.application.dto.result.AgendaSummaryResult;
+import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.domain.model.Agenda;
+import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListAgendasService Tests")
+class ListAgendasServiceTest {
+
+    @Mock
+    private AgendaRepositoryPort agendaRepository;
+
+    @Mock
+    private SessionRepositoryPort sessionRepository;
+
+    @InjectMocks
+    private ListAgendasService listAgendasService;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    @DisplayName("Deve retornar a página com cursor da próxima quando houver mais pautas")
+    void shouldReturnPageWithNextCursorWhenThereAreMoreAgendas() {
+        Agenda first = agenda(now.minusMinutes(1));
+        Agenda second = agenda(now.minusMinutes(2));
+        Agenda third = agenda(now.minusMinutes(3));
+        when(agendaRepository.findPage(isNull(), isNull(), any(), eq(3))).thenReturn(List.of(first, second, third));
+        when(sessionRepository.findByAgendaIds(List.of(first.getId(), second.getId()))).thenReturn(List.of());
+
+        AgendaPageResult result = listAgendasService.list(new ListAgendasQuery(null, null, 2));
+
+        assertEquals(List.of(first.getId(), second.getId()), result.items().stream().map(AgendaSummaryResult::id).toList());
+        assertEquals(new AgendaCursor(second.getCreatedAt(), second.getId()), AgendaCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor nulo na última página")
+    void shouldReturnNullCursorOnLastPage() {
+        Agenda agenda = agenda(now.minusMinutes(1));
+        when(agendaRepository.findPage(isNull(), isNull(), any(), eq(21))).thenReturn(List.of(agenda));
+        when(sessionRepository.findByAgendaIds(anyCollection())).thenReturn(List.of());
+
+        AgendaPageResult result = listAgendasService.list(new ListAgendasQuery(null, null, null));
+
+        assertEquals(1, result.items().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor recebido com o filtro de status")
+    void shouldContinueFromCursorWithStatusFilter() {
+        AgendaCursor cursor = new AgendaCursor(now.minusMinutes(5), UUID.randomUUID());
+        when(agendaRepository.findPage(eq(cursor), eq(SessionStatus.OPEN), any(), eq(11))).thenReturn(List.of());
+
+        AgendaPageResult result = listAgendasService.list(new ListAgendasQuery(cursor.encode(), SessionStatus.OPEN, 10));
+
+        assertTrue(result.items().isEmpty());
+        assertNull(result.nextCursor());
+        verifyNoInteractions(sessionRepository);
+    }
+
+    @Test
+    @DisplayName("Deve informar o status da sessão de cada pauta com uma única consulta de sessões")
+    void shouldResolveSessionStatusWithSingleLookup() {
+        Agenda open = agenda(now.minusMinutes(1));
+        Agenda closed = agenda(now.minusMinutes(2));
+        Agenda withoutSession = agenda(now.minusMinutes(3));
+        VotingSession openSession = new VotingSession(UUID.randomUUID(), open.getId(), now.minusMinutes(1), now.plusMinutes(5));
+        VotingSession closedSession = new VotingSession(UUID.randomUUID(), closed.getId(), now.minusMinutes(10), now.minusMinutes(5));
+        when(agendaRepository.findPage(isNull(), isNull(), any(), anyInt())).thenReturn(List.of(open, closed, withoutSession));
+        when(sessionRepository.findByAgendaIds(anyCollection())).thenReturn(List.of(openSession, closedSession));
+
+        List<AgendaSummaryResult> items = listAgendasService.list(new ListAgendasQuery(null, null, null)).items();
+
+        assertEquals(SessionStatus.OPEN, items.get(0).sessionStatus());
+        assertEquals(openSession.getClosesAt(), items.get(0).closesAt());
+        assertEquals(SessionStatus.CLOSED, items.get(1).sessionStatus());
+        assertEquals(SessionStatus.CLOSED, items.get(2).sessionStatus());
+        assertNull(items.get(2).closesAt());
+        verify(sessionRepository, times(1)).findByAgendaIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void shouldCapLimitAtMaximum() {
+        when(agendaRepository.findPage(isNull(), isNull(), any(), anyInt())).thenReturn(List.of());
+
+        listAgendasService.list(new ListAgendasQuery(null, null, 1000));
+
+        verify(agendaRepository).findPage(isNull(), isNull(), any(), eq(ListAgendasService.MAX_LIMIT + 1));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite não positivo")
+    void shouldRejectNonPositiveLimit() {
+        ListAgendasQuery query = new ListAgendasQuery(null, null, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> listAgendasService.list(query));
+        verifyNoInteractions(agendaRepository, sessionRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void shouldRejectInvalidCursor() {
+        ListAgendasQuery query = new ListAgendasQuery("invalid", null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> listAgendasService.list(query));
+        verifyNoInteractions(agendaRepository, sessionRepository);
+    }
+
+    private Agenda agenda(LocalDateTime createdAt) {
+        return new Agenda(UUID.randomUUID(), "Pauta", createdAt);
+    }
+}
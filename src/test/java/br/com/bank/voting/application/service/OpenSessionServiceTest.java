@@ -3,7 +3,9 @@ package br.com.bank.voting.application.service;
 import br.com.bank.voting.application.dto.command.OpenSessionCommand;
 import br.com.bank.voting.application.dto.result.SessionOpenedResult;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
+import br.com.bank.voting.application.port.out.SessionClosingSchedulerPort;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
 import br.com.bank.voting.domain.model.Agenda;
 import br.com.bank.voting.domain.model.VotingSession;
 import br.com.bank.voting.domain.model.enums.SessionStatus;
@@ -33,6 +35,12 @@ class OpenSessionServiceTest {
     @Mock
     private AgendaRepositoryPort agendaRepository;
 
+    @Mock
+    private VoteTallyRepositoryPort voteTallyRepository;
+
+    @Mock
+    private SessionClosingSchedulerPort sessionClosingScheduler;
+
     @InjectMocks
     private OpenSessionService openSessionService;
 
@@ -175,6 +183,32 @@ class OpenSessionServiceTest {
         long minutesDifference = java.time.Duration.between(result.openedAt(), result.closesAt()).toMinutes();
         assertEquals(duration, minutesDifference);
     }
-}
 
+    @Test
+    @DisplayName("Deve inicializar contador de votos ao abrir sessão")
+    void shouldInitializeTallyWhenOpeningSession() {
+        OpenSessionCommand command = new OpenSessionCommand(agendaId, null);
+
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+        when(sessionRepository.save(any(VotingSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        openSessionService.open(command);
 
+        verify(voteTallyRepository).initialize(agendaId);
+    }
+
+    @Test
+    @DisplayName("Deve agendar o encerramento da sessão no horário de fechamento")
+    void shouldScheduleClosingAtClosingTime() {
+        OpenSessionCommand command = new OpenSessionCommand(agendaId, 5);
+
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.empty());
+        when(sessionRepository.save(any(VotingSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SessionOpenedResult result = openSessionService.open(command);
+
+        verify(sessionClosingScheduler).scheduleClose(agendaId, result.closesAt());
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.port.out.SessionRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
+import br.com.bank.voting.domain.model.VoteTally;
+import br.com.bank.voting.domain.model.VotingSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconcileTallyService Tests")
+class ReconcileTallyServiceTest {
+
+    @Mock
+    private VoteTallyRepositoryPort voteTallyRepository;
+
+    @Mock
+    private SessionRepositoryPort sessionRepository;
+
+    private ReconcileTallyService reconcileTallyService;
+
+    @BeforeEach
+    void setUp() {
+        reconcileTallyService = new ReconcileTallyService(voteTallyRepository, sessionRepository, Duration.ofMinutes(60));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir contador das pautas com sessão aberta ou encerrada há pouco")
+    void shouldRebuildTalliesOfRecentSessions() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(sessionRepository.findClosingAfter(any(LocalDateTime.class))).thenReturn(List.of(session(first), session(second)));
+        when(voteTallyRepository.rebuild(first)).thenReturn(new VoteTally(first, 1, 0));
+        when(voteTallyRepository.rebuild(second)).thenReturn(new VoteTally(second, 0, 1));
+
+        LocalDateTime before = LocalDateTime.now();
+        int reconciled = reconcileTallyService.reconcileAll();
+
+        assertEquals(2, reconciled);
+        verify(voteTallyRepository).rebuild(first);
+        verify(voteTallyRepository).rebuild(second);
+        ArgumentCaptor<LocalDateTime> closesAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(sessionRepository).findClosingAfter(closesAfter.capture());
+        assertFalse(closesAfter.getValue().isAfter(LocalDateTime.now().minusMinutes(60)));
+        assertFalse(closesAfter.getValue().isBefore(before.minusMinutes(60)));
+    }
+
+    @Test
+    @DisplayName("Não deve reconstruir contadores sem sessões recentes")
+    void shouldNotRebuildWithoutRecentSessions() {
+        when(sessionRepository.findClosingAfter(any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertEquals(0, reconcileTallyService.reconcileAll());
+
+        verifyNoInteractions(voteTallyRepository);
+    }
+
+    @Test
+    @DisplayName("Deve continuar reconciliação quando uma pauta falhar")
+    void shouldContinueWhenOneAgendaFails() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(sessionRepository.findClosingAfter(any(LocalDateTime.class))).thenReturn(List.of(session(failing), session(healthy)));
+        when(voteTallyRepository.rebuild(failing)).thenThrow(new RuntimeException("Database error"));
+        when(voteTallyRepository.rebuild(healthy)).thenReturn(new VoteTally(healthy, 2, 2));
+
+        int reconciled = reconcileTallyService.reconcileAll();
+
+        assertEquals(1, reconciled);
+        verify(voteTallyRepository).rebuild(healthy);
+    }
+
+    private VotingSession session(UUID agendaId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new VotingSession(UUID.randomUUID(), agendaId, now.minusMinutes(10), now.plusMinutes(5));
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.bank.voting.application.service;
+
+import br.com.bank.voting.application.dto.result.OutboxMessage;
+import br.com.bank.voting.application.dto.result.VotingResultResult;
+import br.com.bank.voting.application.port.out.ResultOutboxPort;
+import br.com.bank.voting.application.port.out.ResultPublisherPort;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
+import br.com.bank.voting.domain.model.enums.VotingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RelayOutboxService Tests")
+class RelayOutboxServiceTest {
+
+    @Mock
+    private ResultOutboxPort resultOutbox;
+
+    @Mock
+    private ResultPublisherPort resultPublisher;
+
+    private RelayOutboxService relayOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        relayOutboxService = new RelayOutboxService(resultOutbox, resultPublisher, 1000, 60000, 30000);
+    }
+
+    @Test
+    @DisplayName("Deve publicar as mensagens pendentes e marcá-las como publicadas")
+    void shouldPublishPendingMessagesAndMarkThemPublished() {
+        VotingResultResult first = result();
+        VotingResultResult second = result();
+        when(resultOutbox.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), eq(10)))
+                .thenReturn(List.of(new OutboxMessage(first, 0), new OutboxMessage(second, 0)));
+
+        assertEquals(2, relayOutboxService.relayPending(10));
+
+        verify(resultPublisher).publishResult(first);
+        verify(resultPublisher).publishResult(second);
+        verify(resultOutbox).markPublished(eq(first.agendaId()), any(LocalDateTime.class));
+        verify(resultOutbox).markPublished(eq(second.agendaId()), any(LocalDateTime.class));
+        verify(resultOutbox, never()).markFailed(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve reagendar com backoff a mensagem que falhar e seguir com as demais")
+    void shouldRescheduleFailedMessageWithBackoffAndContinue() {
+        VotingResultResult failing = result();
+        VotingResultResult ok = result();
+        when(resultOutbox.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), eq(10)))
+                .thenReturn(List.of(new OutboxMessage(failing, 2), new OutboxMessage(ok, 0)));
+        doThrow(new IllegalStateException("broker down")).doNothing().when(resultPublisher).publishResult(any());
+        LocalDateTime before = LocalDateTime.now();
+
+        assertEquals(1, relayOutboxService.relayPending(10));
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(resultOutbox).markFailed(eq(failing.agendaId()), eq(3), nextAttemptAt.capture(), anyString());
+        // terceira tentativa falha: 1s * 2^2
+        assertFalse(nextAttemptAt.getValue().isBefore(before.plus(Duration.ofSeconds(4))));
+        verify(resultOutbox, never()).markPublished(eq(failing.agendaId()), any());
+        verify(resultOutbox).markPublished(eq(ok.agendaId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve reivindicar as mensagens pelo prazo configurado antes de publicá-las")
+    void shouldClaimMessagesForLeaseBeforePublishing() {
+        VotingResultResult message = result();
+        when(resultOutbox.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), eq(10)))
+                .thenReturn(List.of(new OutboxMessage(message, 0)));
+
+        relayOutboxService.relayPending(10);
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> claimedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        InOrder inOrder = inOrder(resultOutbox, resultPublisher);
+        inOrder.verify(resultOutbox).claimDue(now.capture(), claimedUntil.capture(), eq(10));
+        inOrder.verify(resultPublisher).publishResult(message);
+        assertEquals(now.getValue().plusSeconds(30), claimedUntil.getValue());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o backoff ao valor máximo")
+    void shouldCapBackoffAtMaximum() {
+        assertEquals(1000, relayOutboxService.backoffMillis(1));
+        assertEquals(8000, relayOutboxService.backoffMillis(4));
+        assertEquals(60000, relayOutboxService.backoffMillis(20));
+        assertEquals(60000, relayOutboxService.backoffMillis(100));
+    }
+
+    @Test
+    @DisplayName("Deve retornar zero quando o outbox estiver vazio")
+    void shouldReturnZeroWhenOutboxIsEmpty() {
+        when(resultOutbox.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), eq(10))).thenReturn(List.of());
+
+        assertEquals(0, relayOutboxService.relayPending(10));
+
+        verifyNoInteractions(resultPublisher);
+    }
+
+    private static VotingResultResult result() {
+        return new VotingResultResult(UUID.randomUUID(), SessionStatus.CLOSED, 2L, 1L, 3L, VotingResult.APPROVED);
+    }
+}
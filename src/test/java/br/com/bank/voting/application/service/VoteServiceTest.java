@@ -4,6 +4,7 @@ import br.com.bank.voting.application.dto.command.VoteCommand;
 import br.com.bank.voting.application.port.out.AgendaRepositoryPort;
 import br.com.bank.voting.application.port.out.SessionRepositoryPort;
 import br.com.bank.voting.application.port.out.VoteRepositoryPort;
+import br.com.bank.voting.application.port.out.VoteTallyRepositoryPort;
 import br.com.bank.voting.application.port.out.VoterEligibilityPort;
 import br.com.bank.voting.domain.model.Agenda;
 import br.com.bank.voting.domain.model.Vote;
@@ -42,11 +43,15 @@ class VoteServiceTest {
     @Mock
     private VoterEligibilityPort voterEligibilityPort;
 
+    @Mock
+    private VoteTallyRepositoryPort voteTallyRepository;
+
     @InjectMocks
     private VoteService voteService;
 
     private UUID agendaId;
     private String cpf;
+    private long cpfNumber;
     private VoteCommand voteYesCommand;
     private VoteCommand voteNoCommand;
     private Agenda agenda;
@@ -56,7 +61,8 @@ class VoteServiceTest {
     @BeforeEach
     void setUp() {
         agendaId = UUID.randomUUID();
-        cpf = "12345678901";
+        cpf = "52998224725";
+        cpfNumber = 52998224725L;
         voteYesCommand = new VoteCommand(agendaId, cpf, VoteChoice.YES);
         voteNoCommand = new VoteCommand(agendaId, cpf, VoteChoice.NO);
         
@@ -77,15 +83,15 @@ class VoteServiceTest {
     void shouldRegisterYesVoteSuccessfully() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(cpf)).thenReturn(true);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(true);
         when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         assertDoesNotThrow(() -> voteService.vote(voteYesCommand));
 
         verify(voteRepository).save(argThat(vote -> 
             vote.getAgendaId().equals(agendaId) &&
-            vote.getCpf().equals(cpf) &&
+            vote.getCpf() == cpfNumber &&
             vote.getChoice() == VoteChoice.YES
         ));
     }
@@ -95,15 +101,15 @@ class VoteServiceTest {
     void shouldRegisterNoVoteSuccessfully() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(cpf)).thenReturn(true);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(true);
         when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         assertDoesNotThrow(() -> voteService.vote(voteNoCommand));
 
         verify(voteRepository).save(argThat(vote -> 
             vote.getAgendaId().equals(agendaId) &&
-            vote.getCpf().equals(cpf) &&
+            vote.getCpf() == cpfNumber &&
             vote.getChoice() == VoteChoice.NO
         ));
     }
@@ -149,11 +155,9 @@ class VoteServiceTest {
     @Test
     @DisplayName("Deve lançar exceção quando associado já votou")
     void shouldThrowExceptionWhenAssociateAlreadyVoted() {
-        Vote existingVote = new Vote(UUID.randomUUID(), agendaId, cpf, VoteChoice.YES, LocalDateTime.now());
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.of(existingVote));
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(true);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, 
             () -> voteService.vote(voteYesCommand));
@@ -167,8 +171,8 @@ class VoteServiceTest {
     void shouldThrowExceptionWhenAssociateIsNotEligible() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(cpf)).thenReturn(false);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(false);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, 
             () -> voteService.vote(voteYesCommand));
@@ -182,13 +186,13 @@ class VoteServiceTest {
     void shouldCheckEligibilityBeforeSavingVote() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(cpf)).thenReturn(true);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(true);
         when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         voteService.vote(voteYesCommand);
 
-        verify(voterEligibilityPort).isEligibleToVote(cpf);
+        verify(voterEligibilityPort).isEligibleToVote(cpfNumber);
         verify(voteRepository).save(any(Vote.class));
     }
 
@@ -197,8 +201,8 @@ class VoteServiceTest {
     void shouldCheckEligibilityInCorrectOrder() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(cpf)).thenReturn(true);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(true);
         when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         voteService.vote(voteYesCommand);
@@ -207,8 +211,8 @@ class VoteServiceTest {
         var inOrder = inOrder(agendaRepository, sessionRepository, voteRepository, voterEligibilityPort);
         inOrder.verify(agendaRepository).findById(agendaId);
         inOrder.verify(sessionRepository).findByAgendaId(agendaId);
-        inOrder.verify(voteRepository).findByAgendaIdAndCpf(agendaId, cpf);
-        inOrder.verify(voterEligibilityPort).isEligibleToVote(cpf);
+        inOrder.verify(voteRepository).existsByAgendaIdAndCpf(agendaId, cpfNumber);
+        inOrder.verify(voterEligibilityPort).isEligibleToVote(cpfNumber);
         inOrder.verify(voteRepository).save(any(Vote.class));
     }
 
@@ -220,50 +224,117 @@ class VoteServiceTest {
 
         assertThrows(IllegalStateException.class, () -> voteService.vote(voteYesCommand));
 
-        verify(voterEligibilityPort, never()).isEligibleToVote(any());
+        verify(voterEligibilityPort, never()).isEligibleToVote(anyLong());
     }
 
     @Test
     @DisplayName("Não deve verificar elegibilidade se associado já votou")
     void shouldNotCheckEligibilityWhenAssociateAlreadyVoted() {
-        Vote existingVote = new Vote(UUID.randomUUID(), agendaId, cpf, VoteChoice.YES, LocalDateTime.now());
-
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, cpf)).thenReturn(Optional.of(existingVote));
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(true);
 
         assertThrows(IllegalStateException.class, () -> voteService.vote(voteYesCommand));
 
-        verify(voterEligibilityPort, never()).isEligibleToVote(any());
+        verify(voterEligibilityPort, never()).isEligibleToVote(anyLong());
     }
 
     @Test
-    @DisplayName("Deve mascarar CPF corretamente quando CPF é null")
-    void shouldMaskCpfCorrectlyWhenCpfIsNull() {
+    @DisplayName("Deve lançar exceção sem consultar portas quando CPF é null")
+    void shouldThrowWithoutCallingPortsWhenCpfIsNull() {
         VoteCommand commandWithNullCpf = new VoteCommand(agendaId, null, VoteChoice.YES);
-        
+
+        assertThrows(IllegalArgumentException.class, () -> voteService.vote(commandWithNullCpf));
+
+        verifyNoInteractions(agendaRepository, sessionRepository, voteRepository, voterEligibilityPort);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção sem consultar portas quando CPF não tem 11 dígitos")
+    void shouldThrowWithoutCallingPortsWhenCpfHasWrongLength() {
+        VoteCommand commandWithShortCpf = new VoteCommand(agendaId, "123", VoteChoice.YES);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> voteService.vote(commandWithShortCpf));
+
+        assertEquals("Invalid CPF", exception.getMessage());
+        verifyNoInteractions(agendaRepository, sessionRepository, voteRepository, voterEligibilityPort);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção sem consultar portas quando dígitos verificadores do CPF não conferem")
+    void shouldThrowWithoutCallingPortsWhenCpfCheckDigitsDoNotMatch() {
+        VoteCommand commandWithInvalidCpf = new VoteCommand(agendaId, "52998224726", VoteChoice.YES);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> voteService.vote(commandWithInvalidCpf));
+
+        assertEquals("Invalid CPF", exception.getMessage());
+        verifyNoInteractions(agendaRepository, sessionRepository, voteRepository, voterEligibilityPort);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção sem consultar portas quando CPF tem todos os dígitos iguais")
+    void shouldThrowWithoutCallingPortsWhenCpfHasRepeatedDigits() {
+        VoteCommand commandWithRepeatedDigits = new VoteCommand(agendaId, "11111111111", VoteChoice.YES);
+
+        assertThrows(IllegalArgumentException.class, () -> voteService.vote(commandWithRepeatedDigits));
+
+        verifyNoInteractions(agendaRepository, sessionRepository, voteRepository, voterEligibilityPort);
+    }
+
+    @Test
+    @DisplayName("Deve preservar zeros à esquerda ao converter o CPF")
+    void shouldKeepLeadingZerosWhenConvertingCpf() {
+        VoteCommand command = new VoteCommand(agendaId, "00000000191", VoteChoice.YES);
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, 191L)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(191L)).thenReturn(true);
+
+        voteService.vote(command);
+
+        verify(voteRepository).save(argThat(vote -> vote.getCpf() == 191L));
+    }
+
+    @Test
+    @DisplayName("Deve incrementar contador SIM após salvar voto")
+    void shouldIncrementYesTallyAfterSavingVote() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, null)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(null)).thenReturn(true);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(true);
         when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        assertDoesNotThrow(() -> voteService.vote(commandWithNullCpf));
+        voteService.vote(voteYesCommand);
+
+        var inOrder = inOrder(voteRepository, voteTallyRepository);
+        inOrder.verify(voteRepository).save(any(Vote.class));
+        inOrder.verify(voteTallyRepository).increment(agendaId, 1, 0);
     }
 
     @Test
-    @DisplayName("Deve mascarar CPF corretamente quando CPF tem menos de 4 caracteres")
-    void shouldMaskCpfCorrectlyWhenCpfHasLessThan4Characters() {
-        String shortCpf = "123";
-        VoteCommand commandWithShortCpf = new VoteCommand(agendaId, shortCpf, VoteChoice.YES);
-        
+    @DisplayName("Deve incrementar contador NÃO após salvar voto")
+    void shouldIncrementNoTallyAfterSavingVote() {
         when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
         when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(openSession));
-        when(voteRepository.findByAgendaIdAndCpf(agendaId, shortCpf)).thenReturn(Optional.empty());
-        when(voterEligibilityPort.isEligibleToVote(shortCpf)).thenReturn(true);
+        when(voteRepository.existsByAgendaIdAndCpf(agendaId, cpfNumber)).thenReturn(false);
+        when(voterEligibilityPort.isEligibleToVote(cpfNumber)).thenReturn(true);
         when(voteRepository.save(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        assertDoesNotThrow(() -> voteService.vote(commandWithShortCpf));
+        voteService.vote(voteNoCommand);
+
+        verify(voteTallyRepository).increment(agendaId, 0, 1);
     }
-}
 
+    @Test
+    @DisplayName("Não deve incrementar contador quando voto for rejeitado")
+    void shouldNotIncrementTallyWhenVoteIsRejected() {
+        when(agendaRepository.findById(agendaId)).thenReturn(Optional.of(agenda));
+        when(sessionRepository.findByAgendaId(agendaId)).thenReturn(Optional.of(closedSession));
+
+        assertThrows(IllegalStateException.class, () -> voteService.vote(voteYesCommand));
+
+        verifyNoInteractions(voteTallyRepository);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.bank.voting.config.metrics;
+
+import br.com.bank.voting.application.port.out.VoterEligibilityPort;
+import br.com.bank.voting.domain.model.enums.EligibilityStatus;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PortObservationAspect Tests")
+class PortObservationAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VoterEligibilityPort port;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        port = proxy(observationRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve observar chamadas à porta com as tags de porta, método e adapter")
+    void shouldObservePortCallsWithPortMethodAndAdapterTags() {
+        assertTrue(port.isEligibleToVote(52998224725L));
+        assertTrue(port.isEligibleToVote(52998224725L));
+
+        Timer timer = meterRegistry.get(PortObservationAspect.OBSERVATION_NAME)
+                .tag("port", "VoterEligibilityPort")
+                .tag("method", "isEligibleToVote")
+                .tag("adapter", "StubEligibilityAdapter")
+                .tag("error", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    @DisplayName("Deve observar chamadas que falham com a tag do erro e propagar a falha")
+    void shouldObserveFailedCallsWithErrorTagAndRethrow() {
+        assertThrows(IllegalStateException.class, () -> port.isEligibleToVote(0L));
+
+        Timer timer = meterRegistry.get(PortObservationAspect.OBSERVATION_NAME)
+                .tag("error", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("Deve chamar a porta diretamente quando o registry for no-op")
+    void shouldCallPortDirectlyWhenRegistryIsNoop() {
+        VoterEligibilityPort noopPort = proxy(ObservationRegistry.NOOP);
+
+        assertTrue(noopPort.isEligibleToVote(52998224725L));
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private static VoterEligibilityPort proxy(ObservationRegistry observationRegistry) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new StubEligibilityAdapter());
+        factory.addAspect(new PortObservationAspect(observationRegistry));
+        return factory.getProxy();
+    }
+
+    static class StubEligibilityAdapter implements VoterEligibilityPort {
+
+        @Override
+        public boolean isEligibleToVote(long cpf) {
+            if (cpf == 0) {
+                throw new IllegalStateException("upstream error");
+            }
+            return true;
+        }
+
+        @Override
+        public Map<Long, EligibilityStatus> checkEligibility(Collection<Long> cpfs) {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.bank.voting.config.metrics;
+
+import br.com.bank.voting.application.dto.result.BatchVoteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("VoteRejectionMetricsAspect Tests")
+class VoteRejectionMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VoteRejectionMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new VoteRejectionMetricsAspect(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar os contadores de todos os motivos zerados")
+    void shouldRegisterCountersForEveryReason() {
+        for (VoteRejectionReason reason : VoteRejectionReason.values()) {
+            assertEquals(0.0, count(reason));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve contar voto individual rejeitado pelo motivo")
+    void shouldCountRejectedVoteByReason() {
+        aspect.countRejectedVote(new IllegalStateException("Associate already voted for this agenda"));
+        aspect.countRejectedVote(new IllegalStateException("Session is closed for agenda: 1"));
+
+        assertEquals(1.0, count(VoteRejectionReason.DUPLICATE));
+        assertEquals(1.0, count(VoteRejectionReason.CLOSED));
+    }
+
+    @Test
+    @DisplayName("Deve contar apenas os itens rejeitados do lote")
+    void shouldCountOnlyRejectedBatchItems() {
+        BatchVoteResult result = new BatchVoteResult(UUID.randomUUID(), List.of(
+                BatchVoteResult.ItemResult.accepted(0),
+                BatchVoteResult.ItemResult.rejected(1, BatchVoteResult.Rejection.NOT_ELIGIBLE, "Associate is not eligible to vote"),
+                BatchVoteResult.ItemResult.rejected(2, BatchVoteResult.Rejection.NOT_ELIGIBLE, "Associate is not eligible to vote")
+        ));
+
+        aspect.countRejectedBatchItems(result);
+
+        assertEquals(2.0, count(VoteRejectionReason.INELIGIBLE));
+        assertEquals(0.0, count(VoteRejectionReason.OTHER));
+    }
+
+    private double count(VoteRejectionReason reason) {
+        return meterRegistry.get(VoteRejectionMetricsAspect.METRIC_NAME)
+                .tag("reason", reason.getTag())
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.bank.voting.config.metrics;
+
+import br.com.bank.voting.adapters.out.external.exception.ExternalServiceUnavailableException;
+import br.com.bank.voting.adapters.out.external.exception.InvalidCpfException;
+import br.com.bank.voting.application.dto.result.BatchVoteResult.Rejection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("VoteRejectionReason Tests")
+class VoteRejectionReasonTest {
+
+    @Test
+    @DisplayName("Deve classificar voto duplicado, inclusive o convertido da constraint do banco")
+    void shouldClassifyDuplicateVote() {
+        assertEquals(VoteRejectionReason.DUPLICATE,
+                VoteRejectionReason.of(new IllegalStateException("Associate already voted for this agenda")));
+        assertEquals(VoteRejectionReason.DUPLICATE,
+                VoteRejectionReason.of(new IllegalStateException("Associate already voted for this agenda",
+                        new DataIntegrityViolationException("uk_votes_agenda_cpf"))));
+    }
+
+    @Test
+    @DisplayName("Deve classificar sessão fechada e associado inelegível")
+    void shouldClassifyClosedSessionAndIneligibleAssociate() {
+        assertEquals(VoteRejectionReason.CLOSED,
+                VoteRejectionReason.of(new IllegalStateException("Session is closed for agenda: 1")));
+        assertEquals(VoteRejectionReason.INELIGIBLE,
+                VoteRejectionReason.of(new IllegalStateException("Associate is not eligible to vote")));
+    }
+
+    @Test
+    @DisplayName("Deve classificar CPF inválido e serviço externo indisponível")
+    void shouldClassifyInvalidCpfAndUpstreamDown() {
+        assertEquals(VoteRejectionReason.INVALID_CPF,
+                VoteRejectionReason.of(new InvalidCpfException("12345678901")));
+        assertEquals(VoteRejectionReason.INVALID_CPF,
+                VoteRejectionReason.of(new IllegalArgumentException("CPF must contain exactly 11 digits")));
+        assertEquals(VoteRejectionReason.UPSTREAM_DOWN,
+                VoteRejectionReason.of(new ExternalServiceUnavailableException("down", null)));
+        assertEquals(VoteRejectionReason.UPSTREAM_DOWN,
+                VoteRejectionReason.of(new IllegalStateException("Eligibility check failed",
+                        new ExternalServiceUnavailableException("down", null))));
+    }
+
+    @Test
+    @DisplayName("Deve classificar demais falhas como OTHER")
+    void shouldClassifyOtherFailures() {
+        assertEquals(VoteRejectionReason.OTHER,
+                VoteRejectionReason.of(new IllegalArgumentException("Agenda not found: 1")));
+        assertEquals(VoteRejectionReason.OTHER, VoteRejectionReason.of(new RuntimeException()));
+        assertEquals(VoteRejectionReason.OTHER,
+                VoteRejectionReason.of(new DataIntegrityViolationException("pk_vote_tallies")));
+    }
+
+    @Test
+    @DisplayName("Deve classificar os motivos de rejeição de itens do lote")
+    void shouldClassifyBatchRejections() {
+        assertEquals(VoteRejectionReason.DUPLICATE, VoteRejectionReason.of(Rejection.ALREADY_VOTED));
+        assertEquals(VoteRejectionReason.INELIGIBLE, VoteRejectionReason.of(Rejection.NOT_ELIGIBLE));
+        assertEquals(VoteRejectionReason.INVALID_CPF, VoteRejectionReason.of(Rejection.INVALID_CPF));
+        assertEquals(VoteRejectionReason.INVALID_CPF, VoteRejectionReason.of(Rejection.UNKNOWN_CPF));
+        assertEquals(VoteRejectionReason.UPSTREAM_DOWN, VoteRejectionReason.of(Rejection.SERVICE_UNAVAILABLE));
+        assertEquals(VoteRejectionReason.OTHER, VoteRejectionReason.of(Rejection.INVALID_REQUEST));
+    }
+}
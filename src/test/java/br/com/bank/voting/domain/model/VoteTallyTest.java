@@ -0,0 +1,32 @@
+package br.com.bank.voting.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VoteTally Tests")
+class VoteTallyTest {
+
+    @Test
+    @DisplayName("Deve criar contador com todos os campos")
+    void shouldCreateTallyWithAllFields() {
+        UUID agendaId = UUID.randomUUID();
+
+        VoteTally tally = new VoteTally(agendaId, 5, 3);
+
+        assertEquals(agendaId, tally.getAgendaId());
+        assertEquals(5, tally.getYes());
+        assertEquals(3, tally.getNo());
+    }
+
+    @Test
+    @DisplayName("Deve calcular total como soma de SIM e NÃO")
+    void shouldCalculateTotalAsSumOfYesAndNo() {
+        VoteTally tally = new VoteTally(UUID.randomUUID(), 5, 3);
+
+        assertEquals(8, tally.getTotal());
+    }
+}
@@ -17,7 +17,7 @@ class VoteTest {
     void shouldCreateVoteWithAllFields() {
         UUID id = UUID.randomUUID();
         UUID agendaId = UUID.randomUUID();
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         VoteChoice choice = VoteChoice.YES;
         LocalDateTime createdAt = LocalDateTime.now();
 
@@ -34,7 +34,7 @@ class VoteTest {
     @DisplayName("Deve criar voto com ID null")
     void shouldCreateVoteWithNullId() {
         UUID agendaId = UUID.randomUUID();
-        String cpf = "98765432100";
+        long cpf = 98765432100L;
         VoteChoice choice = VoteChoice.NO;
         LocalDateTime createdAt = LocalDateTime.now();
 
@@ -51,7 +51,7 @@ class VoteTest {
     @DisplayName("Deve criar voto com escolha YES")
     void shouldCreateVoteWithYesChoice() {
         UUID agendaId = UUID.randomUUID();
-        String cpf = "11111111111";
+        long cpf = 11111111111L;
         VoteChoice choice = VoteChoice.YES;
 
         Vote vote = new Vote(null, agendaId, cpf, choice, LocalDateTime.now());
@@ -63,7 +63,7 @@ class VoteTest {
     @DisplayName("Deve criar voto com escolha NO")
     void shouldCreateVoteWithNoChoice() {
         UUID agendaId = UUID.randomUUID();
-        String cpf = "22222222222";
+        long cpf = 22222222222L;
         VoteChoice choice = VoteChoice.NO;
 
         Vote vote = new Vote(null, agendaId, cpf, choice, LocalDateTime.now());
@@ -76,7 +76,7 @@ class VoteTest {
     void shouldReturnCorrectValuesFromGetters() {
         UUID id = UUID.randomUUID();
         UUID agendaId = UUID.randomUUID();
-        String cpf = "33333333333";
+        long cpf = 33333333333L;
         VoteChoice choice = VoteChoice.YES;
         LocalDateTime createdAt = LocalDateTime.of(2026, 1, 30, 10, 0, 0);
 
@@ -0,0 +1,53 @@
+package br.com.bank.voting.domain.rules;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CpfRules Tests")
+class CpfRulesTest {
+
+    @Test
+    @DisplayName("Deve converter CPF com 11 dígitos para número")
+    void shouldConvertCpfToNumber() {
+        assertEquals(52998224725L, CpfRules.toNumber("52998224725"));
+        assertEquals(191L, CpfRules.toNumber("00000000191"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"123", "529982247250", "529.982.247-25", "5299822472a", " 5299822472"})
+    @DisplayName("Deve lançar exceção quando CPF não tiver exatamente 11 dígitos")
+    void shouldThrowWhenCpfIsNotElevenDigits(String cpf) {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> CpfRules.toNumber(cpf));
+
+        assertEquals("CPF must contain exactly 11 digits", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve formatar CPF numérico com zeros à esquerda")
+    void shouldFormatCpfWithLeadingZeros() {
+        assertEquals("52998224725", CpfRules.format(52998224725L));
+        assertEquals("00000000191", CpfRules.format(191L));
+        assertEquals("00000000000", CpfRules.format(0L));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao formatar número fora do intervalo de CPF")
+    void shouldThrowWhenFormattingNumberOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> CpfRules.format(-1L));
+        assertThrows(IllegalArgumentException.class, () -> CpfRules.format(100_000_000_000L));
+    }
+
+    @Test
+    @DisplayName("Deve mascarar CPF mantendo os 4 últimos dígitos")
+    void shouldMaskCpf() {
+        assertEquals("***4725", CpfRules.mask(52998224725L));
+        assertEquals("***0191", CpfRules.mask(191L));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.bank.voting.domain.rules;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CpfValidator Tests")
+class CpfValidatorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"52998224725", "12345678909", "11144477735", "00000000191", "98765432100"})
+    @DisplayName("Deve aceitar CPF com dígitos verificadores corretos")
+    void shouldAcceptCpfWithValidCheckDigits(String cpf) {
+        assertTrue(CpfValidator.isValid(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"52998224726", "52998224715", "12345678901", "98765432109"})
+    @DisplayName("Deve rejeitar CPF com dígitos verificadores incorretos")
+    void shouldRejectCpfWithInvalidCheckDigits(String cpf) {
+        assertFalse(CpfValidator.isValid(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"00000000000", "11111111111", "55555555555", "99999999999"})
+    @DisplayName("Deve rejeitar CPF com todos os dígitos iguais")
+    void shouldRejectCpfWithRepeatedDigits(String cpf) {
+        assertFalse(CpfValidator.isValid(cpf));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"123", "529982247250", "529.982.247-25", "5299822472a", " 5299822472", "5299822472/"})
+    @DisplayName("Deve rejeitar CPF que não tenha exatamente 11 dígitos")
+    void shouldRejectCpfThatIsNotElevenDigits(String cpf) {
+        assertFalse(CpfValidator.isValid(cpf));
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.bank.voting.domain.rules;
 
 import br.com.bank.voting.domain.model.VotingSession;
+import br.com.bank.voting.domain.model.enums.SessionStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -77,6 +78,16 @@ class SessionRulesTest {
 
         assertEquals(expected, result);
     }
-}
 
+    @Test
+    @DisplayName("Deve classificar sessão aberta como OPEN e as demais como CLOSED")
+    void shouldResolveSessionStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        VotingSession open = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now, now.plusMinutes(5));
+        VotingSession closed = new VotingSession(UUID.randomUUID(), UUID.randomUUID(), now.minusMinutes(10), now);
 
+        assertEquals(SessionStatus.OPEN, SessionRules.statusOf(open, now));
+        assertEquals(SessionStatus.CLOSED, SessionRules.statusOf(closed, now));
+        assertEquals(SessionStatus.CLOSED, SessionRules.statusOf(null, now));
+    }
+}
@@ -2,6 +2,7 @@ package br.com.bank.voting.domain.rules;
 
 import br.com.bank.voting.domain.model.Vote;
 import br.com.bank.voting.domain.model.enums.VoteChoice;
+import br.com.bank.voting.domain.model.enums.VotingResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -26,11 +27,11 @@ class VoteRulesTest {
     @Test
     @DisplayName("Deve retornar true quando associado já votou")
     void shouldReturnTrueWhenAssociateAlreadyVoted() {
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "98765432109", VoteChoice.NO, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 98765432109L, VoteChoice.NO, LocalDateTime.now()),
             new Vote(UUID.randomUUID(), agendaId, cpf, VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.NO, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.NO, LocalDateTime.now())
         );
 
         assertTrue(VoteRules.hasAlreadyVoted(votes, cpf), "Deve retornar true quando CPF está na lista de votos");
@@ -39,10 +40,10 @@ class VoteRulesTest {
     @Test
     @DisplayName("Deve retornar false quando associado não votou")
     void shouldReturnFalseWhenAssociateDidNotVote() {
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "98765432109", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.NO, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 98765432109L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.NO, LocalDateTime.now())
         );
 
         assertFalse(VoteRules.hasAlreadyVoted(votes, cpf));
@@ -51,7 +52,7 @@ class VoteRulesTest {
     @Test
     @DisplayName("Deve retornar false quando lista de votos estiver vazia")
     void shouldReturnFalseWhenVoteListIsEmpty() {
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         List<Vote> votes = Collections.emptyList();
 
         assertFalse(VoteRules.hasAlreadyVoted(votes, cpf));
@@ -61,10 +62,10 @@ class VoteRulesTest {
     @DisplayName("Deve contar corretamente votos SIM")
     void shouldCountYesVotesCorrectly() {
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "44444444444", VoteChoice.YES, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 22222222222L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 33333333333L, VoteChoice.NO, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 44444444444L, VoteChoice.YES, LocalDateTime.now())
         );
 
         long count = VoteRules.countVotesByChoice(votes, VoteChoice.YES);
@@ -76,10 +77,10 @@ class VoteRulesTest {
     @DisplayName("Deve contar corretamente votos NÃO")
     void shouldCountNoVotesCorrectly() {
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "44444444444", VoteChoice.NO, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 22222222222L, VoteChoice.NO, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 33333333333L, VoteChoice.NO, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 44444444444L, VoteChoice.NO, LocalDateTime.now())
         );
 
         long count = VoteRules.countVotesByChoice(votes, VoteChoice.NO);
@@ -91,8 +92,8 @@ class VoteRulesTest {
     @DisplayName("Deve retornar zero quando não houver votos do tipo especificado")
     void shouldReturnZeroWhenNoVotesOfSpecifiedChoice() {
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.YES, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 22222222222L, VoteChoice.YES, LocalDateTime.now())
         );
 
         long count = VoteRules.countVotesByChoice(votes, VoteChoice.NO);
@@ -116,11 +117,11 @@ class VoteRulesTest {
     @DisplayName("Deve contar corretamente quando todos os votos forem do mesmo tipo")
     void shouldCountCorrectlyWhenAllVotesAreSameType() {
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "33333333333", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "44444444444", VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "55555555555", VoteChoice.YES, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 22222222222L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 33333333333L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 44444444444L, VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 55555555555L, VoteChoice.YES, LocalDateTime.now())
         );
 
         long count = VoteRules.countVotesByChoice(votes, VoteChoice.YES);
@@ -131,10 +132,10 @@ class VoteRulesTest {
     @Test
     @DisplayName("Deve retornar true quando CPF está no primeiro voto")
     void shouldReturnTrueWhenCpfIsInFirstVote() {
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         List<Vote> votes = Arrays.asList(
             new Vote(UUID.randomUUID(), agendaId, cpf, VoteChoice.YES, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "98765432109", VoteChoice.NO, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 98765432109L, VoteChoice.NO, LocalDateTime.now())
         );
 
         assertTrue(VoteRules.hasAlreadyVoted(votes, cpf), "Deve retornar true quando CPF está no primeiro voto da lista");
@@ -143,9 +144,9 @@ class VoteRulesTest {
     @Test
     @DisplayName("Deve retornar true quando CPF está no último voto")
     void shouldReturnTrueWhenCpfIsInLastVote() {
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "98765432109", VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 98765432109L, VoteChoice.YES, LocalDateTime.now()),
             new Vote(UUID.randomUUID(), agendaId, cpf, VoteChoice.NO, LocalDateTime.now())
         );
 
@@ -155,15 +156,27 @@ class VoteRulesTest {
     @Test
     @DisplayName("Deve retornar true quando CPF está no meio da lista")
     void shouldReturnTrueWhenCpfIsInMiddleOfList() {
-        String cpf = "12345678901";
+        long cpf = 12345678901L;
         List<Vote> votes = Arrays.asList(
-            new Vote(UUID.randomUUID(), agendaId, "11111111111", VoteChoice.YES, LocalDateTime.now()),
+            new Vote(UUID.randomUUID(), agendaId, 11111111111L, VoteChoice.YES, LocalDateTime.now()),
             new Vote(UUID.randomUUID(), agendaId, cpf, VoteChoice.NO, LocalDateTime.now()),
-            new Vote(UUID.randomUUID(), agendaId, "22222222222", VoteChoice.YES, LocalDateTime.now())
+            new Vote(UUID.randomUUID(), agendaId, 22222222222L, VoteChoice.YES, LocalDateTime.now())
         );
 
         assertTrue(VoteRules.hasAlreadyVoted(votes, cpf));
     }
-}
 
+    @Test
+    @DisplayName("Deve aprovar quando houver mais votos SIM")
+    void shouldApproveWhenThereAreMoreYesVotes() {
+        assertEquals(VotingResult.APPROVED, VoteRules.determineResult(3, 2));
+    }
 
+    @Test
+    @DisplayName("Deve rejeitar quando houver empate ou mais votos NÃO")
+    void shouldRejectWhenTieOrMoreNoVotes() {
+        assertEquals(VotingResult.REJECTED, VoteRules.determineResult(2, 2));
+        assertEquals(VotingResult.REJECTED, VoteRules.determineResult(1, 2));
+        assertEquals(VotingResult.REJECTED, VoteRules.determineResult(0, 0));
+    }
+}